@@ -0,0 +1,72 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import pl.btsoftware.backend.shared.Currency;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MbankFieldTokenizerBenchmark {
+    private static final String[][] ROWS = {
+        {"Zakupy", "APTEKARIUS SPOLKA JAWN  ZAKUP PRZY UŻYCIU KARTY   transakcja nierozliczona", "-239,22 PLN"},
+        {"Wpływy", "FRANCISZEK BELA  UL. DŁUGA 1 KRAKÓW PRZELEW ZEWNĘTRZNY PRZYCHODZĄCY   ", "1 100,00 PLN"},
+        {"Jedzenie", "BIEDRONKA 1234  WARSZAWA    ZAKUP PRZY UŻYCIU KARTY", "-57,80 PLN"},
+        {"Transport", "ORLEN STACJA NR 123   ZAKUP PRZY UŻYCIU KARTY W KRAJU", "-312,45 PLN"}
+    };
+
+    private int index;
+
+    @Benchmark
+    public void regexBaseline(Blackhole blackhole) {
+        var row = nextRow();
+        var amountString = row[2].trim();
+        blackhole.consume(row[0].trim() + ": " + RegexFieldParser.cleanDescription(row[1].trim()));
+        blackhole.consume(RegexFieldParser.extractCurrency(amountString));
+        blackhole.consume(RegexFieldParser.parseAmount(amountString));
+    }
+
+    @Benchmark
+    public void tokenizer(Blackhole blackhole) {
+        var row = nextRow();
+        blackhole.consume(MbankFieldTokenizer.tokenizeDescription(row[0], row[1]));
+        blackhole.consume(MbankFieldTokenizer.tokenizeAmount(row[2]));
+    }
+
+    private String[] nextRow() {
+        index = (index + 1) % ROWS.length;
+        return ROWS[index];
+    }
+
+    private static final class RegexFieldParser {
+        private RegexFieldParser() {}
+
+        static String cleanDescription(String description) {
+            return description
+                    .replaceAll("\\s+", " ")
+                    .replace("transakcja nierozliczona", "")
+                    .replace("PRZELEW ZEWNĘTRZNY PRZYCHODZĄCY", "")
+                    .trim();
+        }
+
+        static BigDecimal parseAmount(String amountString) {
+            return new BigDecimal(amountString
+                    .replaceAll("[A-Z]{3}$", "")
+                    .replace(" ", "")
+                    .replace(",", ".")
+                    .trim());
+        }
+
+        static Currency extractCurrency(String amountString) {
+            return Currency.valueOf(
+                    amountString.trim().replaceAll("^[\\d\\s,.-]+", "").trim());
+        }
+    }
+}
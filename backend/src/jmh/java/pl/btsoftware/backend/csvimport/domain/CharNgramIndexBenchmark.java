@@ -0,0 +1,40 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CharNgramIndexBenchmark {
+    private static final String[] MERCHANTS = {
+        "zakupy biedronka", "zakupy lidl", "paliwo orlen stacja", "paliwo bp", "jedzenie mcdonalds", "apteka gemini"
+    };
+
+    @Param({"100", "1000", "10000"})
+    private int documents;
+
+    private CharNgramIndex index;
+
+    @Setup
+    public void setUp() {
+        List<String> texts = IntStream.range(0, documents)
+                .mapToObj(i -> MERCHANTS[i % MERCHANTS.length] + " " + Integer.toString(i, Character.MAX_RADIX))
+                .toList();
+        index = CharNgramIndex.build(texts);
+    }
+
+    @Benchmark
+    public List<CharNgramIndex.Neighbour> nearest() {
+        return index.nearest("paliwo orlen stacja krakow", 5);
+    }
+}
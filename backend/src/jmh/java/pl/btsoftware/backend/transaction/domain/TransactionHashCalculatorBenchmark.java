@@ -0,0 +1,113 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.shared.TransactionType;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransactionHashCalculatorBenchmark {
+    private static final AccountId ACCOUNT_ID = AccountId.generate();
+    private static final Row[] ROWS = {
+        Row.of("-239.22", "APTEKARIUS SPOLKA JAWNA ZAKUP PRZY UZYCIU KARTY", LocalDate.of(2024, 1, 15)),
+        Row.of("1100.00", "Przelew przychodzący od Franciszek Bela", LocalDate.of(2024, 2, 1)),
+        Row.of("-57.80", "  BIEDRONKA 1234 WARSZAWA  ", LocalDate.of(2024, 3, 9)),
+        Row.of("-312.45", "ORLEN STACJA NR 123 ZAKUP PRZY UZYCIU KARTY W KRAJU", LocalDate.of(2024, 12, 31))
+    };
+
+    private int index;
+
+    @Benchmark
+    @Threads(1)
+    public TransactionHash legacySingleThread() {
+        return legacy(nextRow());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TransactionHash legacyFourThreads() {
+        return legacy(nextRow());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public TransactionHash calculatorSingleThread() {
+        return calculate(nextRow());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TransactionHash calculatorFourThreads() {
+        return calculate(nextRow());
+    }
+
+    private Row nextRow() {
+        index = (index + 1) % ROWS.length;
+        return ROWS[index];
+    }
+
+    private static TransactionHash calculate(Row row) {
+        return TransactionHashCalculator.calculateHash(
+                ACCOUNT_ID, row.amount(), row.description(), row.date(), TransactionType.EXPENSE);
+    }
+
+    private static TransactionHash legacy(Row row) {
+        return LegacyHashCalculator.calculateHash(
+                ACCOUNT_ID, row.amount(), row.description(), row.date(), TransactionType.EXPENSE);
+    }
+
+    private record Row(Money amount, String description, LocalDate date) {
+        static Row of(String amount, String description, LocalDate date) {
+            return new Row(Money.of(new BigDecimal(amount), Currency.PLN), description, date);
+        }
+    }
+
+    private static final class LegacyHashCalculator {
+        private LegacyHashCalculator() {}
+
+        static TransactionHash calculateHash(
+                AccountId accountId,
+                Money amount,
+                String description,
+                LocalDate transactionDate,
+                TransactionType type) {
+            var normalizedDescription = description != null ? description.trim().toLowerCase() : "";
+            var concatenated = accountId.value().toString()
+                    + amount.value().toString()
+                    + amount.currency().name()
+                    + normalizedDescription
+                    + transactionDate.toString()
+                    + type.name();
+            try {
+                var hash = MessageDigest.getInstance("SHA-256").digest(concatenated.getBytes(UTF_8));
+                var hexString = new StringBuilder(2 * hash.length);
+                for (byte b : hash) {
+                    var hex = Integer.toHexString(0xff & b);
+                    if (hex.length() == 1) {
+                        hexString.append('0');
+                    }
+                    hexString.append(hex);
+                }
+                return new TransactionHash(hexString.toString());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package pl.btsoftware.backend.account.infrastructure.api;
 
 import static org.springframework.http.HttpStatus.*;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.IMPORT_QUEUE_FULL;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +15,12 @@ import pl.btsoftware.backend.account.domain.error.AccountNotFoundException;
 import pl.btsoftware.backend.account.domain.error.BusinessException;
 import pl.btsoftware.backend.category.domain.error.NoCategoriesAvailableException;
 import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.error.ImportJobNotFoundException;
+import pl.btsoftware.backend.csvimport.domain.error.ImportSessionNotFoundException;
 import pl.btsoftware.backend.csvimport.infrastructure.api.ErrorResponse;
 import pl.btsoftware.backend.shared.error.InvalidExchangeRateException;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportConflictException;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportNotFoundException;
 import pl.btsoftware.backend.transfer.domain.error.TransferDescriptionTooLongException;
 import pl.btsoftware.backend.transfer.domain.error.TransferNotFoundException;
 import pl.btsoftware.backend.transfer.domain.error.TransferToSameAccountException;
@@ -81,7 +86,32 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleCsvParsingException(CsvImportException ex) {
         log.error("{}", ex.getMessage(), ex);
         var errorResponse = new ErrorResponse(ex.getErrorType(), ex.getMessage());
-        return ResponseEntity.status(BAD_REQUEST).body(errorResponse);
+        var status = ex.getErrorType() == IMPORT_QUEUE_FULL ? SERVICE_UNAVAILABLE : BAD_REQUEST;
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    @ExceptionHandler(ImportSessionNotFoundException.class)
+    public ResponseEntity<String> handleImportSessionNotFoundException(ImportSessionNotFoundException ex) {
+        log.error("{}", ex.getMessage(), ex);
+        return ResponseEntity.status(NOT_FOUND).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<String> handleImportJobNotFoundException(ImportJobNotFoundException ex) {
+        log.error("{}", ex.getMessage(), ex);
+        return ResponseEntity.status(NOT_FOUND).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkImportNotFoundException.class)
+    public ResponseEntity<String> handleBulkImportNotFoundException(BulkImportNotFoundException ex) {
+        log.error("{}", ex.getMessage(), ex);
+        return ResponseEntity.status(NOT_FOUND).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkImportConflictException.class)
+    public ResponseEntity<String> handleBulkImportConflictException(BulkImportConflictException ex) {
+        log.error("{}", ex.getMessage(), ex);
+        return ResponseEntity.status(CONFLICT).body(ex.getMessage());
     }
 
     @ExceptionHandler({
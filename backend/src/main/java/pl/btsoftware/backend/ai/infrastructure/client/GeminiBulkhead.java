@@ -0,0 +1,116 @@
+package pl.btsoftware.backend.ai.infrastructure.client;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class GeminiBulkhead implements AutoCloseable {
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+    private static final int MAX_BACKOFF_DOUBLINGS = 4;
+    private static final int RETRY_COST = 10;
+    private static final int SUCCESS_REFUND = 1;
+    private static final int MAX_RETRY_TOKENS = 100;
+
+    private final ExecutorService executor;
+    private final Semaphore runningCalls;
+    private final Semaphore admittedCalls;
+    private final int maxRetries;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final AtomicInteger retryTokens = new AtomicInteger(MAX_RETRY_TOKENS);
+
+    GeminiBulkhead(
+            int maxConcurrentCalls,
+            int maxQueuedCalls,
+            int maxRetries,
+            GeminiCircuitBreaker circuitBreaker) {
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("gemini-", 0).factory());
+        this.runningCalls = new Semaphore(maxConcurrentCalls, true);
+        this.admittedCalls = new Semaphore(maxConcurrentCalls + maxQueuedCalls);
+        this.maxRetries = maxRetries;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    <T> CompletableFuture<T> submit(Callable<T> call, boolean retryable) {
+        if (!circuitBreaker.isCallPermitted()) {
+            return CompletableFuture.failedFuture(new GeminiClientException("Gemini API circuit breaker is open"));
+        }
+        if (!admittedCalls.tryAcquire()) {
+            return CompletableFuture.failedFuture(new GeminiClientException("Too many Gemini API calls in progress"));
+        }
+
+        var result = new CompletableFuture<T>();
+        try {
+            var worker = executor.submit(() -> run(call, retryable ? maxRetries : 0, result));
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    worker.cancel(true);
+                }
+            });
+        } catch (RuntimeException e) {
+            admittedCalls.release();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <T> void run(Callable<T> call, int retries, CompletableFuture<T> result) {
+        try {
+            runningCalls.acquire();
+            try {
+                attempt(call, retries, result);
+            } finally {
+                runningCalls.release();
+            }
+        } catch (InterruptedException e) {
+            result.completeExceptionally(new GeminiClientException("Gemini API call was cancelled", e));
+        } finally {
+            admittedCalls.release();
+        }
+    }
+
+    private <T> void attempt(Callable<T> call, int retries, CompletableFuture<T> result) throws InterruptedException {
+        for (var attempt = 0; !result.isDone(); attempt++) {
+            try {
+                result.complete(circuitBreaker.call(call));
+                retryTokens.updateAndGet(tokens -> Math.min(MAX_RETRY_TOKENS, tokens + SUCCESS_REFUND));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                if (attempt >= retries || !isRetryable(e) || !acquireRetryToken()) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                var backoff = backoff(attempt);
+                log.warn("Gemini API call failed, retrying in {} ms: {}", backoff.toMillis(), e.getMessage());
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private boolean isRetryable(Exception e) {
+        return e instanceof GeminiClientException clientException && clientException.isRetryable();
+    }
+
+    private boolean acquireRetryToken() {
+        var remaining = retryTokens.getAndUpdate(tokens -> tokens >= RETRY_COST ? tokens - RETRY_COST : tokens);
+        return remaining >= RETRY_COST;
+    }
+
+    private Duration backoff(int attempt) {
+        var backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempt, MAX_BACKOFF_DOUBLINGS));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -0,0 +1,169 @@
+package pl.btsoftware.backend.ai.infrastructure.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class GeminiCircuitBreaker {
+    private static final int WINDOW_SIZE = 20;
+    private static final int MINIMUM_CALLS = 10;
+    private static final int FAILURE_RATE_THRESHOLD_PERCENT = 50;
+    private static final int HALF_OPEN_CALLS = 3;
+    private static final long REJECTED = -1;
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final Duration slowCallDuration;
+    private final Duration openDuration;
+    private final MeterRegistry meterRegistry;
+    private final boolean[] failedCalls = new boolean[WINDOW_SIZE];
+    private int nextSlot;
+    private int recordedCalls;
+    private int failures;
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    GeminiCircuitBreaker(Duration slowCallDuration, Duration openDuration, MeterRegistry meterRegistry) {
+        this.slowCallDuration = slowCallDuration;
+        this.openDuration = openDuration;
+        this.meterRegistry = meterRegistry;
+        for (var gaugedState : State.values()) {
+            Gauge.builder("gemini.circuit.breaker.state", this, breaker -> breaker.state() == gaugedState ? 1 : 0)
+                    .tag("state", tagValue(gaugedState))
+                    .description("Current state of the Gemini API circuit breaker")
+                    .register(meterRegistry);
+        }
+    }
+
+    <T> T call(Callable<T> call) throws Exception {
+        var permit = acquirePermission();
+        if (permit == REJECTED) {
+            countCall("not_permitted");
+            throw new GeminiClientException("Gemini API circuit breaker is open");
+        }
+
+        var start = System.nanoTime();
+        try {
+            var result = call.call();
+            onResult(permit, false, System.nanoTime() - start);
+            return result;
+        } catch (InterruptedException e) {
+            releasePermission(permit);
+            throw e;
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                releasePermission(permit);
+            } else {
+                onResult(permit, true, System.nanoTime() - start);
+            }
+            throw e;
+        }
+    }
+
+    synchronized boolean isCallPermitted() {
+        return state != State.OPEN || openIntervalElapsed();
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private synchronized long acquirePermission() {
+        if (state == State.OPEN && openIntervalElapsed()) {
+            transitionTo(State.HALF_OPEN);
+            halfOpenPermits = HALF_OPEN_CALLS;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && halfOpenPermits == 0)) {
+            return REJECTED;
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits--;
+        }
+        return generation;
+    }
+
+    private synchronized void releasePermission(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    private synchronized void onResult(long permit, boolean failed, long elapsedNanos) {
+        var slow = elapsedNanos >= slowCallDuration.toNanos();
+        countCall((slow ? "slow_" : "") + (failed ? "failure" : "success"));
+        if (permit != generation) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            onProbeResult(failed || slow);
+            return;
+        }
+        record(failed || slow);
+        if (recordedCalls >= MINIMUM_CALLS && failures * 100 >= recordedCalls * FAILURE_RATE_THRESHOLD_PERCENT) {
+            open();
+        }
+    }
+
+    private void onProbeResult(boolean bad) {
+        if (bad) {
+            open();
+        } else if (++halfOpenSuccesses == HALF_OPEN_CALLS) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private void record(boolean bad) {
+        if (recordedCalls < WINDOW_SIZE) {
+            recordedCalls++;
+        } else if (failedCalls[nextSlot]) {
+            failures--;
+        }
+        failedCalls[nextSlot] = bad;
+        if (bad) {
+            failures++;
+        }
+        nextSlot = (nextSlot + 1) % WINDOW_SIZE;
+    }
+
+    private void open() {
+        transitionTo(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void transitionTo(State target) {
+        log.warn("Gemini API circuit breaker transition {} -> {}", state, target);
+        meterRegistry
+                .counter("gemini.circuit.breaker.transitions", "from", tagValue(state), "to", tagValue(target))
+                .increment();
+        state = target;
+        generation++;
+        nextSlot = 0;
+        recordedCalls = 0;
+        failures = 0;
+    }
+
+    private boolean openIntervalElapsed() {
+        return System.nanoTime() - openedAt >= openDuration.toNanos();
+    }
+
+    private void countCall(String outcome) {
+        meterRegistry.counter("gemini.circuit.breaker.calls", "outcome", outcome).increment();
+    }
+
+    private static String tagValue(State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+}
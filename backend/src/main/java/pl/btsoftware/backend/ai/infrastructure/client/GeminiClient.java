@@ -1,56 +1,99 @@
 package pl.btsoftware.backend.ai.infrastructure.client;
 
 import com.google.genai.Client;
-import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.errors.ApiException;
+import com.google.genai.types.HttpOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import pl.btsoftware.backend.ai.infrastructure.config.GeminiConfig;
 
 @Component
 @ConditionalOnProperty(name = "gemini.enabled", havingValue = "true")
 @Slf4j
-public class GeminiClient {
+public class GeminiClient implements AutoCloseable {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+    private static final Duration SLOW_CALL_DURATION = Duration.ofSeconds(20);
+    private static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+
     private final GeminiConfig config;
     private final Client client;
+    private final GeminiBulkhead bulkhead;
 
-    public GeminiClient(GeminiConfig config) {
+    public GeminiClient(GeminiConfig config, MeterRegistry meterRegistry) {
         this.config = config;
         this.client = initializeClient();
+        this.bulkhead = new GeminiBulkhead(
+                config.getMaxConcurrentRequests(),
+                config.getMaxQueuedRequests(),
+                config.getMaxRetries(),
+                new GeminiCircuitBreaker(SLOW_CALL_DURATION, CIRCUIT_OPEN_DURATION, meterRegistry));
     }
 
     private Client initializeClient() {
         log.info("Initializing Gemini API client with model: {}", config.getModelName());
-        return Client.builder().apiKey(config.getApiKey()).build();
+        var httpOptions = HttpOptions.builder()
+                .timeout((int) Duration.ofSeconds(config.getTimeoutSeconds()).toMillis())
+                .build();
+        return Client.builder().apiKey(config.getApiKey()).httpOptions(httpOptions).build();
+    }
+
+    @Override
+    public void close() {
+        bulkhead.close();
     }
 
-    @Async
-    @Retryable(
-            retryFor = {Exception.class},
-            backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 10000))
     public CompletableFuture<String> generateContent(String prompt) {
         validatePrompt(prompt);
 
-        log.debug("Generating content with Gemini API");
-
         log.info("Calling Gemini API with prompt: {}", prompt);
-        var response = executeGenerateContent(prompt);
-        var text = response.text();
+        return bulkhead.submit(() -> executeGenerateContent(prompt), true);
+    }
+
+    public CompletableFuture<String> generateContentStream(String prompt, Consumer<String> chunkListener) {
+        validatePrompt(prompt);
 
-        return CompletableFuture.completedFuture(text);
+        log.info("Calling Gemini API with streamed prompt: {}", prompt);
+        return bulkhead.submit(() -> executeGenerateContentStream(prompt, chunkListener), false);
     }
 
-    private GenerateContentResponse executeGenerateContent(String prompt) {
+    private String executeGenerateContent(String prompt) {
         try {
-            return client.models.generateContent(config.getModelName(), prompt, null);
+            return client.models.generateContent(config.getModelName(), prompt, null).text();
         } catch (Exception e) {
             log.error("Error calling Gemini API: {}", e.getMessage());
-            throw new GeminiClientException("Error calling Gemini API", e);
+            throw new GeminiClientException("Error calling Gemini API", e, isTransient(e));
+        }
+    }
+
+    private String executeGenerateContentStream(String prompt, Consumer<String> chunkListener) {
+        var text = new StringBuilder();
+        try (var stream = client.models.generateContentStream(config.getModelName(), prompt, null)) {
+            for (var response : stream) {
+                var chunk = response.text();
+                if (chunk != null && !chunk.isEmpty()) {
+                    text.append(chunk);
+                    chunkListener.accept(chunk);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error streaming from Gemini API: {}", e.getMessage());
+            throw new GeminiClientException("Error streaming from Gemini API", e);
+        }
+        return text.toString();
+    }
+
+    private static boolean isTransient(Exception e) {
+        if (e instanceof ApiException apiException) {
+            return apiException.code() == TOO_MANY_REQUESTS || apiException.code() >= SERVER_ERROR;
         }
+        return e instanceof IOException || e.getCause() instanceof IOException;
     }
 
     private void validatePrompt(String prompt) {
@@ -1,12 +1,22 @@
 package pl.btsoftware.backend.ai.infrastructure.client;
 
 public class GeminiClientException extends RuntimeException {
+    private final boolean retryable;
 
     public GeminiClientException(String message) {
-        super(message);
+        this(message, null, false);
     }
 
     public GeminiClientException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+
+    public GeminiClientException(String message, Throwable cause, boolean retryable) {
         super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
     }
 }
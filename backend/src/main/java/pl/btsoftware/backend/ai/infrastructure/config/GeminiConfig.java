@@ -8,16 +8,26 @@ import org.springframework.context.annotation.Configuration;
 @Getter
 @ConditionalOnProperty(name = "gemini.enabled", havingValue = "true", matchIfMissing = false)
 public class GeminiConfig {
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+    private static final int DEFAULT_MAX_QUEUED_REQUESTS = 256;
+    private static final int CATEGORIZATION_DEADLINE_SECONDS = 120;
+
     private final String apiKey;
     private final String modelName;
     private final int timeoutSeconds;
     private final int maxRetries;
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final int categorizationDeadlineSeconds;
 
     public GeminiConfig() {
         this.apiKey = getApiKeyFromEnvironment();
         this.modelName = "gemini-3-flash-preview";
         this.timeoutSeconds = 30;
         this.maxRetries = 3;
+        this.maxConcurrentRequests = getMaxConcurrentRequestsFromEnvironment();
+        this.maxQueuedRequests = getMaxQueuedRequestsFromEnvironment();
+        this.categorizationDeadlineSeconds = CATEGORIZATION_DEADLINE_SECONDS;
         validateApiKey();
     }
 
@@ -25,6 +35,17 @@ public class GeminiConfig {
         return System.getProperty("GEMINI_API_KEY", System.getenv("GEMINI_API_KEY"));
     }
 
+    private int getMaxConcurrentRequestsFromEnvironment() {
+        var value = System.getProperty(
+                "GEMINI_MAX_CONCURRENT_REQUESTS", System.getenv("GEMINI_MAX_CONCURRENT_REQUESTS"));
+        return value != null ? Integer.parseInt(value) : DEFAULT_MAX_CONCURRENT_REQUESTS;
+    }
+
+    private int getMaxQueuedRequestsFromEnvironment() {
+        var value = System.getProperty("GEMINI_MAX_QUEUED_REQUESTS", System.getenv("GEMINI_MAX_QUEUED_REQUESTS"));
+        return value != null ? Integer.parseInt(value) : DEFAULT_MAX_QUEUED_REQUESTS;
+    }
+
     private void validateApiKey() {
         if (apiKey == null || apiKey.isEmpty()) {
             throw new IllegalStateException("GEMINI_API_KEY environment variable or system property must be set");
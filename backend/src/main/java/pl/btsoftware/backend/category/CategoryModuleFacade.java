@@ -1,6 +1,7 @@
 package pl.btsoftware.backend.category;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import pl.btsoftware.backend.category.application.CategoryService;
@@ -32,6 +33,11 @@ public class CategoryModuleFacade {
         return categoryService.getCategoriesByType(type, user.groupId());
     }
 
+    public Map<CategoryId, Long> getTransactionCounts(UserId userId) {
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        return categoryService.getTransactionCounts(user.groupId());
+    }
+
     public Category updateCategory(UpdateCategoryCommand command, UserId userId) {
         return categoryService.updateCategory(command, userId);
     }
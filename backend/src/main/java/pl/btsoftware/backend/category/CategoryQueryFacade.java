@@ -1,9 +1,13 @@
 package pl.btsoftware.backend.category;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import pl.btsoftware.backend.category.domain.Category;
 import pl.btsoftware.backend.category.domain.CategoryRepository;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
 import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.CategoryType;
 import pl.btsoftware.backend.users.domain.GroupId;
 
 @RequiredArgsConstructor
@@ -14,4 +18,14 @@ public class CategoryQueryFacade {
         var foundCategories = categoryRepository.findAllByIds(categoryIds, groupId);
         return foundCategories.size() == categoryIds.size();
     }
+
+    public Set<CategoryId> findExistingCategories(Set<CategoryId> categoryIds, GroupId groupId) {
+        return categoryRepository.findAllByIds(categoryIds, groupId).stream()
+                .map(Category::id)
+                .collect(Collectors.toSet());
+    }
+
+    public CategoryVersion findVersion(CategoryType type, GroupId groupId) {
+        return categoryRepository.findVersion(type, groupId);
+    }
 }
@@ -2,6 +2,7 @@ package pl.btsoftware.backend.category.application;
 
 import jakarta.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import pl.btsoftware.backend.account.domain.AuditInfo;
 import pl.btsoftware.backend.audit.AuditModuleFacade;
@@ -51,6 +52,10 @@ public class CategoryService {
         return categoryRepository.findByType(type, groupId);
     }
 
+    public Map<CategoryId, Long> getTransactionCounts(GroupId groupId) {
+        return transactionQueryFacade.countTransactionsByCategory(groupId);
+    }
+
     public boolean hasCategories(CategoryType type, GroupId groupId) {
         return !categoryRepository.findByType(type, groupId).isEmpty();
     }
@@ -17,4 +17,6 @@ public interface CategoryRepository {
     List<Category> findByType(CategoryType type, GroupId groupId);
 
     List<Category> findAllByIds(Set<CategoryId> ids, GroupId groupId);
+
+    CategoryVersion findVersion(CategoryType type, GroupId groupId);
 }
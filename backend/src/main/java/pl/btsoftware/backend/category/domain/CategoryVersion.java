@@ -0,0 +1,5 @@
+package pl.btsoftware.backend.category.domain;
+
+import java.time.OffsetDateTime;
+
+public record CategoryVersion(long categories, OffsetDateTime lastUpdatedAt, OffsetDateTime lastDeletedAt) {}
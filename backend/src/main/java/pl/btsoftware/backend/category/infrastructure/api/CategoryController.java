@@ -43,6 +43,15 @@ public class CategoryController {
         return CategoriesView.from(categories);
     }
 
+    @GetMapping("/usage")
+    public CategoryUsageView getCategoryUsage(@AuthenticationPrincipal Jwt jwt) {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received request to get category usage by user: {}", userId);
+
+        var transactionCounts = categoryModuleFacade.getTransactionCounts(userId);
+        return CategoryUsageView.from(transactionCounts);
+    }
+
     @PutMapping("/{id}")
     public CategoryView updateCategory(
             @PathVariable UUID id, @RequestBody UpdateCategoryRequest request, @AuthenticationPrincipal Jwt jwt) {
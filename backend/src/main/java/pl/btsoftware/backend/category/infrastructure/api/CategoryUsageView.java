@@ -0,0 +1,20 @@
+package pl.btsoftware.backend.category.infrastructure.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import pl.btsoftware.backend.shared.CategoryId;
+
+public record CategoryUsageView(List<CategoryTransactionCountView> categories) {
+    public CategoryUsageView {
+        categories = List.copyOf(categories);
+    }
+
+    public static CategoryUsageView from(Map<CategoryId, Long> transactionCounts) {
+        return new CategoryUsageView(transactionCounts.entrySet().stream()
+                .map(entry -> new CategoryTransactionCountView(entry.getKey().value(), entry.getValue()))
+                .toList());
+    }
+
+    public record CategoryTransactionCountView(UUID categoryId, long transactionCount) {}
+}
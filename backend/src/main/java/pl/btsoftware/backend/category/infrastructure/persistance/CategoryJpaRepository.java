@@ -5,7 +5,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
 import pl.btsoftware.backend.shared.CategoryType;
 
 @Repository
@@ -17,4 +20,9 @@ public interface CategoryJpaRepository extends JpaRepository<CategoryEntity, UUI
     List<CategoryEntity> findByTypeAndCreatedByGroupAndIsDeletedFalse(CategoryType type, UUID createdByGroup);
 
     List<CategoryEntity> findByIdInAndCreatedByGroupAndIsDeletedFalse(Set<UUID> ids, UUID createdByGroup);
+
+    @Query("SELECT new pl.btsoftware.backend.category.domain.CategoryVersion("
+            + "count(c), max(c.updatedAt), max(c.deletedAt)) FROM CategoryEntity c "
+            + "WHERE c.type = :type AND c.createdByGroup = :createdByGroup")
+    CategoryVersion findVersion(@Param("type") CategoryType type, @Param("createdByGroup") UUID createdByGroup);
 }
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import pl.btsoftware.backend.category.domain.Category;
 import pl.btsoftware.backend.category.domain.CategoryRepository;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
 import pl.btsoftware.backend.shared.CategoryId;
 import pl.btsoftware.backend.shared.CategoryType;
 import pl.btsoftware.backend.users.domain.GroupId;
@@ -52,4 +53,9 @@ public class JpaCategoryRepository implements CategoryRepository {
                 .map(CategoryEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public CategoryVersion findVersion(CategoryType type, GroupId groupId) {
+        return repository.findVersion(type, groupId.value());
+    }
 }
@@ -0,0 +1,52 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import pl.btsoftware.backend.csvimport.domain.NearestNeighbourCategorizer;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+class CategorizationHistoryCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<GroupId, Entry> entries;
+
+    CategorizationHistoryCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GroupId, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    CategorizationHistory get(
+            GroupId groupId,
+            long merchantVersion,
+            String categoryVersion,
+            Supplier<Map<MerchantKey, CategoryId>> loader) {
+        var version = new Version(merchantVersion, categoryVersion);
+        synchronized (entries) {
+            var entry = entries.get(groupId);
+            if (entry != null && entry.version().equals(version)) {
+                return entry.history();
+            }
+        }
+
+        var examples = loader.get();
+        var history = new CategorizationHistory(examples, NearestNeighbourCategorizer.build(examples));
+        synchronized (entries) {
+            entries.put(groupId, new Entry(version, history));
+        }
+        return history;
+    }
+
+    record CategorizationHistory(Map<MerchantKey, CategoryId> examples, NearestNeighbourCategorizer categorizer) {}
+
+    private record Version(long merchantVersion, String categoryVersion) {}
+
+    private record Entry(Version version, CategorizationHistory history) {}
+}
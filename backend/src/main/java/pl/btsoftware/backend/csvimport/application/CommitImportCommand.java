@@ -0,0 +1,11 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import java.util.List;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+public record CommitImportCommand(ImportSessionId sessionId, List<ImportRowEdit> edits, UserId userId) {
+    public CommitImportCommand {
+        edits = List.copyOf(edits);
+    }
+}
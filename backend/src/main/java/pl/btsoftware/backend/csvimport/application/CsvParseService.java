@@ -1,12 +1,40 @@
 package pl.btsoftware.backend.csvimport.application;
 
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FAILED_TO_PARSE_CSV;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.category.CategoryQueryFacade;
 import pl.btsoftware.backend.csvimport.domain.*;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.CategoryType;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.transaction.TransactionQueryFacade;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.transaction.domain.TransactionHashCalculator;
 import pl.btsoftware.backend.users.UsersModuleFacade;
 import pl.btsoftware.backend.users.domain.GroupId;
 
@@ -14,43 +42,333 @@ import pl.btsoftware.backend.users.domain.GroupId;
 @RequiredArgsConstructor
 @Slf4j
 public class CsvParseService {
+    private static final double LOCAL_CONFIDENCE_THRESHOLD = 0.8;
+    private static final long PARTIAL_RESULT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int DUPLICATE_CHECK_BATCH_SIZE = 1000;
+    private static final long MAX_DECOMPRESSED_SIZE = 200L * 1024 * 1024;
+    private static final int MAX_CACHED_HISTORIES = 64;
+
+    private final CsvStatementReader statementReader = new CsvStatementReader(MAX_DECOMPRESSED_SIZE);
+    private final CategorizationHistoryCache historyCache = new CategorizationHistoryCache(MAX_CACHED_HISTORIES);
+
     private final TransactionCsvParser parser;
     private final AccountModuleFacade accountFacade;
     private final UsersModuleFacade usersFacade;
+
+    @Nullable
     private final CategorySuggestionService categorySuggestionService;
 
+    private final TransactionQueryFacade transactionQueryFacade;
+    private final CategoryQueryFacade categoryQueryFacade;
+    private final ImportWatermarkRepository importWatermarkRepository;
+    private final ParseResultCache parseResultCache;
+
     public CsvParseResult parse(ParseCsvCommand command) {
+        return parse(command, ImportProgress.NONE);
+    }
+
+    public CsvParseResult parse(ParseCsvCommand command, ImportProgress progress) {
+        return parseWithHashes(command, progress).result();
+    }
+
+    HashedParseResult parseWithHashes(ParseCsvCommand command, ImportProgress progress) {
         var user = usersFacade.findUserOrThrow(command.userId());
         var account = accountFacade.getAccount(command.accountId(), user.groupId());
-        var parseResult = parser.parse(command.csvFile(), account.balance().currency());
+        var watermark = command.incremental()
+                ? importWatermarkRepository.findByAccountId(command.accountId(), user.groupId()).orElse(null)
+                : null;
+        var contentDigest = sha256();
+        var upload = spoolToTemporaryFile(command.csvFile(), contentDigest);
+        try {
+            var categoryVersion = categoryVersion(user.groupId());
+            var merchantVersion = transactionQueryFacade.findMerchantCategoriesVersion(user.groupId());
+            var cacheKey = new ParseResultCacheKey(
+                    user.groupId(),
+                    command.accountId(),
+                    cacheDigest(contentDigest, watermark, merchantVersion),
+                    categoryVersion);
+            var cached = parseResultCache.find(cacheKey);
+            if (cached.isPresent()) {
+                log.info("Reusing cached parse result for account {}", command.accountId());
+                progress.categorizationStarted();
+                return refreshDuplicates(cached.get(), command.accountId(), user.groupId());
+            }
+
+            var collected = readStatement(upload, command.format(), account.balance().currency(), watermark, progress);
+            var hashes = calculateHashes(collected.proposals(), command.accountId());
+            var parsed = skipBoundaryDay(collected, hashes, watermark);
+            var parseResult = markDuplicates(parsed, hashes, command.accountId(), user.groupId());
+
+            progress.categorizationStarted();
+            var categorization = applyCategorySuggestions(
+                    parseResult, user.groupId(), merchantVersion, categoryVersion, progress);
+            var result = parseResult.withProposals(categorization.proposals());
+            if (categorization.complete()) {
+                parseResultCache.store(cacheKey, result);
+            }
+
+            return new HashedParseResult(result, hashes);
+        } finally {
+            deleteTemporaryFile(upload);
+        }
+    }
+
+    private CsvParseResult readStatement(
+            Path upload,
+            CsvUploadFormat format,
+            Currency currency,
+            @Nullable ImportWatermark watermark,
+            ImportProgress progress) {
+        var collector = new CsvParseResultCollector();
+        var listener = new CsvRowListener() {
+            @Override
+            public void onProposal(TransactionProposal proposal) {
+                if (watermark != null && watermark.covers(proposal.transactionDate())) {
+                    collector.onSkipped();
+                } else {
+                    collector.onProposal(proposal);
+                }
+                progress.rowParsed();
+            }
+
+            @Override
+            public void onError(ParseError error) {
+                collector.onError(error);
+                progress.rowParsed();
+            }
+        };
+        try (var csvStream = Files.newInputStream(upload)) {
+            statementReader.read(csvStream, format, statement -> parser.parse(statement, currency, listener));
+        } catch (IOException e) {
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+        }
+        return collector.toResult();
+    }
+
+    private static Path spoolToTemporaryFile(InputStream csvStream, MessageDigest contentDigest) {
+        try (var digestStream = new DigestInputStream(csvStream, contentDigest)) {
+            var upload = Files.createTempFile("csv-upload-", ".tmp");
+            Files.copy(digestStream, upload, StandardCopyOption.REPLACE_EXISTING);
+            return upload;
+        } catch (IOException e) {
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+        }
+    }
+
+    private static void deleteTemporaryFile(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary upload file {}", upload, e);
+        }
+    }
 
-        var categorizedProposals = applyCategorySuggestions(parseResult.proposals(), user.groupId());
+    private HashedParseResult refreshDuplicates(CsvParseResult cached, AccountId accountId, GroupId groupId) {
+        var proposals = cached.proposals().stream()
+                .map(proposal -> proposal.withDuplicate(false))
+                .toList();
+        var hashes = calculateHashes(proposals, accountId);
+        var result = markDuplicates(cached.withProposals(proposals), hashes, accountId, groupId);
+        return new HashedParseResult(result, hashes);
+    }
 
-        return new CsvParseResult(
-                categorizedProposals,
-                parseResult.errors(),
-                parseResult.totalRows(),
-                parseResult.successCount(),
-                parseResult.errorCount());
+    private String categoryVersion(GroupId groupId) {
+        var digest = sha256();
+        for (var type : CategoryType.values()) {
+            var version = type + "=" + categoryQueryFacade.findVersion(type, groupId) + ";";
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
     }
 
-    private List<TransactionProposal> applyCategorySuggestions(List<TransactionProposal> proposals, GroupId groupId) {
+    private static String cacheDigest(
+            MessageDigest contentDigest, @Nullable ImportWatermark watermark, long merchantVersion) {
+        if (watermark != null) {
+            contentDigest.update(watermark.date().toString().getBytes(StandardCharsets.UTF_8));
+            watermark.boundaryHashes().stream()
+                    .map(TransactionHash::value)
+                    .sorted()
+                    .forEach(hash -> contentDigest.update(hash.getBytes(StandardCharsets.UTF_8)));
+        }
+        contentDigest.update(("merchant=" + merchantVersion).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(contentDigest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private Categorization applyCategorySuggestions(
+            CsvParseResult parseResult,
+            GroupId groupId,
+            long merchantVersion,
+            String categoryVersion,
+            ImportProgress progress) {
+        var proposals = parseResult.proposals();
         if (proposals.isEmpty()) {
+            return new Categorization(proposals, true);
+        }
+
+        var history = historyCache.get(
+                groupId,
+                merchantVersion,
+                categoryVersion,
+                () -> loadCategorizationHistory(groupId));
+        var remembered = applyRememberedCategories(proposals, history.examples());
+        var unknown = remembered.stream()
+                .filter(proposal -> proposal.categoryId() == null && !proposal.duplicate())
+                .toList();
+        if (unknown.isEmpty()) {
+            return new Categorization(remembered, true);
+        }
+
+        var localSuggestions = history.categorizer().suggest(unknown);
+        var confidentlyCategorized = localSuggestions.stream()
+                .filter(suggestion -> suggestion.confidence() >= LOCAL_CONFIDENCE_THRESHOLD)
+                .map(CategorySuggestion::transactionProposalId)
+                .collect(Collectors.toSet());
+        var forAi = unknown.stream()
+                .filter(proposal -> !confidentlyCategorized.contains(proposal.transactionId()))
+                .toList();
+
+        var preliminary = localSuggestions.isEmpty() ? remembered : applySuggestions(remembered, localSuggestions);
+        var aiSuggestions = requestAiSuggestions(forAi, groupId, parseResult.withProposals(preliminary), progress);
+        var categorized = aiSuggestions.suggestions().isEmpty()
+                ? preliminary
+                : applySuggestions(preliminary, aiSuggestions.suggestions());
+        return new Categorization(categorized, aiSuggestions.complete());
+    }
+
+    private Map<TransactionProposalId, TransactionHash> calculateHashes(
+            List<TransactionProposal> proposals, AccountId accountId) {
+        var hashes = new LinkedHashMap<TransactionProposalId, TransactionHash>();
+        for (var proposal : proposals) {
+            hashes.put(
+                    proposal.transactionId(),
+                    TransactionHashCalculator.calculateHash(
+                            accountId,
+                            Money.of(proposal.amount(), proposal.currency()),
+                            proposal.description(),
+                            proposal.transactionDate(),
+                            proposal.type()));
+        }
+        return hashes;
+    }
+
+    private CsvParseResult skipBoundaryDay(
+            CsvParseResult parseResult,
+            Map<TransactionProposalId, TransactionHash> hashes,
+            @Nullable ImportWatermark watermark) {
+        if (watermark == null) {
+            return parseResult;
+        }
+
+        var alreadyImported = parseResult.proposals().stream()
+                .filter(proposal ->
+                        watermark.covers(proposal.transactionDate(), hashes.get(proposal.transactionId())))
+                .map(TransactionProposal::transactionId)
+                .collect(Collectors.toSet());
+        hashes.keySet().removeAll(alreadyImported);
+        var result = parseResult.skip(alreadyImported);
+        log.info(
+                "Skipped {} rows covered by import watermark {} for account {}",
+                result.skippedCount(),
+                watermark.date(),
+                watermark.accountId());
+        return result;
+    }
+
+    private CsvParseResult markDuplicates(
+            CsvParseResult parseResult,
+            Map<TransactionProposalId, TransactionHash> hashes,
+            AccountId accountId,
+            GroupId groupId) {
+        var allHashes = List.copyOf(hashes.values());
+        var existingHashes = new HashSet<TransactionHash>();
+        for (var from = 0; from < allHashes.size(); from += DUPLICATE_CHECK_BATCH_SIZE) {
+            var batch = allHashes.subList(from, Math.min(allHashes.size(), from + DUPLICATE_CHECK_BATCH_SIZE));
+            existingHashes.addAll(transactionQueryFacade.findExistingHashes(accountId, batch, groupId));
+        }
+        if (existingHashes.isEmpty()) {
+            return parseResult;
+        }
+
+        var marked = parseResult.proposals().stream()
+                .map(proposal -> existingHashes.contains(hashes.get(proposal.transactionId()))
+                        ? proposal.asDuplicate()
+                        : proposal)
+                .toList();
+        log.info("Found {} already imported transactions for account {}", existingHashes.size(), accountId);
+        return parseResult.withProposals(marked);
+    }
+
+    private Map<MerchantKey, CategoryId> loadCategorizationHistory(GroupId groupId) {
+        var history = transactionQueryFacade.findMerchantCategories(groupId);
+        if (history.isEmpty()) {
+            return history;
+        }
+
+        var existingCategories = categoryQueryFacade.findExistingCategories(new HashSet<>(history.values()), groupId);
+        return history.entrySet().stream()
+                .filter(entry -> existingCategories.contains(entry.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private List<TransactionProposal> applyRememberedCategories(
+            List<TransactionProposal> proposals, Map<MerchantKey, CategoryId> history) {
+        if (history.isEmpty()) {
             return proposals;
         }
 
-        var suggestions = categorySuggestionService.suggestCategories(proposals, groupId);
+        return proposals.stream()
+                .map(proposal -> {
+                    var key = MerchantKey.of(proposal.description(), proposal.type());
+                    var categoryId = key != null ? history.get(key) : null;
+                    return categoryId != null ? proposal.withCategory(categoryId) : proposal;
+                })
+                .toList();
+    }
+
+    private AiSuggestions requestAiSuggestions(
+            List<TransactionProposal> proposals,
+            GroupId groupId,
+            CsvParseResult preliminaryResult,
+            ImportProgress progress) {
+        if (proposals.isEmpty() || categorySuggestionService == null) {
+            return new AiSuggestions(List.of(), true);
+        }
+        if (progress.reportsPartialResults()) {
+            return streamAiSuggestions(proposals, groupId, preliminaryResult, progress);
+        }
 
+        var suggestions = categorySuggestionService.suggestCategories(proposals, groupId);
         if (suggestions == null) {
-            log.warn("AI categorization failed, continuing with null categories");
-            return proposals;
+            log.warn("AI categorization failed, falling back to local suggestions");
+            return new AiSuggestions(List.of(), false);
         }
+        return new AiSuggestions(suggestions, true);
+    }
 
-        if (suggestions.isEmpty()) {
-            return proposals;
+    private AiSuggestions streamAiSuggestions(
+            List<TransactionProposal> proposals,
+            GroupId groupId,
+            CsvParseResult preliminaryResult,
+            ImportProgress progress) {
+        progress.categoriesSuggested(preliminaryResult);
+        var publisher = new PartialResultPublisher(preliminaryResult, progress, PARTIAL_RESULT_INTERVAL_NANOS);
+        var suggestions = categorySuggestionService.suggestCategories(proposals, groupId, publisher);
+        var received = publisher.close();
+        if (suggestions == null) {
+            log.warn("AI categorization failed, keeping {} streamed suggestions", received.size());
+            return new AiSuggestions(received, false);
         }
 
-        return applySuggestions(proposals, suggestions);
+        received.addAll(suggestions);
+        return new AiSuggestions(received, true);
     }
 
     private List<TransactionProposal> applySuggestions(
@@ -63,18 +381,12 @@ public class CsvParseService {
         return proposals.stream()
                 .map(proposal -> {
                     var suggestion = suggestionMap.get(proposal.transactionId());
-                    if (suggestion != null) {
-                        return new TransactionProposal(
-                                proposal.transactionId(),
-                                proposal.transactionDate(),
-                                proposal.description(),
-                                proposal.amount(),
-                                proposal.currency(),
-                                proposal.type(),
-                                suggestion.categoryId());
-                    }
-                    return proposal;
+                    return suggestion != null ? proposal.withCategory(suggestion.categoryId()) : proposal;
                 })
                 .toList();
     }
+
+    private record Categorization(List<TransactionProposal> proposals, boolean complete) {}
+
+    private record AiSuggestions(List<CategorySuggestion> suggestions, boolean complete) {}
 }
@@ -0,0 +1,127 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.EMPTY_FILE;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FILE_TOO_LARGE;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.INVALID_FILE;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+
+final class CsvStatementReader {
+    private static final String ARCHIVE_METADATA_DIRECTORY = "__MACOSX/";
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final int MAX_ARCHIVE_ENTRIES = 100;
+
+    private final long maxDecompressedSize;
+
+    CsvStatementReader(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    void read(InputStream upload, CsvUploadFormat format, Consumer<InputStream> statementHandler) {
+        try {
+            switch (format) {
+                case CSV -> statementHandler.accept(upload);
+                case GZIP -> statementHandler.accept(new SizeLimitedInputStream(new GZIPInputStream(upload)));
+                case ZIP -> readArchive(upload, statementHandler);
+            }
+        } catch (IOException e) {
+            throw new CsvImportException(INVALID_FILE, "Failed to decompress uploaded file: " + e.getMessage());
+        }
+    }
+
+    private void readArchive(InputStream upload, Consumer<InputStream> statementHandler) throws IOException {
+        try (var archive = new ZipInputStream(upload)) {
+            var entries = new SizeLimitedInputStream(archive);
+            var statements = 0;
+            var entryCount = 0;
+            for (var entry = archive.getNextEntry(); entry != null; entry = archive.getNextEntry()) {
+                if (++entryCount > MAX_ARCHIVE_ENTRIES) {
+                    throw new CsvImportException(
+                            INVALID_FILE, "Archive contains more than " + MAX_ARCHIVE_ENTRIES + " entries");
+                }
+                if (entry.getSize() > maxDecompressedSize) {
+                    throw tooLarge();
+                }
+                if (isStatement(entry)) {
+                    statementHandler.accept(new EntryInputStream(entries));
+                    statements++;
+                }
+                entries.transferTo(OutputStream.nullOutputStream());
+            }
+            if (statements == 0) {
+                throw new CsvImportException(EMPTY_FILE, "Archive does not contain any statement");
+            }
+        }
+    }
+
+    private static boolean isStatement(ZipEntry entry) {
+        var name = entry.getName();
+        var fileName = name.substring(name.lastIndexOf('/') + 1);
+        return !entry.isDirectory() && !name.startsWith(ARCHIVE_METADATA_DIRECTORY) && !fileName.startsWith(".");
+    }
+
+    private final class SizeLimitedInputStream extends FilterInputStream {
+        private long readBytes;
+
+        private SizeLimitedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long bytes) {
+            readBytes += bytes;
+            if (readBytes > maxDecompressedSize) {
+                throw tooLarge();
+            }
+        }
+    }
+
+    private CsvImportException tooLarge() {
+        return new CsvImportException(
+                FILE_TOO_LARGE,
+                "Decompressed file exceeds maximum allowed size of " + maxDecompressedSize / BYTES_PER_MEGABYTE + "MB");
+    }
+
+    private static final class EntryInputStream extends FilterInputStream {
+        private EntryInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // the archive stream is closed once all entries have been read
+        }
+    }
+}
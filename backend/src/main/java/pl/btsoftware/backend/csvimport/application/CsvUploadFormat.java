@@ -0,0 +1,7 @@
+package pl.btsoftware.backend.csvimport.application;
+
+public enum CsvUploadFormat {
+    CSV,
+    GZIP,
+    ZIP
+}
@@ -0,0 +1,8 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import java.util.Map;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+
+record HashedParseResult(CsvParseResult result, Map<TransactionProposalId, TransactionHash> hashes) {}
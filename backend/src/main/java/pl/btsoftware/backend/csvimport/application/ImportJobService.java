@@ -0,0 +1,185 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FAILED_TO_PARSE_CSV;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.IMPORT_QUEUE_FULL;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.UNKNOWN_ERROR;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.ImportJob;
+import pl.btsoftware.backend.csvimport.domain.ImportJobId;
+import pl.btsoftware.backend.csvimport.domain.ImportJobRepository;
+import pl.btsoftware.backend.csvimport.domain.ImportProgress;
+import pl.btsoftware.backend.csvimport.domain.error.ImportJobNotFoundException;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobService {
+    private static final int PROGRESS_REPORT_INTERVAL = 500;
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(2);
+
+    private final CsvParseService csvParseService;
+    private final ImportJobRepository importJobRepository;
+    private final AccountModuleFacade accountFacade;
+    private final UsersModuleFacade usersFacade;
+    private final Executor executor;
+    private final Set<ImportJobId> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public ImportJob submit(ParseCsvCommand command) {
+        var user = usersFacade.findUserOrThrow(command.userId());
+        accountFacade.getAccount(command.accountId(), user.groupId());
+
+        var csvFile = spoolToTemporaryFile(command.csvFile());
+        var job = ImportJob.queued(command.accountId(), user.groupId());
+        importJobRepository.create(job, OffsetDateTime.now().plus(LEASE_DURATION));
+        activeJobs.add(job.id());
+
+        try {
+            executor.execute(() -> run(job, command, csvFile));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(job.id());
+            deleteTemporaryFile(csvFile);
+            importJobRepository.update(job.failed(IMPORT_QUEUE_FULL, "Too many imports in progress"));
+            throw new CsvImportException(IMPORT_QUEUE_FULL, "Too many imports in progress, try again later");
+        }
+
+        log.info("Import job {} queued for account {}", job.id().value(), command.accountId());
+        return job;
+    }
+
+    public ImportJob getJob(ImportJobId id, UserId userId) {
+        var user = usersFacade.findUserOrThrow(userId);
+        return importJobRepository.findById(id, user.groupId()).orElseThrow(ImportJobNotFoundException::new);
+    }
+
+    public void maintainLeases() {
+        try {
+            var now = OffsetDateTime.now();
+            importJobRepository.renewLeases(Set.copyOf(activeJobs), now.plus(LEASE_DURATION));
+            var failed = importJobRepository.findWithExpiredLease(now).stream()
+                    .filter(job -> importJobRepository.updateIfLeaseExpired(job.interrupted(), now))
+                    .count();
+            if (failed > 0) {
+                log.warn("Marked {} import jobs abandoned by their node as failed", failed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to maintain import job leases", e);
+        }
+    }
+
+    private void run(ImportJob queuedJob, ParseCsvCommand command, Path csvFile) {
+        try {
+            var parsing = queuedJob.parsing(0);
+            if (!importJobRepository.update(parsing)) {
+                log.warn("Import job {} was already marked as finished, skipping", queuedJob.id().value());
+                return;
+            }
+            parse(new JobProgress(parsing), command, csvFile);
+        } finally {
+            activeJobs.remove(queuedJob.id());
+            deleteTemporaryFile(csvFile);
+        }
+    }
+
+    private void parse(JobProgress progress, ParseCsvCommand command, Path csvFile) {
+        var jobId = progress.job.id().value();
+        try (var csvStream = Files.newInputStream(csvFile)) {
+            var result = csvParseService.parse(
+                    new ParseCsvCommand(
+                            csvStream,
+                            command.userId(),
+                            command.accountId(),
+                            command.incremental(),
+                            command.format()),
+                    progress);
+            progress.finish(job -> job.completed(result));
+            log.info("Import job {} completed with {} rows", jobId, result.totalRows());
+        } catch (CsvImportException e) {
+            log.warn("Import job {} failed: {}", jobId, e.getMessage());
+            progress.finish(job -> job.failed(e.getErrorType(), e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            log.error("Import job {} failed", jobId, e);
+            progress.finish(job -> job.failed(UNKNOWN_ERROR, e.getMessage()));
+        }
+    }
+
+    private Path spoolToTemporaryFile(InputStream csvStream) {
+        try (csvStream) {
+            var csvFile = Files.createTempFile("import-job-", ".csv");
+            Files.copy(csvStream, csvFile, StandardCopyOption.REPLACE_EXISTING);
+            return csvFile;
+        } catch (IOException e) {
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+        }
+    }
+
+    private void deleteTemporaryFile(Path csvFile) {
+        try {
+            Files.deleteIfExists(csvFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary import file {}", csvFile, e);
+        }
+    }
+
+    private final class JobProgress implements ImportProgress {
+        private ImportJob job;
+        private int parsedRows;
+        private boolean abandoned;
+
+        private JobProgress(ImportJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public synchronized void rowParsed() {
+            parsedRows++;
+            if (parsedRows % PROGRESS_REPORT_INTERVAL == 0) {
+                update(job.parsing(parsedRows));
+            }
+        }
+
+        @Override
+        public synchronized void categorizationStarted() {
+            update(job.parsing(parsedRows).categorizing());
+        }
+
+        @Override
+        public synchronized void categoriesSuggested(CsvParseResult partialResult) {
+            if (job.isFinished()) {
+                return;
+            }
+            update(job.categorizing(partialResult));
+        }
+
+        private synchronized void finish(UnaryOperator<ImportJob> transition) {
+            update(transition.apply(job));
+            if (abandoned) {
+                log.warn("Import job {} was already marked as finished, dropping its result", job.id().value());
+            }
+        }
+
+        private void update(ImportJob next) {
+            job = next;
+            if (!abandoned && !importJobRepository.update(job)) {
+                abandoned = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static java.util.Objects.requireNonNull;
+
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+import pl.btsoftware.backend.shared.CategoryId;
+
+public record ImportRowEdit(TransactionProposalId id, CategoryId categoryId, String description, boolean excluded) {
+    public ImportRowEdit {
+        requireNonNull(id, "Row id cannot be null");
+    }
+}
@@ -0,0 +1,137 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.MISSING_CATEGORY;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.UNKNOWN_IMPORT_ROW;
+
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.ImportProgress;
+import pl.btsoftware.backend.csvimport.domain.ImportSession;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionRepository;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermarkRepository;
+import pl.btsoftware.backend.csvimport.domain.StagedTransaction;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+import pl.btsoftware.backend.csvimport.domain.error.ImportSessionNotFoundException;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.TransactionModuleFacade;
+import pl.btsoftware.backend.transaction.application.BillCommand;
+import pl.btsoftware.backend.transaction.application.BillItemCommand;
+import pl.btsoftware.backend.transaction.application.BulkCreateResult;
+import pl.btsoftware.backend.transaction.application.BulkCreateTransactionCommand;
+import pl.btsoftware.backend.transaction.application.CreateTransactionCommand;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@RequiredArgsConstructor
+@Slf4j
+public class ImportSessionService {
+    private static final Duration SESSION_TIME_TO_LIVE = Duration.ofHours(24);
+
+    private final CsvParseService csvParseService;
+    private final ImportSessionRepository importSessionRepository;
+    private final TransactionModuleFacade transactionModuleFacade;
+    private final UsersModuleFacade usersFacade;
+    private final ImportWatermarkRepository importWatermarkRepository;
+
+    public StagedImport stage(ParseCsvCommand command) {
+        var user = usersFacade.findUserOrThrow(command.userId());
+        var parsed = csvParseService.parseWithHashes(command, ImportProgress.NONE);
+        var transactions = parsed.result().proposals().stream()
+                .map(proposal -> new StagedTransaction(proposal, parsed.hashes().get(proposal.transactionId())))
+                .toList();
+
+        importSessionRepository.deleteExpired(OffsetDateTime.now());
+        var session = ImportSession.create(command.accountId(), user.groupId(), transactions, SESSION_TIME_TO_LIVE);
+        importSessionRepository.store(session);
+
+        log.info("Import session {} staged with {} rows", session.id().value(), transactions.size());
+        return new StagedImport(session, parsed.result());
+    }
+
+    @Transactional
+    public BulkCreateResult commit(CommitImportCommand command) {
+        var user = usersFacade.findUserOrThrow(command.userId());
+        var session = importSessionRepository
+                .findByIdForUpdate(command.sessionId(), user.groupId())
+                .filter(importSession -> !importSession.isExpired(OffsetDateTime.now()))
+                .orElseThrow(ImportSessionNotFoundException::new);
+
+        var edits = indexEdits(command.edits(), session);
+        var imported = new ArrayList<StagedTransaction>(session.transactions().size());
+        var transactions = new ArrayList<CreateTransactionCommand>(session.transactions().size());
+        for (var staged : session.transactions()) {
+            var edit = edits.get(staged.proposal().transactionId());
+            if (edit == null || !edit.excluded()) {
+                imported.add(staged);
+                transactions.add(toCommand(staged, edit, session.accountId(), command.userId()));
+            }
+        }
+
+        var result = transactionModuleFacade.bulkCreateTransactions(
+                new BulkCreateTransactionCommand(session.accountId(), transactions), command.userId());
+        importSessionRepository.delete(session.id());
+        advanceWatermark(session, imported);
+        log.info(
+                "Import session {} committed: {} saved, {} duplicates",
+                session.id().value(),
+                result.savedCount(),
+                result.duplicateCount());
+        return result;
+    }
+
+    private void advanceWatermark(ImportSession session, List<StagedTransaction> imported) {
+        if (imported.isEmpty()) {
+            return;
+        }
+        var watermark = importWatermarkRepository
+                .findByAccountId(session.accountId(), session.groupId())
+                .map(current -> current.advance(imported))
+                .orElseGet(() -> ImportWatermark.of(session.accountId(), session.groupId(), imported));
+        importWatermarkRepository.store(watermark);
+    }
+
+    private Map<TransactionProposalId, ImportRowEdit> indexEdits(List<ImportRowEdit> edits, ImportSession session) {
+        var stagedIds = session.transactions().stream()
+                .map(staged -> staged.proposal().transactionId())
+                .collect(Collectors.toSet());
+        var indexed = new HashMap<TransactionProposalId, ImportRowEdit>();
+        for (var edit : edits) {
+            if (!stagedIds.contains(edit.id())) {
+                throw new CsvImportException(UNKNOWN_IMPORT_ROW, "Row " + edit.id().value() + " is not part of import");
+            }
+            indexed.put(edit.id(), edit);
+        }
+        return indexed;
+    }
+
+    private CreateTransactionCommand toCommand(
+            StagedTransaction staged, ImportRowEdit edit, AccountId accountId, UserId userId) {
+        var proposal = staged.proposal();
+        var categoryId = edit != null && edit.categoryId() != null ? edit.categoryId() : proposal.categoryId();
+        if (categoryId == null) {
+            throw new CsvImportException(
+                    MISSING_CATEGORY, "Row " + proposal.transactionId().value() + " has no category");
+        }
+
+        var descriptionEdited = edit != null && edit.description() != null;
+        var description = descriptionEdited ? edit.description() : proposal.description();
+        var bill = new BillCommand(List.of(new BillItemCommand(categoryId, proposal.amount(), description)));
+        return new CreateTransactionCommand(
+                accountId,
+                proposal.transactionDate(),
+                proposal.type(),
+                bill,
+                userId,
+                descriptionEdited ? null : staged.hash());
+    }
+}
@@ -7,53 +7,146 @@ import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
-import org.springframework.stereotype.Component;
 import pl.btsoftware.backend.csvimport.domain.*;
 import pl.btsoftware.backend.shared.Currency;
 import pl.btsoftware.backend.shared.TransactionType;
 
-@Component
 public class MbankCsvParser implements TransactionCsvParser {
-    private static final int HEADER_END_LINE = 27;
+    private static final int HEADER_LINE_COUNT = 27;
     private static final int DATE_COLUMN = 0;
     private static final int DESCRIPTION_COLUMN = 1;
     private static final int CATEGORY_COLUMN = 3;
     private static final int AMOUNT_COLUMN = 4;
-    private static final int MINIMUM_LINE_COUNT = 28;
-    private static final int COLUMN_HEADER_LINE_INDEX = 26;
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
     private static final String EXPECTED_COLUMN_HEADERS = "#Data operacji;#Opis operacji;#Rachunek;#Kategoria;#Kwota;";
 
-    public CsvParseResult parse(InputStream csvStream, Currency accountCurrency) {
-        var csvBytes = readAllBytes(csvStream);
-        validate(new ByteArrayInputStream(csvBytes));
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxPendingChunks;
 
-        var proposals = new ArrayList<TransactionProposal>();
-        var errors = new ArrayList<ParseError>();
-        var totalRows = 0;
+    public MbankCsvParser() {
+        this(null, DEFAULT_CHUNK_SIZE, 1);
+    }
 
-        try (var reader = new InputStreamReader(new ByteArrayInputStream(csvBytes), StandardCharsets.UTF_8);
-                var parser = createCsvParser(reader)) {
+    public MbankCsvParser(Executor executor, int chunkSize, int parallelism) {
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = 2 * parallelism;
+    }
 
-            for (CSVRecord record : parser) {
-                if (isDataRow(record)) {
-                    totalRows++;
-                    parseRow(record, proposals, errors, accountCurrency, totalRows);
+    @Override
+    public void parse(InputStream csvStream, Currency accountCurrency, CsvRowListener listener) {
+        try (var reader = new BufferedReader(new InputStreamReader(csvStream, StandardCharsets.UTF_8))) {
+            validateHeader(reader);
+
+            var chunk = readChunk(reader);
+            if (executor == null || !hasMoreContent(reader)) {
+                parseSequentially(chunk, reader, accountCurrency, listener);
+            } else {
+                parseInParallel(chunk, reader, accountCurrency, listener);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+        }
+    }
+
+    private void parseSequentially(
+            String firstChunk, BufferedReader reader, Currency accountCurrency, CsvRowListener listener)
+            throws IOException {
+        var rowOffset = 0;
+        for (var chunk = firstChunk; !chunk.isEmpty(); chunk = readChunk(reader)) {
+            rowOffset += parseChunk(chunk, accountCurrency, listener, rowOffset);
+        }
+    }
+
+    private void parseInParallel(
+            String firstChunk, BufferedReader reader, Currency accountCurrency, CsvRowListener listener)
+            throws IOException {
+        var pending = new ArrayDeque<CompletableFuture<ParsedChunk>>();
+        var rowOffset = 0;
+        try {
+            for (var chunk = firstChunk; !chunk.isEmpty(); chunk = readChunk(reader)) {
+                pending.add(parseChunkAsync(chunk, accountCurrency));
+                if (pending.size() >= maxPendingChunks) {
+                    rowOffset += awaitChunk(pending.poll()).replay(listener, rowOffset);
                 }
             }
+            while (!pending.isEmpty()) {
+                rowOffset += awaitChunk(pending.poll()).replay(listener, rowOffset);
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
 
-            return new CsvParseResult(proposals, errors, totalRows, proposals.size(), errors.size());
+    private CompletableFuture<ParsedChunk> parseChunkAsync(String chunk, Currency accountCurrency) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    var parsedChunk = new ParsedChunk();
+                    parseChunk(chunk, accountCurrency, parsedChunk, 0);
+                    return parsedChunk;
+                },
+                executor);
+    }
 
-        } catch (IOException e) {
+    private ParsedChunk awaitChunk(CompletableFuture<ParsedChunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CsvImportException csvImportException) {
+                throw csvImportException;
+            }
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getCause().getMessage());
+        }
+    }
+
+    private int parseChunk(String chunk, Currency accountCurrency, CsvRowListener listener, int rowOffset) {
+        try (var parser = createCsvParser(new StringReader(chunk))) {
+            var rowNumber = rowOffset;
+            for (CSVRecord record : parser) {
+                if (!isEmptyRow(record)) {
+                    rowNumber++;
+                    parseRow(record, listener, accountCurrency, rowNumber);
+                }
+            }
+            return rowNumber - rowOffset;
+        } catch (IOException | UncheckedIOException e) {
             throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
         }
     }
 
-    private CSVParser createCsvParser(InputStreamReader reader) throws IOException {
+    private String readChunk(BufferedReader reader) throws IOException {
+        var chunk = new StringBuilder();
+        var insideQuotes = false;
+        while (chunk.length() < chunkSize || insideQuotes) {
+            var line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            chunk.append(line).append('\n');
+            insideQuotes ^= hasOddQuoteCount(line);
+        }
+        return chunk.toString();
+    }
+
+    private boolean hasOddQuoteCount(String line) {
+        var quotes = 0;
+        for (var i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 != 0;
+    }
+
+    private CSVParser createCsvParser(Reader reader) throws IOException {
         var format = CSVFormat.Builder.create()
                 .setDelimiter(';')
                 .setQuote('"')
@@ -61,34 +154,19 @@ public class MbankCsvParser implements TransactionCsvParser {
                 .setTrim(false)
                 .build();
 
-        var parser = format.parse(reader);
-
-        if (!parser.iterator().hasNext()) {
-            throw new CsvImportException(ErrorType.EMPTY_FILE, "CSV file is empty");
-        }
-
-        return parser;
-    }
-
-    private boolean isDataRow(CSVRecord record) {
-        return record.getRecordNumber() > HEADER_END_LINE && !isEmptyRow(record);
+        return format.parse(reader);
     }
 
     private boolean isEmptyRow(CSVRecord record) {
         return record.size() < 5 || record.stream().allMatch(String::isBlank);
     }
 
-    private void parseRow(
-            CSVRecord record,
-            List<TransactionProposal> proposals,
-            List<ParseError> errors,
-            Currency accountCurrency,
-            int rowNumber) {
+    private void parseRow(CSVRecord record, CsvRowListener listener, Currency accountCurrency, int rowNumber) {
         try {
             var proposal = createProposal(record);
 
             if (accountCurrency != null && !proposal.currency().equals(accountCurrency)) {
-                errors.add(new ParseError(
+                listener.onError(new ParseError(
                         ErrorType.CURRENCY_MISMATCH,
                         rowNumber,
                         "Currency mismatch: CSV contains "
@@ -98,37 +176,23 @@ public class MbankCsvParser implements TransactionCsvParser {
                 return;
             }
 
-            proposals.add(proposal);
+            listener.onProposal(proposal);
         } catch (CsvImportException e) {
-            errors.add(new ParseError(e.getErrorType(), rowNumber, e.getMessage()));
+            listener.onError(new ParseError(e.getErrorType(), rowNumber, e.getMessage()));
         } catch (Exception e) {
-            errors.add(new ParseError(ErrorType.UNKNOWN_ERROR, rowNumber, e.getMessage()));
+            listener.onError(new ParseError(ErrorType.UNKNOWN_ERROR, rowNumber, e.getMessage()));
         }
     }
 
     private TransactionProposal createProposal(CSVRecord record) {
         var date = parseDate(record.get(DATE_COLUMN));
-        var rawDescription = record.get(DESCRIPTION_COLUMN).trim();
-        var category = record.get(CATEGORY_COLUMN).trim();
-        var amountString = record.get(AMOUNT_COLUMN).trim();
-
-        var cleanedDescription = cleanDescription(rawDescription);
-        var descriptionWithCategory = category + ": " + cleanedDescription;
-
-        var currency = extractCurrency(amountString);
-        var amount = parseAmount(amountString);
-        var type = determineType(amount);
+        var description =
+                MbankFieldTokenizer.tokenizeDescription(record.get(CATEGORY_COLUMN), record.get(DESCRIPTION_COLUMN));
+        var amount = MbankFieldTokenizer.tokenizeAmount(record.get(AMOUNT_COLUMN));
+        var type = determineType(amount.value());
 
         return new TransactionProposal(
-                TransactionProposalId.generate(), date, descriptionWithCategory, amount, currency, type, null);
-    }
-
-    private String cleanDescription(String description) {
-        return description
-                .replaceAll("\\s+", " ")
-                .replace("transakcja nierozliczona", "")
-                .replace("PRZELEW ZEWNĘTRZNY PRZYCHODZĄCY", "")
-                .trim();
+                TransactionProposalId.generate(), date, description, amount.value(), amount.currency(), type, null);
     }
 
     private LocalDate parseDate(String dateString) {
@@ -139,83 +203,41 @@ public class MbankCsvParser implements TransactionCsvParser {
         }
     }
 
-    private BigDecimal parseAmount(String amountString) {
-        try {
-            var cleanAmount = amountString
-                    .replaceAll("[A-Z]{3}$", "")
-                    .replace(" ", "")
-                    .replace(",", ".")
-                    .trim();
-
-            return new BigDecimal(cleanAmount);
-        } catch (NumberFormatException e) {
-            throw new CsvImportException(ErrorType.INVALID_AMOUNT_FORMAT, "Invalid amount format: " + amountString);
-        }
-    }
-
-    private Currency extractCurrency(String amountString) {
-        try {
-            var currencyCode =
-                    amountString.trim().replaceAll("^[\\d\\s,.-]+", "").trim();
-
-            return Currency.valueOf(currencyCode);
-        } catch (IllegalArgumentException e) {
-            throw new CsvImportException(ErrorType.INVALID_CURRENCY, "Unsupported currency in amount: " + amountString);
-        }
-    }
-
     private TransactionType determineType(BigDecimal amount) {
         return amount.compareTo(BigDecimal.ZERO) >= 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
     }
 
-    private byte[] readAllBytes(InputStream stream) {
-        try {
-            return stream.readAllBytes();
-        } catch (IOException e) {
-            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
-        }
-    }
-
-    private void validate(InputStream csvStream) {
-        var lines = readLines(csvStream);
-
-        validateNotEmpty(lines);
-        validateMinimumLineCount(lines);
-        validateColumnHeaders(lines);
-    }
-
-    private ArrayList<String> readLines(InputStream csvStream) {
-        var lines = new ArrayList<String>();
-        try (var reader = new BufferedReader(new InputStreamReader(csvStream, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null && lines.size() < MINIMUM_LINE_COUNT) {
-                lines.add(line);
+    private void validateHeader(BufferedReader reader) throws IOException {
+        String columnHeaderLine = null;
+        var lineCount = 0;
+        while (lineCount < HEADER_LINE_COUNT) {
+            var line = reader.readLine();
+            if (line == null) {
+                break;
             }
-        } catch (IOException e) {
-            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+            columnHeaderLine = line;
+            lineCount++;
         }
-        return lines;
-    }
 
-    private void validateNotEmpty(ArrayList<String> lines) {
-        if (lines.isEmpty()) {
+        if (lineCount == 0) {
             throw new CsvImportException(EMPTY_FILE, "CSV file is empty");
         }
-    }
 
-    private void validateMinimumLineCount(ArrayList<String> lines) {
-        if (lines.size() < MINIMUM_LINE_COUNT) {
+        if (lineCount < HEADER_LINE_COUNT || !hasMoreContent(reader)) {
             throw new CsvImportException(
                     INVALID_FILE, "CSV file must have at least 28 lines (mBank format header + column headers)");
         }
-    }
-
-    private void validateColumnHeaders(ArrayList<String> lines) {
-        var columnHeaderLine = lines.get(COLUMN_HEADER_LINE_INDEX);
 
         if (!columnHeaderLine.startsWith(EXPECTED_COLUMN_HEADERS)) {
             throw new CsvImportException(
                     INVALID_FILE, "Expected mBank column headers at line 27: " + EXPECTED_COLUMN_HEADERS);
         }
     }
+
+    private boolean hasMoreContent(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        var next = reader.read();
+        reader.reset();
+        return next != -1;
+    }
 }
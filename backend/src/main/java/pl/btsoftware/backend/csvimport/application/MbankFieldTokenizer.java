@@ -0,0 +1,190 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.INVALID_AMOUNT_FORMAT;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.INVALID_CURRENCY;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.shared.Currency;
+
+final class MbankFieldTokenizer {
+    private static final String WHITESPACE = " \t\n\u000B\f\r";
+    private static final String CATEGORY_SEPARATOR = ": ";
+    private static final String[] REMOVED_PHRASES = {"transakcja nierozliczona", "PRZELEW ZEWNĘTRZNY PRZYCHODZĄCY"};
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int MAX_AMOUNT_DIGITS = 18;
+
+    private MbankFieldTokenizer() {}
+
+    record Amount(BigDecimal value, Currency currency) {}
+
+    static Amount tokenizeAmount(String field) {
+        var end = trimmedEnd(field, 0, field.length());
+        var begin = trimmedStart(field, 0, end);
+        var currencyStart = begin;
+        while (currencyStart < end && isAmountCharacter(field.charAt(currencyStart))) {
+            currencyStart++;
+        }
+
+        var currency = findCurrency(field, currencyStart, end);
+        if (currency == null) {
+            throw new CsvImportException(
+                    INVALID_CURRENCY, "Unsupported currency in amount: " + field.substring(begin, end));
+        }
+
+        var value = parseValue(field, begin, currencyStart);
+        if (value == null) {
+            throw new CsvImportException(
+                    INVALID_AMOUNT_FORMAT, "Invalid amount format: " + field.substring(begin, end));
+        }
+
+        return new Amount(value, currency);
+    }
+
+    static String tokenizeDescription(String category, String description) {
+        var builder = new StringBuilder(category.length() + description.length() + CATEGORY_SEPARATOR.length());
+        var categoryEnd = trimmedEnd(category, 0, category.length());
+        builder.append(category, trimmedStart(category, 0, categoryEnd), categoryEnd);
+        builder.append(CATEGORY_SEPARATOR);
+
+        var descriptionStart = builder.length();
+        var phraseFloors = new int[REMOVED_PHRASES.length];
+        Arrays.fill(phraseFloors, descriptionStart);
+        var pendingSpace = false;
+        for (var i = 0; i < description.length(); i++) {
+            var c = description.charAt(i);
+            if (isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+            removeTrailingPhrase(builder, phraseFloors);
+        }
+
+        builder.setLength(trimmedEnd(builder, descriptionStart, builder.length()));
+        builder.delete(descriptionStart, trimmedStart(builder, descriptionStart, builder.length()));
+        return builder.toString();
+    }
+
+    private static Currency findCurrency(String field, int begin, int end) {
+        for (var currency : CURRENCIES) {
+            var code = currency.name();
+            if (code.length() == end - begin && field.regionMatches(begin, code, 0, code.length())) {
+                return currency;
+            }
+        }
+        return null;
+    }
+
+    private static BigDecimal parseValue(String field, int begin, int end) {
+        var position = trimmedStart(field, begin, end);
+        var negative = position < end && field.charAt(position) == '-';
+        var accumulator = new DecimalAccumulator();
+        for (var i = negative ? position + 1 : position; i < end; i++) {
+            if (!accumulator.accept(field.charAt(i))) {
+                return null;
+            }
+        }
+        return accumulator.isEmpty() ? null : accumulator.toValue(negative);
+    }
+
+    private static void removeTrailingPhrase(StringBuilder builder, int[] phraseFloors) {
+        for (var i = 0; i < REMOVED_PHRASES.length; i++) {
+            var phrase = REMOVED_PHRASES[i];
+            if (endsWith(builder, phraseFloors[i], phrase)) {
+                var removedAt = builder.length() - phrase.length();
+                builder.setLength(removedAt);
+                for (var j = 0; j <= i; j++) {
+                    phraseFloors[j] = Math.max(phraseFloors[j], removedAt);
+                }
+                return;
+            }
+        }
+    }
+
+    private static boolean endsWith(StringBuilder builder, int start, String phrase) {
+        var offset = builder.length() - phrase.length();
+        if (offset < start) {
+            return false;
+        }
+        for (var i = phrase.length() - 1; i >= 0; i--) {
+            if (builder.charAt(offset + i) != phrase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int trimmedStart(CharSequence text, int begin, int end) {
+        var position = begin;
+        while (position < end && text.charAt(position) <= ' ') {
+            position++;
+        }
+        return position;
+    }
+
+    private static int trimmedEnd(CharSequence text, int begin, int end) {
+        var position = end;
+        while (position > begin && text.charAt(position - 1) <= ' ') {
+            position--;
+        }
+        return position;
+    }
+
+    private static boolean isAmountCharacter(char c) {
+        return isDigit(c) || isDecimalSeparator(c) || c == '-' || isWhitespace(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDecimalSeparator(char c) {
+        return c == ',' || c == '.';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return WHITESPACE.indexOf(c) >= 0;
+    }
+
+    private static final class DecimalAccumulator {
+        private long unscaled;
+        private int digits;
+        private int fractionStart = -1;
+        private boolean closed;
+
+        boolean accept(char c) {
+            if (c == ' ') {
+                return true;
+            }
+            if (closed) {
+                return isWhitespace(c);
+            }
+            if (isDigit(c) && digits < MAX_AMOUNT_DIGITS) {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                return true;
+            }
+            if (isDecimalSeparator(c) && fractionStart < 0) {
+                fractionStart = digits;
+                return true;
+            }
+            closed = true;
+            return isWhitespace(c);
+        }
+
+        boolean isEmpty() {
+            return digits == 0;
+        }
+
+        BigDecimal toValue(boolean negative) {
+            var scale = fractionStart < 0 ? 0 : digits - fractionStart;
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+        }
+    }
+}
@@ -4,4 +4,13 @@ import java.io.InputStream;
 import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.users.domain.UserId;
 
-public record ParseCsvCommand(InputStream csvFile, UserId userId, AccountId accountId) {}
+public record ParseCsvCommand(
+        InputStream csvFile, UserId userId, AccountId accountId, boolean incremental, CsvUploadFormat format) {
+    public ParseCsvCommand(InputStream csvFile, UserId userId, AccountId accountId) {
+        this(csvFile, userId, accountId, false);
+    }
+
+    public ParseCsvCommand(InputStream csvFile, UserId userId, AccountId accountId, boolean incremental) {
+        this(csvFile, userId, accountId, incremental, CsvUploadFormat.CSV);
+    }
+}
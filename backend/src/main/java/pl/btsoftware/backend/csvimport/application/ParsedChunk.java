@@ -0,0 +1,35 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import pl.btsoftware.backend.csvimport.domain.CsvRowListener;
+import pl.btsoftware.backend.csvimport.domain.ParseError;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposal;
+
+class ParsedChunk implements CsvRowListener {
+    private final List<Row> rows = new ArrayList<>();
+
+    @Override
+    public void onProposal(TransactionProposal proposal) {
+        rows.add(new Row(proposal, null));
+    }
+
+    @Override
+    public void onError(ParseError error) {
+        rows.add(new Row(null, error));
+    }
+
+    int replay(CsvRowListener listener, int rowOffset) {
+        for (var row : rows) {
+            if (row.proposal() != null) {
+                listener.onProposal(row.proposal());
+            } else {
+                var error = row.error();
+                listener.onError(new ParseError(error.type(), error.lineNumber() + rowOffset, error.details()));
+            }
+        }
+        return rows.size();
+    }
+
+    private record Row(TransactionProposal proposal, ParseError error) {}
+}
@@ -0,0 +1,57 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import pl.btsoftware.backend.csvimport.domain.CategorySuggestion;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.ImportProgress;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposal;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+
+class PartialResultPublisher implements Consumer<CategorySuggestion> {
+    private final CsvParseResult preliminaryResult;
+    private final ImportProgress progress;
+    private final long intervalNanos;
+    private final Map<TransactionProposalId, CategorySuggestion> received = new LinkedHashMap<>();
+    private long lastPublishedAt;
+    private boolean published;
+    private boolean closed;
+
+    PartialResultPublisher(CsvParseResult preliminaryResult, ImportProgress progress, long intervalNanos) {
+        this.preliminaryResult = preliminaryResult;
+        this.progress = progress;
+        this.intervalNanos = intervalNanos;
+    }
+
+    @Override
+    public synchronized void accept(CategorySuggestion suggestion) {
+        if (closed) {
+            return;
+        }
+
+        received.put(suggestion.transactionProposalId(), suggestion);
+        var now = System.nanoTime();
+        if (!published || now - lastPublishedAt >= intervalNanos) {
+            progress.categoriesSuggested(preliminaryResult.withProposals(applyReceived()));
+            lastPublishedAt = now;
+            published = true;
+        }
+    }
+
+    synchronized List<CategorySuggestion> close() {
+        closed = true;
+        return new ArrayList<>(received.values());
+    }
+
+    private List<TransactionProposal> applyReceived() {
+        return preliminaryResult.proposals().stream()
+                .map(proposal -> {
+                    var suggestion = received.get(proposal.transactionId());
+                    return suggestion != null ? proposal.withCategory(suggestion.categoryId()) : proposal;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,6 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.ImportSession;
+
+public record StagedImport(ImportSession session, CsvParseResult result) {}
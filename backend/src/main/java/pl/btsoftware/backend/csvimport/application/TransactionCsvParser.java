@@ -2,8 +2,16 @@ package pl.btsoftware.backend.csvimport.application;
 
 import java.io.InputStream;
 import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResultCollector;
+import pl.btsoftware.backend.csvimport.domain.CsvRowListener;
 import pl.btsoftware.backend.shared.Currency;
 
 public interface TransactionCsvParser {
-    CsvParseResult parse(InputStream csvStream, Currency accountCurrency);
+    void parse(InputStream csvStream, Currency accountCurrency, CsvRowListener listener);
+
+    default CsvParseResult parse(InputStream csvStream, Currency accountCurrency) {
+        var collector = new CsvParseResultCollector();
+        parse(csvStream, accountCurrency, collector);
+        return collector.toResult();
+    }
 }
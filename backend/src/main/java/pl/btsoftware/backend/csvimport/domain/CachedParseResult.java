@@ -0,0 +1,26 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.time.OffsetDateTime.now;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+public record CachedParseResult(
+        ParseResultCacheKey key, CsvParseResult result, OffsetDateTime createdAt, OffsetDateTime expiresAt) {
+    public CachedParseResult {
+        requireNonNull(key, "Cache key cannot be null");
+        requireNonNull(result, "Result cannot be null");
+        requireNonNull(createdAt, "Created at cannot be null");
+        requireNonNull(expiresAt, "Expires at cannot be null");
+    }
+
+    public static CachedParseResult create(ParseResultCacheKey key, CsvParseResult result, Duration timeToLive) {
+        var createdAt = now();
+        return new CachedParseResult(key, result, createdAt, createdAt.plus(timeToLive));
+    }
+
+    public boolean isExpired(OffsetDateTime at) {
+        return !at.isBefore(expiresAt);
+    }
+}
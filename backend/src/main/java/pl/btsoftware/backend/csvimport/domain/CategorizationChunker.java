@@ -0,0 +1,44 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class CategorizationChunker {
+    private static final int CHARACTERS_PER_TOKEN = 4;
+    private static final int ROW_OVERHEAD_TOKENS = 30;
+
+    private final int maxRowsPerChunk;
+    private final int maxTokensPerChunk;
+
+    CategorizationChunker(int maxRowsPerChunk, int maxTokensPerChunk) {
+        this.maxRowsPerChunk = maxRowsPerChunk;
+        this.maxTokensPerChunk = maxTokensPerChunk;
+    }
+
+    List<List<TransactionProposal>> split(List<TransactionProposal> transactions) {
+        var chunks = new ArrayList<List<TransactionProposal>>();
+        var current = new ArrayList<TransactionProposal>();
+        var currentTokens = 0;
+
+        for (var transaction : transactions) {
+            var tokens = estimateTokens(transaction);
+            if (!current.isEmpty()
+                    && (current.size() >= maxRowsPerChunk || currentTokens + tokens > maxTokensPerChunk)) {
+                chunks.add(List.copyOf(current));
+                current.clear();
+                currentTokens = 0;
+            }
+            current.add(transaction);
+            currentTokens += tokens;
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(List.copyOf(current));
+        }
+        return chunks;
+    }
+
+    private int estimateTokens(TransactionProposal transaction) {
+        return transaction.description().length() / CHARACTERS_PER_TOKEN + ROW_OVERHEAD_TOKENS;
+    }
+}
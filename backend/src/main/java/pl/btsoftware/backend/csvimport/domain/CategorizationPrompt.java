@@ -2,11 +2,55 @@ package pl.btsoftware.backend.csvimport.domain;
 
 import static java.util.Objects.requireNonNull;
 
-public record CategorizationPrompt(String jsonPrompt) {
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import pl.btsoftware.backend.shared.CategoryId;
+
+public record CategorizationPrompt(
+        String jsonPrompt,
+        Map<TransactionProposalId, List<TransactionProposalId>> duplicates,
+        List<TransactionProposalId> transactionAliases,
+        List<CategoryId> categoryAliases) {
     public CategorizationPrompt {
         requireNonNull(jsonPrompt, "JSON prompt cannot be null");
         if (jsonPrompt.isBlank()) {
             throw new IllegalArgumentException("JSON prompt cannot be blank");
         }
+        duplicates = Map.copyOf(duplicates);
+        transactionAliases = List.copyOf(transactionAliases);
+        categoryAliases = List.copyOf(categoryAliases);
+    }
+
+    public CategorizationPrompt(String jsonPrompt) {
+        this(jsonPrompt, Map.of(), List.of(), List.of());
+    }
+
+    public TransactionProposalId transactionFor(int alias) {
+        if (alias < 1 || alias > transactionAliases.size()) {
+            throw new IllegalArgumentException("Unknown transaction alias: " + alias);
+        }
+        return transactionAliases.get(alias - 1);
+    }
+
+    public CategoryId categoryFor(int alias) {
+        if (alias < 1 || alias > categoryAliases.size()) {
+            throw new IllegalArgumentException("Unknown category alias: " + alias);
+        }
+        return categoryAliases.get(alias - 1);
+    }
+
+    public List<CategorySuggestion> fanOut(List<CategorySuggestion> suggestions) {
+        if (duplicates.isEmpty()) {
+            return suggestions;
+        }
+
+        var expanded = new ArrayList<CategorySuggestion>(suggestions);
+        for (var suggestion : suggestions) {
+            for (var duplicate : duplicates.getOrDefault(suggestion.transactionProposalId(), List.of())) {
+                expanded.add(new CategorySuggestion(duplicate, suggestion.categoryId(), suggestion.confidence()));
+            }
+        }
+        return expanded;
     }
 }
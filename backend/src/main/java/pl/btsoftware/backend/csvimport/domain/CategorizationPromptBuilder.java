@@ -1,11 +1,11 @@
 package pl.btsoftware.backend.csvimport.domain;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
 import org.springframework.stereotype.Component;
 import pl.btsoftware.backend.category.domain.Category;
 import pl.btsoftware.backend.shared.CategoryId;
@@ -25,13 +25,39 @@ public class CategorizationPromptBuilder {
             throw new IllegalArgumentException("Category list cannot be empty");
         }
 
+        return build(transactions, buildCategoryTree(categories));
+    }
+
+    public CategorizationPrompt build(List<TransactionProposal> transactions, CategoryTree categoryTree) {
+        if (transactions.isEmpty()) {
+            throw new IllegalArgumentException("Transaction list cannot be empty");
+        }
+        if (categoryTree.isEmpty()) {
+            throw new IllegalArgumentException("Category list cannot be empty");
+        }
+
+        return build(DeduplicatedProposals.of(transactions), categoryTree);
+    }
+
+    CategorizationPrompt build(DeduplicatedProposals transactions, CategoryTree categoryTree) {
+        var promptTransactions = transactions.representatives();
         var promptStructure = new PromptStructure(
                 buildSystemInstructions(),
-                buildTransactions(transactions),
-                buildCategoryTree(categories),
-                buildExpectedResponseFormat());
+                categoryTree.json(),
+                buildExpectedResponseFormat(),
+                buildTransactions(promptTransactions));
+
+        return new CategorizationPrompt(
+                toJson(promptStructure),
+                transactions.duplicates(),
+                promptTransactions.stream().map(TransactionProposal::transactionId).toList(),
+                categoryTree.aliases());
+    }
 
-        return new CategorizationPrompt(toJson(promptStructure));
+    public CategoryTree buildCategoryTree(List<Category> categories) {
+        return new CategoryTree(
+                toJson(buildCategoryNodes(categories)),
+                categories.stream().map(Category::id).toList());
     }
 
     private String buildSystemInstructions() {
@@ -46,14 +72,15 @@ public class CategorizationPromptBuilder {
                 4. Provide confidence score between 0.0 and 1.0
                 5. If uncertain, choose the most general matching category with lower confidence
                 6. Return null categoryId if no suitable category exists
-                7. Use the exact categoryId from the provided category tree
+                7. Use the exact numeric categoryId from the provided category tree
+                8. Use the exact numeric transactionId from the provided transactions
 
                 Response format:
                 Return a JSON array of objects without any other characters like: json or `, one for each transaction, with the following structure:
                 [
                   {
                     "transactionId": <transactionId>,
-                    "categoryId": "<categoryId>",
+                    "categoryId": <categoryId>,
                     "confidence": <0.0-1.0>
                   }
                 ]""";
@@ -63,17 +90,17 @@ public class CategorizationPromptBuilder {
         return """
                 [
                   {
-                    "transactionId": "90185632-c640-476a-8a16-57abbcd777ee",
-                    "categoryId": "3fa85f64-5717-4562-b3fc-2c963f66afa6",
+                    "transactionId": 1,
+                    "categoryId": 4,
                     "confidence": 0.95
                   },
                   {
-                    "transactionId": "130b1c97-dbd0-45e3-9315-c0a4a98a3159",
-                    "categoryId": "51fb28d0-285e-4071-8da9-3980be3d5e2a",
+                    "transactionId": 2,
+                    "categoryId": 7,
                     "confidence": 0.75
                   },
                   {
-                    "transactionId": "dce20a09-8c7e-4300-a5c0-4799d7c85aa0",
+                    "transactionId": 3,
                     "categoryId": null,
                     "confidence": 0.95
                   }
@@ -81,15 +108,21 @@ public class CategorizationPromptBuilder {
     }
 
     private List<TransactionForPrompt> buildTransactions(List<TransactionProposal> transactions) {
-        return transactions.stream().map(TransactionForPrompt::from).toList();
+        var result = new ArrayList<TransactionForPrompt>(transactions.size());
+        for (var i = 0; i < transactions.size(); i++) {
+            var transaction = transactions.get(i);
+            result.add(new TransactionForPrompt(i + 1, transaction.description(), transaction.type()));
+        }
+        return result;
     }
 
-    private List<CategoryNode> buildCategoryTree(List<Category> categories) {
+    private List<CategoryNode> buildCategoryNodes(List<Category> categories) {
         var categoryMap = new HashMap<CategoryId, CategoryNode>();
         var roots = new ArrayList<CategoryNode>();
 
-        for (var category : categories) {
-            var node = new CategoryNode(category.id().value(), category.name(), category.type(), new ArrayList<>());
+        for (var i = 0; i < categories.size(); i++) {
+            var category = categories.get(i);
+            var node = new CategoryNode(i + 1, category.name(), category.type(), new ArrayList<>());
             categoryMap.put(category.id(), node);
         }
 
@@ -118,15 +151,11 @@ public class CategorizationPromptBuilder {
 
     private record PromptStructure(
             String systemInstructions,
-            List<TransactionForPrompt> transactions,
-            List<CategoryNode> categories,
-            String expectedResponseFormat) {}
+            @JsonRawValue String categories,
+            String expectedResponseFormat,
+            List<TransactionForPrompt> transactions) {}
 
-    private record TransactionForPrompt(UUID transactionId, String description, TransactionType type) {
-        private static TransactionForPrompt from(TransactionProposal proposal) {
-            return new TransactionForPrompt(proposal.transactionId().value(), proposal.description(), proposal.type());
-        }
-    }
+    private record TransactionForPrompt(int transactionId, String description, TransactionType type) {}
 
-    private record CategoryNode(UUID categoryId, String name, CategoryType type, List<CategoryNode> children) {}
+    private record CategoryNode(int categoryId, String name, CategoryType type, List<CategoryNode> children) {}
 }
@@ -3,12 +3,17 @@ package pl.btsoftware.backend.csvimport.domain;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Service;
 import pl.btsoftware.backend.ai.infrastructure.client.GeminiClient;
+import pl.btsoftware.backend.ai.infrastructure.config.GeminiConfig;
 import pl.btsoftware.backend.category.domain.CategoryRepository;
 import pl.btsoftware.backend.shared.CategoryType;
 import pl.btsoftware.backend.shared.TransactionType;
@@ -16,34 +21,55 @@ import pl.btsoftware.backend.users.domain.GroupId;
 
 @Service
 @ConditionalOnBean(GeminiClient.class)
-@RequiredArgsConstructor
 @Slf4j
 public class CategorySuggestionService {
+    private static final int MAX_TRANSACTIONS_PER_REQUEST = 100;
+    private static final int MAX_TOKENS_PER_REQUEST = 6000;
+    private static final int MAX_CACHED_CATEGORY_TREES = 1000;
+
     private final CategoryRepository categoryRepository;
     private final GeminiClient geminiClient;
     private final CategorizationPromptBuilder promptBuilder;
     private final GeminiResponseParser responseParser;
+    private final CategorizationChunker chunker;
+    private final CategoryTreeCache categoryTrees;
+    private final long deadlineNanos;
 
-    public List<CategorySuggestion> suggestCategories(List<TransactionProposal> transactions, GroupId groupId) {
-        validateInputs(transactions, groupId);
-
-        var transactionsByType = groupTransactionsByType(transactions);
+    public CategorySuggestionService(
+            CategoryRepository categoryRepository,
+            GeminiClient geminiClient,
+            CategorizationPromptBuilder promptBuilder,
+            GeminiResponseParser responseParser,
+            GeminiConfig geminiConfig) {
+        this.categoryRepository = categoryRepository;
+        this.geminiClient = geminiClient;
+        this.promptBuilder = promptBuilder;
+        this.responseParser = responseParser;
+        this.chunker = new CategorizationChunker(MAX_TRANSACTIONS_PER_REQUEST, MAX_TOKENS_PER_REQUEST);
+        this.categoryTrees = new CategoryTreeCache(MAX_CACHED_CATEGORY_TREES);
+        this.deadlineNanos = TimeUnit.SECONDS.toNanos(geminiConfig.getCategorizationDeadlineSeconds());
+    }
 
-        var allSuggestions = new ArrayList<CategorySuggestion>();
+    public List<CategorySuggestion> suggestCategories(List<TransactionProposal> transactions, GroupId groupId) {
+        return suggestCategories(transactions, groupId, null);
+    }
 
-        for (var entry : transactionsByType.entrySet()) {
-            var type = entry.getKey();
-            var typeTransactions = entry.getValue();
-            var suggestions = processByType(typeTransactions, type, groupId);
+    public List<CategorySuggestion> suggestCategories(
+            List<TransactionProposal> transactions, GroupId groupId, Consumer<CategorySuggestion> listener) {
+        validateInputs(transactions, groupId);
 
-            if (suggestions == null) {
-                return null;
-            }
+        var deadline = System.nanoTime() + deadlineNanos;
+        var requests = new ArrayList<ChunkRequest>();
+        for (var entry : groupTransactionsByType(transactions).entrySet()) {
+            requests.addAll(dispatchByType(entry.getValue(), entry.getKey(), groupId, listener));
+        }
 
-            allSuggestions.addAll(suggestions);
+        if (requests.isEmpty()) {
+            return List.of();
         }
 
-        return allSuggestions;
+        awaitAll(requests, deadline);
+        return collectSuggestions(requests);
     }
 
     private void validateInputs(List<TransactionProposal> transactions, GroupId groupId) {
@@ -60,24 +86,89 @@ public class CategorySuggestionService {
         return transactions.stream().collect(Collectors.groupingBy(TransactionProposal::type));
     }
 
-    private List<CategorySuggestion> processByType(
-            List<TransactionProposal> transactions, TransactionType type, GroupId groupId) {
-        var categoryType = mapTransactionTypeToCategory(type);
-        var categories = categoryRepository.findByType(categoryType, groupId);
+    private List<ChunkRequest> dispatchByType(
+            List<TransactionProposal> transactions,
+            TransactionType type,
+            GroupId groupId,
+            Consumer<CategorySuggestion> listener) {
+        var categoryTree = findCategoryTree(mapTransactionTypeToCategory(type), groupId);
 
-        if (categories.isEmpty()) {
+        if (categoryTree.isEmpty()) {
             return List.of();
         }
 
+        var deduplicated = DeduplicatedProposals.of(transactions);
+        return chunker.split(deduplicated.representatives()).stream()
+                .map(chunk -> new ChunkRequest(
+                        type, requestSuggestions(deduplicated.restrictTo(chunk), categoryTree, listener)))
+                .toList();
+    }
+
+    private CategoryTree findCategoryTree(CategoryType type, GroupId groupId) {
+        var version = categoryRepository.findVersion(type, groupId);
+        return categoryTrees.get(
+                groupId,
+                type,
+                version,
+                () -> promptBuilder.buildCategoryTree(categoryRepository.findByType(type, groupId)));
+    }
+
+    private void awaitAll(List<ChunkRequest> requests, long deadline) {
+        var all = CompletableFuture.allOf(
+                requests.stream().map(ChunkRequest::suggestions).toArray(CompletableFuture[]::new));
+        try {
+            all.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Categorization deadline exceeded, keeping suggestions received so far");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Unexpected categorization failure: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<CategorySuggestion> collectSuggestions(List<ChunkRequest> requests) {
+        var suggestions = new ArrayList<CategorySuggestion>();
+        var failedChunks = 0;
+        for (var request : requests) {
+            var chunkSuggestions = request.suggestions().getNow(null);
+            if (chunkSuggestions == null) {
+                request.suggestions().cancel(false);
+                failedChunks++;
+                log.warn("Categorization chunk for {} failed or did not finish in time", request.type());
+            } else {
+                suggestions.addAll(chunkSuggestions);
+            }
+        }
+
+        return failedChunks == requests.size() ? null : suggestions;
+    }
+
+    private CompletableFuture<List<CategorySuggestion>> requestSuggestions(
+            DeduplicatedProposals chunk, CategoryTree categoryTree, Consumer<CategorySuggestion> listener) {
         try {
-            var prompt = promptBuilder.build(transactions, categories);
-            var responseFuture = geminiClient.generateContent(prompt.jsonPrompt());
-            var response = responseFuture.join();
-            log.info("Received category suggestions response from Gemini API: {}", response);
-            return responseParser.parse(response);
-        } catch (Exception e) {
+            var prompt = promptBuilder.build(chunk, categoryTree);
+            var streamParser = listener != null ? responseParser.streamParser(prompt, listener) : null;
+            var response = streamParser != null
+                    ? geminiClient.generateContentStream(prompt.jsonPrompt(), streamParser::feed)
+                    : geminiClient.generateContent(prompt.jsonPrompt());
+            var suggestions = response.thenApply(body -> {
+                        log.info("Received category suggestions response from Gemini API: {}", body);
+                        return streamParser != null ? streamParser.finish() : responseParser.parse(body, prompt);
+                    })
+                    .exceptionally(error -> {
+                        log.warn("Failed to get category suggestions from Gemini API: {}", error.getMessage(), error);
+                        return null;
+                    });
+            suggestions.whenComplete((result, error) -> {
+                if (suggestions.isCancelled()) {
+                    response.cancel(true);
+                }
+            });
+            return suggestions;
+        } catch (RuntimeException e) {
             log.warn("Failed to get category suggestions from Gemini API: {}", e.getMessage(), e);
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -87,4 +178,6 @@ public class CategorySuggestionService {
             case INCOME -> CategoryType.INCOME;
         };
     }
+
+    private record ChunkRequest(TransactionType type, CompletableFuture<List<CategorySuggestion>> suggestions) {}
 }
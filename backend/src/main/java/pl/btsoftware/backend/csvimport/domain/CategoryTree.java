@@ -0,0 +1,17 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import pl.btsoftware.backend.shared.CategoryId;
+
+public record CategoryTree(String json, List<CategoryId> aliases) {
+    public CategoryTree {
+        requireNonNull(json, "Category tree JSON cannot be null");
+        aliases = List.copyOf(aliases);
+    }
+
+    public boolean isEmpty() {
+        return aliases.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
+import pl.btsoftware.backend.shared.CategoryType;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+class CategoryTreeCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<Key, Entry> entries;
+
+    CategoryTreeCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    CategoryTree get(GroupId groupId, CategoryType type, CategoryVersion version, Supplier<CategoryTree> loader) {
+        var key = new Key(groupId, type);
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.version().equals(version)) {
+                return entry.tree();
+            }
+        }
+
+        var tree = loader.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(version, tree));
+        }
+        return tree;
+    }
+
+    private record Key(GroupId groupId, CategoryType type) {}
+
+    private record Entry(CategoryVersion version, CategoryTree tree) {}
+}
@@ -0,0 +1,207 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CharNgramIndex {
+    private static final int NGRAM_LENGTH = 3;
+    private static final int CHAR_BITS = 16;
+    private static final char PADDING = ' ';
+
+    private final Map<Long, Integer> termIds;
+    private final float[] idf;
+    private final float unknownTermIdf;
+    private final int[][] postingDocuments;
+    private final float[][] postingWeights;
+    private final int documentCount;
+
+    private CharNgramIndex(
+            Map<Long, Integer> termIds,
+            float[] idf,
+            float unknownTermIdf,
+            int[][] postingDocuments,
+            float[][] postingWeights,
+            int documentCount) {
+        this.termIds = termIds;
+        this.idf = idf;
+        this.unknownTermIdf = unknownTermIdf;
+        this.postingDocuments = postingDocuments;
+        this.postingWeights = postingWeights;
+        this.documentCount = documentCount;
+    }
+
+    record Neighbour(int document, double similarity) {}
+
+    static CharNgramIndex build(List<String> documents) {
+        var termIds = new HashMap<Long, Integer>();
+        var documentTerms = new int[documents.size()][];
+        var documentFrequencies = new int[documents.size()][];
+        var termDocumentCounts = new int[0];
+
+        for (var document = 0; document < documents.size(); document++) {
+            var grams = NgramCounts.of(documents.get(document));
+            var terms = new int[grams.size()];
+            for (var i = 0; i < grams.size(); i++) {
+                terms[i] = termIds.computeIfAbsent(grams.codes[i], code -> termIds.size());
+            }
+            if (termIds.size() > termDocumentCounts.length) {
+                termDocumentCounts = Arrays.copyOf(termDocumentCounts, termIds.size() * 2);
+            }
+            for (var term : terms) {
+                termDocumentCounts[term]++;
+            }
+            documentTerms[document] = terms;
+            documentFrequencies[document] = Arrays.copyOf(grams.counts, grams.size());
+        }
+
+        var idf = new float[termIds.size()];
+        for (var term = 0; term < idf.length; term++) {
+            idf[term] = inverseDocumentFrequency(documents.size(), termDocumentCounts[term]);
+        }
+
+        var index = new CharNgramIndex(
+                termIds,
+                idf,
+                inverseDocumentFrequency(documents.size(), 0),
+                new int[idf.length][],
+                new float[idf.length][],
+                documents.size());
+        index.fillPostings(documentTerms, documentFrequencies, termDocumentCounts);
+        return index;
+    }
+
+    List<Neighbour> nearest(String text, int limit) {
+        var grams = NgramCounts.of(text);
+        var scores = new float[documentCount];
+        var touched = new int[documentCount];
+        var touchedCount = 0;
+        var norm = 0.0;
+
+        for (var i = 0; i < grams.size(); i++) {
+            var term = termIds.get(grams.codes[i]);
+            var weight = grams.counts[i] * (term != null ? idf[term] : unknownTermIdf);
+            norm += (double) weight * weight;
+            if (term == null) {
+                continue;
+            }
+            var documents = postingDocuments[term];
+            var weights = postingWeights[term];
+            for (var j = 0; j < documents.length; j++) {
+                if (scores[documents[j]] == 0) {
+                    touched[touchedCount++] = documents[j];
+                }
+                scores[documents[j]] += weight * weights[j];
+            }
+        }
+
+        return norm == 0 ? List.of() : topScores(scores, touched, touchedCount, Math.sqrt(norm), limit);
+    }
+
+    private void fillPostings(int[][] documentTerms, int[][] documentFrequencies, int[] termDocumentCounts) {
+        for (var term = 0; term < idf.length; term++) {
+            postingDocuments[term] = new int[termDocumentCounts[term]];
+            postingWeights[term] = new float[termDocumentCounts[term]];
+        }
+
+        var postingSizes = new int[idf.length];
+        for (var document = 0; document < documentTerms.length; document++) {
+            var terms = documentTerms[document];
+            var weights = weigh(terms, documentFrequencies[document], idf);
+            for (var i = 0; i < terms.length; i++) {
+                var term = terms[i];
+                postingDocuments[term][postingSizes[term]] = document;
+                postingWeights[term][postingSizes[term]] = weights[i];
+                postingSizes[term]++;
+            }
+        }
+    }
+
+    private static List<Neighbour> topScores(float[] scores, int[] touched, int touchedCount, double norm, int limit) {
+        var best = new int[Math.min(limit, touchedCount)];
+        var bestCount = 0;
+        for (var i = 0; i < touchedCount; i++) {
+            var document = touched[i];
+            if (bestCount == best.length && scores[best[bestCount - 1]] >= scores[document]) {
+                continue;
+            }
+            var position = bestCount < best.length ? bestCount++ : best.length - 1;
+            while (position > 0 && scores[best[position - 1]] < scores[document]) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = document;
+        }
+
+        var neighbours = new Neighbour[bestCount];
+        for (var i = 0; i < bestCount; i++) {
+            neighbours[i] = new Neighbour(best[i], Math.min(1.0, scores[best[i]] / norm));
+        }
+        return List.of(neighbours);
+    }
+
+    private static float[] weigh(int[] terms, int[] frequencies, float[] idf) {
+        var weights = new float[terms.length];
+        var norm = 0.0;
+        for (var i = 0; i < terms.length; i++) {
+            weights[i] = frequencies[i] * idf[terms[i]];
+            norm += (double) weights[i] * weights[i];
+        }
+        var length = (float) Math.sqrt(norm);
+        for (var i = 0; i < weights.length; i++) {
+            weights[i] /= length;
+        }
+        return weights;
+    }
+
+    private static float inverseDocumentFrequency(int documents, int documentsWithTerm) {
+        return (float) (Math.log((documents + 1.0) / (documentsWithTerm + 1.0)) + 1.0);
+    }
+
+    private static final class NgramCounts {
+        private final long[] codes;
+        private final int[] counts;
+        private final int size;
+
+        private NgramCounts(long[] codes, int[] counts, int size) {
+            this.codes = codes;
+            this.counts = counts;
+            this.size = size;
+        }
+
+        static NgramCounts of(String text) {
+            var padded = PADDING + text + PADDING;
+            var total = Math.max(0, padded.length() - NGRAM_LENGTH + 1);
+            var codes = new long[total];
+            for (var i = 0; i < total; i++) {
+                codes[i] = encode(padded, i);
+            }
+            Arrays.sort(codes);
+
+            var counts = new int[total];
+            var size = 0;
+            for (var i = 0; i < total; i++) {
+                if (size > 0 && codes[size - 1] == codes[i]) {
+                    counts[size - 1]++;
+                } else {
+                    codes[size] = codes[i];
+                    counts[size++] = 1;
+                }
+            }
+            return new NgramCounts(codes, counts, size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        private static long encode(String text, int start) {
+            var code = 0L;
+            for (var i = start; i < start + NGRAM_LENGTH; i++) {
+                code = (code << CHAR_BITS) | text.charAt(i);
+            }
+            return code;
+        }
+    }
+}
@@ -2,10 +2,16 @@ package pl.btsoftware.backend.csvimport.domain;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 public record CsvParseResult(
-        List<TransactionProposal> proposals, List<ParseError> errors, int totalRows, int successCount, int errorCount) {
+        List<TransactionProposal> proposals,
+        List<ParseError> errors,
+        int totalRows,
+        int successCount,
+        int errorCount,
+        int skippedCount) {
     public CsvParseResult {
         requireNonNull(proposals, "Proposals list cannot be null");
         requireNonNull(errors, "Errors list cannot be null");
@@ -13,10 +19,40 @@ public record CsvParseResult(
         errors = List.copyOf(errors);
     }
 
+    public CsvParseResult(
+            List<TransactionProposal> proposals,
+            List<ParseError> errors,
+            int totalRows,
+            int successCount,
+            int errorCount) {
+        this(proposals, errors, totalRows, successCount, errorCount, 0);
+    }
+
+    public CsvParseResult withProposals(List<TransactionProposal> proposals) {
+        return new CsvParseResult(proposals, errors, totalRows, successCount, errorCount, skippedCount);
+    }
+
+    public CsvParseResult skip(Collection<TransactionProposalId> skippedIds) {
+        if (skippedIds.isEmpty()) {
+            return this;
+        }
+        var remaining = proposals.stream()
+                .filter(proposal -> !skippedIds.contains(proposal.transactionId()))
+                .toList();
+        var skipped = proposals.size() - remaining.size();
+        return new CsvParseResult(
+                remaining, errors, totalRows, successCount - skipped, errorCount, skippedCount + skipped);
+    }
+
+    public int duplicateCount() {
+        return (int) proposals.stream().filter(TransactionProposal::duplicate).count();
+    }
+
     public double successRate() {
-        if (totalRows == 0) {
+        var parsedRows = totalRows - skippedCount;
+        if (parsedRows == 0) {
             return 0.0;
         }
-        return (double) successCount / totalRows;
+        return (double) successCount / parsedRows;
     }
 }
@@ -0,0 +1,29 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvParseResultCollector implements CsvRowListener {
+    private final List<TransactionProposal> proposals = new ArrayList<>();
+    private final List<ParseError> errors = new ArrayList<>();
+    private int skippedCount;
+
+    @Override
+    public void onProposal(TransactionProposal proposal) {
+        proposals.add(proposal);
+    }
+
+    @Override
+    public void onError(ParseError error) {
+        errors.add(error);
+    }
+
+    public void onSkipped() {
+        skippedCount++;
+    }
+
+    public CsvParseResult toResult() {
+        var totalRows = proposals.size() + errors.size() + skippedCount;
+        return new CsvParseResult(proposals, errors, totalRows, proposals.size(), errors.size(), skippedCount);
+    }
+}
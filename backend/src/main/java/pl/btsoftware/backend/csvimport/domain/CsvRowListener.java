@@ -0,0 +1,7 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+public interface CsvRowListener {
+    void onProposal(TransactionProposal proposal);
+
+    void onError(ParseError error);
+}
@@ -0,0 +1,44 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import pl.btsoftware.backend.shared.TransactionType;
+
+record DeduplicatedProposals(
+        List<TransactionProposal> representatives, Map<TransactionProposalId, List<TransactionProposalId>> duplicates) {
+
+    static DeduplicatedProposals of(List<TransactionProposal> transactions) {
+        var representatives = new LinkedHashMap<DeduplicationKey, TransactionProposal>();
+        var duplicates = new HashMap<TransactionProposalId, List<TransactionProposalId>>();
+        for (var transaction : transactions) {
+            var representative = representatives.putIfAbsent(DeduplicationKey.of(transaction), transaction);
+            if (representative != null) {
+                duplicates
+                        .computeIfAbsent(representative.transactionId(), id -> new ArrayList<>())
+                        .add(transaction.transactionId());
+            }
+        }
+        return new DeduplicatedProposals(List.copyOf(representatives.values()), duplicates);
+    }
+
+    DeduplicatedProposals restrictTo(List<TransactionProposal> chunk) {
+        var chunkDuplicates = new HashMap<TransactionProposalId, List<TransactionProposalId>>();
+        for (var transaction : chunk) {
+            var transactionDuplicates = duplicates.get(transaction.transactionId());
+            if (transactionDuplicates != null) {
+                chunkDuplicates.put(transaction.transactionId(), transactionDuplicates);
+            }
+        }
+        return new DeduplicatedProposals(chunk, chunkDuplicates);
+    }
+
+    private record DeduplicationKey(String description, TransactionType type) {
+        private static DeduplicationKey of(TransactionProposal proposal) {
+            return new DeduplicationKey(proposal.description().strip().toLowerCase(Locale.ROOT), proposal.type());
+        }
+    }
+}
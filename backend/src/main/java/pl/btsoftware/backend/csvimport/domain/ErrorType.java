@@ -11,5 +11,9 @@ public enum ErrorType {
     CURRENCY_MISMATCH,
     UNKNOWN_ERROR,
     FAILED_TO_PARSE_CSV,
-    INVALID_FILE
+    INVALID_FILE,
+    IMPORT_QUEUE_FULL,
+    UNKNOWN_IMPORT_ROW,
+    MISSING_CATEGORY,
+    IMPORT_INTERRUPTED
 }
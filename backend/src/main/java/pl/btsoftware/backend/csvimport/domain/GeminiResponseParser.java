@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import pl.btsoftware.backend.ai.infrastructure.client.GeminiClientException;
@@ -17,6 +19,39 @@ public class GeminiResponseParser {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     public List<CategorySuggestion> parse(String jsonResponse) {
+        return parse(
+                jsonResponse,
+                node -> TransactionProposalId.from(UUID.fromString(node.asText())),
+                node -> CategoryId.of(UUID.fromString(node.asText())));
+    }
+
+    public List<CategorySuggestion> parse(String jsonResponse, CategorizationPrompt prompt) {
+        var suggestions = parse(
+                jsonResponse,
+                node -> prompt.transactionFor(aliasOf(node)),
+                node -> prompt.categoryFor(aliasOf(node)));
+        return prompt.fanOut(suggestions);
+    }
+
+    public SuggestionStreamParser streamParser(CategorizationPrompt prompt, Consumer<CategorySuggestion> listener) {
+        return new SuggestionStreamParser(
+                objectMapper,
+                node -> {
+                    var suggestions = new ArrayList<CategorySuggestion>(1);
+                    processNode(
+                            node,
+                            suggestions,
+                            alias -> prompt.transactionFor(aliasOf(alias)),
+                            alias -> prompt.categoryFor(aliasOf(alias)));
+                    return prompt.fanOut(suggestions);
+                },
+                listener);
+    }
+
+    private List<CategorySuggestion> parse(
+            String jsonResponse,
+            Function<JsonNode, TransactionProposalId> transactionResolver,
+            Function<JsonNode, CategoryId> categoryResolver) {
         if (jsonResponse == null || jsonResponse.isBlank()) {
             throw new IllegalArgumentException("JSON response cannot be null or blank");
         }
@@ -29,7 +64,7 @@ public class GeminiResponseParser {
 
             var suggestions = new ArrayList<CategorySuggestion>();
             for (var node : rootNode) {
-                processNode(node, suggestions);
+                processNode(node, suggestions, transactionResolver, categoryResolver);
             }
 
             return suggestions;
@@ -38,28 +73,35 @@ public class GeminiResponseParser {
         }
     }
 
-    private void processNode(JsonNode node, List<CategorySuggestion> suggestions) {
+    private void processNode(
+            JsonNode node,
+            List<CategorySuggestion> suggestions,
+            Function<JsonNode, TransactionProposalId> transactionResolver,
+            Function<JsonNode, CategoryId> categoryResolver) {
         try {
             if (!node.has("transactionId") || !node.has("confidence")) {
                 log.warn("Skipping suggestion missing required fields: {}", node);
                 return;
             }
 
-            var transactionId = UUID.fromString(node.get("transactionId").asText());
+            var transactionId = transactionResolver.apply(node.get("transactionId"));
 
             double confidence = node.get("confidence").asDouble();
 
             CategoryId categoryId = null;
             if (node.has("categoryId") && !node.get("categoryId").isNull()) {
-                var uuidStr = node.get("categoryId").asText();
-                categoryId = CategoryId.of(UUID.fromString(uuidStr));
+                categoryId = categoryResolver.apply(node.get("categoryId"));
             }
 
-            suggestions.add(new CategorySuggestion(TransactionProposalId.from(transactionId), categoryId, confidence));
+            suggestions.add(new CategorySuggestion(transactionId, categoryId, confidence));
         } catch (IllegalArgumentException e) {
             log.warn("Skipping invalid suggestion: {}", e.getMessage());
         } catch (Exception e) {
             log.warn("Unexpected error processing suggestion node: {}", e.getMessage(), e);
         }
     }
+
+    private static int aliasOf(JsonNode node) {
+        return node.isInt() ? node.intValue() : Integer.parseInt(node.asText().trim());
+    }
 }
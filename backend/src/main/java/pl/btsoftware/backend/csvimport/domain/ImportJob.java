@@ -0,0 +1,85 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.time.OffsetDateTime.now;
+import static java.util.Objects.requireNonNull;
+
+import java.time.OffsetDateTime;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public record ImportJob(
+        ImportJobId id,
+        AccountId accountId,
+        GroupId groupId,
+        ImportJobStatus status,
+        int parsedRows,
+        CsvParseResult result,
+        ErrorType errorType,
+        String errorMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+    public ImportJob {
+        requireNonNull(id, "Import job id cannot be null");
+        requireNonNull(accountId, "Account id cannot be null");
+        requireNonNull(groupId, "Group id cannot be null");
+        requireNonNull(status, "Import job status cannot be null");
+        requireNonNull(createdAt, "Created at cannot be null");
+        requireNonNull(updatedAt, "Updated at cannot be null");
+    }
+
+    public static ImportJob queued(AccountId accountId, GroupId groupId) {
+        var createdAt = now();
+        return new ImportJob(
+                ImportJobId.generate(),
+                accountId,
+                groupId,
+                ImportJobStatus.QUEUED,
+                0,
+                null,
+                null,
+                null,
+                createdAt,
+                createdAt);
+    }
+
+    public ImportJob parsing(int parsedRows) {
+        return withState(ImportJobStatus.PARSING, parsedRows, null, null, null);
+    }
+
+    public ImportJob categorizing() {
+        return withState(ImportJobStatus.CATEGORIZING, parsedRows, null, null, null);
+    }
+
+    public ImportJob categorizing(CsvParseResult partialResult) {
+        requireNonNull(partialResult, "Partial import result cannot be null");
+        return withState(ImportJobStatus.CATEGORIZING, parsedRows, partialResult, null, null);
+    }
+
+    public ImportJob completed(CsvParseResult result) {
+        requireNonNull(result, "Import result cannot be null");
+        return withState(ImportJobStatus.COMPLETED, result.totalRows(), result, null, null);
+    }
+
+    public ImportJob failed(ErrorType errorType, String errorMessage) {
+        requireNonNull(errorType, "Error type cannot be null");
+        return withState(ImportJobStatus.FAILED, parsedRows, null, errorType, errorMessage);
+    }
+
+    public ImportJob interrupted() {
+        return failed(ErrorType.IMPORT_INTERRUPTED, "Import was interrupted, upload the file again");
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+
+    private ImportJob withState(
+            ImportJobStatus status,
+            int parsedRows,
+            CsvParseResult result,
+            ErrorType errorType,
+            String errorMessage) {
+        return new ImportJob(
+                id, accountId, groupId, status, parsedRows, result, errorType, errorMessage, createdAt, now());
+    }
+}
@@ -0,0 +1,19 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+
+public record ImportJobId(UUID value) {
+    public ImportJobId {
+        requireNonNull(value, "Import job id cannot be null");
+    }
+
+    public static ImportJobId generate() {
+        return new ImportJobId(UUID.randomUUID());
+    }
+
+    public static ImportJobId from(UUID id) {
+        return new ImportJobId(id);
+    }
+}
@@ -0,0 +1,21 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface ImportJobRepository {
+    void create(ImportJob importJob, OffsetDateTime leaseExpiresAt);
+
+    boolean update(ImportJob importJob);
+
+    boolean updateIfLeaseExpired(ImportJob importJob, OffsetDateTime at);
+
+    void renewLeases(Collection<ImportJobId> ids, OffsetDateTime leaseExpiresAt);
+
+    Optional<ImportJob> findById(ImportJobId id, GroupId groupId);
+
+    List<ImportJob> findWithExpiredLease(OffsetDateTime at);
+}
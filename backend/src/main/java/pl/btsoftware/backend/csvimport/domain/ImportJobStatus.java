@@ -0,0 +1,13 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+public enum ImportJobStatus {
+    QUEUED,
+    PARSING,
+    CATEGORIZING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,29 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+public interface ImportProgress {
+    ImportProgress NONE = new ImportProgress() {
+        @Override
+        public void rowParsed() {}
+
+        @Override
+        public void categorizationStarted() {}
+
+        @Override
+        public void categoriesSuggested(CsvParseResult partialResult) {}
+
+        @Override
+        public boolean reportsPartialResults() {
+            return false;
+        }
+    };
+
+    void rowParsed();
+
+    void categorizationStarted();
+
+    void categoriesSuggested(CsvParseResult partialResult);
+
+    default boolean reportsPartialResults() {
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.time.OffsetDateTime.now;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public record ImportSession(
+        ImportSessionId id,
+        AccountId accountId,
+        GroupId groupId,
+        List<StagedTransaction> transactions,
+        OffsetDateTime createdAt,
+        OffsetDateTime expiresAt) {
+    public ImportSession {
+        requireNonNull(id, "Import session id cannot be null");
+        requireNonNull(accountId, "Account id cannot be null");
+        requireNonNull(groupId, "Group id cannot be null");
+        requireNonNull(transactions, "Transactions cannot be null");
+        requireNonNull(createdAt, "Created at cannot be null");
+        requireNonNull(expiresAt, "Expires at cannot be null");
+        transactions = List.copyOf(transactions);
+    }
+
+    public static ImportSession create(
+            AccountId accountId, GroupId groupId, List<StagedTransaction> transactions, Duration timeToLive) {
+        var createdAt = now();
+        return new ImportSession(
+                ImportSessionId.generate(), accountId, groupId, transactions, createdAt, createdAt.plus(timeToLive));
+    }
+
+    public boolean isExpired(OffsetDateTime at) {
+        return !at.isBefore(expiresAt);
+    }
+}
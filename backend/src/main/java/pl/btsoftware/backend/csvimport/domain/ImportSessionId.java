@@ -0,0 +1,19 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+
+public record ImportSessionId(UUID value) {
+    public ImportSessionId {
+        requireNonNull(value, "Import session id cannot be null");
+    }
+
+    public static ImportSessionId generate() {
+        return new ImportSessionId(UUID.randomUUID());
+    }
+
+    public static ImportSessionId from(UUID id) {
+        return new ImportSessionId(id);
+    }
+}
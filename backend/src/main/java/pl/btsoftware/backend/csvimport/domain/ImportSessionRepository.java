@@ -0,0 +1,17 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface ImportSessionRepository {
+    void store(ImportSession importSession);
+
+    Optional<ImportSession> findById(ImportSessionId id, GroupId groupId);
+
+    Optional<ImportSession> findByIdForUpdate(ImportSessionId id, GroupId groupId);
+
+    void delete(ImportSessionId id);
+
+    void deleteExpired(OffsetDateTime at);
+}
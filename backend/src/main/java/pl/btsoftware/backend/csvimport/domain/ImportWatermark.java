@@ -0,0 +1,58 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public record ImportWatermark(
+        AccountId accountId, GroupId groupId, LocalDate date, Set<TransactionHash> boundaryHashes) {
+    public ImportWatermark {
+        requireNonNull(accountId, "Account id cannot be null");
+        requireNonNull(groupId, "Group id cannot be null");
+        requireNonNull(date, "Watermark date cannot be null");
+        requireNonNull(boundaryHashes, "Boundary hashes cannot be null");
+        boundaryHashes = Set.copyOf(boundaryHashes);
+    }
+
+    public static ImportWatermark of(AccountId accountId, GroupId groupId, List<StagedTransaction> imported) {
+        var date = imported.stream()
+                .map(transaction -> transaction.proposal().transactionDate())
+                .max(Comparator.naturalOrder())
+                .orElseThrow(() -> new IllegalArgumentException("Watermark requires at least one transaction"));
+        var hashes = imported.stream()
+                .filter(transaction -> transaction.proposal().transactionDate().equals(date))
+                .map(StagedTransaction::hash)
+                .collect(toSet());
+        return new ImportWatermark(accountId, groupId, date, hashes);
+    }
+
+    public ImportWatermark advance(List<StagedTransaction> imported) {
+        var candidate = of(accountId, groupId, imported);
+        if (candidate.date.isBefore(date)) {
+            return this;
+        }
+        if (candidate.date.isAfter(date)) {
+            return candidate;
+        }
+
+        var hashes = new HashSet<>(boundaryHashes);
+        hashes.addAll(candidate.boundaryHashes);
+        return new ImportWatermark(accountId, groupId, date, hashes);
+    }
+
+    public boolean covers(LocalDate transactionDate) {
+        return transactionDate.isBefore(date);
+    }
+
+    public boolean covers(LocalDate transactionDate, TransactionHash hash) {
+        return covers(transactionDate) || (transactionDate.equals(date) && boundaryHashes.contains(hash));
+    }
+}
@@ -0,0 +1,11 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.Optional;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface ImportWatermarkRepository {
+    void store(ImportWatermark watermark);
+
+    Optional<ImportWatermark> findByAccountId(AccountId accountId, GroupId groupId);
+}
@@ -0,0 +1,73 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+
+public final class NearestNeighbourCategorizer {
+    private static final int NEIGHBOURS = 5;
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final Map<TransactionType, TypeIndex> indexes;
+
+    private NearestNeighbourCategorizer(Map<TransactionType, TypeIndex> indexes) {
+        this.indexes = indexes;
+    }
+
+    public static NearestNeighbourCategorizer build(Map<MerchantKey, CategoryId> examples) {
+        var textsByType = new EnumMap<TransactionType, List<String>>(TransactionType.class);
+        var labelsByType = new EnumMap<TransactionType, List<CategoryId>>(TransactionType.class);
+        examples.forEach((key, categoryId) -> {
+            textsByType.computeIfAbsent(key.type(), type -> new ArrayList<>()).add(key.value());
+            labelsByType.computeIfAbsent(key.type(), type -> new ArrayList<>()).add(categoryId);
+        });
+
+        var indexes = new EnumMap<TransactionType, TypeIndex>(TransactionType.class);
+        textsByType.forEach((type, texts) -> indexes.put(
+                type, new TypeIndex(CharNgramIndex.build(texts), labelsByType.get(type).toArray(CategoryId[]::new))));
+        return new NearestNeighbourCategorizer(indexes);
+    }
+
+    public List<CategorySuggestion> suggest(List<TransactionProposal> proposals) {
+        var suggestions = new ArrayList<CategorySuggestion>();
+        for (var proposal : proposals) {
+            var suggestion = suggest(proposal);
+            if (suggestion != null) {
+                suggestions.add(suggestion);
+            }
+        }
+        return suggestions;
+    }
+
+    private CategorySuggestion suggest(TransactionProposal proposal) {
+        var index = indexes.get(proposal.type());
+        var key = MerchantKey.of(proposal.description(), proposal.type());
+        if (index == null || key == null) {
+            return null;
+        }
+
+        var votes = new HashMap<CategoryId, Double>();
+        var bestSimilarity = new HashMap<CategoryId, Double>();
+        for (var neighbour : index.ngrams().nearest(key.value(), NEIGHBOURS)) {
+            if (neighbour.similarity() < MIN_SIMILARITY) {
+                break;
+            }
+            var categoryId = index.labels()[neighbour.document()];
+            votes.merge(categoryId, neighbour.similarity(), Double::sum);
+            bestSimilarity.merge(categoryId, neighbour.similarity(), Math::max);
+        }
+
+        return votes.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(vote -> new CategorySuggestion(
+                        proposal.transactionId(), vote.getKey(), bestSimilarity.get(vote.getKey())))
+                .orElse(null);
+    }
+
+    private record TypeIndex(CharNgramIndex ngrams, CategoryId[] labels) {}
+}
@@ -0,0 +1,32 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RequiredArgsConstructor
+@Slf4j
+public class ParseResultCache {
+    private final ParseResultCacheRepository repository;
+    private final Duration timeToLive;
+    private final int maxEntriesPerGroup;
+
+    public Optional<CsvParseResult> find(ParseResultCacheKey key) {
+        return repository
+                .find(key)
+                .filter(entry -> !entry.isExpired(OffsetDateTime.now()))
+                .map(CachedParseResult::result);
+    }
+
+    public void store(ParseResultCacheKey key, CsvParseResult result) {
+        try {
+            repository.deleteExpired(OffsetDateTime.now());
+            repository.store(CachedParseResult.create(key, result, timeToLive));
+            repository.deleteOldest(key.groupId(), maxEntriesPerGroup);
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache parse result for account {}", key.accountId().value(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public record ParseResultCacheKey(GroupId groupId, AccountId accountId, String digest, String categoryVersion) {
+    public ParseResultCacheKey {
+        requireNonNull(groupId, "Group id cannot be null");
+        requireNonNull(accountId, "Account id cannot be null");
+        requireNonNull(digest, "Digest cannot be null");
+        requireNonNull(categoryVersion, "Category version cannot be null");
+    }
+}
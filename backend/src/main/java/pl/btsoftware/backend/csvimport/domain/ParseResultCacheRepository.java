@@ -0,0 +1,15 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface ParseResultCacheRepository {
+    void store(CachedParseResult entry);
+
+    Optional<CachedParseResult> find(ParseResultCacheKey key);
+
+    void deleteExpired(OffsetDateTime at);
+
+    void deleteOldest(GroupId groupId, int keep);
+}
@@ -0,0 +1,12 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+
+public record StagedTransaction(TransactionProposal proposal, TransactionHash hash) {
+    public StagedTransaction {
+        requireNonNull(proposal, "Proposal cannot be null");
+        requireNonNull(hash, "Transaction hash cannot be null");
+    }
+}
@@ -0,0 +1,113 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import pl.btsoftware.backend.ai.infrastructure.client.GeminiClientException;
+
+public final class SuggestionStreamParser {
+    private final ObjectMapper objectMapper;
+    private final Function<JsonNode, List<CategorySuggestion>> elementParser;
+    private final Consumer<CategorySuggestion> listener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final List<CategorySuggestion> suggestions = new ArrayList<>();
+    private TokenBuffer element;
+    private int depth;
+    private boolean arrayStarted;
+    private boolean arrayClosed;
+
+    SuggestionStreamParser(
+            ObjectMapper objectMapper,
+            Function<JsonNode, List<CategorySuggestion>> elementParser,
+            Consumer<CategorySuggestion> listener) {
+        this.objectMapper = objectMapper;
+        this.elementParser = elementParser;
+        this.listener = listener;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create streaming JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    public void feed(String chunk) {
+        var bytes = chunk.getBytes(UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            throw new GeminiClientException("Failed to parse Gemini response", e);
+        }
+    }
+
+    public List<CategorySuggestion> finish() {
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException e) {
+            throw new GeminiClientException("Failed to parse Gemini response", e);
+        }
+        if (!arrayClosed) {
+            throw new GeminiClientException("Response is not a complete JSON array");
+        }
+        return List.copyOf(suggestions);
+    }
+
+    private void drain() throws IOException {
+        var token = parser.nextToken();
+        while (token != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+            token = parser.nextToken();
+        }
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        if (!arrayStarted) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new GeminiClientException("Response is not a JSON array");
+            }
+            arrayStarted = true;
+            return;
+        }
+        if (arrayClosed) {
+            throw new GeminiClientException("Unexpected content after JSON array");
+        }
+        if (depth == 0 && token == JsonToken.END_ARRAY) {
+            arrayClosed = true;
+            return;
+        }
+
+        if (element == null) {
+            element = new TokenBuffer(objectMapper, false);
+        }
+        element.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+        if (depth == 0) {
+            emit(objectMapper.readTree(element.asParser()));
+            element = null;
+        }
+    }
+
+    private void emit(JsonNode node) {
+        for (var suggestion : elementParser.apply(node)) {
+            suggestions.add(suggestion);
+            listener.accept(suggestion);
+        }
+    }
+}
@@ -20,7 +20,8 @@ public record TransactionProposal(
         BigDecimal amount,
         Currency currency,
         TransactionType type,
-        CategoryId categoryId) {
+        CategoryId categoryId,
+        boolean duplicate) {
     public TransactionProposal {
         requireNonNull(transactionId, "Transaction id cannot be null");
         requireNonNull(transactionDate, "Transaction date cannot be null");
@@ -37,12 +38,37 @@ public record TransactionProposal(
                 TransactionProposalDescriptionInvalidCharactersException::new);
     }
 
+    public TransactionProposal(
+            TransactionProposalId transactionId,
+            LocalDate transactionDate,
+            String description,
+            BigDecimal amount,
+            Currency currency,
+            TransactionType type,
+            CategoryId categoryId) {
+        this(transactionId, transactionDate, description, amount, currency, type, categoryId, false);
+    }
+
+    public TransactionProposal withCategory(CategoryId categoryId) {
+        return new TransactionProposal(
+                transactionId, transactionDate, description, amount, currency, type, categoryId, duplicate);
+    }
+
+    public TransactionProposal asDuplicate() {
+        return withDuplicate(true);
+    }
+
+    public TransactionProposal withDuplicate(boolean duplicate) {
+        return new TransactionProposal(
+                transactionId, transactionDate, description, amount, currency, type, categoryId, duplicate);
+    }
+
     private String sanitizeDescription(String description) {
         if (description == null) {
             return "";
         }
 
-        var cleaned = description.replaceAll(ALL_NON_VALID_CHARACTERS_PATTERN.pattern(), "");
+        var cleaned = ALL_NON_VALID_CHARACTERS_PATTERN.matcher(description).replaceAll("");
 
         if (cleaned.length() > MAX_NAME_LENGTH) {
             return cleaned.substring(0, MAX_NAME_LENGTH);
@@ -0,0 +1,3 @@
+package pl.btsoftware.backend.csvimport.domain.error;
+
+public class ImportJobNotFoundException extends RuntimeException {}
@@ -0,0 +1,3 @@
+package pl.btsoftware.backend.csvimport.domain.error;
+
+public class ImportSessionNotFoundException extends RuntimeException {}
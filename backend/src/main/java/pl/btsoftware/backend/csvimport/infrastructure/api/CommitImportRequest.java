@@ -0,0 +1,18 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import pl.btsoftware.backend.csvimport.application.CommitImportCommand;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+public record CommitImportRequest(List<@Valid ImportRowEditRequest> edits) {
+    public CommitImportRequest {
+        edits = edits != null ? List.copyOf(edits) : List.of();
+    }
+
+    public CommitImportCommand toCommand(ImportSessionId sessionId, UserId userId) {
+        return new CommitImportCommand(
+                sessionId, edits.stream().map(ImportRowEditRequest::toEdit).toList(), userId);
+    }
+}
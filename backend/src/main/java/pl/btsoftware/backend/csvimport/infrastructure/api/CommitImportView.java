@@ -0,0 +1,17 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import java.util.List;
+import java.util.UUID;
+import pl.btsoftware.backend.shared.TransactionId;
+import pl.btsoftware.backend.transaction.application.BulkCreateResult;
+
+public record CommitImportView(int savedCount, int duplicateCount, List<UUID> savedTransactionIds) {
+    public CommitImportView {
+        savedTransactionIds = List.copyOf(savedTransactionIds);
+    }
+
+    public static CommitImportView from(BulkCreateResult result) {
+        var ids = result.savedTransactionIds().stream().map(TransactionId::value).toList();
+        return new CommitImportView(result.savedCount(), result.duplicateCount(), ids);
+    }
+}
@@ -8,7 +8,9 @@ public record CsvParseResultView(
         List<ParseErrorView> errors,
         int totalRows,
         int successCount,
-        int errorCount) {
+        int errorCount,
+        int duplicateCount,
+        int skippedCount) {
     public CsvParseResultView {
         proposals = List.copyOf(proposals);
         errors = List.copyOf(errors);
@@ -20,6 +22,8 @@ public record CsvParseResultView(
                 result.errors().stream().map(ParseErrorView::from).toList(),
                 result.totalRows(),
                 result.successCount(),
-                result.errorCount());
+                result.errorCount(),
+                result.duplicateCount(),
+                result.skippedCount());
     }
 }
@@ -0,0 +1,39 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.*;
+
+import java.util.Map;
+import org.springframework.web.multipart.MultipartFile;
+import pl.btsoftware.backend.csvimport.application.CsvUploadFormat;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+
+final class CsvUploadValidator {
+    private static final long MAX_FILE_SIZE = 50 * 1024 * 1024;
+    private static final Map<String, CsvUploadFormat> ALLOWED_CONTENT_TYPES = Map.of(
+            "text/csv", CsvUploadFormat.CSV,
+            "application/csv", CsvUploadFormat.CSV,
+            "text/plain", CsvUploadFormat.CSV,
+            "application/gzip", CsvUploadFormat.GZIP,
+            "application/x-gzip", CsvUploadFormat.GZIP,
+            "application/zip", CsvUploadFormat.ZIP,
+            "application/x-zip-compressed", CsvUploadFormat.ZIP);
+
+    private CsvUploadValidator() {}
+
+    static CsvUploadFormat validate(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new CsvImportException(EMPTY_FILE, "File cannot be empty");
+        }
+
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new CsvImportException(FILE_TOO_LARGE, "File size exceeds maximum allowed size of 50MB");
+        }
+
+        var contentType = file.getContentType();
+        var format = contentType != null ? ALLOWED_CONTENT_TYPES.get(contentType) : null;
+        if (format == null) {
+            throw new CsvImportException(INVALID_FILE_TYPE, "Invalid file type. Allowed types: CSV, GZIP, ZIP");
+        }
+        return format;
+    }
+}
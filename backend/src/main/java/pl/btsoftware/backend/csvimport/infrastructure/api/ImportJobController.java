@@ -0,0 +1,57 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import static org.springframework.http.HttpStatus.ACCEPTED;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FAILED_TO_PARSE_CSV;
+
+import java.io.IOException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import pl.btsoftware.backend.csvimport.application.ImportJobService;
+import pl.btsoftware.backend.csvimport.application.ParseCsvCommand;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.ImportJobId;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobController {
+    private final ImportJobService importJobService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(ACCEPTED)
+    public ImportJobView submitImport(
+            @RequestParam("csvFile") MultipartFile file,
+            @RequestParam("accountId") UUID accountId,
+            @RequestParam(value = "incremental", defaultValue = "false") boolean incremental,
+            @AuthenticationPrincipal Jwt jwt) {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received import job request for account: {} by user: {}", accountId, userId);
+
+        var format = CsvUploadValidator.validate(file);
+
+        try {
+            var command =
+                    new ParseCsvCommand(file.getInputStream(), userId, AccountId.from(accountId), incremental, format);
+            return ImportJobView.from(importJobService.submit(command));
+        } catch (IOException e) {
+            log.error("Failed to read CSV file", e);
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ImportJobView getImport(@PathVariable UUID id, @AuthenticationPrincipal Jwt jwt) {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received request to get import job with id: {} by user: {}", id, userId);
+        return ImportJobView.from(importJobService.getJob(ImportJobId.from(id), userId));
+    }
+}
@@ -0,0 +1,31 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.csvimport.domain.ImportJob;
+import pl.btsoftware.backend.csvimport.domain.ImportJobStatus;
+
+public record ImportJobView(
+        UUID id,
+        UUID accountId,
+        ImportJobStatus status,
+        int parsedRows,
+        CsvParseResultView result,
+        ErrorType errorType,
+        String errorMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+    public static ImportJobView from(ImportJob importJob) {
+        return new ImportJobView(
+                importJob.id().value(),
+                importJob.accountId().value(),
+                importJob.status(),
+                importJob.parsedRows(),
+                importJob.result() != null ? CsvParseResultView.from(importJob.result()) : null,
+                importJob.errorType(),
+                importJob.errorMessage(),
+                importJob.createdAt(),
+                importJob.updatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import pl.btsoftware.backend.csvimport.application.ImportRowEdit;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+import pl.btsoftware.backend.shared.CategoryId;
+
+public record ImportRowEditRequest(@NotNull UUID id, UUID categoryId, String description, boolean excluded) {
+    public ImportRowEdit toEdit() {
+        return new ImportRowEdit(
+                TransactionProposalId.from(id),
+                categoryId != null ? CategoryId.of(categoryId) : null,
+                description,
+                excluded);
+    }
+}
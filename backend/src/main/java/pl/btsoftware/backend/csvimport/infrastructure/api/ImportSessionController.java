@@ -0,0 +1,64 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FAILED_TO_PARSE_CSV;
+
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import pl.btsoftware.backend.csvimport.application.ImportSessionService;
+import pl.btsoftware.backend.csvimport.application.ParseCsvCommand;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@RestController
+@RequestMapping("/api/imports/sessions")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportSessionController {
+    private final ImportSessionService importSessionService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(CREATED)
+    public ImportSessionView stageImport(
+            @RequestParam("csvFile") MultipartFile file,
+            @RequestParam("accountId") UUID accountId,
+            @RequestParam(value = "incremental", defaultValue = "false") boolean incremental,
+            @AuthenticationPrincipal Jwt jwt) {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received import session request for account: {} by user: {}", accountId, userId);
+
+        var format = CsvUploadValidator.validate(file);
+
+        try {
+            var command =
+                    new ParseCsvCommand(file.getInputStream(), userId, AccountId.from(accountId), incremental, format);
+            return ImportSessionView.from(importSessionService.stage(command));
+        } catch (IOException e) {
+            log.error("Failed to read CSV file", e);
+            throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/commit")
+    public CommitImportView commitImport(
+            @PathVariable UUID id, @RequestBody @Valid CommitImportRequest request, @AuthenticationPrincipal Jwt jwt) {
+        var userId = new UserId(jwt.getSubject());
+        log.info(
+                "Received request to commit import session {} with {} edits by user: {}",
+                id,
+                request.edits().size(),
+                userId);
+        var result = importSessionService.commit(request.toCommand(ImportSessionId.from(id), userId));
+        return CommitImportView.from(result);
+    }
+}
@@ -0,0 +1,16 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import pl.btsoftware.backend.csvimport.application.StagedImport;
+
+public record ImportSessionView(UUID id, UUID accountId, OffsetDateTime expiresAt, CsvParseResultView result) {
+    public static ImportSessionView from(StagedImport stagedImport) {
+        var session = stagedImport.session();
+        return new ImportSessionView(
+                session.id().value(),
+                session.accountId().value(),
+                session.expiresAt(),
+                CsvParseResultView.from(stagedImport.result()));
+    }
+}
@@ -8,19 +8,23 @@ import pl.btsoftware.backend.shared.Currency;
 import pl.btsoftware.backend.shared.TransactionType;
 
 public record TransactionProposalView(
+        UUID id,
         LocalDate transactionDate,
         String description,
         BigDecimal amount,
         Currency currency,
         TransactionType type,
-        UUID categoryId) {
+        UUID categoryId,
+        boolean duplicate) {
     public static TransactionProposalView from(TransactionProposal proposal) {
         return new TransactionProposalView(
+                proposal.transactionId().value(),
                 proposal.transactionDate(),
                 proposal.description(),
                 proposal.amount(),
                 proposal.currency(),
                 proposal.type(),
-                proposal.categoryId() != null ? proposal.categoryId().value() : null);
+                proposal.categoryId() != null ? proposal.categoryId().value() : null,
+                proposal.duplicate());
     }
 }
@@ -1,6 +1,6 @@
 package pl.btsoftware.backend.csvimport.infrastructure.api;
 
-import static pl.btsoftware.backend.csvimport.domain.ErrorType.*;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FAILED_TO_PARSE_CSV;
 
 import java.io.IOException;
 import java.util.UUID;
@@ -25,23 +25,22 @@ import pl.btsoftware.backend.users.domain.UserId;
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionsImportController {
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
-    private static final String[] ALLOWED_CONTENT_TYPES = {"text/csv", "application/csv", "text/plain"};
-
     private final CsvParseService csvParseService;
 
     @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public CsvParseResultView importTransactions(
             @RequestParam("csvFile") MultipartFile file,
             @RequestParam("accountId") UUID accountId,
+            @RequestParam(value = "incremental", defaultValue = "false") boolean incremental,
             @AuthenticationPrincipal Jwt jwt) {
         var userId = new UserId(jwt.getSubject());
         log.info("Received CSV parse request for account: {} by user: {}", accountId, userId);
 
-        validateFile(file);
+        var format = CsvUploadValidator.validate(file);
 
         try {
-            var command = new ParseCsvCommand(file.getInputStream(), userId, AccountId.from(accountId));
+            var command =
+                    new ParseCsvCommand(file.getInputStream(), userId, AccountId.from(accountId), incremental, format);
             var result = csvParseService.parse(command);
 
             log.info("CSV parsing completed: {} proposals, {} errors", result.successCount(), result.errorCount());
@@ -51,28 +50,4 @@ public class TransactionsImportController {
             throw new CsvImportException(FAILED_TO_PARSE_CSV, e.getMessage());
         }
     }
-
-    private void validateFile(MultipartFile file) {
-        if (file.isEmpty()) {
-            throw new CsvImportException(EMPTY_FILE, "File cannot be empty");
-        }
-
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new CsvImportException(FILE_TOO_LARGE, "File size exceeds maximum allowed size of 10MB");
-        }
-
-        var contentType = file.getContentType();
-        if (contentType == null || !isAllowedContentType(contentType)) {
-            throw new CsvImportException(INVALID_FILE_TYPE, "Invalid file type. Allowed types: CSV");
-        }
-    }
-
-    private boolean isAllowedContentType(String contentType) {
-        for (String allowed : ALLOWED_CONTENT_TYPES) {
-            if (contentType.equals(allowed)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
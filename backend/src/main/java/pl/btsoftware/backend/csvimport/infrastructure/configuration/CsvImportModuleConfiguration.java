@@ -0,0 +1,126 @@
+package pl.btsoftware.backend.csvimport.infrastructure.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.csvimport.application.CsvParseService;
+import pl.btsoftware.backend.csvimport.application.ImportJobService;
+import pl.btsoftware.backend.csvimport.application.ImportSessionService;
+import pl.btsoftware.backend.csvimport.application.MbankCsvParser;
+import pl.btsoftware.backend.csvimport.domain.ImportJobRepository;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionRepository;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermarkRepository;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCache;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCacheRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.ImportJobJpaRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.ImportSessionJpaRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.ImportWatermarkJpaRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.JpaImportJobRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.JpaImportSessionRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.JpaImportWatermarkRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.JpaParseResultCacheRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.ParseResultCacheJpaRepository;
+import pl.btsoftware.backend.transaction.TransactionModuleFacade;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+
+@Configuration
+class CsvImportModuleConfiguration {
+    private static final int PARSING_CHUNK_SIZE = 1024 * 1024;
+    private static final int IMPORT_JOB_THREADS = 2;
+    private static final int IMPORT_JOB_QUEUE_CAPACITY = 16;
+    private static final Duration IMPORT_JOB_LEASE_RENEWAL_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration PARSE_RESULT_CACHE_TIME_TO_LIVE = Duration.ofHours(1);
+    private static final int PARSE_RESULT_CACHE_ENTRIES_PER_GROUP = 20;
+
+    @Bean(destroyMethod = "shutdown")
+    ForkJoinPool csvParsingPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    MbankCsvParser mbankCsvParser(ForkJoinPool csvParsingPool) {
+        return new MbankCsvParser(csvParsingPool, PARSING_CHUNK_SIZE, csvParsingPool.getParallelism());
+    }
+
+    @Bean
+    ImportJobRepository importJobRepository(ImportJobJpaRepository importJobJpaRepository) {
+        return new JpaImportJobRepository(importJobJpaRepository);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    ThreadPoolExecutor importJobExecutor() {
+        return new ThreadPoolExecutor(
+                IMPORT_JOB_THREADS,
+                IMPORT_JOB_THREADS,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(IMPORT_JOB_QUEUE_CAPACITY),
+                Thread.ofPlatform().name("import-job-", 0).daemon().factory());
+    }
+
+    @Bean
+    ImportJobService importJobService(
+            CsvParseService csvParseService,
+            ImportJobRepository importJobRepository,
+            AccountModuleFacade accountModuleFacade,
+            UsersModuleFacade usersModuleFacade,
+            ThreadPoolExecutor importJobExecutor) {
+        return new ImportJobService(
+                csvParseService, importJobRepository, accountModuleFacade, usersModuleFacade, importJobExecutor);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    ScheduledExecutorService importJobLeaseRenewal(ImportJobService importJobService) {
+        var scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("import-job-lease").daemon().factory());
+        scheduler.scheduleAtFixedRate(
+                importJobService::maintainLeases,
+                0L,
+                IMPORT_JOB_LEASE_RENEWAL_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    @Bean
+    ImportSessionRepository importSessionRepository(ImportSessionJpaRepository importSessionJpaRepository) {
+        return new JpaImportSessionRepository(importSessionJpaRepository);
+    }
+
+    @Bean
+    ImportWatermarkRepository importWatermarkRepository(ImportWatermarkJpaRepository importWatermarkJpaRepository) {
+        return new JpaImportWatermarkRepository(importWatermarkJpaRepository);
+    }
+
+    @Bean
+    ParseResultCacheRepository parseResultCacheRepository(ParseResultCacheJpaRepository parseResultCacheJpaRepository) {
+        return new JpaParseResultCacheRepository(parseResultCacheJpaRepository);
+    }
+
+    @Bean
+    ParseResultCache parseResultCache(ParseResultCacheRepository parseResultCacheRepository) {
+        return new ParseResultCache(
+                parseResultCacheRepository, PARSE_RESULT_CACHE_TIME_TO_LIVE, PARSE_RESULT_CACHE_ENTRIES_PER_GROUP);
+    }
+
+    @Bean
+    ImportSessionService importSessionService(
+            CsvParseService csvParseService,
+            ImportSessionRepository importSessionRepository,
+            TransactionModuleFacade transactionModuleFacade,
+            UsersModuleFacade usersModuleFacade,
+            ImportWatermarkRepository importWatermarkRepository) {
+        return new ImportSessionService(
+                csvParseService,
+                importSessionRepository,
+                transactionModuleFacade,
+                usersModuleFacade,
+                importWatermarkRepository);
+    }
+}
@@ -0,0 +1,97 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.csvimport.domain.ParseError;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposal;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+
+public record CsvParseResultJson(
+        @JsonProperty("proposals") List<ProposalJson> proposals,
+        @JsonProperty("errors") List<ParseErrorJson> errors,
+        @JsonProperty("totalRows") int totalRows,
+        @JsonProperty("successCount") int successCount,
+        @JsonProperty("errorCount") int errorCount,
+        @JsonProperty("skippedCount") int skippedCount) {
+    public CsvParseResultJson {
+        proposals = List.copyOf(proposals);
+        errors = List.copyOf(errors);
+    }
+
+    public static CsvParseResultJson fromDomain(CsvParseResult result) {
+        return new CsvParseResultJson(
+                result.proposals().stream().map(ProposalJson::fromDomain).toList(),
+                result.errors().stream().map(ParseErrorJson::fromDomain).toList(),
+                result.totalRows(),
+                result.successCount(),
+                result.errorCount(),
+                result.skippedCount());
+    }
+
+    public CsvParseResult toDomain() {
+        return new CsvParseResult(
+                proposals.stream().map(ProposalJson::toDomain).toList(),
+                errors.stream().map(ParseErrorJson::toDomain).toList(),
+                totalRows,
+                successCount,
+                errorCount,
+                skippedCount);
+    }
+
+    record ProposalJson(
+            @JsonProperty("id") UUID id,
+            @JsonProperty("transactionDate") String transactionDate,
+            @JsonProperty("description") String description,
+            @JsonProperty("amount") BigDecimal amount,
+            @JsonProperty("currency") String currency,
+            @JsonProperty("type") String type,
+            @JsonProperty("categoryId") UUID categoryId,
+            @JsonProperty("duplicate") boolean duplicate) {
+
+        public static ProposalJson fromDomain(TransactionProposal proposal) {
+            return new ProposalJson(
+                    proposal.transactionId().value(),
+                    proposal.transactionDate().toString(),
+                    proposal.description(),
+                    proposal.amount(),
+                    proposal.currency().name(),
+                    proposal.type().name(),
+                    proposal.categoryId() != null ? proposal.categoryId().value() : null,
+                    proposal.duplicate());
+        }
+
+        public TransactionProposal toDomain() {
+            return new TransactionProposal(
+                    TransactionProposalId.from(id),
+                    LocalDate.parse(transactionDate),
+                    description,
+                    amount,
+                    Currency.valueOf(currency),
+                    TransactionType.valueOf(type),
+                    categoryId != null ? CategoryId.of(categoryId) : null,
+                    duplicate);
+        }
+    }
+
+    record ParseErrorJson(
+            @JsonProperty("type") String type,
+            @JsonProperty("lineNumber") int lineNumber,
+            @JsonProperty("details") String details) {
+
+        public static ParseErrorJson fromDomain(ParseError error) {
+            return new ParseErrorJson(error.type().name(), error.lineNumber(), error.details());
+        }
+
+        public ParseError toDomain() {
+            return new ParseError(ErrorType.valueOf(type), lineNumber, details);
+        }
+    }
+}
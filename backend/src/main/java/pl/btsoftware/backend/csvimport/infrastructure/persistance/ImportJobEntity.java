@@ -0,0 +1,105 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.csvimport.domain.ImportJob;
+import pl.btsoftware.backend.csvimport.domain.ImportJobId;
+import pl.btsoftware.backend.csvimport.domain.ImportJobStatus;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Entity
+@Table(name = "import_job")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ImportJobEntity {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Id
+    private UUID id;
+
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Enumerated(EnumType.STRING)
+    private ImportJobStatus status;
+
+    @Column(name = "parsed_rows")
+    private int parsedRows;
+
+    @Column(name = "result", columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String result;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "error_type")
+    private ErrorType errorType;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @Column(name = "lease_expires_at")
+    private OffsetDateTime leaseExpiresAt;
+
+    public static ImportJobEntity fromDomain(ImportJob importJob, OffsetDateTime leaseExpiresAt) {
+        try {
+            var resultJson = importJob.result() != null
+                    ? OBJECT_MAPPER.writeValueAsString(CsvParseResultJson.fromDomain(importJob.result()))
+                    : null;
+            return new ImportJobEntity(
+                    importJob.id().value(),
+                    importJob.accountId().value(),
+                    importJob.groupId().value(),
+                    importJob.status(),
+                    importJob.parsedRows(),
+                    resultJson,
+                    importJob.errorType(),
+                    importJob.errorMessage(),
+                    importJob.createdAt(),
+                    importJob.updatedAt(),
+                    leaseExpiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize import result to JSON", e);
+        }
+    }
+
+    public ImportJob toDomain() {
+        try {
+            var parseResult = result != null
+                    ? OBJECT_MAPPER.readValue(result, CsvParseResultJson.class).toDomain()
+                    : null;
+            return new ImportJob(
+                    ImportJobId.from(id),
+                    AccountId.from(accountId),
+                    new GroupId(groupId),
+                    status,
+                    parsedRows,
+                    parseResult,
+                    errorType,
+                    errorMessage,
+                    createdAt,
+                    updatedAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize import result from JSON", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import jakarta.persistence.LockModeType;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.csvimport.domain.ImportJobStatus;
+
+@Repository
+public interface ImportJobJpaRepository extends JpaRepository<ImportJobEntity, UUID> {
+    Optional<ImportJobEntity> findByIdAndGroupId(UUID id, UUID groupId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ImportJobEntity j WHERE j.id = :id")
+    Optional<ImportJobEntity> findLockedById(@Param("id") UUID id);
+
+    List<ImportJobEntity> findAllByStatusInAndLeaseExpiresAtBefore(
+            Collection<ImportJobStatus> statuses, OffsetDateTime leaseExpiresAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImportJobEntity j SET j.leaseExpiresAt = :leaseExpiresAt "
+            + "WHERE j.id IN :ids AND j.status IN :statuses")
+    void renewLeases(
+            @Param("ids") Collection<UUID> ids,
+            @Param("statuses") Collection<ImportJobStatus> statuses,
+            @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt);
+}
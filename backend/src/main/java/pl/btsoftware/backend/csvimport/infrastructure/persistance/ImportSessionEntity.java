@@ -0,0 +1,81 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import pl.btsoftware.backend.csvimport.domain.ImportSession;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Entity
+@Table(name = "import_session")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ImportSessionEntity {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<StagedTransactionJson>> TRANSACTIONS_TYPE = new TypeReference<>() {};
+
+    @Id
+    private UUID id;
+
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "transactions", columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String transactions;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "expires_at")
+    private OffsetDateTime expiresAt;
+
+    public static ImportSessionEntity fromDomain(ImportSession importSession) {
+        try {
+            var transactionsJson = OBJECT_MAPPER.writeValueAsString(importSession.transactions().stream()
+                    .map(StagedTransactionJson::fromDomain)
+                    .toList());
+            return new ImportSessionEntity(
+                    importSession.id().value(),
+                    importSession.accountId().value(),
+                    importSession.groupId().value(),
+                    transactionsJson,
+                    importSession.createdAt(),
+                    importSession.expiresAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize staged transactions to JSON", e);
+        }
+    }
+
+    public ImportSession toDomain() {
+        try {
+            var stagedTransactions = OBJECT_MAPPER.readValue(transactions, TRANSACTIONS_TYPE).stream()
+                    .map(StagedTransactionJson::toDomain)
+                    .toList();
+            return new ImportSession(
+                    ImportSessionId.from(id),
+                    AccountId.from(accountId),
+                    new GroupId(groupId),
+                    stagedTransactions,
+                    createdAt,
+                    expiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize staged transactions from JSON", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import jakarta.persistence.LockModeType;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportSessionJpaRepository extends JpaRepository<ImportSessionEntity, UUID> {
+    Optional<ImportSessionEntity> findByIdAndGroupId(UUID id, UUID groupId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ImportSessionEntity s WHERE s.id = :id AND s.groupId = :groupId")
+    Optional<ImportSessionEntity> findLockedByIdAndGroupId(@Param("id") UUID id, @Param("groupId") UUID groupId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ImportSessionEntity s WHERE s.expiresAt <= :at")
+    void deleteExpired(@Param("at") OffsetDateTime at);
+}
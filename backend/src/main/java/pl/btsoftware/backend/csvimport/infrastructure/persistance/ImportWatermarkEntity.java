@@ -0,0 +1,76 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import static java.util.stream.Collectors.toSet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Entity
+@Table(name = "import_watermark")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ImportWatermarkEntity {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> HASHES_TYPE = new TypeReference<>() {};
+
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "watermark_date")
+    private LocalDate watermarkDate;
+
+    @Column(name = "boundary_hashes", columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String boundaryHashes;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    public static ImportWatermarkEntity fromDomain(ImportWatermark watermark) {
+        try {
+            var hashes = watermark.boundaryHashes().stream()
+                    .map(TransactionHash::value)
+                    .sorted()
+                    .toList();
+            return new ImportWatermarkEntity(
+                    watermark.accountId().value(),
+                    watermark.groupId().value(),
+                    watermark.date(),
+                    OBJECT_MAPPER.writeValueAsString(hashes),
+                    OffsetDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize watermark hashes to JSON", e);
+        }
+    }
+
+    public ImportWatermark toDomain() {
+        try {
+            var hashes = OBJECT_MAPPER.readValue(boundaryHashes, HASHES_TYPE).stream()
+                    .map(TransactionHash::new)
+                    .collect(toSet());
+            return new ImportWatermark(AccountId.from(accountId), new GroupId(groupId), watermarkDate, hashes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize watermark hashes from JSON", e);
+        }
+    }
+}
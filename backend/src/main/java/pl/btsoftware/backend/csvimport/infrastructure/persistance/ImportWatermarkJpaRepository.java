@@ -0,0 +1,11 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportWatermarkJpaRepository extends JpaRepository<ImportWatermarkEntity, UUID> {
+    Optional<ImportWatermarkEntity> findByAccountIdAndGroupId(UUID accountId, UUID groupId);
+}
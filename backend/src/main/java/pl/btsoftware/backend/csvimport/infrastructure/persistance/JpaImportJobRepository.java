@@ -0,0 +1,75 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.csvimport.domain.ImportJob;
+import pl.btsoftware.backend.csvimport.domain.ImportJobId;
+import pl.btsoftware.backend.csvimport.domain.ImportJobRepository;
+import pl.btsoftware.backend.csvimport.domain.ImportJobStatus;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaImportJobRepository implements ImportJobRepository {
+    private static final List<ImportJobStatus> UNFINISHED_STATUSES =
+            List.of(ImportJobStatus.QUEUED, ImportJobStatus.PARSING, ImportJobStatus.CATEGORIZING);
+
+    private final ImportJobJpaRepository repository;
+
+    @Override
+    public void create(ImportJob importJob, OffsetDateTime leaseExpiresAt) {
+        repository.save(ImportJobEntity.fromDomain(importJob, leaseExpiresAt));
+    }
+
+    @Override
+    @Transactional
+    public boolean update(ImportJob importJob) {
+        return updateUnfinished(importJob, entity -> true);
+    }
+
+    @Override
+    @Transactional
+    public boolean updateIfLeaseExpired(ImportJob importJob, OffsetDateTime at) {
+        return updateUnfinished(importJob, entity -> entity.getLeaseExpiresAt().isBefore(at));
+    }
+
+    @Override
+    @Transactional
+    public void renewLeases(Collection<ImportJobId> ids, OffsetDateTime leaseExpiresAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        var uuids = ids.stream().map(ImportJobId::value).toList();
+        repository.renewLeases(uuids, UNFINISHED_STATUSES, leaseExpiresAt);
+    }
+
+    @Override
+    public Optional<ImportJob> findById(ImportJobId id, GroupId groupId) {
+        return repository.findByIdAndGroupId(id.value(), groupId.value()).map(ImportJobEntity::toDomain);
+    }
+
+    @Override
+    public List<ImportJob> findWithExpiredLease(OffsetDateTime at) {
+        return repository.findAllByStatusInAndLeaseExpiresAtBefore(UNFINISHED_STATUSES, at).stream()
+                .map(ImportJobEntity::toDomain)
+                .toList();
+    }
+
+    private boolean updateUnfinished(ImportJob importJob, Predicate<ImportJobEntity> condition) {
+        var current = repository
+                .findLockedById(importJob.id().value())
+                .filter(entity -> !entity.getStatus().isFinished())
+                .filter(condition);
+        current.ifPresent(
+                entity -> repository.save(ImportJobEntity.fromDomain(importJob, entity.getLeaseExpiresAt())));
+        return current.isPresent();
+    }
+}
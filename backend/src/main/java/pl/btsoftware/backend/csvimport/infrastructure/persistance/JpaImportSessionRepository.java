@@ -0,0 +1,48 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.csvimport.domain.ImportSession;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaImportSessionRepository implements ImportSessionRepository {
+
+    private final ImportSessionJpaRepository repository;
+
+    @Override
+    public void store(ImportSession importSession) {
+        repository.save(ImportSessionEntity.fromDomain(importSession));
+    }
+
+    @Override
+    public Optional<ImportSession> findById(ImportSessionId id, GroupId groupId) {
+        return repository.findByIdAndGroupId(id.value(), groupId.value()).map(ImportSessionEntity::toDomain);
+    }
+
+    @Override
+    public Optional<ImportSession> findByIdForUpdate(ImportSessionId id, GroupId groupId) {
+        return repository
+                .findLockedByIdAndGroupId(id.value(), groupId.value())
+                .map(ImportSessionEntity::toDomain);
+    }
+
+    @Override
+    public void delete(ImportSessionId id) {
+        repository.deleteById(id.value());
+    }
+
+    @Override
+    @Transactional
+    public void deleteExpired(OffsetDateTime at) {
+        repository.deleteExpired(at);
+    }
+}
@@ -0,0 +1,30 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermarkRepository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaImportWatermarkRepository implements ImportWatermarkRepository {
+
+    private final ImportWatermarkJpaRepository repository;
+
+    @Override
+    public void store(ImportWatermark watermark) {
+        repository.save(ImportWatermarkEntity.fromDomain(watermark));
+    }
+
+    @Override
+    public Optional<ImportWatermark> findByAccountId(AccountId accountId, GroupId groupId) {
+        return repository
+                .findByAccountIdAndGroupId(accountId.value(), groupId.value())
+                .map(ImportWatermarkEntity::toDomain);
+    }
+}
@@ -0,0 +1,42 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.csvimport.domain.CachedParseResult;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCacheKey;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCacheRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaParseResultCacheRepository implements ParseResultCacheRepository {
+
+    private final ParseResultCacheJpaRepository repository;
+
+    @Override
+    public void store(CachedParseResult entry) {
+        repository.save(ParseResultCacheEntity.fromDomain(entry));
+    }
+
+    @Override
+    public Optional<CachedParseResult> find(ParseResultCacheKey key) {
+        return repository.findById(ParseResultCacheEntity.idOf(key)).map(ParseResultCacheEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public void deleteExpired(OffsetDateTime at) {
+        repository.deleteExpired(at);
+    }
+
+    @Override
+    @Transactional
+    public void deleteOldest(GroupId groupId, int keep) {
+        repository.deleteOldest(groupId.value(), keep);
+    }
+}
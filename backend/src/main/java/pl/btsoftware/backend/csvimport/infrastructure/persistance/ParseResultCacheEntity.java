@@ -0,0 +1,84 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import pl.btsoftware.backend.csvimport.domain.CachedParseResult;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCacheKey;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Entity
+@Table(name = "parse_result_cache")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ParseResultCacheEntity {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Id
+    private UUID id;
+
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "digest")
+    private String digest;
+
+    @Column(name = "category_version")
+    private String categoryVersion;
+
+    @Column(name = "result", columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String result;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "expires_at")
+    private OffsetDateTime expiresAt;
+
+    static UUID idOf(ParseResultCacheKey key) {
+        var name = key.groupId().value() + "/" + key.accountId().value() + "/" + key.digest() + "/"
+                + key.categoryVersion();
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ParseResultCacheEntity fromDomain(CachedParseResult entry) {
+        try {
+            var key = entry.key();
+            return new ParseResultCacheEntity(
+                    idOf(key),
+                    key.groupId().value(),
+                    key.accountId().value(),
+                    key.digest(),
+                    key.categoryVersion(),
+                    OBJECT_MAPPER.writeValueAsString(CsvParseResultJson.fromDomain(entry.result())),
+                    entry.createdAt(),
+                    entry.expiresAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize parse result to JSON", e);
+        }
+    }
+
+    public CachedParseResult toDomain() {
+        try {
+            var key = new ParseResultCacheKey(new GroupId(groupId), AccountId.from(accountId), digest, categoryVersion);
+            var parseResult = OBJECT_MAPPER.readValue(result, CsvParseResultJson.class).toDomain();
+            return new CachedParseResult(key, parseResult, createdAt, expiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize parse result from JSON", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ParseResultCacheJpaRepository extends JpaRepository<ParseResultCacheEntity, UUID> {
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ParseResultCacheEntity c WHERE c.expiresAt <= :at")
+    void deleteExpired(@Param("at") OffsetDateTime at);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = "DELETE FROM parse_result_cache WHERE group_id = :groupId AND id NOT IN ("
+                    + "SELECT id FROM parse_result_cache WHERE group_id = :groupId "
+                    + "ORDER BY created_at DESC LIMIT :keep)",
+            nativeQuery = true)
+    void deleteOldest(@Param("groupId") UUID groupId, @Param("keep") int keep);
+}
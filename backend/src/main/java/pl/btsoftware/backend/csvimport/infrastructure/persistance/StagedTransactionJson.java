@@ -0,0 +1,19 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import pl.btsoftware.backend.csvimport.domain.StagedTransaction;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.CsvParseResultJson.ProposalJson;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+
+record StagedTransactionJson(@JsonProperty("proposal") ProposalJson proposal, @JsonProperty("hash") String hash) {
+
+    static StagedTransactionJson fromDomain(StagedTransaction transaction) {
+        return new StagedTransactionJson(
+                ProposalJson.fromDomain(transaction.proposal()),
+                transaction.hash().value());
+    }
+
+    StagedTransaction toDomain() {
+        return new StagedTransaction(proposal.toDomain(), new TransactionHash(hash));
+    }
+}
@@ -1,11 +1,15 @@
 package pl.btsoftware.backend.transaction;
 
+import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.shared.TransactionId;
 import pl.btsoftware.backend.transaction.application.*;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionSearchCriteria;
 import pl.btsoftware.backend.users.UsersModuleFacade;
@@ -15,6 +19,8 @@ import pl.btsoftware.backend.users.domain.UserId;
 public class TransactionModuleFacade {
     private final TransactionService transactionService;
     private final UsersModuleFacade usersModuleFacade;
+    private final BulkImportService bulkImportService;
+    private final BackfillService backfillService;
 
     public Transaction createTransaction(CreateTransactionCommand command) {
         return transactionService.createTransaction(command);
@@ -41,4 +47,23 @@ public class TransactionModuleFacade {
     public BulkCreateResult bulkCreateTransactions(BulkCreateTransactionCommand command, UserId userId) {
         return transactionService.bulkCreateTransactions(command, userId);
     }
+
+    public StreamingBulkCreate startBulkCreate(AccountId accountId, UserId userId) {
+        return new StreamingBulkCreate(transactionService, accountId, userId);
+    }
+
+    public BulkImportResult importInChunks(
+            BulkImportId id, AccountId accountId, int totalRows, UserId userId, BulkRowSource source)
+            throws IOException {
+        return bulkImportService.importInChunks(id, accountId, totalRows, userId, source);
+    }
+
+    public StreamingBulkCreateResult backfill(AccountId accountId, UserId userId, BulkRowSource source)
+            throws IOException {
+        return backfillService.backfill(accountId, userId, source);
+    }
+
+    public BulkImportCursor getBulkImportProgress(BulkImportId id, UserId userId) {
+        return bulkImportService.getProgress(id, userId);
+    }
 }
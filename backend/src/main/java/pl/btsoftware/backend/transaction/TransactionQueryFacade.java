@@ -1,20 +1,46 @@
 package pl.btsoftware.backend.transaction;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
 import pl.btsoftware.backend.transaction.domain.TransactionRepository;
 import pl.btsoftware.backend.users.domain.GroupId;
 
 @RequiredArgsConstructor
 public class TransactionQueryFacade {
     private final TransactionRepository transactionRepository;
+    private final CategoryUsageRepository categoryUsageRepository;
+    private final MerchantCategoryRepository merchantCategoryRepository;
 
     public boolean hasTransactions(CategoryId categoryId, GroupId groupId) {
-        return transactionRepository.existsByCategoryId(categoryId, groupId);
+        return categoryUsageRepository.countTransactions(categoryId, groupId) > 0;
     }
 
     public boolean hasTransactions(AccountId accountId, GroupId groupId) {
         return transactionRepository.existsByAccountId(accountId, groupId);
     }
+
+    public Map<CategoryId, Long> countTransactionsByCategory(GroupId groupId) {
+        return categoryUsageRepository.findAll(groupId);
+    }
+
+    public Map<MerchantKey, CategoryId> findMerchantCategories(GroupId groupId) {
+        return merchantCategoryRepository.findAll(groupId);
+    }
+
+    public long findMerchantCategoriesVersion(GroupId groupId) {
+        return merchantCategoryRepository.findVersion(groupId);
+    }
+
+    public Set<TransactionHash> findExistingHashes(AccountId accountId, List<TransactionHash> hashes, GroupId groupId) {
+        return new HashSet<>(transactionRepository.findExistingHashes(accountId, hashes, groupId));
+    }
 }
@@ -0,0 +1,44 @@
+package pl.btsoftware.backend.transaction.application;
+
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.account.domain.AuditInfo;
+import pl.btsoftware.backend.category.CategoryQueryFacade;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.TransactionBackfillRepository;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@RequiredArgsConstructor
+@Slf4j
+public class BackfillService {
+    private final TransactionBackfillRepository transactionBackfillRepository;
+    private final AccountModuleFacade accountModuleFacade;
+    private final CategoryQueryFacade categoryQueryFacade;
+    private final UsersModuleFacade usersModuleFacade;
+
+    @Transactional(rollbackOn = IOException.class)
+    public StreamingBulkCreateResult backfill(AccountId accountId, UserId userId, BulkRowSource source)
+            throws IOException {
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        var account = accountModuleFacade.getAccount(accountId, user.groupId());
+        var auditInfo = AuditInfo.create(userId, user.groupId());
+
+        try (var session = transactionBackfillRepository.open(accountId, user.groupId())) {
+            var backfill = new TransactionBackfill(
+                    session,
+                    accountModuleFacade,
+                    categoryQueryFacade,
+                    accountId,
+                    auditInfo,
+                    account.balance().currency());
+            var result = source.readInto(backfill);
+            log.info(
+                    "Backfill for account {} merged {} of {} rows", accountId, result.savedCount(), result.totalRows());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.util.List;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+
+public record BulkImportResult(BulkImportCursor cursor, List<BulkRowError> errors) {
+    public BulkImportResult {
+        errors = List.copyOf(errors);
+    }
+}
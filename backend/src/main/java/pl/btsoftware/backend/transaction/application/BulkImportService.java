@@ -0,0 +1,48 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportMismatchException;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportNotFoundException;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@RequiredArgsConstructor
+public class BulkImportService {
+    private final TransactionService transactionService;
+    private final BulkImportCursorRepository bulkImportCursorRepository;
+    private final AccountModuleFacade accountModuleFacade;
+    private final UsersModuleFacade usersModuleFacade;
+    private final int chunkSize;
+
+    public BulkImportResult importInChunks(
+            BulkImportId id, AccountId accountId, int totalRows, UserId userId, BulkRowSource source)
+            throws IOException {
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        accountModuleFacade.getAccount(accountId, user.groupId());
+
+        bulkImportCursorRepository.storeIfAbsent(BulkImportCursor.start(id, accountId, user.groupId(), totalRows));
+        var cursor = bulkImportCursorRepository
+                .findById(id, user.groupId())
+                .orElseThrow(() -> new BulkImportNotFoundException(id));
+        if (!cursor.accountId().equals(accountId) || cursor.totalRows() != totalRows) {
+            throw new BulkImportMismatchException(id);
+        }
+
+        var bulkImport = new ChunkedBulkImport(transactionService, cursor, userId, chunkSize);
+        source.readInto(bulkImport);
+        return bulkImport.importResult();
+    }
+
+    public BulkImportCursor getProgress(BulkImportId id, UserId userId) {
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        return bulkImportCursorRepository
+                .findById(id, user.groupId())
+                .orElseThrow(() -> new BulkImportNotFoundException(id));
+    }
+}
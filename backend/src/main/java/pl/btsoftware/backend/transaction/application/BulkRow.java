@@ -0,0 +1,3 @@
+package pl.btsoftware.backend.transaction.application;
+
+public record BulkRow(int number, CreateTransactionCommand command) {}
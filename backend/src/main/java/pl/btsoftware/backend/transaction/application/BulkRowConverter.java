@@ -0,0 +1,53 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import pl.btsoftware.backend.account.domain.AuditInfo;
+import pl.btsoftware.backend.account.domain.error.BusinessException;
+import pl.btsoftware.backend.category.CategoryQueryFacade;
+import pl.btsoftware.backend.category.domain.error.CategoryNotFoundException;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.transaction.domain.Transaction;
+
+final class BulkRowConverter {
+    private BulkRowConverter() {}
+
+    static List<Transaction> toTransactions(
+            List<BulkRow> rows,
+            CategoryQueryFacade categoryQueryFacade,
+            AuditInfo auditInfo,
+            Currency currency,
+            Collection<BulkRowError> errors) {
+        var existingCategories =
+                categoryQueryFacade.findExistingCategories(categoriesOf(rows), auditInfo.fromGroup());
+
+        var transactions = new ArrayList<Transaction>(rows.size());
+        for (var row : rows) {
+            try {
+                if (!existingCategories.containsAll(categoriesOf(row.command()))) {
+                    throw new CategoryNotFoundException();
+                }
+                transactions.add(row.command().toDomain(auditInfo, currency));
+            } catch (BusinessException | IllegalArgumentException e) {
+                errors.add(new BulkRowError(row.number(), e.getMessage()));
+            }
+        }
+        return transactions;
+    }
+
+    private static Set<CategoryId> categoriesOf(List<BulkRow> rows) {
+        return rows.stream()
+                .flatMap(row -> categoriesOf(row.command()).stream())
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<CategoryId> categoriesOf(CreateTransactionCommand command) {
+        return command.billCommand().billItems().stream()
+                .map(BillItemCommand::categoryId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,3 @@
+package pl.btsoftware.backend.transaction.application;
+
+public record BulkRowError(int row, String message) {}
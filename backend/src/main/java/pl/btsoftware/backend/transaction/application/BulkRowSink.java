@@ -0,0 +1,16 @@
+package pl.btsoftware.backend.transaction.application;
+
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+public interface BulkRowSink {
+    AccountId accountId();
+
+    UserId userId();
+
+    void add(int row, CreateTransactionCommand command);
+
+    void reject(int row, String message);
+
+    StreamingBulkCreateResult finish();
+}
@@ -0,0 +1,8 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface BulkRowSource {
+    StreamingBulkCreateResult readInto(BulkRowSink sink) throws IOException;
+}
@@ -0,0 +1,97 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportMismatchException;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@Slf4j
+final class ChunkedBulkImport implements BulkRowSink {
+    private final TransactionService transactionService;
+    private final UserId userId;
+    private final int chunkSize;
+    private final int alreadyProcessed;
+    private final List<BulkRow> rows = new ArrayList<>();
+    private final List<BulkRowError> rejected = new ArrayList<>();
+    private BulkImportCursor cursor;
+    private StreamingBulkCreateResult result = StreamingBulkCreateResult.empty();
+    private int readRows;
+
+    ChunkedBulkImport(TransactionService transactionService, BulkImportCursor cursor, UserId userId, int chunkSize) {
+        this.transactionService = transactionService;
+        this.cursor = cursor;
+        this.userId = userId;
+        this.chunkSize = chunkSize;
+        this.alreadyProcessed = cursor.processedRows();
+    }
+
+    @Override
+    public AccountId accountId() {
+        return cursor.accountId();
+    }
+
+    @Override
+    public UserId userId() {
+        return userId;
+    }
+
+    @Override
+    public void add(int row, CreateTransactionCommand command) {
+        if (isPending()) {
+            rows.add(new BulkRow(row, command));
+            flushIfFull();
+        }
+    }
+
+    @Override
+    public void reject(int row, String message) {
+        if (isPending()) {
+            rejected.add(new BulkRowError(row, message));
+            flushIfFull();
+        }
+    }
+
+    @Override
+    public StreamingBulkCreateResult finish() {
+        flush();
+        return result;
+    }
+
+    BulkImportResult importResult() {
+        return new BulkImportResult(cursor, result.errors());
+    }
+
+    private boolean isPending() {
+        readRows++;
+        if (readRows > cursor.totalRows()) {
+            throw new BulkImportMismatchException(cursor.id());
+        }
+        return readRows > alreadyProcessed;
+    }
+
+    private void flushIfFull() {
+        if (rows.size() + rejected.size() == chunkSize) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (rows.isEmpty() && rejected.isEmpty()) {
+            return;
+        }
+        var chunkResult = transactionService.bulkCreateChunk(cursor, List.copyOf(rows), List.copyOf(rejected), userId);
+        cursor = cursor.advance(
+                chunkResult.totalRows(),
+                chunkResult.savedCount(),
+                chunkResult.duplicateCount(),
+                chunkResult.errorCount());
+        result = result.plus(chunkResult);
+        rows.clear();
+        rejected.clear();
+        log.info(
+                "Bulk import {} committed {}/{} rows", cursor.id().value(), cursor.processedRows(), cursor.totalRows());
+    }
+}
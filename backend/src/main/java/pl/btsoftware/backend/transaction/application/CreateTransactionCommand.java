@@ -4,19 +4,38 @@ import java.time.LocalDate;
 import pl.btsoftware.backend.account.domain.AuditInfo;
 import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.Money;
 import pl.btsoftware.backend.shared.TransactionType;
 import pl.btsoftware.backend.transaction.domain.Transaction;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
 import pl.btsoftware.backend.transaction.domain.TransactionHashCalculator;
 import pl.btsoftware.backend.users.domain.UserId;
 
 public record CreateTransactionCommand(
-        AccountId accountId, LocalDate transactionDate, TransactionType type, BillCommand billCommand, UserId userId) {
+        AccountId accountId,
+        LocalDate transactionDate,
+        TransactionType type,
+        BillCommand billCommand,
+        UserId userId,
+        TransactionHash transactionHash) {
+
+    public CreateTransactionCommand(
+            AccountId accountId,
+            LocalDate transactionDate,
+            TransactionType type,
+            BillCommand billCommand,
+            UserId userId) {
+        this(accountId, transactionDate, type, billCommand, userId, null);
+    }
 
     public Transaction toDomain(AuditInfo auditInfo, Currency accountCurrency) {
         var bill = billCommand.toDomain(accountCurrency);
-        var amount = bill.totalAmount();
-        var description = String.join(", ", billCommand.billItemsDescription());
-        var hash = TransactionHashCalculator.calculateHash(accountId, amount, description, transactionDate, type);
+        var hash = transactionHash != null ? transactionHash : calculateHash(bill.totalAmount());
         return Transaction.create(accountId, type, bill, transactionDate, hash, auditInfo);
     }
+
+    private TransactionHash calculateHash(Money amount) {
+        var description = String.join(", ", billCommand.billItemsDescription());
+        return TransactionHashCalculator.calculateHash(accountId, amount, description, transactionDate, type);
+    }
 }
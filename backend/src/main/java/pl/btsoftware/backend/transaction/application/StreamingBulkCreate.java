@@ -0,0 +1,59 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+public final class StreamingBulkCreate implements BulkRowSink {
+    static final int WINDOW_SIZE = 500;
+
+    private final TransactionService transactionService;
+    private final AccountId accountId;
+    private final UserId userId;
+    private final List<BulkRow> window = new ArrayList<>(WINDOW_SIZE);
+    private StreamingBulkCreateResult result = StreamingBulkCreateResult.empty();
+
+    public StreamingBulkCreate(TransactionService transactionService, AccountId accountId, UserId userId) {
+        this.transactionService = transactionService;
+        this.accountId = accountId;
+        this.userId = userId;
+    }
+
+    @Override
+    public AccountId accountId() {
+        return accountId;
+    }
+
+    @Override
+    public UserId userId() {
+        return userId;
+    }
+
+    @Override
+    public void add(int row, CreateTransactionCommand command) {
+        window.add(new BulkRow(row, command));
+        if (window.size() == WINDOW_SIZE) {
+            flush();
+        }
+    }
+
+    @Override
+    public void reject(int row, String message) {
+        result = result.plus(StreamingBulkCreateResult.rejected(new BulkRowError(row, message)));
+    }
+
+    @Override
+    public StreamingBulkCreateResult finish() {
+        flush();
+        return result;
+    }
+
+    private void flush() {
+        if (window.isEmpty()) {
+            return;
+        }
+        result = result.plus(transactionService.bulkCreateWindow(accountId, List.copyOf(window), userId));
+        window.clear();
+    }
+}
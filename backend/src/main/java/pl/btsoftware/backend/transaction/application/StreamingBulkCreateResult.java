@@ -0,0 +1,34 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record StreamingBulkCreateResult(
+        int totalRows, int savedCount, int duplicateCount, int errorCount, List<BulkRowError> errors) {
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    public StreamingBulkCreateResult {
+        errors = List.copyOf(errors);
+    }
+
+    static StreamingBulkCreateResult empty() {
+        return new StreamingBulkCreateResult(0, 0, 0, 0, List.of());
+    }
+
+    static StreamingBulkCreateResult rejected(BulkRowError error) {
+        return new StreamingBulkCreateResult(1, 0, 0, 1, List.of(error));
+    }
+
+    StreamingBulkCreateResult plus(StreamingBulkCreateResult other) {
+        var mergedErrors = new ArrayList<>(errors);
+        other.errors.stream()
+                .limit(MAX_REPORTED_ERRORS - mergedErrors.size())
+                .forEach(mergedErrors::add);
+        return new StreamingBulkCreateResult(
+                totalRows + other.totalRows,
+                savedCount + other.savedCount,
+                duplicateCount + other.duplicateCount,
+                errorCount + other.errorCount,
+                mergedErrors);
+    }
+}
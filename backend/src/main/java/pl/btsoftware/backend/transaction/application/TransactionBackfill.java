@@ -0,0 +1,90 @@
+package pl.btsoftware.backend.transaction.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.account.domain.AuditInfo;
+import pl.btsoftware.backend.category.CategoryQueryFacade;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.transaction.domain.TransactionBackfillSession;
+import pl.btsoftware.backend.users.domain.UserId;
+
+final class TransactionBackfill implements BulkRowSink {
+    static final int WINDOW_SIZE = 500;
+
+    private final TransactionBackfillSession session;
+    private final AccountModuleFacade accountModuleFacade;
+    private final CategoryQueryFacade categoryQueryFacade;
+    private final AccountId accountId;
+    private final AuditInfo auditInfo;
+    private final Currency currency;
+    private final List<BulkRow> window = new ArrayList<>(WINDOW_SIZE);
+    private StreamingBulkCreateResult result = StreamingBulkCreateResult.empty();
+    private int writtenRows;
+
+    TransactionBackfill(
+            TransactionBackfillSession session,
+            AccountModuleFacade accountModuleFacade,
+            CategoryQueryFacade categoryQueryFacade,
+            AccountId accountId,
+            AuditInfo auditInfo,
+            Currency currency) {
+        this.session = session;
+        this.accountModuleFacade = accountModuleFacade;
+        this.categoryQueryFacade = categoryQueryFacade;
+        this.accountId = accountId;
+        this.auditInfo = auditInfo;
+        this.currency = currency;
+    }
+
+    @Override
+    public AccountId accountId() {
+        return accountId;
+    }
+
+    @Override
+    public UserId userId() {
+        return auditInfo.who();
+    }
+
+    @Override
+    public void add(int row, CreateTransactionCommand command) {
+        window.add(new BulkRow(row, command));
+        if (window.size() == WINDOW_SIZE) {
+            flush();
+        }
+    }
+
+    @Override
+    public void reject(int row, String message) {
+        result = result.plus(StreamingBulkCreateResult.rejected(new BulkRowError(row, message)));
+    }
+
+    @Override
+    public StreamingBulkCreateResult finish() {
+        flush();
+        var summary = session.merge();
+        var delta = Money.of(summary.balanceDelta(), currency);
+        if (delta.value().signum() > 0) {
+            accountModuleFacade.deposit(accountId, delta, auditInfo.who());
+        } else if (delta.value().signum() < 0) {
+            accountModuleFacade.withdraw(accountId, delta.negate(), auditInfo.who());
+        }
+        return result.plus(new StreamingBulkCreateResult(
+                writtenRows, summary.insertedCount(), writtenRows - summary.insertedCount(), 0, List.of()));
+    }
+
+    private void flush() {
+        if (window.isEmpty()) {
+            return;
+        }
+        var errors = new ArrayList<BulkRowError>();
+        var transactions = BulkRowConverter.toTransactions(window, categoryQueryFacade, auditInfo, currency, errors);
+        transactions.forEach(session::write);
+        writtenRows += transactions.size();
+        errors.forEach(error -> reject(error.row(), error.message()));
+        window.clear();
+    }
+}
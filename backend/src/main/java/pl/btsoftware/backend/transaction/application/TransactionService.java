@@ -2,6 +2,9 @@ package pl.btsoftware.backend.transaction.application;
 
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,9 +17,16 @@ import pl.btsoftware.backend.audit.AuditModuleFacade;
 import pl.btsoftware.backend.category.CategoryQueryFacade;
 import pl.btsoftware.backend.category.domain.error.CategoryNotFoundException;
 import pl.btsoftware.backend.shared.*;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionRepository;
 import pl.btsoftware.backend.transaction.domain.TransactionSearchCriteria;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportConflictException;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportNotFoundException;
 import pl.btsoftware.backend.transaction.domain.error.TransactionAlreadyDeletedException;
 import pl.btsoftware.backend.transaction.domain.error.TransactionCurrencyMismatchException;
 import pl.btsoftware.backend.transaction.domain.error.TransactionNotFoundException;
@@ -31,6 +41,9 @@ public class TransactionService {
     private final CategoryQueryFacade categoryQueryFacade;
     private final UsersModuleFacade usersModuleFacade;
     private final AuditModuleFacade auditModuleFacade;
+    private final CategoryUsageRepository categoryUsageRepository;
+    private final MerchantCategoryRepository merchantCategoryRepository;
+    private final BulkImportCursorRepository bulkImportCursorRepository;
 
     @Transactional
     public Transaction createTransaction(CreateTransactionCommand command) {
@@ -45,6 +58,8 @@ public class TransactionService {
         validateCategoriesExist(transaction.bill().categories(), user.groupId());
 
         transactionRepository.store(transaction);
+        updateCategoryUsage(List.of(), List.of(transaction), user.groupId());
+        rememberMerchantCategories(List.of(transaction), user.groupId());
 
         applyTransactionToAccount(transaction, command.userId());
 
@@ -82,6 +97,8 @@ public class TransactionService {
 
         var updatedTransaction = oldTransaction.updateBill(bill, newAccountId, command.transactionDate(), userId);
         transactionRepository.store(updatedTransaction);
+        updateCategoryUsage(List.of(oldTransaction), List.of(updatedTransaction), user.groupId());
+        rememberMerchantCategories(List.of(updatedTransaction), user.groupId());
 
         revertTransactionFromAccount(oldTransaction, userId);
         applyTransactionToAccount(updatedTransaction, userId);
@@ -105,6 +122,7 @@ public class TransactionService {
         var deletedTransaction = transaction.delete();
         revertTransactionFromAccount(transaction, userId);
         transactionRepository.store(deletedTransaction);
+        updateCategoryUsage(List.of(transaction), List.of(), user.groupId());
         auditModuleFacade.logTransactionDeleted(transactionId, transaction.description(), userId, user.groupId());
     }
 
@@ -137,7 +155,7 @@ public class TransactionService {
 
         var existingHashes = transactionRepository.findExistingHashes(accountId, allHashes, user.groupId());
 
-        var savedIds = new ArrayList<TransactionId>();
+        var savedTransactions = new ArrayList<Transaction>();
         var duplicateCount = 0;
 
         for (var transaction : allTransactions) {
@@ -146,13 +164,68 @@ public class TransactionService {
             } else {
                 transactionRepository.store(transaction);
                 applyTransactionToAccount(transaction, userId);
-                savedIds.add(transaction.id());
+                savedTransactions.add(transaction);
             }
         }
+        updateCategoryUsage(List.of(), savedTransactions, user.groupId());
+        rememberMerchantCategories(savedTransactions, user.groupId());
 
+        var savedIds = savedTransactions.stream().map(Transaction::id).toList();
         return BulkCreateResult.of(savedIds, duplicateCount);
     }
 
+    @Transactional
+    public StreamingBulkCreateResult bulkCreateWindow(AccountId accountId, List<BulkRow> rows, UserId userId) {
+        return createWindow(accountId, rows, userId);
+    }
+
+    @Transactional
+    public StreamingBulkCreateResult bulkCreateChunk(
+            BulkImportCursor cursor, List<BulkRow> rows, List<BulkRowError> rejected, UserId userId) {
+        var stored = bulkImportCursorRepository
+                .findByIdForUpdate(cursor.id(), cursor.groupId())
+                .orElseThrow(() -> new BulkImportNotFoundException(cursor.id()));
+        if (stored.processedRows() != cursor.processedRows()) {
+            throw new BulkImportConflictException(cursor.id());
+        }
+        var result = rejected.stream()
+                .map(StreamingBulkCreateResult::rejected)
+                .reduce(createWindow(cursor.accountId(), rows, userId), StreamingBulkCreateResult::plus);
+        bulkImportCursorRepository.store(cursor.advance(
+                result.totalRows(), result.savedCount(), result.duplicateCount(), result.errorCount()));
+        return result;
+    }
+
+    private StreamingBulkCreateResult createWindow(AccountId accountId, List<BulkRow> rows, UserId userId) {
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        var account = accountModuleFacade.getAccount(accountId, user.groupId());
+        var auditInfo = AuditInfo.create(userId.value(), user.groupId().value());
+
+        var errors = new ArrayList<BulkRowError>();
+        var candidates = BulkRowConverter.toTransactions(
+                rows, categoryQueryFacade, auditInfo, account.balance().currency(), errors);
+
+        var existingHashes = new HashSet<>(transactionRepository.findExistingHashes(
+                accountId, candidates.stream().map(Transaction::transactionHash).toList(), user.groupId()));
+        var savedTransactions = new ArrayList<Transaction>();
+        for (var transaction : candidates) {
+            if (!existingHashes.contains(transaction.transactionHash())) {
+                transactionRepository.store(transaction);
+                savedTransactions.add(transaction);
+            }
+        }
+        applyBalanceDelta(accountId, savedTransactions, account.balance().currency(), userId);
+        updateCategoryUsage(List.of(), savedTransactions, user.groupId());
+        rememberMerchantCategories(savedTransactions, user.groupId());
+
+        return new StreamingBulkCreateResult(
+                rows.size(),
+                savedTransactions.size(),
+                candidates.size() - savedTransactions.size(),
+                errors.size(),
+                errors);
+    }
+
     private void validateCurrencyMatch(Currency transactionCurrency, Currency accountCurrency) {
         if (!transactionCurrency.equals(accountCurrency)) {
             throw new TransactionCurrencyMismatchException(transactionCurrency, accountCurrency);
@@ -165,6 +238,53 @@ public class TransactionService {
         }
     }
 
+    private void updateCategoryUsage(
+            Collection<Transaction> removedTransactions, Collection<Transaction> addedTransactions, GroupId groupId) {
+        var deltas = new HashMap<CategoryId, Long>();
+        removedTransactions.forEach(transaction ->
+                transaction.bill().categories().forEach(categoryId -> deltas.merge(categoryId, -1L, Long::sum)));
+        addedTransactions.forEach(transaction ->
+                transaction.bill().categories().forEach(categoryId -> deltas.merge(categoryId, 1L, Long::sum)));
+        deltas.values().removeIf(delta -> delta == 0);
+
+        if (!deltas.isEmpty()) {
+            categoryUsageRepository.adjust(deltas, groupId);
+        }
+    }
+
+    private void rememberMerchantCategories(Collection<Transaction> transactions, GroupId groupId) {
+        var categories = new HashMap<MerchantKey, CategoryId>();
+        for (var transaction : transactions) {
+            if (transaction.bill().items().size() != 1) {
+                continue;
+            }
+            var key = MerchantKey.of(transaction.description(), transaction.type());
+            var categoryId = transaction.bill().items().getFirst().categoryId();
+            if (key != null && categoryId != null) {
+                categories.put(key, categoryId);
+            }
+        }
+
+        if (!categories.isEmpty()) {
+            merchantCategoryRepository.remember(categories, groupId);
+        }
+    }
+
+    private void applyBalanceDelta(
+            AccountId accountId, Collection<Transaction> transactions, Currency currency, UserId userId) {
+        var delta = Money.zero(currency);
+        for (var transaction : transactions) {
+            delta = transaction.type() == TransactionType.INCOME
+                    ? delta.add(transaction.amount())
+                    : delta.subtract(transaction.amount());
+        }
+        if (delta.value().signum() > 0) {
+            accountModuleFacade.deposit(accountId, delta, userId);
+        } else if (delta.value().signum() < 0) {
+            accountModuleFacade.withdraw(accountId, delta.negate(), userId);
+        }
+    }
+
     private void applyTransactionToAccount(Transaction transaction, UserId userId) {
         if (transaction.type() == TransactionType.INCOME) {
             accountModuleFacade.deposit(transaction.accountId(), transaction.amount(), userId);
@@ -0,0 +1,5 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import java.math.BigDecimal;
+
+public record BackfillSummary(int insertedCount, BigDecimal balanceDelta) {}
@@ -0,0 +1,35 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public record BulkImportCursor(
+        BulkImportId id,
+        AccountId accountId,
+        GroupId groupId,
+        int totalRows,
+        int processedRows,
+        int savedCount,
+        int duplicateCount,
+        int errorCount) {
+
+    public static BulkImportCursor start(BulkImportId id, AccountId accountId, GroupId groupId, int totalRows) {
+        return new BulkImportCursor(id, accountId, groupId, totalRows, 0, 0, 0, 0);
+    }
+
+    public BulkImportCursor advance(int rows, int saved, int duplicates, int errors) {
+        return new BulkImportCursor(
+                id,
+                accountId,
+                groupId,
+                totalRows,
+                processedRows + rows,
+                savedCount + saved,
+                duplicateCount + duplicates,
+                errorCount + errors);
+    }
+
+    public boolean isCompleted() {
+        return processedRows >= totalRows;
+    }
+}
@@ -0,0 +1,14 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import java.util.Optional;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface BulkImportCursorRepository {
+    void store(BulkImportCursor cursor);
+
+    void storeIfAbsent(BulkImportCursor cursor);
+
+    Optional<BulkImportCursor> findById(BulkImportId id, GroupId groupId);
+
+    Optional<BulkImportCursor> findByIdForUpdate(BulkImportId id, GroupId groupId);
+}
@@ -0,0 +1,15 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+
+public record BulkImportId(UUID value) {
+    public BulkImportId {
+        requireNonNull(value, "Bulk import id cannot be null");
+    }
+
+    public static BulkImportId from(UUID id) {
+        return new BulkImportId(id);
+    }
+}
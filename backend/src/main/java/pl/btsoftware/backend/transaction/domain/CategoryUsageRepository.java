@@ -0,0 +1,13 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import java.util.Map;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface CategoryUsageRepository {
+    void adjust(Map<CategoryId, Long> deltas, GroupId groupId);
+
+    long countTransactions(CategoryId categoryId, GroupId groupId);
+
+    Map<CategoryId, Long> findAll(GroupId groupId);
+}
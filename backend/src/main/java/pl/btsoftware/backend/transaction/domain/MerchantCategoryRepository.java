@@ -0,0 +1,13 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import java.util.Map;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface MerchantCategoryRepository {
+    void remember(Map<MerchantKey, CategoryId> categories, GroupId groupId);
+
+    Map<MerchantKey, CategoryId> findAll(GroupId groupId);
+
+    long findVersion(GroupId groupId);
+}
@@ -0,0 +1,32 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import java.util.Locale;
+import pl.btsoftware.backend.shared.TransactionType;
+
+public record MerchantKey(TransactionType type, String value) {
+    public static MerchantKey of(String description, TransactionType type) {
+        if (description == null) {
+            return null;
+        }
+        var normalized = normalize(description);
+        return normalized.isEmpty() ? null : new MerchantKey(type, normalized);
+    }
+
+    private static String normalize(String description) {
+        var builder = new StringBuilder(description.length());
+        var pendingSpace = false;
+        for (var i = 0; i < description.length(); i++) {
+            var c = description.charAt(i);
+            if (!Character.isLetter(c)) {
+                pendingSpace = !builder.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,8 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public interface TransactionBackfillRepository {
+    TransactionBackfillSession open(AccountId accountId, GroupId groupId);
+}
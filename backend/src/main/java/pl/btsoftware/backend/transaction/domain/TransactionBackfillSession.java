@@ -0,0 +1,10 @@
+package pl.btsoftware.backend.transaction.domain;
+
+public interface TransactionBackfillSession extends AutoCloseable {
+    void write(Transaction transaction);
+
+    BackfillSummary merge();
+
+    @Override
+    void close();
+}
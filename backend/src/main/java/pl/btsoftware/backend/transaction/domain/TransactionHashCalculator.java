@@ -1,47 +1,173 @@
 package pl.btsoftware.backend.transaction.domain;
 
-import java.nio.charset.StandardCharsets;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
 import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.shared.Money;
 import pl.btsoftware.backend.shared.TransactionType;
 
-public class TransactionHashCalculator {
+public final class TransactionHashCalculator {
+    private static final HexFormat HEX = HexFormat.of();
+    private static final ThreadLocal<HashInput> INPUTS = ThreadLocal.withInitial(HashInput::new);
+
+    private TransactionHashCalculator() {}
 
     public static TransactionHash calculateHash(
             AccountId accountId, Money amount, String description, LocalDate transactionDate, TransactionType type) {
-        var normalizedDescription = description != null ? description.trim().toLowerCase() : "";
-        var concatenated = accountId.value().toString()
-                + amount.value().toString()
-                + amount.currency().name()
-                + normalizedDescription
-                + transactionDate.toString()
-                + type.name();
-
-        return new TransactionHash(sha256(concatenated));
+        var input = INPUTS.get();
+        input.reset();
+        input.appendUuid(accountId.value());
+        input.appendAscii(amount.value().toString());
+        input.appendAscii(amount.currency().name());
+        input.appendDescription(description);
+        input.appendDate(transactionDate);
+        input.appendAscii(type.name());
+        return new TransactionHash(HEX.formatHex(input.digest()));
     }
 
-    private static String sha256(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
+    private static final class HashInput {
+        private static final int INITIAL_CAPACITY = 256;
+        private static final int ASCII_LIMIT = 0x80;
+        private static final int MAX_PADDED_YEAR = 9999;
+        private static final int YEAR_DIGITS = 4;
+        private static final int UUID_HIGH_SHIFT = 32;
+        private static final int UUID_MID_SHIFT = 16;
+        private static final int UUID_CLOCK_SHIFT = 48;
+        private static final int UUID_NODE_DIGITS = 12;
+        private static final int HEX_DIGIT_MASK = 0xF;
+        private static final Set<String> LOCALE_SENSITIVE_LOWERCASE = Set.of("tr", "az");
+        private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(UTF_8);
+
+        private final MessageDigest digest = sha256();
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        private int length;
+
+        void reset() {
+            digest.reset();
+            length = 0;
+        }
+
+        byte[] digest() {
+            flush();
+            return digest.digest();
+        }
+
+        void appendUuid(UUID uuid) {
+            var high = uuid.getMostSignificantBits();
+            var low = uuid.getLeastSignificantBits();
+            appendHex(high >>> UUID_HIGH_SHIFT, 8);
+            append('-');
+            appendHex(high >>> UUID_MID_SHIFT, 4);
+            append('-');
+            appendHex(high, 4);
+            append('-');
+            appendHex(low >>> UUID_CLOCK_SHIFT, 4);
+            append('-');
+            appendHex(low, UUID_NODE_DIGITS);
+        }
+
+        void appendAscii(CharSequence text) {
+            ensureCapacity(text.length());
+            for (var i = 0; i < text.length(); i++) {
+                buffer[length++] = (byte) text.charAt(i);
+            }
+        }
+
+        void appendDescription(String description) {
+            if (description == null) {
+                return;
+            }
+            var start = 0;
+            var end = description.length();
+            while (start < end && description.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && description.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (!appendLowercaseAscii(description, start, end)) {
+                flush();
+                digest.update(description.trim().toLowerCase().getBytes(UTF_8));
+            }
+        }
+
+        void appendDate(LocalDate date) {
+            if (date.getYear() < 0 || date.getYear() > MAX_PADDED_YEAR) {
+                appendAscii(date.toString());
+                return;
+            }
+            appendDecimal(date.getYear(), YEAR_DIGITS);
+            append('-');
+            appendDecimal(date.getMonthValue(), 2);
+            append('-');
+            appendDecimal(date.getDayOfMonth(), 2);
+        }
+
+        private boolean appendLowercaseAscii(String text, int start, int end) {
+            if (LOCALE_SENSITIVE_LOWERCASE.contains(Locale.getDefault().getLanguage())) {
+                return false;
+            }
+            var mark = length;
+            ensureCapacity(end - start);
+            for (var i = start; i < end; i++) {
+                var character = text.charAt(i);
+                if (character >= ASCII_LIMIT) {
+                    length = mark;
+                    return false;
+                }
+                buffer[length++] = (byte) (character >= 'A' && character <= 'Z' ? character + ('a' - 'A') : character);
+            }
+            return true;
+        }
+
+        private void appendHex(long value, int digits) {
+            ensureCapacity(digits);
+            for (var i = digits - 1; i >= 0; i--) {
+                buffer[length + i] = HEX_DIGITS[(int) (value & HEX_DIGIT_MASK)];
+                value >>>= 4;
+            }
+            length += digits;
+        }
+
+        private void appendDecimal(int value, int digits) {
+            ensureCapacity(digits);
+            for (var i = digits - 1; i >= 0; i--) {
+                buffer[length + i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+        }
+
+        private void append(char character) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) character;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+            }
+        }
+
+        private void flush() {
+            digest.update(buffer, 0, length);
+            length = 0;
         }
-    }
 
-    private static String bytesToHex(byte[] hash) {
-        StringBuilder hexString = new StringBuilder(2 * hash.length);
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 algorithm not available", e);
             }
-            hexString.append(hex);
         }
-        return hexString.toString();
     }
 }
@@ -5,7 +5,6 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import pl.btsoftware.backend.shared.AccountId;
-import pl.btsoftware.backend.shared.CategoryId;
 import pl.btsoftware.backend.shared.TransactionId;
 import pl.btsoftware.backend.users.domain.GroupId;
 
@@ -18,9 +17,11 @@ public interface TransactionRepository {
 
     Page<Transaction> findAll(TransactionSearchCriteria criteria, GroupId groupId, Pageable pageable);
 
-    boolean existsByCategoryId(CategoryId categoryId, GroupId groupId);
-
     boolean existsByAccountId(AccountId accountId, GroupId groupId);
 
     List<TransactionHash> findExistingHashes(AccountId accountId, List<TransactionHash> hashes, GroupId groupId);
+
+    List<TransactionHash> findHashes(AccountId accountId, GroupId groupId);
+
+    long findHashesVersion(AccountId accountId);
 }
@@ -0,0 +1,12 @@
+package pl.btsoftware.backend.transaction.domain.error;
+
+import pl.btsoftware.backend.account.domain.error.BusinessException;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+
+public class BulkImportMismatchException extends BusinessException {
+    private static final String ERROR_CODE = "BULK_IMPORT_MISMATCH";
+
+    public BulkImportMismatchException(BulkImportId id) {
+        super(ERROR_CODE, "Bulk import " + id.value() + " was started for a different account or row count");
+    }
+}
@@ -0,0 +1,12 @@
+package pl.btsoftware.backend.transaction.domain.error;
+
+import pl.btsoftware.backend.account.domain.error.BusinessException;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+
+public class BulkImportNotFoundException extends BusinessException {
+    private static final String ERROR_CODE = "BULK_IMPORT_NOT_FOUND";
+
+    public BulkImportNotFoundException(BulkImportId id) {
+        super(ERROR_CODE, "Bulk import not found with id: " + id.value());
+    }
+}
@@ -0,0 +1,45 @@
+package pl.btsoftware.backend.transaction.infrastructure.api;
+
+import java.util.List;
+import java.util.UUID;
+import pl.btsoftware.backend.transaction.application.BulkImportResult;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.infrastructure.api.StreamingBulkCreateResponse.RowError;
+
+public record BulkImportView(
+        UUID importId,
+        int totalRows,
+        int processedRows,
+        int savedCount,
+        int duplicateCount,
+        int errorCount,
+        boolean completed,
+        // rows rejected while processing this request; errorCount covers the whole import
+        List<RowError> errors) {
+    public BulkImportView {
+        errors = List.copyOf(errors);
+    }
+
+    public static BulkImportView from(BulkImportResult result) {
+        var errors = result.errors().stream()
+                .map(error -> new RowError(error.row(), error.message()))
+                .toList();
+        return from(result.cursor(), errors);
+    }
+
+    public static BulkImportView from(BulkImportCursor cursor) {
+        return from(cursor, List.of());
+    }
+
+    private static BulkImportView from(BulkImportCursor cursor, List<RowError> errors) {
+        return new BulkImportView(
+                cursor.id().value(),
+                cursor.totalRows(),
+                cursor.processedRows(),
+                cursor.savedCount(),
+                cursor.duplicateCount(),
+                cursor.errorCount(),
+                cursor.isCompleted(),
+                errors);
+    }
+}
@@ -0,0 +1,18 @@
+package pl.btsoftware.backend.transaction.infrastructure.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.application.CreateTransactionCommand;
+import pl.btsoftware.backend.users.domain.UserId;
+
+public record BulkTransactionLine(
+        @NotNull LocalDate transactionDate, @NotNull String type, @NotNull @Valid BillRequest bill) {
+
+    public CreateTransactionCommand toCommand(UserId userId, AccountId accountId) {
+        return new CreateTransactionCommand(
+                accountId, transactionDate, TransactionType.valueOf(type.toUpperCase()), bill.toCommand(), userId);
+    }
+}
@@ -0,0 +1,90 @@
+package pl.btsoftware.backend.transaction.infrastructure.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import pl.btsoftware.backend.transaction.application.BulkRowSink;
+import pl.btsoftware.backend.transaction.application.StreamingBulkCreateResult;
+
+public class NdjsonTransactionReader {
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int END_OF_STREAM = -1;
+
+    private final ObjectReader lineReader;
+    private final Validator validator;
+
+    public NdjsonTransactionReader(ObjectMapper objectMapper, Validator validator) {
+        this.lineReader = objectMapper.readerFor(BulkTransactionLine.class);
+        this.validator = validator;
+    }
+
+    StreamingBulkCreateResult read(InputStream body, BulkRowSink bulkCreate) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(body, UTF_8));
+        var line = new StringBuilder();
+        var row = 0;
+        for (var length = nextLine(reader, line); length != END_OF_STREAM; length = nextLine(reader, line)) {
+            row++;
+            if (length > MAX_LINE_LENGTH) {
+                bulkCreate.reject(row, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+            } else if (!isBlank(line)) {
+                readLine(row, line.toString(), bulkCreate);
+            }
+        }
+        return bulkCreate.finish();
+    }
+
+    private static int nextLine(BufferedReader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        var length = 0;
+        for (var character = reader.read(); character != END_OF_STREAM; character = reader.read()) {
+            if (character == '\n') {
+                return length;
+            }
+            if (length < MAX_LINE_LENGTH) {
+                line.append((char) character);
+            }
+            if (length <= MAX_LINE_LENGTH) {
+                length++;
+            }
+        }
+        return length == 0 ? END_OF_STREAM : length;
+    }
+
+    private static boolean isBlank(CharSequence line) {
+        return line.chars().allMatch(Character::isWhitespace);
+    }
+
+    private void readLine(int row, String line, BulkRowSink bulkCreate) {
+        try {
+            BulkTransactionLine transaction = lineReader.readValue(line);
+            var violations = validator.validate(transaction);
+            if (violations.isEmpty()) {
+                bulkCreate.add(row, transaction.toCommand(bulkCreate.userId(), bulkCreate.accountId()));
+            } else {
+                bulkCreate.reject(row, describe(violations));
+            }
+        } catch (JsonProcessingException e) {
+            bulkCreate.reject(row, "Malformed transaction: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            bulkCreate.reject(row, e.getMessage());
+        }
+    }
+
+    private static String describe(Set<ConstraintViolation<BulkTransactionLine>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.joining(", "));
+    }
+}
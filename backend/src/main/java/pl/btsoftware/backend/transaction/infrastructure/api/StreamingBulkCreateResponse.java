@@ -0,0 +1,21 @@
+package pl.btsoftware.backend.transaction.infrastructure.api;
+
+import java.util.List;
+import pl.btsoftware.backend.transaction.application.StreamingBulkCreateResult;
+
+public record StreamingBulkCreateResponse(
+        int totalRows, int savedCount, int duplicateCount, int errorCount, List<RowError> errors) {
+    public StreamingBulkCreateResponse {
+        errors = List.copyOf(errors);
+    }
+
+    public static StreamingBulkCreateResponse from(StreamingBulkCreateResult result) {
+        var errors = result.errors().stream()
+                .map(error -> new RowError(error.row(), error.message()))
+                .toList();
+        return new StreamingBulkCreateResponse(
+                result.totalRows(), result.savedCount(), result.duplicateCount(), result.errorCount(), errors);
+    }
+
+    public record RowError(int row, String message) {}
+}
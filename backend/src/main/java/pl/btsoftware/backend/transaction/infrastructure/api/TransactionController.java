@@ -1,6 +1,8 @@
 package pl.btsoftware.backend.transaction.infrastructure.api;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Set;
@@ -13,10 +15,12 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 import pl.btsoftware.backend.category.CategoryModuleFacade;
+import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.shared.TransactionId;
 import pl.btsoftware.backend.shared.TransactionType;
 import pl.btsoftware.backend.shared.pagination.PaginationValidator;
 import pl.btsoftware.backend.transaction.TransactionModuleFacade;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
 import pl.btsoftware.backend.transaction.domain.TransactionSearchCriteria;
 import pl.btsoftware.backend.users.domain.UserId;
 
@@ -25,9 +29,12 @@ import pl.btsoftware.backend.users.domain.UserId;
 @AllArgsConstructor
 @Slf4j
 public class TransactionController {
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final TransactionModuleFacade transactionModuleFacade;
     private final CategoryModuleFacade categoryModuleFacade;
     private final PaginationValidator paginationValidator;
+    private final NdjsonTransactionReader ndjsonTransactionReader;
 
     @PostMapping("/transactions")
     public TransactionView createTransaction(
@@ -128,4 +135,69 @@ public class TransactionController {
         var result = transactionModuleFacade.bulkCreateTransactions(request.toCommands(userId), userId);
         return BulkCreateTransactionResponse.from(result);
     }
+
+    @PostMapping(value = "/transactions/bulk/imports/{importId}", consumes = NDJSON_MEDIA_TYPE)
+    public BulkImportView importTransactionsInChunks(
+            @PathVariable UUID importId,
+            @RequestParam("accountId") UUID accountId,
+            @RequestParam("totalRows") int totalRows,
+            InputStream body,
+            @AuthenticationPrincipal Jwt jwt)
+            throws IOException {
+        var userId = new UserId(jwt.getSubject());
+        log.info(
+                "Received request to import {} transactions in chunks as {} for account: {} by user: {}",
+                totalRows,
+                importId,
+                accountId,
+                userId);
+        var result = transactionModuleFacade.importInChunks(
+                BulkImportId.from(importId),
+                AccountId.from(accountId),
+                totalRows,
+                userId,
+                sink -> ndjsonTransactionReader.read(body, sink));
+        return BulkImportView.from(result);
+    }
+
+    @GetMapping("/transactions/bulk/imports/{importId}")
+    public BulkImportView getBulkImport(@PathVariable UUID importId, @AuthenticationPrincipal Jwt jwt) {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received request to get bulk import {} by user: {}", importId, userId);
+        return BulkImportView.from(transactionModuleFacade.getBulkImportProgress(BulkImportId.from(importId), userId));
+    }
+
+    @PostMapping(value = "/transactions/bulk", consumes = NDJSON_MEDIA_TYPE)
+    public StreamingBulkCreateResponse streamBulkCreateTransactions(
+            @RequestParam("accountId") UUID accountId, InputStream body, @AuthenticationPrincipal Jwt jwt)
+            throws IOException {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received request to stream bulk create transactions for account: {} by user: {}", accountId, userId);
+        var bulkCreate = transactionModuleFacade.startBulkCreate(AccountId.from(accountId), userId);
+        var result = ndjsonTransactionReader.read(body, bulkCreate);
+        log.info(
+                "Streamed bulk create finished: {} rows, {} saved, {} duplicates, {} errors",
+                result.totalRows(),
+                result.savedCount(),
+                result.duplicateCount(),
+                result.errorCount());
+        return StreamingBulkCreateResponse.from(result);
+    }
+
+    @PostMapping(value = "/transactions/backfill", consumes = NDJSON_MEDIA_TYPE)
+    public StreamingBulkCreateResponse backfillTransactions(
+            @RequestParam("accountId") UUID accountId, InputStream body, @AuthenticationPrincipal Jwt jwt)
+            throws IOException {
+        var userId = new UserId(jwt.getSubject());
+        log.info("Received request to backfill transactions for account: {} by user: {}", accountId, userId);
+        var result = transactionModuleFacade.backfill(
+                AccountId.from(accountId), userId, sink -> ndjsonTransactionReader.read(body, sink));
+        log.info(
+                "Backfill finished: {} rows, {} saved, {} duplicates, {} errors",
+                result.totalRows(),
+                result.savedCount(),
+                result.duplicateCount(),
+                result.errorCount());
+        return StreamingBulkCreateResponse.from(result);
+    }
 }
@@ -1,5 +1,9 @@
 package pl.btsoftware.backend.transaction.infrastructure.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import javax.sql.DataSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import pl.btsoftware.backend.account.AccountModuleFacade;
@@ -9,24 +13,69 @@ import pl.btsoftware.backend.category.CategoryQueryFacade;
 import pl.btsoftware.backend.shared.pagination.PaginationValidator;
 import pl.btsoftware.backend.transaction.TransactionModuleFacade;
 import pl.btsoftware.backend.transaction.TransactionQueryFacade;
+import pl.btsoftware.backend.transaction.application.BackfillService;
+import pl.btsoftware.backend.transaction.application.BulkImportService;
 import pl.btsoftware.backend.transaction.application.TransactionService;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.TransactionBackfillRepository;
+import pl.btsoftware.backend.transaction.domain.TransactionHashCache;
 import pl.btsoftware.backend.transaction.domain.TransactionRepository;
+import pl.btsoftware.backend.transaction.infrastructure.api.NdjsonTransactionReader;
 import pl.btsoftware.backend.transaction.infrastructure.api.TransactionController;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.BulkImportCursorJpaRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.CategoryUsageJpaRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.HashFilteringTransactionRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.JpaBulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.JpaCategoryUsageRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.JpaMerchantCategoryRepository;
 import pl.btsoftware.backend.transaction.infrastructure.persistance.JpaTransactionRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.MerchantCategoryJpaRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.PostgresTransactionBackfillRepository;
 import pl.btsoftware.backend.transaction.infrastructure.persistance.TransactionJpaRepository;
 import pl.btsoftware.backend.users.UsersModuleFacade;
 
 @Configuration
 public class TransactionModuleConfiguration {
+    private static final int BULK_IMPORT_CHUNK_SIZE = 500;
 
     @Bean
-    public TransactionRepository transactionRepository(TransactionJpaRepository transactionJpaRepository) {
-        return new JpaTransactionRepository(transactionJpaRepository);
+    public HashFilteringTransactionRepository transactionRepository(
+            TransactionJpaRepository transactionJpaRepository, MeterRegistry meterRegistry) {
+        return new HashFilteringTransactionRepository(
+                new JpaTransactionRepository(transactionJpaRepository), meterRegistry);
     }
 
     @Bean
-    public TransactionQueryFacade transactionQueryFacade(TransactionRepository transactionRepository) {
-        return new TransactionQueryFacade(transactionRepository);
+    public CategoryUsageRepository categoryUsageRepository(CategoryUsageJpaRepository categoryUsageJpaRepository) {
+        return new JpaCategoryUsageRepository(categoryUsageJpaRepository);
+    }
+
+    @Bean
+    public MerchantCategoryRepository merchantCategoryRepository(
+            MerchantCategoryJpaRepository merchantCategoryJpaRepository) {
+        return new JpaMerchantCategoryRepository(merchantCategoryJpaRepository);
+    }
+
+    @Bean
+    public BulkImportCursorRepository bulkImportCursorRepository(
+            BulkImportCursorJpaRepository bulkImportCursorJpaRepository) {
+        return new JpaBulkImportCursorRepository(bulkImportCursorJpaRepository);
+    }
+
+    @Bean
+    public TransactionBackfillRepository transactionBackfillRepository(
+            DataSource dataSource, TransactionHashCache transactionHashCache) {
+        return new PostgresTransactionBackfillRepository(dataSource, transactionHashCache);
+    }
+
+    @Bean
+    public TransactionQueryFacade transactionQueryFacade(
+            TransactionRepository transactionRepository,
+            CategoryUsageRepository categoryUsageRepository,
+            MerchantCategoryRepository merchantCategoryRepository) {
+        return new TransactionQueryFacade(transactionRepository, categoryUsageRepository, merchantCategoryRepository);
     }
 
     @Bean
@@ -35,22 +84,66 @@ public class TransactionModuleConfiguration {
             AccountModuleFacade accountModuleFacade,
             CategoryQueryFacade categoryQueryFacade,
             UsersModuleFacade usersModuleFacade,
-            AuditModuleFacade auditModuleFacade) {
+            AuditModuleFacade auditModuleFacade,
+            CategoryUsageRepository categoryUsageRepository,
+            MerchantCategoryRepository merchantCategoryRepository,
+            BulkImportCursorRepository bulkImportCursorRepository) {
         return new TransactionService(
-                transactionRepository, accountModuleFacade, categoryQueryFacade, usersModuleFacade, auditModuleFacade);
+                transactionRepository,
+                accountModuleFacade,
+                categoryQueryFacade,
+                usersModuleFacade,
+                auditModuleFacade,
+                categoryUsageRepository,
+                merchantCategoryRepository,
+                bulkImportCursorRepository);
+    }
+
+    @Bean
+    public BulkImportService bulkImportService(
+            TransactionService transactionService,
+            BulkImportCursorRepository bulkImportCursorRepository,
+            AccountModuleFacade accountModuleFacade,
+            UsersModuleFacade usersModuleFacade) {
+        return new BulkImportService(
+                transactionService,
+                bulkImportCursorRepository,
+                accountModuleFacade,
+                usersModuleFacade,
+                BULK_IMPORT_CHUNK_SIZE);
+    }
+
+    @Bean
+    public BackfillService backfillService(
+            TransactionBackfillRepository transactionBackfillRepository,
+            AccountModuleFacade accountModuleFacade,
+            CategoryQueryFacade categoryQueryFacade,
+            UsersModuleFacade usersModuleFacade) {
+        return new BackfillService(
+                transactionBackfillRepository, accountModuleFacade, categoryQueryFacade, usersModuleFacade);
     }
 
     @Bean
     public TransactionModuleFacade transactionModuleFacade(
-            TransactionService transactionService, UsersModuleFacade usersModuleFacade) {
-        return new TransactionModuleFacade(transactionService, usersModuleFacade);
+            TransactionService transactionService,
+            UsersModuleFacade usersModuleFacade,
+            BulkImportService bulkImportService,
+            BackfillService backfillService) {
+        return new TransactionModuleFacade(transactionService, usersModuleFacade, bulkImportService, backfillService);
+    }
+
+    @Bean
+    public NdjsonTransactionReader ndjsonTransactionReader(ObjectMapper objectMapper, Validator validator) {
+        return new NdjsonTransactionReader(objectMapper, validator);
     }
 
     @Bean
     public TransactionController transactionController(
             TransactionModuleFacade transactionModuleFacade,
             CategoryModuleFacade categoryModuleFacade,
-            PaginationValidator paginationValidator) {
-        return new TransactionController(transactionModuleFacade, categoryModuleFacade, paginationValidator);
+            PaginationValidator paginationValidator,
+            NdjsonTransactionReader ndjsonTransactionReader) {
+        return new TransactionController(
+                transactionModuleFacade, categoryModuleFacade, paginationValidator, ndjsonTransactionReader);
     }
 }
@@ -0,0 +1,71 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Entity
+@Table(name = "bulk_import_cursor")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class BulkImportCursorEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "total_rows")
+    private int totalRows;
+
+    @Column(name = "processed_rows")
+    private int processedRows;
+
+    @Column(name = "saved_count")
+    private int savedCount;
+
+    @Column(name = "duplicate_count")
+    private int duplicateCount;
+
+    @Column(name = "error_count")
+    private int errorCount;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    public static BulkImportCursorEntity fromDomain(BulkImportCursor cursor) {
+        return new BulkImportCursorEntity(
+                cursor.id().value(),
+                cursor.accountId().value(),
+                cursor.groupId().value(),
+                cursor.totalRows(),
+                cursor.processedRows(),
+                cursor.savedCount(),
+                cursor.duplicateCount(),
+                cursor.errorCount(),
+                OffsetDateTime.now());
+    }
+
+    public BulkImportCursor toDomain() {
+        return new BulkImportCursor(
+                BulkImportId.from(id),
+                AccountId.from(accountId),
+                new GroupId(groupId),
+                totalRows,
+                processedRows,
+                savedCount,
+                duplicateCount,
+                errorCount);
+    }
+}
@@ -0,0 +1,31 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BulkImportCursorJpaRepository extends JpaRepository<BulkImportCursorEntity, UUID> {
+    Optional<BulkImportCursorEntity> findByIdAndGroupId(UUID id, UUID groupId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM BulkImportCursorEntity c WHERE c.id = :id AND c.groupId = :groupId")
+    Optional<BulkImportCursorEntity> findLockedByIdAndGroupId(@Param("id") UUID id, @Param("groupId") UUID groupId);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO bulk_import_cursor (id, account_id, group_id, total_rows, processed_rows, "
+                    + "saved_count, duplicate_count, error_count, updated_at) "
+                    + "VALUES (:#{#cursor.id}, :#{#cursor.accountId}, :#{#cursor.groupId}, :#{#cursor.totalRows}, "
+                    + ":#{#cursor.processedRows}, :#{#cursor.savedCount}, :#{#cursor.duplicateCount}, "
+                    + ":#{#cursor.errorCount}, :#{#cursor.updatedAt}) "
+                    + "ON CONFLICT (id) DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("cursor") BulkImportCursorEntity cursor);
+}
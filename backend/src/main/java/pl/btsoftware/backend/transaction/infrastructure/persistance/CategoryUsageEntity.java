@@ -0,0 +1,27 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "category_usage")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CategoryUsageEntity {
+    @Id
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "transaction_count")
+    private long transactionCount;
+}
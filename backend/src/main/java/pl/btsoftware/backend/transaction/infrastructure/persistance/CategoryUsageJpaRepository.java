@@ -0,0 +1,26 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryUsageJpaRepository extends JpaRepository<CategoryUsageEntity, UUID> {
+    Optional<CategoryUsageEntity> findByCategoryIdAndGroupId(UUID categoryId, UUID groupId);
+
+    List<CategoryUsageEntity> findAllByGroupId(UUID groupId);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO category_usage (category_id, group_id, transaction_count) "
+                    + "VALUES (:categoryId, :groupId, :delta) "
+                    + "ON CONFLICT (category_id) "
+                    + "DO UPDATE SET transaction_count = category_usage.transaction_count + EXCLUDED.transaction_count",
+            nativeQuery = true)
+    void increment(@Param("categoryId") UUID categoryId, @Param("groupId") UUID groupId, @Param("delta") long delta);
+}
@@ -0,0 +1,293 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.TransactionId;
+import pl.btsoftware.backend.transaction.domain.Transaction;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.transaction.domain.TransactionHashCache;
+import pl.btsoftware.backend.transaction.domain.TransactionRepository;
+import pl.btsoftware.backend.transaction.domain.TransactionSearchCriteria;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Slf4j
+public class HashFilteringTransactionRepository implements TransactionRepository, TransactionHashCache {
+    private static final int STALE_REBUILD_DIVISOR = 4;
+
+    private final TransactionRepository delegate;
+    private final Map<FilterKey, AccountFilter> filters = new ConcurrentHashMap<>();
+    private final Counter definitelyNew;
+    private final Counter possibleDuplicates;
+    private final Counter falsePositives;
+    private final Counter builds;
+
+    public HashFilteringTransactionRepository(TransactionRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.definitelyNew = probeCounter(meterRegistry, "definitely_new");
+        this.possibleDuplicates = probeCounter(meterRegistry, "possible_duplicate");
+        this.falsePositives = Counter.builder("transaction.hash.filter.false.positives")
+                .description("Hashes reported by the filter as possible duplicates but absent in the database")
+                .register(meterRegistry);
+        this.builds = Counter.builder("transaction.hash.filter.builds")
+                .description("Per-account transaction hash filters built from the database")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "transaction.hash.filter.false.positive.rate",
+                        this,
+                        HashFilteringTransactionRepository::falsePositiveRate)
+                .description("Share of new hashes the filter failed to rule out")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void store(Transaction transaction) {
+        var key = new FilterKey(transaction.accountId(), transaction.ownedBy());
+        var pending = pendingWrites();
+        var writes = pending != null ? pending.get(key) : null;
+        var previousVersion = writes != null ? writes.previousVersion : delegate.findHashesVersion(key.accountId());
+        delegate.store(transaction);
+        var currentVersion = delegate.findHashesVersion(key.accountId());
+
+        if (writes == null) {
+            writes = new PendingWrites(previousVersion);
+        }
+        writes.stored(transaction, currentVersion);
+        if (pending != null) {
+            pending.put(key, writes);
+        } else {
+            apply(key, writes);
+        }
+    }
+
+    @Override
+    public Optional<Transaction> findById(TransactionId id, GroupId groupId) {
+        return delegate.findById(id, groupId);
+    }
+
+    @Override
+    public Optional<Transaction> findByIdIncludingDeleted(TransactionId id, GroupId groupId) {
+        return delegate.findByIdIncludingDeleted(id, groupId);
+    }
+
+    @Override
+    public Page<Transaction> findAll(TransactionSearchCriteria criteria, GroupId groupId, Pageable pageable) {
+        return delegate.findAll(criteria, groupId, pageable);
+    }
+
+    @Override
+    public boolean existsByAccountId(AccountId accountId, GroupId groupId) {
+        return delegate.existsByAccountId(accountId, groupId);
+    }
+
+    @Override
+    public List<TransactionHash> findExistingHashes(
+            AccountId accountId, List<TransactionHash> hashes, GroupId groupId) {
+        if (hashes.isEmpty()) {
+            return List.of();
+        }
+        var key = new FilterKey(accountId, groupId);
+        if (hasPendingWrites(key)) {
+            return delegate.findExistingHashes(accountId, hashes, groupId);
+        }
+
+        var unique = hashes.stream().distinct().toList();
+        var filter = filters.computeIfAbsent(key, ignored -> new AccountFilter());
+        var version = delegate.findHashesVersion(accountId);
+        var filtered = filter.possibleDuplicates(unique, version);
+        if (filtered.isEmpty()) {
+            build(filter, accountId, groupId);
+            filtered = filter.possibleDuplicates(unique, delegate.findHashesVersion(accountId));
+        }
+        if (filtered.isEmpty()) {
+            return delegate.findExistingHashes(accountId, hashes, groupId);
+        }
+
+        var candidates = filtered.get();
+        definitelyNew.increment(unique.size() - candidates.size());
+        possibleDuplicates.increment(candidates.size());
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        var existing = delegate.findExistingHashes(accountId, candidates, groupId);
+        falsePositives.increment(candidates.size() - existing.stream().distinct().count());
+        return existing;
+    }
+
+    @Override
+    public List<TransactionHash> findHashes(AccountId accountId, GroupId groupId) {
+        return delegate.findHashes(accountId, groupId);
+    }
+
+    @Override
+    public long findHashesVersion(AccountId accountId) {
+        return delegate.findHashesVersion(accountId);
+    }
+
+    @Override
+    public void invalidate(AccountId accountId, GroupId groupId) {
+        var key = new FilterKey(accountId, groupId);
+        var pending = pendingWrites();
+        if (pending == null) {
+            apply(key, PendingWrites.invalidated());
+        } else {
+            pending.put(key, PendingWrites.invalidated());
+        }
+    }
+
+    private void build(AccountFilter filter, AccountId accountId, GroupId groupId) {
+        var version = delegate.findHashesVersion(accountId);
+        var hashes = delegate.findHashes(accountId, groupId);
+        var built = TransactionHashBloomFilter.forRows(hashes.size());
+        hashes.forEach(built::put);
+        if (filter.install(built, version)) {
+            builds.increment();
+            log.debug("Built transaction hash filter for account {} with {} hashes", accountId, hashes.size());
+        }
+    }
+
+    private boolean hasPendingWrites(FilterKey key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        var pending = boundPendingWrites();
+        return pending != null && pending.containsKey(key);
+    }
+
+    private Map<FilterKey, PendingWrites> pendingWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        var pending = boundPendingWrites();
+        if (pending != null) {
+            return pending;
+        }
+        var created = new HashMap<FilterKey, PendingWrites>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(HashFilteringTransactionRepository.this::apply);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(HashFilteringTransactionRepository.this);
+            }
+        });
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<FilterKey, PendingWrites> boundPendingWrites() {
+        return (Map<FilterKey, PendingWrites>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private void apply(FilterKey key, PendingWrites writes) {
+        var filter = filters.get(key);
+        if (filter != null) {
+            filter.apply(writes);
+        }
+    }
+
+    private double falsePositiveRate() {
+        var ruledOut = definitelyNew.count();
+        var missed = falsePositives.count();
+        return ruledOut + missed == 0 ? 0 : missed / (ruledOut + missed);
+    }
+
+    private static Counter probeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("transaction.hash.filter.probes")
+                .tag("outcome", outcome)
+                .description("Transaction hashes checked against the per-account filter")
+                .register(meterRegistry);
+    }
+
+    private record FilterKey(AccountId accountId, GroupId groupId) {}
+
+    private static final class PendingWrites {
+        private final long previousVersion;
+        private final List<TransactionHash> added = new ArrayList<>();
+        private long currentVersion;
+        private int writes;
+        private int removals;
+        private boolean invalidated;
+
+        private PendingWrites(long previousVersion) {
+            this.previousVersion = previousVersion;
+            this.currentVersion = previousVersion;
+        }
+
+        static PendingWrites invalidated() {
+            var writes = new PendingWrites(-1);
+            writes.invalidated = true;
+            return writes;
+        }
+
+        void stored(Transaction transaction, long version) {
+            writes++;
+            currentVersion = version;
+            if (transaction.isDeleted()) {
+                removals++;
+            } else {
+                added.add(transaction.transactionHash());
+            }
+        }
+
+        boolean continues(long filterVersion) {
+            return !invalidated && filterVersion == previousVersion && currentVersion == previousVersion + writes;
+        }
+    }
+
+    private static final class AccountFilter {
+        private TransactionHashBloomFilter filter;
+        private long version;
+        private int removals;
+
+        synchronized boolean install(TransactionHashBloomFilter built, long builtVersion) {
+            if (filter != null && version >= builtVersion) {
+                return false;
+            }
+            filter = built;
+            version = builtVersion;
+            removals = 0;
+            return true;
+        }
+
+        synchronized Optional<List<TransactionHash>> possibleDuplicates(
+                List<TransactionHash> hashes, long storedVersion) {
+            if (filter == null || version != storedVersion) {
+                return Optional.empty();
+            }
+            return Optional.of(hashes.stream().filter(filter::mightContain).toList());
+        }
+
+        synchronized void apply(PendingWrites writes) {
+            if (filter == null) {
+                return;
+            }
+            if (!writes.continues(version)) {
+                filter = null;
+                return;
+            }
+            writes.added.forEach(filter::put);
+            removals += writes.removals;
+            version = writes.currentVersion;
+            if (filter.isSaturated() || removals > filter.capacity() / STALE_REBUILD_DIVISOR) {
+                filter = null;
+            }
+        }
+    }
+}
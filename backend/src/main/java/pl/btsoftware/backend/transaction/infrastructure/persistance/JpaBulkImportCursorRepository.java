@@ -0,0 +1,42 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import jakarta.transaction.Transactional;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaBulkImportCursorRepository implements BulkImportCursorRepository {
+
+    private final BulkImportCursorJpaRepository repository;
+
+    @Override
+    public void store(BulkImportCursor cursor) {
+        repository.save(BulkImportCursorEntity.fromDomain(cursor));
+    }
+
+    @Override
+    @Transactional
+    public void storeIfAbsent(BulkImportCursor cursor) {
+        repository.insertIfAbsent(BulkImportCursorEntity.fromDomain(cursor));
+    }
+
+    @Override
+    public Optional<BulkImportCursor> findById(BulkImportId id, GroupId groupId) {
+        return repository.findByIdAndGroupId(id.value(), groupId.value()).map(BulkImportCursorEntity::toDomain);
+    }
+
+    @Override
+    public Optional<BulkImportCursor> findByIdForUpdate(BulkImportId id, GroupId groupId) {
+        return repository
+                .findLockedByIdAndGroupId(id.value(), groupId.value())
+                .map(BulkImportCursorEntity::toDomain);
+    }
+}
@@ -0,0 +1,38 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaCategoryUsageRepository implements CategoryUsageRepository {
+
+    private final CategoryUsageJpaRepository repository;
+
+    @Override
+    public void adjust(Map<CategoryId, Long> deltas, GroupId groupId) {
+        deltas.forEach((categoryId, delta) -> repository.increment(categoryId.value(), groupId.value(), delta));
+    }
+
+    @Override
+    public long countTransactions(CategoryId categoryId, GroupId groupId) {
+        return repository
+                .findByCategoryIdAndGroupId(categoryId.value(), groupId.value())
+                .map(CategoryUsageEntity::getTransactionCount)
+                .orElse(0L);
+    }
+
+    @Override
+    public Map<CategoryId, Long> findAll(GroupId groupId) {
+        return repository.findAllByGroupId(groupId.value()).stream()
+                .collect(Collectors.toMap(
+                        entity -> CategoryId.of(entity.getCategoryId()), CategoryUsageEntity::getTransactionCount));
+    }
+}
@@ -0,0 +1,42 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class JpaMerchantCategoryRepository implements MerchantCategoryRepository {
+
+    private final MerchantCategoryJpaRepository repository;
+
+    @Override
+    public void remember(Map<MerchantKey, CategoryId> categories, GroupId groupId) {
+        categories.forEach((key, categoryId) -> repository.upsert(
+                groupId.value(), key.type().name(), key.value(), categoryId.value()));
+        if (!categories.isEmpty()) {
+            repository.incrementVersion(groupId.value());
+        }
+    }
+
+    @Override
+    public Map<MerchantKey, CategoryId> findAll(GroupId groupId) {
+        return repository.findAllByIdGroupId(groupId.value()).stream()
+                .collect(Collectors.toMap(
+                        entity -> new MerchantKey(
+                                entity.getId().getTransactionType(), entity.getId().getMerchantKey()),
+                        entity -> CategoryId.of(entity.getCategoryId())));
+    }
+
+    @Override
+    public long findVersion(GroupId groupId) {
+        return repository.findVersion(groupId.value()).orElse(0L);
+    }
+}
@@ -7,8 +7,8 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import pl.btsoftware.backend.shared.AccountId;
-import pl.btsoftware.backend.shared.CategoryId;
 import pl.btsoftware.backend.shared.TransactionId;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionHash;
@@ -24,9 +24,11 @@ public class JpaTransactionRepository implements TransactionRepository {
     private final TransactionJpaRepository repository;
 
     @Override
+    @Transactional
     public void store(Transaction transaction) {
         TransactionEntity entity = TransactionEntity.fromDomain(transaction);
         repository.save(entity);
+        repository.incrementHashesVersion(entity.getAccountId());
     }
 
     @Override
@@ -47,11 +49,6 @@ public class JpaTransactionRepository implements TransactionRepository {
         return repository.findAll(spec, pageable).map(TransactionEntity::toDomain);
     }
 
-    @Override
-    public boolean existsByCategoryId(CategoryId categoryId, GroupId groupId) {
-        return repository.existsByCategoryIdAndCreatedByGroupAndIsDeletedFalse(categoryId.value(), groupId.value());
-    }
-
     @Override
     public boolean existsByAccountId(AccountId accountId, GroupId groupId) {
         return repository.existsByAccountIdAndCreatedByGroupAndIsDeletedFalse(accountId.value(), groupId.value());
@@ -69,4 +66,16 @@ public class JpaTransactionRepository implements TransactionRepository {
                 .map(TransactionHash::new)
                 .toList();
     }
+
+    @Override
+    public List<TransactionHash> findHashes(AccountId accountId, GroupId groupId) {
+        return repository.findHashesByAccountIdAndCreatedByGroup(accountId.value(), groupId.value()).stream()
+                .map(TransactionHash::new)
+                .toList();
+    }
+
+    @Override
+    public long findHashesVersion(AccountId accountId) {
+        return repository.findHashesVersion(accountId.value()).orElse(0L);
+    }
 }
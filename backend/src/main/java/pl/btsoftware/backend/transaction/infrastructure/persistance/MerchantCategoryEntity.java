@@ -0,0 +1,23 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "merchant_category")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class MerchantCategoryEntity {
+    @EmbeddedId
+    private MerchantCategoryEntityId id;
+
+    @Column(name = "category_id")
+    private UUID categoryId;
+}
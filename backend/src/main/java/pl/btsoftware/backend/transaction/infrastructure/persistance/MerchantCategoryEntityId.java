@@ -0,0 +1,30 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pl.btsoftware.backend.shared.TransactionType;
+
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class MerchantCategoryEntityId implements Serializable {
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "transaction_type")
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    @Column(name = "merchant_key")
+    private String merchantKey;
+}
@@ -0,0 +1,38 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MerchantCategoryJpaRepository extends JpaRepository<MerchantCategoryEntity, MerchantCategoryEntityId> {
+    List<MerchantCategoryEntity> findAllByIdGroupId(UUID groupId);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO merchant_category (group_id, transaction_type, merchant_key, category_id) "
+                    + "VALUES (:groupId, :transactionType, :merchantKey, :categoryId) "
+                    + "ON CONFLICT (group_id, transaction_type, merchant_key) "
+                    + "DO UPDATE SET category_id = EXCLUDED.category_id",
+            nativeQuery = true)
+    void upsert(
+            @Param("groupId") UUID groupId,
+            @Param("transactionType") String transactionType,
+            @Param("merchantKey") String merchantKey,
+            @Param("categoryId") UUID categoryId);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO merchant_category_version (group_id, version) VALUES (:groupId, 1) "
+                    + "ON CONFLICT (group_id) DO UPDATE SET version = merchant_category_version.version + 1",
+            nativeQuery = true)
+    void incrementVersion(@Param("groupId") UUID groupId);
+
+    @Query(value = "SELECT version FROM merchant_category_version WHERE group_id = :groupId", nativeQuery = true)
+    Optional<Long> findVersion(@Param("groupId") UUID groupId);
+}
@@ -0,0 +1,237 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.BackfillSummary;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.transaction.domain.Transaction;
+import pl.btsoftware.backend.transaction.domain.TransactionBackfillRepository;
+import pl.btsoftware.backend.transaction.domain.TransactionBackfillSession;
+import pl.btsoftware.backend.transaction.domain.TransactionHashCache;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@Repository
+@RequiredArgsConstructor
+@Profile("!test")
+public class PostgresTransactionBackfillRepository implements TransactionBackfillRepository {
+    private static final String CREATE_STAGING_TABLE = "CREATE TEMP TABLE backfill_staging ("
+            + "seq BIGINT GENERATED ALWAYS AS IDENTITY, "
+            + "id UUID, account_id UUID, type VARCHAR(50), bill JSONB, transaction_date DATE, "
+            + "transaction_hash VARCHAR(64), created_at TIMESTAMPTZ, created_by VARCHAR(100), "
+            + "updated_at TIMESTAMPTZ, updated_by VARCHAR(100), "
+            + "signed_amount NUMERIC(19, 2), category_ids UUID[], merchant_key TEXT"
+            + ") ON COMMIT DROP";
+    private static final String COPY_STAGING = "COPY backfill_staging ("
+            + "id, account_id, type, bill, transaction_date, transaction_hash, created_at, created_by, "
+            + "updated_at, updated_by, signed_amount, category_ids, merchant_key"
+            + ") FROM STDIN";
+    private static final String DELETE_STORED_DUPLICATES = "DELETE FROM backfill_staging s USING transaction t "
+            + "WHERE t.transaction_hash = s.transaction_hash AND t.account_id = ? AND t.created_by_group = ? "
+            + "AND t.is_deleted = false";
+    private static final String SUM_BALANCE_DELTA = "SELECT COALESCE(SUM(signed_amount), 0) FROM backfill_staging";
+    private static final String INSERT_TRANSACTIONS = "INSERT INTO transaction ("
+            + "id, account_id, type, bill, transaction_date, transaction_hash, created_at, created_by, "
+            + "created_by_group, updated_at, updated_by, updated_by_group, is_deleted) "
+            + "SELECT id, account_id, type, bill, transaction_date, transaction_hash, created_at, created_by, "
+            + "?, updated_at, updated_by, ?, false FROM backfill_staging ORDER BY seq";
+    private static final String UPSERT_CATEGORY_USAGE = "INSERT INTO category_usage "
+            + "(category_id, group_id, transaction_count) "
+            + "SELECT category_id, ?, COUNT(*) FROM backfill_staging, unnest(category_ids) AS category_id "
+            + "GROUP BY category_id "
+            + "ON CONFLICT (category_id) "
+            + "DO UPDATE SET transaction_count = category_usage.transaction_count + EXCLUDED.transaction_count";
+    private static final String UPSERT_MERCHANT_CATEGORIES = "INSERT INTO merchant_category "
+            + "(group_id, transaction_type, merchant_key, category_id) "
+            + "SELECT DISTINCT ON (type, merchant_key) ?, type, merchant_key, category_ids[1] "
+            + "FROM backfill_staging WHERE merchant_key IS NOT NULL "
+            + "ORDER BY type, merchant_key, seq DESC "
+            + "ON CONFLICT (group_id, transaction_type, merchant_key) "
+            + "DO UPDATE SET category_id = EXCLUDED.category_id";
+    private static final String INCREMENT_MERCHANT_CATEGORY_VERSION = "INSERT INTO merchant_category_version "
+            + "(group_id, version) VALUES (?, 1) "
+            + "ON CONFLICT (group_id) DO UPDATE SET version = merchant_category_version.version + 1";
+    private static final String INCREMENT_TRANSACTION_HASH_VERSION = "INSERT INTO transaction_hash_version "
+            + "(account_id, version) VALUES (?, 1) "
+            + "ON CONFLICT (account_id) DO UPDATE SET version = transaction_hash_version.version + 1";
+
+    private final DataSource dataSource;
+    private final TransactionHashCache transactionHashCache;
+
+    @Override
+    public TransactionBackfillSession open(AccountId accountId, GroupId groupId) {
+        var connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (var statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE);
+            }
+            var copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_STAGING);
+            return new CopySession(connection, copy, accountId, groupId);
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw new IllegalStateException("Failed to open backfill session", e);
+        }
+    }
+
+    private final class CopySession implements TransactionBackfillSession {
+        private final Connection connection;
+        private final PGCopyOutputStream copy;
+        private final Writer writer;
+        private final AccountId accountId;
+        private final GroupId groupId;
+
+        private CopySession(Connection connection, PGCopyOutputStream copy, AccountId accountId, GroupId groupId) {
+            this.connection = connection;
+            this.copy = copy;
+            this.writer = new BufferedWriter(new OutputStreamWriter(copy, UTF_8));
+            this.accountId = accountId;
+            this.groupId = groupId;
+        }
+
+        @Override
+        public void write(Transaction transaction) {
+            if (!accountId.equals(transaction.accountId())) {
+                throw new IllegalArgumentException("Transaction does not belong to the backfilled account");
+            }
+            var entity = TransactionEntity.fromDomain(transaction);
+            try {
+                writeRow(
+                        entity.getId(),
+                        entity.getAccountId(),
+                        entity.getType(),
+                        entity.getBill(),
+                        entity.getTransactionDate(),
+                        entity.getTransactionHash(),
+                        entity.getCreatedAt(),
+                        entity.getCreatedBy(),
+                        entity.getUpdatedAt(),
+                        entity.getUpdatedBy(),
+                        signedAmount(transaction),
+                        categoryArray(transaction),
+                        merchantKey(transaction));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to stream transaction into backfill staging", e);
+            }
+        }
+
+        @Override
+        public BackfillSummary merge() {
+            try {
+                writer.close();
+                try (var statement = connection.createStatement()) {
+                    statement.execute("ANALYZE backfill_staging");
+                }
+                update(DELETE_STORED_DUPLICATES, accountId.value(), groupId.value());
+                var balanceDelta = balanceDelta();
+                var inserted = update(INSERT_TRANSACTIONS, groupId.value(), groupId.value());
+                if (inserted > 0) {
+                    update(INCREMENT_TRANSACTION_HASH_VERSION, accountId.value());
+                }
+                transactionHashCache.invalidate(accountId, groupId);
+                update(UPSERT_CATEGORY_USAGE, groupId.value());
+                if (update(UPSERT_MERCHANT_CATEGORIES, groupId.value()) > 0) {
+                    update(INCREMENT_MERCHANT_CATEGORY_VERSION, groupId.value());
+                }
+                return new BackfillSummary(inserted, balanceDelta);
+            } catch (IOException | SQLException e) {
+                throw new IllegalStateException("Failed to merge backfill staging", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to cancel backfill copy", e);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+
+        private void writeRow(Object... values) throws IOException {
+            for (var i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+                writeValue(values[i]);
+            }
+            writer.write('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                writer.write("\\N");
+                return;
+            }
+            var text = value.toString();
+            for (var i = 0; i < text.length(); i++) {
+                var character = text.charAt(i);
+                switch (character) {
+                    case '\\' -> writer.write("\\\\");
+                    case '\t' -> writer.write("\\t");
+                    case '\n' -> writer.write("\\n");
+                    case '\r' -> writer.write("\\r");
+                    default -> writer.write(character);
+                }
+            }
+        }
+
+        private int update(String sql, Object... parameters) throws SQLException {
+            try (var statement = connection.prepareStatement(sql)) {
+                for (var i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                return statement.executeUpdate();
+            }
+        }
+
+        private BigDecimal balanceDelta() throws SQLException {
+            try (var statement = connection.createStatement();
+                    var resultSet = statement.executeQuery(SUM_BALANCE_DELTA)) {
+                resultSet.next();
+                return resultSet.getBigDecimal(1);
+            }
+        }
+    }
+
+    private static BigDecimal signedAmount(Transaction transaction) {
+        var amount = transaction.amount().value();
+        return transaction.type() == TransactionType.INCOME ? amount : amount.negate();
+    }
+
+    private static String categoryArray(Transaction transaction) {
+        return transaction.bill().categories().stream()
+                .map(CategoryId::value)
+                .map(Object::toString)
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private static String merchantKey(Transaction transaction) {
+        if (transaction.bill().items().size() != 1
+                || transaction.bill().items().getFirst().categoryId() == null) {
+            return null;
+        }
+        var key = MerchantKey.of(transaction.description(), transaction.type());
+        return key != null ? key.value() : null;
+    }
+}
@@ -0,0 +1,74 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.HexFormat;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+
+final class TransactionHashBloomFilter {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int CAPACITY_HEADROOM = 2;
+    private static final int WORD_BITS = Long.SIZE;
+    private static final int WORD_SHIFT = 6;
+    private static final int HALF_HASH_DIGITS = 16;
+    private static final double LN_2 = Math.log(2);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final int capacity;
+    private int insertions;
+
+    private TransactionHashBloomFilter(int capacity) {
+        var bits = (long) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (LN_2 * LN_2));
+        this.words = new long[(int) ((bits + WORD_BITS - 1) / WORD_BITS)];
+        this.bitCount = (long) words.length * WORD_BITS;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / capacity * LN_2));
+        this.capacity = capacity;
+    }
+
+    static TransactionHashBloomFilter forRows(int rows) {
+        return new TransactionHashBloomFilter(Math.max(MIN_CAPACITY, rows * CAPACITY_HEADROOM));
+    }
+
+    void put(TransactionHash hash) {
+        mark(hash);
+        insertions++;
+    }
+
+    void mark(TransactionHash hash) {
+        var first = firstHalf(hash);
+        var second = secondHalf(hash);
+        for (var i = 0; i < hashFunctions; i++) {
+            var bit = Math.floorMod(first + i * second, bitCount);
+            words[(int) (bit >>> WORD_SHIFT)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(TransactionHash hash) {
+        var first = firstHalf(hash);
+        var second = secondHalf(hash);
+        for (var i = 0; i < hashFunctions; i++) {
+            var bit = Math.floorMod(first + i * second, bitCount);
+            if ((words[(int) (bit >>> WORD_SHIFT)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    boolean isSaturated() {
+        return insertions > capacity;
+    }
+
+    private static long firstHalf(TransactionHash hash) {
+        return HexFormat.fromHexDigitsToLong(hash.value(), 0, HALF_HASH_DIGITS);
+    }
+
+    private static long secondHalf(TransactionHash hash) {
+        return HexFormat.fromHexDigitsToLong(hash.value(), HALF_HASH_DIGITS, 2 * HALF_HASH_DIGITS) | 1;
+    }
+}
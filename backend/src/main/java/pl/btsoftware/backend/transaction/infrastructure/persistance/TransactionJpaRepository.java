@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,17 +17,6 @@ public interface TransactionJpaRepository
 
     Optional<TransactionEntity> findByIdAndCreatedByGroup(UUID id, UUID createdByGroup);
 
-    @Query(
-            value = "SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END "
-                    + "FROM transaction t "
-                    + "WHERE jsonb_path_exists(t.bill, '$.items[*] ? (@.categoryId == $categoryId)', "
-                    + "jsonb_build_object('categoryId', CAST(:categoryId AS text))) "
-                    + "AND t.created_by_group = :createdByGroup "
-                    + "AND t.is_deleted = false",
-            nativeQuery = true)
-    boolean existsByCategoryIdAndCreatedByGroupAndIsDeletedFalse(
-            @Param("categoryId") UUID categoryId, @Param("createdByGroup") UUID createdByGroup);
-
     boolean existsByAccountIdAndCreatedByGroupAndIsDeletedFalse(UUID categoryId, UUID createdByGroup);
 
     @Query(
@@ -35,4 +25,20 @@ public interface TransactionJpaRepository
             @Param("accountId") UUID accountId,
             @Param("hashes") List<String> hashes,
             @Param("createdByGroup") UUID createdByGroup);
+
+    @Query(
+            "SELECT t.transactionHash FROM TransactionEntity t "
+                    + "WHERE t.accountId = :accountId AND t.createdByGroup = :createdByGroup AND t.isDeleted = false")
+    List<String> findHashesByAccountIdAndCreatedByGroup(
+            @Param("accountId") UUID accountId, @Param("createdByGroup") UUID createdByGroup);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO transaction_hash_version (account_id, version) VALUES (:accountId, 1) "
+                    + "ON CONFLICT (account_id) DO UPDATE SET version = transaction_hash_version.version + 1",
+            nativeQuery = true)
+    void incrementHashesVersion(@Param("accountId") UUID accountId);
+
+    @Query(value = "SELECT version FROM transaction_hash_version WHERE account_id = :accountId", nativeQuery = true)
+    Optional<Long> findHashesVersion(@Param("accountId") UUID accountId);
 }
@@ -0,0 +1,15 @@
+CREATE TABLE category_usage
+(
+    category_id       UUID PRIMARY KEY,
+    group_id          UUID   NOT NULL,
+    transaction_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_category_usage_group ON category_usage (group_id);
+
+INSERT INTO category_usage (category_id, group_id, transaction_count)
+SELECT CAST(item ->> 'categoryId' AS UUID), t.created_by_group, COUNT(DISTINCT t.id)
+FROM transaction t
+         CROSS JOIN LATERAL jsonb_array_elements(t.bill -> 'items') AS item
+WHERE t.is_deleted = false
+GROUP BY CAST(item ->> 'categoryId' AS UUID), t.created_by_group;
@@ -0,0 +1,16 @@
+CREATE TABLE import_job
+(
+    id               UUID PRIMARY KEY,
+    account_id       UUID                     NOT NULL,
+    group_id         UUID                     NOT NULL,
+    status           VARCHAR(20)              NOT NULL,
+    parsed_rows      INTEGER                  NOT NULL DEFAULT 0,
+    result           JSONB,
+    error_type       VARCHAR(50),
+    error_message    TEXT,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    lease_expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_import_job_group ON import_job (group_id);
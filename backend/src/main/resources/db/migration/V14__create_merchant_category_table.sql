@@ -0,0 +1,23 @@
+CREATE TABLE merchant_category
+(
+    group_id         UUID        NOT NULL,
+    transaction_type VARCHAR(50) NOT NULL,
+    merchant_key     TEXT        NOT NULL,
+    category_id      UUID        NOT NULL,
+    PRIMARY KEY (group_id, transaction_type, merchant_key)
+);
+
+INSERT INTO merchant_category (group_id, transaction_type, merchant_key, category_id)
+SELECT DISTINCT ON (group_id, transaction_type, merchant_key) group_id, transaction_type, merchant_key, category_id
+FROM (SELECT t.created_by_group AS group_id,
+             t.type AS transaction_type,
+             lower(trim(regexp_replace(t.bill -> 'items' -> 0 ->> 'description' COLLATE "und-x-icu",
+                                       '[^[:alpha:]]+', ' ', 'g'))) AS merchant_key,
+             CAST(t.bill -> 'items' -> 0 ->> 'categoryId' AS UUID) AS category_id,
+             t.updated_at
+      FROM transaction t
+      WHERE t.is_deleted = false
+        AND jsonb_array_length(t.bill -> 'items') = 1) remembered
+WHERE merchant_key <> ''
+  AND category_id IS NOT NULL
+ORDER BY group_id, transaction_type, merchant_key, updated_at DESC;
@@ -0,0 +1,12 @@
+CREATE TABLE import_session
+(
+    id           UUID PRIMARY KEY,
+    account_id   UUID                     NOT NULL,
+    group_id     UUID                     NOT NULL,
+    transactions JSONB                    NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at   TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_import_session_group ON import_session (group_id);
+CREATE INDEX idx_import_session_expires_at ON import_session (expires_at);
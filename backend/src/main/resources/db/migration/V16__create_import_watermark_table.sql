@@ -0,0 +1,8 @@
+CREATE TABLE import_watermark
+(
+    account_id      UUID PRIMARY KEY,
+    group_id        UUID                     NOT NULL,
+    watermark_date  DATE                     NOT NULL,
+    boundary_hashes JSONB                    NOT NULL,
+    updated_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
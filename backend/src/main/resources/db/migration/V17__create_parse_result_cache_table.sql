@@ -0,0 +1,14 @@
+CREATE TABLE parse_result_cache
+(
+    id               UUID PRIMARY KEY,
+    group_id         UUID                     NOT NULL,
+    account_id       UUID                     NOT NULL,
+    digest           VARCHAR(64)              NOT NULL,
+    category_version VARCHAR(64)              NOT NULL,
+    result           JSONB                    NOT NULL,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at       TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_parse_result_cache_group_created_at ON parse_result_cache (group_id, created_at);
+CREATE INDEX idx_parse_result_cache_expires_at ON parse_result_cache (expires_at);
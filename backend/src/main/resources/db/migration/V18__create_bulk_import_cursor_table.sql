@@ -0,0 +1,12 @@
+CREATE TABLE bulk_import_cursor
+(
+    id              UUID PRIMARY KEY,
+    account_id      UUID                     NOT NULL,
+    group_id        UUID                     NOT NULL,
+    total_rows      INTEGER                  NOT NULL,
+    processed_rows  INTEGER                  NOT NULL,
+    saved_count     INTEGER                  NOT NULL,
+    duplicate_count INTEGER                  NOT NULL,
+    error_count     INTEGER                  NOT NULL,
+    updated_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
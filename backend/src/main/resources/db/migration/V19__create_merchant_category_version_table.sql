@@ -0,0 +1,9 @@
+CREATE TABLE merchant_category_version
+(
+    group_id UUID PRIMARY KEY,
+    version  BIGINT NOT NULL
+);
+
+INSERT INTO merchant_category_version (group_id, version)
+SELECT DISTINCT group_id, 1
+FROM merchant_category;
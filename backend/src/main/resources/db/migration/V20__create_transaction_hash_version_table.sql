@@ -0,0 +1,5 @@
+CREATE TABLE transaction_hash_version
+(
+    account_id UUID PRIMARY KEY,
+    version    BIGINT NOT NULL
+);
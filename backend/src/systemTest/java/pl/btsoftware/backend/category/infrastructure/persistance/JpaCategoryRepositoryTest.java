@@ -345,6 +345,57 @@ class JpaCategoryRepositoryTest {
         }
     }
 
+    @Nested
+    class FindVersion {
+        @Test
+        void shouldReturnEmptyVersionWhenNoCategoriesExist() {
+            // given
+            var groupId = GroupId.generate();
+
+            // when
+            var version = repository.findVersion(EXPENSE, groupId);
+
+            // then
+            assertThat(version.categories()).isZero();
+            assertThat(version.lastUpdatedAt()).isNull();
+            assertThat(version.lastDeletedAt()).isNull();
+        }
+
+        @Test
+        void shouldChangeVersionWhenCategoryIsAddedOrDeleted() {
+            // given
+            var groupId = GroupId.generate();
+            var category = createTestCategory(EXPENSE, groupId, false);
+            repository.store(category);
+            var initialVersion = repository.findVersion(EXPENSE, groupId);
+
+            // when
+            repository.store(createTestCategory(EXPENSE, groupId, false));
+            var afterCreate = repository.findVersion(EXPENSE, groupId);
+            repository.store(category.delete());
+            var afterDelete = repository.findVersion(EXPENSE, groupId);
+
+            // then
+            assertThat(afterCreate).isNotEqualTo(initialVersion);
+            assertThat(afterDelete).isNotEqualTo(afterCreate);
+            assertThat(afterDelete.lastDeletedAt()).isNotNull();
+        }
+
+        @Test
+        void shouldNotChangeVersionWhenOtherTypeChanges() {
+            // given
+            var groupId = GroupId.generate();
+            repository.store(createTestCategory(EXPENSE, groupId, false));
+            var initialVersion = repository.findVersion(EXPENSE, groupId);
+
+            // when
+            repository.store(createTestCategory(INCOME, groupId, false));
+
+            // then
+            assertThat(repository.findVersion(EXPENSE, groupId)).isEqualTo(initialVersion);
+        }
+    }
+
     @Nested
     class EntityToDomainMapping {
         @Test
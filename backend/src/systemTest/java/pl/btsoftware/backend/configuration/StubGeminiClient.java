@@ -1,8 +1,9 @@
 package pl.btsoftware.backend.configuration;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import pl.btsoftware.backend.ai.infrastructure.client.GeminiClient;
 import pl.btsoftware.backend.ai.infrastructure.config.GeminiConfig;
 
@@ -10,11 +11,10 @@ import pl.btsoftware.backend.ai.infrastructure.config.GeminiConfig;
 public class StubGeminiClient extends GeminiClient {
 
     public StubGeminiClient(GeminiConfig config) {
-        super(config);
+        super(config, new SimpleMeterRegistry());
     }
 
     @Override
-    @Async
     public CompletableFuture<String> generateContent(String prompt) {
         validatePrompt(prompt);
 
@@ -24,6 +24,13 @@ public class StubGeminiClient extends GeminiClient {
         return CompletableFuture.completedFuture(mockResponse);
     }
 
+    @Override
+    public CompletableFuture<String> generateContentStream(String prompt, Consumer<String> chunkListener) {
+        var response = generateContent(prompt);
+        response.thenAccept(chunkListener);
+        return response;
+    }
+
     private void validatePrompt(String prompt) {
         if (prompt == null || prompt.isEmpty()) {
             throw new IllegalArgumentException("Prompt cannot be null or empty");
@@ -34,7 +41,7 @@ public class StubGeminiClient extends GeminiClient {
         return """
                 [
                   {
-                    "transactionId": "00000000-0000-0000-0000-000000000001",
+                    "transactionId": 1,
                     "categoryId": null,
                     "confidence": 0.8
                   }
@@ -0,0 +1,149 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.csvimport.domain.*;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaImportJobRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Test
+    void shouldStoreAndFindQueuedJob() {
+        // given
+        var job = ImportJob.queued(AccountId.generate(), testGroupId);
+
+        // when
+        importJobRepository.create(job, leaseExpiresIn(2));
+
+        // then
+        var found = importJobRepository.findById(job.id(), testGroupId);
+        assertThat(found).isPresent();
+        assertThat(found.get().status()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(found.get().accountId()).isEqualTo(job.accountId());
+        assertThat(found.get().result()).isNull();
+    }
+
+    @Test
+    void shouldPersistCompletedResult() {
+        // given
+        var categoryId = CategoryId.generate();
+        var proposal = new TransactionProposal(
+                TransactionProposalId.generate(),
+                LocalDate.of(2025, 12, 17),
+                "Zakupy: APTEKA",
+                new BigDecimal("-239.22"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                categoryId);
+        var error = new ParseError(ErrorType.INVALID_DATE_FORMAT, 2, "Invalid date format: x");
+        var result = new CsvParseResult(List.of(proposal), List.of(error), 2, 1, 1);
+        var job = ImportJob.queued(AccountId.generate(), testGroupId);
+        importJobRepository.create(job, leaseExpiresIn(2));
+
+        // when
+        var updated = importJobRepository.update(job.parsing(2).completed(result));
+
+        // then
+        assertThat(updated).isTrue();
+        var found = importJobRepository.findById(job.id(), testGroupId).orElseThrow();
+        assertThat(found.status()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(found.parsedRows()).isEqualTo(2);
+        assertThat(found.result().proposals()).containsExactly(proposal);
+        assertThat(found.result().errors()).containsExactly(error);
+        assertThat(found.result().totalRows()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPersistFailure() {
+        // given
+        var job = ImportJob.queued(AccountId.generate(), testGroupId);
+        importJobRepository.create(job, leaseExpiresIn(2));
+
+        // when
+        importJobRepository.update(job.failed(ErrorType.INVALID_FILE, "CSV file is empty"));
+
+        // then
+        var found = importJobRepository.findById(job.id(), testGroupId).orElseThrow();
+        assertThat(found.status()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(found.errorType()).isEqualTo(ErrorType.INVALID_FILE);
+        assertThat(found.errorMessage()).isEqualTo("CSV file is empty");
+    }
+
+    @Test
+    void shouldNotFindJobOfAnotherGroup() {
+        // given
+        var job = ImportJob.queued(AccountId.generate(), testGroupId);
+        importJobRepository.create(job, leaseExpiresIn(2));
+
+        // when
+        var found = importJobRepository.findById(job.id(), new GroupId(randomUUID()));
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void shouldNotOverwriteFinishedJob() {
+        // given
+        var job = ImportJob.queued(AccountId.generate(), testGroupId);
+        importJobRepository.create(job, leaseExpiresIn(2));
+        importJobRepository.update(job.interrupted());
+        var emptyResult = new CsvParseResult(List.of(), List.of(), 0, 0, 0);
+
+        // when
+        var updated = importJobRepository.update(job.parsing(0).completed(emptyResult));
+
+        // then
+        assertThat(updated).isFalse();
+        var found = importJobRepository.findById(job.id(), testGroupId).orElseThrow();
+        assertThat(found.status()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(found.errorType()).isEqualTo(ErrorType.IMPORT_INTERRUPTED);
+    }
+
+    @Test
+    void shouldFailOnlyJobsWhoseLeaseExpired() {
+        // given
+        var abandonedJob = ImportJob.queued(AccountId.generate(), testGroupId);
+        var runningJob = ImportJob.queued(AccountId.generate(), testGroupId);
+        importJobRepository.create(abandonedJob, leaseExpiresIn(-1));
+        importJobRepository.create(runningJob, leaseExpiresIn(-1));
+        importJobRepository.renewLeases(List.of(runningJob.id()), leaseExpiresIn(2));
+        var now = OffsetDateTime.now();
+
+        // when
+        var expired = importJobRepository.findWithExpiredLease(now);
+        var abandonedFailed = importJobRepository.updateIfLeaseExpired(abandonedJob.interrupted(), now);
+        var runningFailed = importJobRepository.updateIfLeaseExpired(runningJob.interrupted(), now);
+
+        // then
+        assertThat(expired).extracting(ImportJob::id).contains(abandonedJob.id()).doesNotContain(runningJob.id());
+        assertThat(abandonedFailed).isTrue();
+        assertThat(runningFailed).isFalse();
+        assertThat(importJobRepository.findById(runningJob.id(), testGroupId).orElseThrow().status())
+                .isEqualTo(ImportJobStatus.QUEUED);
+    }
+
+    private static OffsetDateTime leaseExpiresIn(long minutes) {
+        return OffsetDateTime.now().plusMinutes(minutes);
+    }
+}
@@ -0,0 +1,124 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.csvimport.domain.*;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaImportSessionRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+
+    @Autowired
+    private ImportSessionRepository importSessionRepository;
+
+    @Test
+    void shouldStoreAndFindSessionWithStagedTransactions() {
+        // given
+        var staged = new StagedTransaction(proposal(CategoryId.generate()), new TransactionHash("a".repeat(64)));
+        var uncategorized = new StagedTransaction(proposal(null), new TransactionHash("b".repeat(64)));
+        var session = ImportSession.create(
+                AccountId.generate(), testGroupId, List.of(staged, uncategorized), Duration.ofHours(1));
+
+        // when
+        importSessionRepository.store(session);
+
+        // then
+        var found = importSessionRepository.findById(session.id(), testGroupId);
+        assertThat(found).isPresent();
+        assertThat(found.get().accountId()).isEqualTo(session.accountId());
+        assertThat(found.get().transactions()).containsExactly(staged, uncategorized);
+    }
+
+    @Test
+    void shouldNotFindSessionOfAnotherGroup() {
+        // given
+        var session = ImportSession.create(AccountId.generate(), testGroupId, List.of(), Duration.ofHours(1));
+        importSessionRepository.store(session);
+
+        // when
+        var found = importSessionRepository.findById(session.id(), new GroupId(randomUUID()));
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void shouldFindSessionForUpdateOnlyInOwnGroup() {
+        // given
+        var session = ImportSession.create(AccountId.generate(), testGroupId, List.of(), Duration.ofHours(1));
+        importSessionRepository.store(session);
+
+        // when
+        var found = importSessionRepository.findByIdForUpdate(session.id(), testGroupId);
+        var foreign = importSessionRepository.findByIdForUpdate(session.id(), new GroupId(randomUUID()));
+
+        // then
+        assertThat(found).map(ImportSession::id).contains(session.id());
+        assertThat(foreign).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteSession() {
+        // given
+        var session = ImportSession.create(AccountId.generate(), testGroupId, List.of(), Duration.ofHours(1));
+        importSessionRepository.store(session);
+
+        // when
+        importSessionRepository.delete(session.id());
+
+        // then
+        assertThat(importSessionRepository.findById(session.id(), testGroupId)).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteOnlyExpiredSessions() {
+        // given
+        var createdAt = OffsetDateTime.now().minusDays(2);
+        var expired = new ImportSession(
+                ImportSessionId.generate(),
+                AccountId.generate(),
+                testGroupId,
+                List.of(),
+                createdAt,
+                createdAt.plusDays(1));
+        var active = ImportSession.create(AccountId.generate(), testGroupId, List.of(), Duration.ofHours(1));
+        importSessionRepository.store(expired);
+        importSessionRepository.store(active);
+
+        // when
+        importSessionRepository.deleteExpired(OffsetDateTime.now());
+
+        // then
+        assertThat(importSessionRepository.findById(expired.id(), testGroupId)).isEmpty();
+        assertThat(importSessionRepository.findById(active.id(), testGroupId)).isPresent();
+    }
+
+    private static TransactionProposal proposal(CategoryId categoryId) {
+        return new TransactionProposal(
+                TransactionProposalId.generate(),
+                LocalDate.of(2025, 12, 17),
+                "Zakupy: APTEKA",
+                new BigDecimal("-239.22"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                categoryId);
+    }
+}
@@ -0,0 +1,71 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermarkRepository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaImportWatermarkRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+
+    @Autowired
+    private ImportWatermarkRepository importWatermarkRepository;
+
+    @Test
+    void shouldStoreAndFindWatermark() {
+        // given
+        var watermark = new ImportWatermark(
+                AccountId.generate(),
+                testGroupId,
+                LocalDate.of(2025, 12, 18),
+                Set.of(new TransactionHash("a".repeat(64)), new TransactionHash("b".repeat(64))));
+
+        // when
+        importWatermarkRepository.store(watermark);
+
+        // then
+        assertThat(importWatermarkRepository.findByAccountId(watermark.accountId(), testGroupId))
+                .contains(watermark);
+    }
+
+    @Test
+    void shouldReplaceWatermarkOfAccount() {
+        // given
+        var accountId = AccountId.generate();
+        importWatermarkRepository.store(new ImportWatermark(
+                accountId, testGroupId, LocalDate.of(2025, 12, 18), Set.of(new TransactionHash("a".repeat(64)))));
+        var advanced = new ImportWatermark(accountId, testGroupId, LocalDate.of(2025, 12, 19), Set.of());
+
+        // when
+        importWatermarkRepository.store(advanced);
+
+        // then
+        assertThat(importWatermarkRepository.findByAccountId(accountId, testGroupId)).contains(advanced);
+    }
+
+    @Test
+    void shouldNotFindWatermarkOfAnotherGroup() {
+        // given
+        var watermark = new ImportWatermark(AccountId.generate(), testGroupId, LocalDate.of(2025, 12, 18), Set.of());
+        importWatermarkRepository.store(watermark);
+
+        // when
+        var found = importWatermarkRepository.findByAccountId(watermark.accountId(), new GroupId(randomUUID()));
+
+        // then
+        assertThat(found).isEmpty();
+    }
+}
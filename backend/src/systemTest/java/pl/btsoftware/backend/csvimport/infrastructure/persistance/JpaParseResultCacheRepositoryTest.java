@@ -0,0 +1,113 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.csvimport.domain.*;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaParseResultCacheRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+    private final AccountId testAccountId = AccountId.generate();
+
+    @Autowired
+    private ParseResultCacheRepository parseResultCacheRepository;
+
+    @Test
+    void shouldStoreAndFindResultByKey() {
+        // given
+        var proposal = new TransactionProposal(
+                TransactionProposalId.generate(),
+                LocalDate.of(2025, 12, 17),
+                "Zakupy: APTEKA",
+                new BigDecimal("-239.22"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                CategoryId.generate());
+        var result = new CsvParseResult(List.of(proposal), List.of(), 3, 1, 0, 2);
+        var key = key("a");
+
+        // when
+        parseResultCacheRepository.store(CachedParseResult.create(key, result, Duration.ofHours(1)));
+
+        // then
+        var found = parseResultCacheRepository.find(key).orElseThrow();
+        assertThat(found.result().proposals()).containsExactly(proposal);
+        assertThat(found.result().skippedCount()).isEqualTo(2);
+        assertThat(parseResultCacheRepository.find(key("b"))).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceEntryWithSameKey() {
+        // given
+        var key = key("a");
+        parseResultCacheRepository.store(CachedParseResult.create(key, result(1), Duration.ofHours(1)));
+
+        // when
+        parseResultCacheRepository.store(CachedParseResult.create(key, result(2), Duration.ofHours(1)));
+
+        // then
+        assertThat(parseResultCacheRepository.find(key).orElseThrow().result().totalRows())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldDeleteExpiredEntries() {
+        // given
+        var createdAt = OffsetDateTime.now().minusHours(2);
+        parseResultCacheRepository.store(
+                new CachedParseResult(key("expired"), result(1), createdAt, createdAt.plusHours(1)));
+        parseResultCacheRepository.store(CachedParseResult.create(key("active"), result(1), Duration.ofHours(1)));
+
+        // when
+        parseResultCacheRepository.deleteExpired(OffsetDateTime.now());
+
+        // then
+        assertThat(parseResultCacheRepository.find(key("expired"))).isEmpty();
+        assertThat(parseResultCacheRepository.find(key("active"))).isPresent();
+    }
+
+    @Test
+    void shouldDeleteOldestEntriesOfGroup() {
+        // given
+        var now = OffsetDateTime.now();
+        parseResultCacheRepository.store(
+                new CachedParseResult(key("oldest"), result(1), now.minusMinutes(3), now.plusHours(1)));
+        parseResultCacheRepository.store(
+                new CachedParseResult(key("older"), result(1), now.minusMinutes(2), now.plusHours(1)));
+        parseResultCacheRepository.store(
+                new CachedParseResult(key("newest"), result(1), now.minusMinutes(1), now.plusHours(1)));
+
+        // when
+        parseResultCacheRepository.deleteOldest(testGroupId, 2);
+
+        // then
+        assertThat(parseResultCacheRepository.find(key("oldest"))).isEmpty();
+        assertThat(parseResultCacheRepository.find(key("older"))).isPresent();
+        assertThat(parseResultCacheRepository.find(key("newest"))).isPresent();
+    }
+
+    private ParseResultCacheKey key(String digest) {
+        return new ParseResultCacheKey(testGroupId, testAccountId, digest, "version");
+    }
+
+    private static CsvParseResult result(int totalRows) {
+        return new CsvParseResult(List.of(), List.of(), totalRows, 0, totalRows);
+    }
+}
@@ -0,0 +1,216 @@
+package pl.btsoftware.backend.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.btsoftware.backend.shared.Currency.PLN;
+import static pl.btsoftware.backend.shared.TransactionType.EXPENSE;
+import static pl.btsoftware.backend.shared.TransactionType.INCOME;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.account.application.CreateAccountCommand;
+import pl.btsoftware.backend.category.CategoryModuleFacade;
+import pl.btsoftware.backend.category.application.CreateCategoryCommand;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.CategoryType;
+import pl.btsoftware.backend.shared.Color;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.application.BackfillService;
+import pl.btsoftware.backend.transaction.application.BulkCreateTransactionCommand;
+import pl.btsoftware.backend.transaction.application.CreateTransactionCommand;
+import pl.btsoftware.backend.transaction.application.TransactionService;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.transaction.domain.TransactionSearchCriteria;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.TransactionCommandFixture;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.application.RegisterUserCommand;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@SystemTest
+@Slf4j
+public class BackfillServiceTest {
+    private static final int BENCHMARK_ROWS = 20_000;
+
+    @Autowired
+    private BackfillService backfillService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountModuleFacade accountModuleFacade;
+
+    @Autowired
+    private UsersModuleFacade usersModuleFacade;
+
+    @Autowired
+    private CategoryModuleFacade categoryModuleFacade;
+
+    @Autowired
+    private CategoryUsageRepository categoryUsageRepository;
+
+    @Autowired
+    private MerchantCategoryRepository merchantCategoryRepository;
+
+    @Test
+    void shouldBackfillTransactionsSkippingStoredDuplicates() throws IOException {
+        // given
+        var userId = createTestUser();
+        var incomeCategory = createCategory(userId, CategoryType.INCOME);
+        var expenseCategory = createCategory(userId, CategoryType.EXPENSE);
+        var accountId = createAccount(userId);
+        var stored = command(accountId, "100.00", "Salary", INCOME, incomeCategory, userId);
+        transactionService.createTransaction(stored);
+
+        // when
+        var result = backfillService.backfill(accountId, userId, sink -> {
+            sink.add(1, command(accountId, "100.00", "Salary", INCOME, incomeCategory, userId));
+            sink.add(2, command(accountId, "30.00", "Coffee\tshop \\ downtown", EXPENSE, expenseCategory, userId));
+            sink.add(3, command(accountId, "30.00", "Coffee\tshop \\ downtown", EXPENSE, expenseCategory, userId));
+            sink.add(4, command(accountId, "50.00", "Refund", INCOME, incomeCategory, userId));
+            sink.add(5, command(accountId, "10.00", "Unknown", EXPENSE, CategoryId.generate(), userId));
+            return sink.finish();
+        });
+
+        // then
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.savedCount()).isEqualTo(3);
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.errorCount()).isEqualTo(1);
+        assertThat(result.errors()).singleElement().satisfies(error -> assertThat(error.row())
+                .isEqualTo(5));
+
+        var account = accountModuleFacade.getAccount(accountId, userId);
+        assertThat(account.balance().value()).isEqualByComparingTo(new BigDecimal("90.00"));
+
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        var transactions = transactionService.getAllTransactions(
+                TransactionSearchCriteria.empty(), user.groupId(), Pageable.ofSize(20));
+        assertThat(transactions).hasSize(4);
+        assertThat(transactions)
+                .anySatisfy(transaction -> assertThat(transaction.description()).isEqualTo("Coffee\tshop \\ downtown"));
+        assertThat(categoryUsageRepository.countTransactions(expenseCategory, user.groupId()))
+                .isEqualTo(2);
+        assertThat(categoryUsageRepository.countTransactions(incomeCategory, user.groupId()))
+                .isEqualTo(2);
+        assertThat(merchantCategoryRepository.findAll(user.groupId()))
+                .containsEntry(MerchantKey.of("Coffee shop downtown", EXPENSE), expenseCategory);
+    }
+
+    @Test
+    void shouldRollBackBackfillWhenSourceFails() {
+        // given
+        var userId = createTestUser();
+        var incomeCategory = createCategory(userId, CategoryType.INCOME);
+        var accountId = createAccount(userId);
+
+        // when & then
+        assertThatThrownBy(() -> backfillService.backfill(accountId, userId, sink -> {
+                    sink.add(1, command(accountId, "100.00", "Salary", INCOME, incomeCategory, userId));
+                    throw new IOException("Connection reset");
+                }))
+                .isInstanceOf(IOException.class);
+
+        var account = accountModuleFacade.getAccount(accountId, userId);
+        assertThat(account.balance().value()).isEqualByComparingTo(BigDecimal.ZERO);
+        var user = usersModuleFacade.findUserOrThrow(userId);
+        assertThat(transactionService.getAllTransactions(
+                        TransactionSearchCriteria.empty(), user.groupId(), Pageable.ofSize(20)))
+                .isEmpty();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void shouldCompareBackfillThroughputWithBulkCreate() throws IOException {
+        // given
+        var userId = createTestUser();
+        var expenseCategory = createCategory(userId, CategoryType.EXPENSE);
+        var bulkAccountId = createAccount(userId);
+        var backfillAccountId = createAccount(userId);
+        var bulkCommands = commands(bulkAccountId, expenseCategory, userId);
+        var backfillCommands = commands(backfillAccountId, expenseCategory, userId);
+
+        // when
+        var bulkStart = System.nanoTime();
+        transactionService.bulkCreateTransactions(
+                new BulkCreateTransactionCommand(bulkAccountId, bulkCommands), userId);
+        var bulkNanos = System.nanoTime() - bulkStart;
+
+        var backfillStart = System.nanoTime();
+        var result = backfillService.backfill(backfillAccountId, userId, sink -> {
+            for (var i = 0; i < backfillCommands.size(); i++) {
+                sink.add(i + 1, backfillCommands.get(i));
+            }
+            return sink.finish();
+        });
+        var backfillNanos = System.nanoTime() - backfillStart;
+
+        // then
+        assertThat(result.savedCount()).isEqualTo(BENCHMARK_ROWS);
+        log.info(
+                "Inserted {} rows: bulk create {} rows/s, COPY backfill {} rows/s",
+                BENCHMARK_ROWS,
+                rowsPerSecond(bulkNanos),
+                rowsPerSecond(backfillNanos));
+    }
+
+    private ArrayList<CreateTransactionCommand> commands(AccountId accountId, CategoryId categoryId, UserId userId) {
+        var commands = new ArrayList<CreateTransactionCommand>(BENCHMARK_ROWS);
+        for (var i = 0; i < BENCHMARK_ROWS; i++) {
+            commands.add(command(accountId, "1.00", "Purchase " + i, EXPENSE, categoryId, userId));
+        }
+        return commands;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return BENCHMARK_ROWS * 1_000_000_000L / Math.max(1, nanos);
+    }
+
+    private static CreateTransactionCommand command(
+            AccountId accountId,
+            String amount,
+            String description,
+            TransactionType type,
+            CategoryId categoryId,
+            UserId userId) {
+        return TransactionCommandFixture.createCommand(
+                accountId,
+                Money.of(new BigDecimal(amount), PLN),
+                description,
+                LocalDate.of(2020, 1, 15),
+                type,
+                categoryId,
+                userId);
+    }
+
+    private AccountId createAccount(UserId userId) {
+        var name = "Account-" + UUID.randomUUID().toString().substring(0, 8);
+        return accountModuleFacade.createAccount(new CreateAccountCommand(name, PLN, userId)).id();
+    }
+
+    private CategoryId createCategory(UserId userId, CategoryType type) {
+        var command = new CreateCategoryCommand("Backfill " + type, type, Color.of("#4CAF50"), userId);
+        return categoryModuleFacade.createCategory(command).id();
+    }
+
+    private UserId createTestUser() {
+        var suffix = UUID.randomUUID().toString();
+        var command = new RegisterUserCommand(
+                "test-auth-id-" + suffix, "test" + suffix + "@example.com", "Test User", "Test Group " + suffix, null);
+        return usersModuleFacade.registerUser(command).id();
+    }
+}
@@ -0,0 +1,51 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaBulkImportCursorRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+
+    @Autowired
+    private BulkImportCursorRepository bulkImportCursorRepository;
+
+    @Test
+    void shouldStoreAdvancedCursor() {
+        // given
+        var cursor = BulkImportCursor.start(BulkImportId.from(randomUUID()), AccountId.generate(), testGroupId, 10);
+        bulkImportCursorRepository.store(cursor);
+
+        // when
+        bulkImportCursorRepository.store(cursor.advance(5, 3, 1, 1));
+
+        // then
+        assertThat(bulkImportCursorRepository.findById(cursor.id(), testGroupId))
+                .contains(cursor.advance(5, 3, 1, 1));
+    }
+
+    @Test
+    void shouldNotExposeCursorOfOtherGroup() {
+        // given
+        var cursor = BulkImportCursor.start(BulkImportId.from(randomUUID()), AccountId.generate(), testGroupId, 10);
+        bulkImportCursorRepository.store(cursor);
+
+        // when
+        var found = bulkImportCursorRepository.findById(cursor.id(), new GroupId(randomUUID()));
+
+        // then
+        assertThat(found).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaCategoryUsageRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+
+    @Autowired
+    private CategoryUsageRepository categoryUsageRepository;
+
+    @Test
+    void shouldReturnZeroForUnusedCategory() {
+        // when
+        var count = categoryUsageRepository.countTransactions(CategoryId.generate(), testGroupId);
+
+        // then
+        assertThat(count).isZero();
+    }
+
+    @Test
+    void shouldAccumulateAdjustments() {
+        // given
+        var categoryId = CategoryId.generate();
+
+        // when
+        categoryUsageRepository.adjust(Map.of(categoryId, 2L), testGroupId);
+        categoryUsageRepository.adjust(Map.of(categoryId, -1L), testGroupId);
+
+        // then
+        assertThat(categoryUsageRepository.countTransactions(categoryId, testGroupId)).isEqualTo(1);
+        assertThat(categoryUsageRepository.findAll(testGroupId)).containsEntry(categoryId, 1L);
+    }
+
+    @Test
+    void shouldNotExposeUsageOfOtherGroup() {
+        // given
+        var categoryId = CategoryId.generate();
+        categoryUsageRepository.adjust(Map.of(categoryId, 1L), testGroupId);
+
+        // when
+        var count = categoryUsageRepository.countTransactions(categoryId, new GroupId(randomUUID()));
+
+        // then
+        assertThat(count).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import pl.btsoftware.backend.configuration.SystemTest;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@SystemTest
+@Transactional
+public class JpaMerchantCategoryRepositoryTest {
+
+    private final GroupId testGroupId = new GroupId(randomUUID());
+
+    @Autowired
+    private MerchantCategoryRepository merchantCategoryRepository;
+
+    @Test
+    void shouldReturnLastRememberedCategory() {
+        // given
+        var key = MerchantKey.of("Biedronka", TransactionType.EXPENSE);
+        var newCategoryId = CategoryId.generate();
+        merchantCategoryRepository.remember(Map.of(key, CategoryId.generate()), testGroupId);
+
+        // when
+        merchantCategoryRepository.remember(Map.of(key, newCategoryId), testGroupId);
+
+        // then
+        assertThat(merchantCategoryRepository.findAll(testGroupId)).containsExactly(Map.entry(key, newCategoryId));
+    }
+
+    @Test
+    void shouldKeepCategoriesPerTransactionType() {
+        // given
+        var expenseKey = MerchantKey.of("Allegro", TransactionType.EXPENSE);
+        var incomeKey = MerchantKey.of("Allegro", TransactionType.INCOME);
+        var expenseCategoryId = CategoryId.generate();
+        var incomeCategoryId = CategoryId.generate();
+
+        // when
+        merchantCategoryRepository.remember(Map.of(expenseKey, expenseCategoryId), testGroupId);
+        merchantCategoryRepository.remember(Map.of(incomeKey, incomeCategoryId), testGroupId);
+
+        // then
+        assertThat(merchantCategoryRepository.findAll(testGroupId))
+                .containsOnly(Map.entry(expenseKey, expenseCategoryId), Map.entry(incomeKey, incomeCategoryId));
+    }
+
+    @Test
+    void shouldNotExposeCategoriesOfOtherGroup() {
+        // given
+        var key = MerchantKey.of("Orlen", TransactionType.EXPENSE);
+        merchantCategoryRepository.remember(Map.of(key, CategoryId.generate()), testGroupId);
+
+        // when
+        var categories = merchantCategoryRepository.findAll(new GroupId(randomUUID()));
+
+        // then
+        assertThat(categories).isEmpty();
+    }
+
+    @Test
+    void shouldBumpVersionWhenCategoriesAreRemembered() {
+        // given
+        var key = MerchantKey.of("Rossmann", TransactionType.EXPENSE);
+        var initialVersion = merchantCategoryRepository.findVersion(testGroupId);
+
+        // when
+        merchantCategoryRepository.remember(Map.of(key, CategoryId.generate()), testGroupId);
+        merchantCategoryRepository.remember(Map.of(), testGroupId);
+
+        // then
+        assertThat(initialVersion).isZero();
+        assertThat(merchantCategoryRepository.findVersion(testGroupId)).isEqualTo(1);
+    }
+}
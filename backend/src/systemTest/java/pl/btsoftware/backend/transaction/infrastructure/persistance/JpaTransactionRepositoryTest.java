@@ -105,6 +105,24 @@ public class JpaTransactionRepositoryTest {
         assertThat(retrievedTransaction.get().ownedBy()).isEqualTo(testGroupId);
     }
 
+    @Test
+    void shouldBumpHashesVersionOnEveryStore() {
+        // given
+        var accountId = AccountId.generate();
+        var transaction = createTransaction(
+                accountId, Money.of(TEN, PLN), "Pharmacy", EXPENSE, CategoryId.generate(), createAuditInfo());
+
+        // when
+        var initialVersion = transactionRepository.findHashesVersion(accountId);
+        transactionRepository.store(transaction);
+        transactionRepository.store(transaction.delete());
+
+        // then
+        assertThat(initialVersion).isZero();
+        assertThat(transactionRepository.findHashesVersion(accountId)).isEqualTo(2);
+        assertThat(transactionRepository.findHashesVersion(AccountId.generate())).isZero();
+    }
+
     @Test
     void shouldReturnEmptyWhenTransactionNotFound() {
         // given
@@ -375,53 +393,6 @@ public class JpaTransactionRepositoryTest {
         assertThat(accountTransactions).extracting("type").containsExactlyInAnyOrder(INCOME, EXPENSE);
     }
 
-    @Test
-    void shouldReturnTrueWhenTransactionsExistForCategory() {
-        // given
-        var categoryId = CategoryId.generate();
-        var accountId = AccountId.generate();
-        var auditInfo = createAuditInfo();
-        var transaction = createTransaction(
-                accountId, Money.of(new BigDecimal("100.00"), PLN), "Test transaction", EXPENSE, categoryId, auditInfo);
-        transactionRepository.store(transaction);
-
-        // when
-        var exists = transactionRepository.existsByCategoryId(categoryId, testGroupId);
-
-        // then
-        assertThat(exists).isTrue();
-    }
-
-    @Test
-    void shouldReturnFalseWhenOnlyDeletedTransactionsExistForCategory() {
-        // given
-        var categoryId = CategoryId.generate();
-        var accountId = AccountId.generate();
-        var auditInfo = createAuditInfo();
-        var transaction = createTransaction(
-                accountId, Money.of(new BigDecimal("100.00"), PLN), "Test transaction", EXPENSE, categoryId, auditInfo);
-        var deletedTransaction = transaction.delete();
-        transactionRepository.store(deletedTransaction);
-
-        // when
-        var exists = transactionRepository.existsByCategoryId(categoryId, testGroupId);
-
-        // then
-        assertThat(exists).isFalse();
-    }
-
-    @Test
-    void shouldReturnFalseWhenNoTransactionsExistForCategory() {
-        // given
-        var categoryId = CategoryId.generate();
-
-        // when
-        var exists = transactionRepository.existsByCategoryId(categoryId, testGroupId);
-
-        // then
-        assertThat(exists).isFalse();
-    }
-
     @Test
     void shouldFilterTransactionsByType() {
         // given
@@ -0,0 +1,220 @@
+package pl.btsoftware.backend.ai.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GeminiBulkheadTest {
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Test
+    void shouldReturnCallResult() {
+        // given
+        var bulkhead = bulkhead(1, 0, 0);
+
+        // when
+        var result = bulkhead.submit(() -> "response", true);
+
+        // then
+        assertThat(result).succeedsWithin(WAIT).isEqualTo("response");
+    }
+
+    @Test
+    void shouldRejectCallWhenQueueIsFull() throws InterruptedException {
+        // given
+        var bulkhead = bulkhead(1, 1, 0);
+        var release = new CountDownLatch(1);
+        var running = bulkhead.submit(() -> release.await(WAIT.toSeconds(), TimeUnit.SECONDS), true);
+        var queued = bulkhead.submit(() -> "queued", true);
+
+        // when
+        var rejected = bulkhead.submit(() -> "rejected", true);
+
+        // then
+        assertThat(rejected)
+                .failsWithin(WAIT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(GeminiClientException.class)
+                .withMessageContaining("Too many Gemini API calls");
+        release.countDown();
+        assertThat(running).succeedsWithin(WAIT);
+        assertThat(queued).succeedsWithin(WAIT).isEqualTo("queued");
+    }
+
+    @Test
+    void shouldHoldPermitUntilCancelledCallReturns() throws InterruptedException {
+        // given
+        var bulkhead = bulkhead(1, 1, 0);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var cancelled = bulkhead.submit(
+                () -> {
+                    started.countDown();
+                    awaitIgnoringInterrupts(release);
+                    return "cancelled";
+                },
+                true);
+        started.await(WAIT.toSeconds(), TimeUnit.SECONDS);
+        var attempts = new AtomicInteger();
+
+        // when
+        cancelled.cancel(true);
+        var next = bulkhead.submit(attempts::incrementAndGet, true);
+
+        // then
+        assertThat(next).isNotDone();
+        assertThat(attempts).hasValue(0);
+        release.countDown();
+        assertThat(next).succeedsWithin(WAIT).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectCallAfterClose() {
+        // given
+        var bulkhead = bulkhead(1, 0, 0);
+
+        // when
+        bulkhead.close();
+        var result = bulkhead.submit(() -> "response", true);
+
+        // then
+        assertThat(result).failsWithin(WAIT);
+    }
+
+    @Test
+    void shouldRetryTransientFailure() {
+        // given
+        var bulkhead = bulkhead(1, 0, 3);
+        var attempts = new AtomicInteger();
+
+        // when
+        var result = bulkhead.submit(
+                () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new GeminiClientException("Service unavailable", null, true);
+                    }
+                    return "response";
+                },
+                true);
+
+        // then
+        assertThat(result).succeedsWithin(WAIT).isEqualTo("response");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void shouldNotRetryPermanentFailure() {
+        // given
+        var bulkhead = bulkhead(1, 0, 3);
+        var attempts = new AtomicInteger();
+
+        // when
+        var result = bulkhead.submit(
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new GeminiClientException("Invalid request");
+                },
+                true);
+
+        // then
+        assertThat(result).failsWithin(WAIT);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRetryNonRetryableCall() {
+        // given
+        var bulkhead = bulkhead(1, 0, 3);
+        var attempts = new AtomicInteger();
+
+        // when
+        var result = bulkhead.submit(
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new GeminiClientException("Service unavailable", null, true);
+                },
+                false);
+
+        // then
+        assertThat(result).failsWithin(WAIT);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldInterruptCallWhenCancelled() throws InterruptedException {
+        // given
+        var bulkhead = bulkhead(1, 0, 0);
+        var started = new CountDownLatch(1);
+        var interrupted = new CompletableFuture<Boolean>();
+        var result = bulkhead.submit(
+                () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(WAIT);
+                        interrupted.complete(false);
+                    } catch (InterruptedException e) {
+                        interrupted.complete(true);
+                    }
+                    return "response";
+                },
+                true);
+        started.await(WAIT.toSeconds(), TimeUnit.SECONDS);
+
+        // when
+        result.cancel(true);
+
+        // then
+        assertThat(interrupted).succeedsWithin(WAIT).isEqualTo(true);
+    }
+
+    @Test
+    void shouldFailFastWhenCircuitIsOpen() {
+        // given
+        var circuitBreaker = new GeminiCircuitBreaker(WAIT, WAIT, new SimpleMeterRegistry());
+        var bulkhead = new GeminiBulkhead(1, 0, 0, circuitBreaker);
+        for (var i = 0; i < 10; i++) {
+            assertThat(bulkhead.submit(
+                            () -> {
+                                throw new GeminiClientException("Service unavailable");
+                            },
+                            true))
+                    .failsWithin(WAIT);
+        }
+        var attempts = new AtomicInteger();
+
+        // when
+        var result = bulkhead.submit(attempts::incrementAndGet, true);
+
+        // then
+        assertThat(result)
+                .failsWithin(WAIT)
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("circuit breaker is open");
+        assertThat(attempts).hasValue(0);
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                // simulates a blocking HTTP call that does not honour interrupts
+            }
+        }
+    }
+
+    private static GeminiBulkhead bulkhead(int maxConcurrentCalls, int maxQueuedCalls, int retries) {
+        return new GeminiBulkhead(
+                maxConcurrentCalls,
+                maxQueuedCalls,
+                retries,
+                new GeminiCircuitBreaker(WAIT, WAIT, new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,179 @@
+package pl.btsoftware.backend.ai.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.ai.infrastructure.client.GeminiCircuitBreaker.State;
+
+class GeminiCircuitBreakerTest {
+    private static final Duration SLOW_CALL_DURATION = Duration.ofSeconds(10);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldStayClosedWhenCallsSucceed() throws Exception {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+
+        // when
+        for (var i = 0; i < 20; i++) {
+            circuitBreaker.call(() -> "response");
+        }
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.isCallPermitted()).isTrue();
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateExceedsThreshold() {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+
+        // when
+        fail(circuitBreaker, 10);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.isCallPermitted()).isFalse();
+        assertThat(meterRegistry
+                        .get("gemini.circuit.breaker.transitions")
+                        .tag("from", "closed")
+                        .tag("to", "open")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("gemini.circuit.breaker.state")
+                        .tag("state", "open")
+                        .gauge()
+                        .value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotOpenBeforeMinimumNumberOfCalls() {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+
+        // when
+        fail(circuitBreaker, 9);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void shouldCountSlowCallsAsFailures() throws Exception {
+        // given
+        var circuitBreaker = new GeminiCircuitBreaker(Duration.ZERO, Duration.ofMinutes(1), meterRegistry);
+
+        // when
+        for (var i = 0; i < 10; i++) {
+            circuitBreaker.call(() -> "slow response");
+        }
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(meterRegistry
+                        .get("gemini.circuit.breaker.calls")
+                        .tag("outcome", "slow_success")
+                        .counter()
+                        .count())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void shouldRejectCallsWithoutInvokingThemWhenOpen() {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+        fail(circuitBreaker, 10);
+        var attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> circuitBreaker.call(attempts::incrementAndGet))
+                .isInstanceOf(GeminiClientException.class)
+                .hasMessageContaining("circuit breaker is open");
+        assertThat(attempts).hasValue(0);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbes() throws Exception {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ZERO);
+        fail(circuitBreaker, 10);
+
+        // when
+        for (var i = 0; i < 3; i++) {
+            circuitBreaker.call(() -> "response");
+        }
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(meterRegistry
+                        .get("gemini.circuit.breaker.transitions")
+                        .tag("from", "half_open")
+                        .tag("to", "closed")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() throws Exception {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ZERO);
+        fail(circuitBreaker, 10);
+        circuitBreaker.call(() -> "response");
+
+        // when
+        fail(circuitBreaker, 1);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void shouldLimitConcurrentProbesWhenHalfOpen() throws Exception {
+        // given
+        var circuitBreaker = circuitBreaker(Duration.ZERO);
+        fail(circuitBreaker, 10);
+        var rejected = new AtomicInteger();
+
+        // when
+        circuitBreaker.call(() -> circuitBreaker.call(() -> circuitBreaker.call(() -> {
+            try {
+                return circuitBreaker.call(() -> "fourth probe");
+            } catch (GeminiClientException e) {
+                return rejected.incrementAndGet();
+            }
+        })));
+
+        // then
+        assertThat(rejected).hasValue(1);
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    private GeminiCircuitBreaker circuitBreaker(Duration openDuration) {
+        return new GeminiCircuitBreaker(SLOW_CALL_DURATION, openDuration, meterRegistry);
+    }
+
+    private static void fail(GeminiCircuitBreaker circuitBreaker, int calls) {
+        for (var i = 0; i < calls; i++) {
+            assertThatThrownBy(() -> circuitBreaker.call(() -> {
+                        throw new GeminiClientException("Service unavailable");
+                    }))
+                    .isInstanceOf(GeminiClientException.class);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package pl.btsoftware.backend.ai.infrastructure.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +21,7 @@ class GeminiClientTest {
         System.setProperty("gemini.enabled", "true");
         System.setProperty("GEMINI_API_KEY", "test-api-key-12345");
         config = new GeminiConfig();
-        client = new GeminiClient(config);
+        client = new GeminiClient(config, new SimpleMeterRegistry());
     }
 
     @AfterEach
@@ -30,7 +33,7 @@ class GeminiClientTest {
     @Test
     void shouldCreateClientWithConfig() {
         // given & when
-        var geminiClient = new GeminiClient(config);
+        var geminiClient = new GeminiClient(config, new SimpleMeterRegistry());
 
         // then
         assertThat(geminiClient).isNotNull();
@@ -42,7 +45,10 @@ class GeminiClientTest {
         var prompt = "Test prompt";
 
         // when & then
-        assertThatThrownBy(() -> client.generateContent(prompt)).isInstanceOf(GeminiClientException.class);
+        assertThat(client.generateContent(prompt))
+                .failsWithin(Duration.ofSeconds(30))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(GeminiClientException.class);
     }
 
     @Test
@@ -18,6 +18,8 @@ class GeminiConfigTest {
     @AfterEach
     void tearDown() {
         System.clearProperty("GEMINI_API_KEY");
+        System.clearProperty("GEMINI_MAX_CONCURRENT_REQUESTS");
+        System.clearProperty("GEMINI_MAX_QUEUED_REQUESTS");
         System.clearProperty("gemini.enabled");
     }
 
@@ -108,4 +110,60 @@ class GeminiConfigTest {
         // then
         assertThat(config.getMaxRetries()).isEqualTo(3);
     }
+
+    @Test
+    void shouldProvideDefaultMaxConcurrentRequests() {
+        // given
+        assumeTrue(
+                System.getenv("GEMINI_MAX_CONCURRENT_REQUESTS") == null,
+                "Test skipped because GEMINI_MAX_CONCURRENT_REQUESTS environment variable is set");
+        System.setProperty("GEMINI_API_KEY", "test-key");
+
+        // when
+        var config = new GeminiConfig();
+
+        // then
+        assertThat(config.getMaxConcurrentRequests()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReadMaxConcurrentRequestsFromSystemProperty() {
+        // given
+        System.setProperty("GEMINI_API_KEY", "test-key");
+        System.setProperty("GEMINI_MAX_CONCURRENT_REQUESTS", "8");
+
+        // when
+        var config = new GeminiConfig();
+
+        // then
+        assertThat(config.getMaxConcurrentRequests()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldProvideDefaultMaxQueuedRequests() {
+        // given
+        assumeTrue(
+                System.getenv("GEMINI_MAX_QUEUED_REQUESTS") == null,
+                "Test skipped because GEMINI_MAX_QUEUED_REQUESTS environment variable is set");
+        System.setProperty("GEMINI_API_KEY", "test-key");
+
+        // when
+        var config = new GeminiConfig();
+
+        // then
+        assertThat(config.getMaxQueuedRequests()).isEqualTo(256);
+    }
+
+    @Test
+    void shouldReadMaxQueuedRequestsFromSystemProperty() {
+        // given
+        System.setProperty("GEMINI_API_KEY", "test-key");
+        System.setProperty("GEMINI_MAX_QUEUED_REQUESTS", "64");
+
+        // when
+        var config = new GeminiConfig();
+
+        // then
+        assertThat(config.getMaxQueuedRequests()).isEqualTo(64);
+    }
 }
@@ -12,6 +12,7 @@ import pl.btsoftware.backend.account.domain.AuditInfo;
 import pl.btsoftware.backend.category.domain.Category;
 import pl.btsoftware.backend.category.infrastructure.persistance.InMemoryCategoryRepository;
 import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.CategoryType;
 import pl.btsoftware.backend.shared.Tombstone;
 import pl.btsoftware.backend.users.domain.GroupId;
 
@@ -105,4 +106,58 @@ class CategoryQueryFacadeTest {
             assertThat(allExist).isFalse();
         }
     }
+
+    @Nested
+    class FindExistingCategories {
+
+        @Test
+        void shouldReturnOnlyActiveCategoriesOfGroup() {
+            // given
+            var groupId = GroupId.generate();
+            var active = Instancio.of(Category.class)
+                    .set(field(AuditInfo::fromGroup), groupId)
+                    .set(field(Category::tombstone), Tombstone.active())
+                    .set(field(Category::name), "Test Category")
+                    .create();
+            var deleted = Instancio.of(Category.class)
+                    .set(field(AuditInfo::fromGroup), groupId)
+                    .set(field(Category::tombstone), Tombstone.deleted())
+                    .set(field(Category::name), "Test Category")
+                    .create();
+            categoryRepository.store(active);
+            categoryRepository.store(deleted);
+
+            // when
+            var existing = categoryQueryFacade.findExistingCategories(
+                    Set.of(active.id(), deleted.id(), CategoryId.generate()), groupId);
+
+            // then
+            assertThat(existing).containsExactly(active.id());
+        }
+    }
+
+    @Nested
+    class FindVersion {
+
+        @Test
+        void shouldCountCategoriesOfTypeInGroup() {
+            // given
+            var groupId = GroupId.generate();
+            var category = Instancio.of(Category.class)
+                    .set(field(AuditInfo::fromGroup), groupId)
+                    .set(field(Category::tombstone), Tombstone.active())
+                    .set(field(Category::type), CategoryType.EXPENSE)
+                    .set(field(Category::name), "Test Category")
+                    .create();
+            categoryRepository.store(category);
+
+            // when
+            var expenseVersion = categoryQueryFacade.findVersion(CategoryType.EXPENSE, groupId);
+            var incomeVersion = categoryQueryFacade.findVersion(CategoryType.INCOME, groupId);
+
+            // then
+            assertThat(expenseVersion.categories()).isEqualTo(1);
+            assertThat(incomeVersion.categories()).isZero();
+        }
+    }
 }
@@ -18,6 +18,7 @@ import static pl.btsoftware.backend.shared.JwtTokenFixture.createTokenFor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.Map;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -155,6 +156,25 @@ public class CategoryControllerTest {
                 .andExpect(jsonPath("$.categories[1].type").value(type.name()));
     }
 
+    @Test
+    void shouldGetCategoryUsage() throws Exception {
+        // given
+        var userId = UserId.generate();
+        var categoryId = CategoryId.generate();
+
+        when(categoryModuleFacade.getTransactionCounts(userId)).thenReturn(Map.of(categoryId, 3L));
+
+        // when & then
+        mockMvc.perform(get("/api/categories/usage")
+                        .contentType(APPLICATION_JSON)
+                        .with(createTokenFor(userId.value())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories", hasSize(1)))
+                .andExpect(
+                        jsonPath("$.categories[0].categoryId").value(categoryId.value().toString()))
+                .andExpect(jsonPath("$.categories[0].transactionCount").value(3));
+    }
+
     @Test
     void shouldReturnEmptyListWhenNoCategoriesExistForType() throws Exception {
         // given
@@ -1,13 +1,17 @@
 package pl.btsoftware.backend.category.infrastructure.persistance;
 
+import java.time.OffsetDateTime;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import pl.btsoftware.backend.category.domain.Category;
 import pl.btsoftware.backend.category.domain.CategoryRepository;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
 import pl.btsoftware.backend.shared.CategoryId;
 import pl.btsoftware.backend.shared.CategoryType;
 import pl.btsoftware.backend.users.domain.GroupId;
@@ -49,4 +53,24 @@ public class InMemoryCategoryRepository implements CategoryRepository {
                         ids.contains(category.id()) && category.ownedBy().equals(groupId) && !category.isDeleted())
                 .toList();
     }
+
+    @Override
+    public CategoryVersion findVersion(CategoryType type, GroupId groupId) {
+        var categories = database.values().stream()
+                .filter(category -> category.type().equals(type) && category.ownedBy().equals(groupId))
+                .toList();
+        return new CategoryVersion(
+                categories.size(),
+                latest(categories.stream().map(Category::lastUpdatedAt).toList()),
+                latest(categories.stream()
+                        .map(category -> category.tombstone().deletedAt())
+                        .toList()));
+    }
+
+    private static OffsetDateTime latest(List<OffsetDateTime> timestamps) {
+        return timestamps.stream()
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
 }
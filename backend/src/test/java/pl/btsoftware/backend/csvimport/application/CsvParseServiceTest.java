@@ -5,16 +5,31 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.Select.field;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static pl.btsoftware.backend.csvimport.domain.ErrorType.*;
 import static pl.btsoftware.backend.csvimport.domain.TransactionProposalId.generate;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -22,10 +37,22 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import pl.btsoftware.backend.account.AccountModuleFacade;
 import pl.btsoftware.backend.account.domain.Account;
+import pl.btsoftware.backend.category.CategoryQueryFacade;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
 import pl.btsoftware.backend.csvimport.domain.CategorySuggestion;
 import pl.btsoftware.backend.csvimport.domain.CategorySuggestionService;
 import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.ImportProgress;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCache;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposal;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryImportWatermarkRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryParseResultCacheRepository;
 import pl.btsoftware.backend.shared.*;
+import pl.btsoftware.backend.transaction.TransactionQueryFacade;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.transaction.domain.TransactionHashCalculator;
 import pl.btsoftware.backend.users.UsersModuleFacade;
 import pl.btsoftware.backend.users.domain.GroupId;
 import pl.btsoftware.backend.users.domain.User;
@@ -34,16 +61,26 @@ import pl.btsoftware.backend.users.domain.UserId;
 class CsvParseServiceTest {
 
     private CsvParseService service;
+    private AccountModuleFacade accountFacade;
+    private UsersModuleFacade usersFacade;
     private UserId userId;
     private AccountId accountId;
     private GroupId groupId;
     private CategorySuggestionService categorySuggestionService;
+    private TransactionQueryFacade transactionQueryFacade;
+    private CategoryQueryFacade categoryQueryFacade;
+    private InMemoryImportWatermarkRepository importWatermarkRepository;
+    private ParseResultCache parseResultCache;
 
     @BeforeEach
     void setUp() {
-        var accountFacade = Mockito.mock(AccountModuleFacade.class);
-        var usersFacade = Mockito.mock(UsersModuleFacade.class);
+        accountFacade = Mockito.mock(AccountModuleFacade.class);
+        usersFacade = Mockito.mock(UsersModuleFacade.class);
         categorySuggestionService = Mockito.mock(CategorySuggestionService.class);
+        transactionQueryFacade = Mockito.mock(TransactionQueryFacade.class);
+        categoryQueryFacade = Mockito.mock(CategoryQueryFacade.class);
+        importWatermarkRepository = new InMemoryImportWatermarkRepository();
+        parseResultCache = new ParseResultCache(new InMemoryParseResultCacheRepository(), Duration.ofHours(1), 10);
         groupId = GroupId.generate();
 
         userId = UserId.generate();
@@ -63,7 +100,15 @@ class CsvParseServiceTest {
         when(accountFacade.getAccount(accountId, groupId)).thenReturn(account);
 
         var parser = new MbankCsvParser();
-        service = new CsvParseService(parser, accountFacade, usersFacade, categorySuggestionService);
+        service = new CsvParseService(
+                parser,
+                accountFacade,
+                usersFacade,
+                categorySuggestionService,
+                transactionQueryFacade,
+                categoryQueryFacade,
+                importWatermarkRepository,
+                parseResultCache);
     }
 
     @Test
@@ -385,6 +430,207 @@ class CsvParseServiceTest {
         assertThat(result.proposals().getFirst().categoryId()).isNull();
     }
 
+    @Test
+    void shouldUseRememberedMerchantCategoryInsteadOfAi() {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-17;"Income description";"mKonto";"Category";100,00 PLN;;
+                2025-12-18;"Biedronka 1234";"mKonto";"Zakupy";-50,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var rememberedCategoryId = CategoryId.generate();
+        var merchantKey = MerchantKey.of("Zakupy: Biedronka", TransactionType.EXPENSE);
+        when(transactionQueryFacade.findMerchantCategories(groupId))
+                .thenReturn(Map.of(merchantKey, rememberedCategoryId));
+        when(categoryQueryFacade.findExistingCategories(Set.of(rememberedCategoryId), groupId))
+                .thenReturn(Set.of(rememberedCategoryId));
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(List.of());
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals().get(1).categoryId()).isEqualTo(rememberedCategoryId);
+        verify(categorySuggestionService)
+                .suggestCategories(argThat(proposals -> proposals.size() == 1
+                        && proposals.getFirst().type() == TransactionType.INCOME), eq(groupId));
+    }
+
+    @Test
+    void shouldSkipAiWhenAllMerchantsAreRemembered() {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"Biedronka 1234";"mKonto";"Zakupy";-50,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var rememberedCategoryId = CategoryId.generate();
+        var merchantKey = MerchantKey.of("Zakupy: Biedronka", TransactionType.EXPENSE);
+        when(transactionQueryFacade.findMerchantCategories(groupId))
+                .thenReturn(Map.of(merchantKey, rememberedCategoryId));
+        when(categoryQueryFacade.findExistingCategories(Set.of(rememberedCategoryId), groupId))
+                .thenReturn(Set.of(rememberedCategoryId));
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(rememberedCategoryId);
+        verify(categorySuggestionService, never()).suggestCategories(any(), any());
+    }
+
+    @Test
+    void shouldAskAiWhenRememberedCategoryNoLongerExists() {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"Biedronka 1234";"mKonto";"Zakupy";-50,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var merchantKey = MerchantKey.of("Zakupy: Biedronka", TransactionType.EXPENSE);
+        when(transactionQueryFacade.findMerchantCategories(groupId))
+                .thenReturn(Map.of(merchantKey, CategoryId.generate()));
+        when(categoryQueryFacade.findExistingCategories(any(), eq(groupId))).thenReturn(Set.of());
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(null);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isNull();
+        verify(categorySuggestionService).suggestCategories(any(), eq(groupId));
+    }
+
+    @Test
+    void shouldSkipAiForConfidentLocalSuggestions() {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"BIEDRONKA 1234 WARSZAWA UL";"mKonto";"Zakupy";-50,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var groceriesId = CategoryId.generate();
+        rememberMerchants(Map.of(
+                MerchantKey.of("Zakupy: Biedronka Warszawa", TransactionType.EXPENSE), groceriesId,
+                MerchantKey.of("Zakupy: Lidl Krakow", TransactionType.EXPENSE), CategoryId.generate()));
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(groceriesId);
+        verify(categorySuggestionService, never()).suggestCategories(any(), any());
+    }
+
+    @Test
+    void shouldFallBackToLocalSuggestionsWhenAiFails() {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"ORLEN STACJA KRAKOW";"mKonto";"Paliwo";-150,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var fuelId = CategoryId.generate();
+        rememberMerchants(Map.of(MerchantKey.of("Paliwo: Orlen stacja Gdansk", TransactionType.EXPENSE), fuelId));
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(null);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(fuelId);
+    }
+
+    @Test
+    void shouldReuseCategorizationHistoryUntilMerchantMemoryChanges() {
+        // given
+        var groceriesId = CategoryId.generate();
+        rememberMerchants(Map.of(MerchantKey.of("Zakupy: Biedronka", TransactionType.EXPENSE), groceriesId));
+        when(transactionQueryFacade.findMerchantCategoriesVersion(groupId)).thenReturn(1L);
+
+        // when
+        service.parse(new ParseCsvCommand(
+                createMbankTransactionListCsv("""
+                        2025-12-18;"Biedronka 1234";"mKonto";"Zakupy";-50,00 PLN;;
+                        """),
+                userId,
+                accountId));
+        service.parse(new ParseCsvCommand(
+                createMbankTransactionListCsv("""
+                        2025-12-19;"Biedronka 5678";"mKonto";"Zakupy";-20,00 PLN;;
+                        """),
+                userId,
+                accountId));
+        when(transactionQueryFacade.findMerchantCategoriesVersion(groupId)).thenReturn(2L);
+        var result = service.parse(new ParseCsvCommand(
+                createMbankTransactionListCsv("""
+                        2025-12-20;"Biedronka 9012";"mKonto";"Zakupy";-30,00 PLN;;
+                        """),
+                userId,
+                accountId));
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(groceriesId);
+        verify(transactionQueryFacade, times(2)).findMerchantCategories(groupId);
+    }
+
+    @Test
+    void shouldSuggestLocallyWhenAiIsDisabled() {
+        // given
+        var offlineService = new CsvParseService(
+                new MbankCsvParser(),
+                accountFacade,
+                usersFacade,
+                null,
+                transactionQueryFacade,
+                categoryQueryFacade,
+                importWatermarkRepository,
+                parseResultCache);
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"ORLEN STACJA KRAKOW";"mKonto";"Paliwo";-150,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var fuelId = CategoryId.generate();
+        rememberMerchants(Map.of(MerchantKey.of("Paliwo: Orlen stacja Gdansk", TransactionType.EXPENSE), fuelId));
+
+        // when
+        var result = offlineService.parse(command);
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(fuelId);
+    }
+
+    @Test
+    void shouldPublishStreamedSuggestionsBeforeCategorizationCompletes() {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"Expense description";"mKonto";"Another Category";-100,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        var categoryId = CategoryId.generate();
+        var partialResults = new ArrayList<CsvParseResult>();
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId), any()))
+                .thenAnswer(invocation -> {
+                    List<TransactionProposal> proposals = invocation.getArgument(0);
+                    Consumer<CategorySuggestion> listener = invocation.getArgument(2);
+                    listener.accept(new CategorySuggestion(proposals.getFirst().transactionId(), categoryId, 0.9));
+                    return null;
+                });
+
+        // when
+        var result = service.parse(command, new RecordingProgress(partialResults));
+
+        // then
+        assertThat(partialResults).hasSize(2);
+        assertThat(partialResults.get(0).proposals().getFirst().categoryId()).isNull();
+        assertThat(partialResults.get(1).proposals().getFirst().categoryId()).isEqualTo(categoryId);
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(categoryId);
+        verify(categorySuggestionService, never()).suggestCategories(any(), any());
+    }
+
     @Test
     @Disabled("This test needs to be rewritten as system test")
     void shouldHandleMixedIncomeAndExpenseTransactions() {
@@ -414,6 +660,289 @@ class CsvParseServiceTest {
         assertThat(result.proposals().get(1).categoryId()).isEqualTo(expenseCategoryId);
     }
 
+    @Test
+    void shouldSkipRowsOlderThanWatermarkInIncrementalMode() {
+        // given
+        importWatermarkRepository.store(
+                new ImportWatermark(accountId, groupId, LocalDate.of(2025, 12, 18), Set.of()));
+        var csv = createMbankTransactionListCsv("""
+                2025-12-17;"Old expense";"mKonto";"Category";-10,00 PLN;;
+                2025-12-18;"Boundary expense";"mKonto";"Category";-20,00 PLN;;
+                2025-12-19;"New expense";"mKonto";"Category";-30,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId, true);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals())
+                .extracting(TransactionProposal::description)
+                .containsExactly("Category: Boundary expense", "Category: New expense");
+        assertThat(result.totalRows()).isEqualTo(3);
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.skippedCount()).isEqualTo(1);
+        verify(transactionQueryFacade)
+                .findExistingHashes(eq(accountId), argThat(hashes -> hashes.size() == 2), eq(groupId));
+    }
+
+    @Test
+    void shouldSkipBoundaryDayRowsAlreadyCoveredByWatermark() {
+        // given
+        var boundaryDate = LocalDate.of(2025, 12, 18);
+        var importedHash = TransactionHashCalculator.calculateHash(
+                accountId,
+                Money.of(new BigDecimal("-20.00"), Currency.PLN),
+                "Category: Imported expense",
+                boundaryDate,
+                TransactionType.EXPENSE);
+        importWatermarkRepository.store(new ImportWatermark(accountId, groupId, boundaryDate, Set.of(importedHash)));
+        var csv = createMbankTransactionListCsv("""
+                2025-12-18;"Imported expense";"mKonto";"Category";-20,00 PLN;;
+                2025-12-18;"Later expense";"mKonto";"Category";-25,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId, true);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals())
+                .extracting(TransactionProposal::description)
+                .containsExactly("Category: Later expense");
+        assertThat(result.skippedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreWatermarkWhenNotIncremental() {
+        // given
+        importWatermarkRepository.store(
+                new ImportWatermark(accountId, groupId, LocalDate.of(2025, 12, 19), Set.of()));
+        var csv = createMbankTransactionListCsv("""
+                2025-12-17;"Old expense";"mKonto";"Category";-10,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(csv, userId, accountId);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals()).hasSize(1);
+        assertThat(result.skippedCount()).isZero();
+    }
+
+    @Test
+    void shouldReuseCachedResultForIdenticalUpload() {
+        // given
+        var rows = """
+                2025-12-18;"Expense description";"mKonto";"Category";-100,00 PLN;;
+                """;
+        var categoryId = CategoryId.generate();
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId)))
+                .thenAnswer(invocation -> suggestAll(invocation.getArgument(0), categoryId));
+        var first = service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // when
+        var second = service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // then
+        assertThat(second.proposals()).isEqualTo(first.proposals());
+        assertThat(second.proposals().getFirst().categoryId()).isEqualTo(categoryId);
+        verify(categorySuggestionService, times(1)).suggestCategories(any(), eq(groupId));
+    }
+
+    @Test
+    void shouldSkipParsingWhenUploadIsCached() {
+        // given
+        var parser = Mockito.spy(new MbankCsvParser());
+        var cachingService = new CsvParseService(
+                parser,
+                accountFacade,
+                usersFacade,
+                categorySuggestionService,
+                transactionQueryFacade,
+                categoryQueryFacade,
+                importWatermarkRepository,
+                parseResultCache);
+        var rows = """
+                2025-12-18;"Expense description";"mKonto";"Category";-100,00 PLN;;
+                """;
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(List.of());
+        var first = cachingService.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // when
+        var second = cachingService.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // then
+        assertThat(second.proposals()).isEqualTo(first.proposals());
+        verify(parser, times(1)).parse(any(), any(), any());
+    }
+
+    @Test
+    void shouldRecategorizeWhenCategoriesChanged() {
+        // given
+        var rows = """
+                2025-12-18;"Expense description";"mKonto";"Category";-100,00 PLN;;
+                """;
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(List.of());
+        when(categoryQueryFacade.findVersion(CategoryType.EXPENSE, groupId))
+                .thenReturn(new CategoryVersion(1, OffsetDateTime.now().minusDays(1), null))
+                .thenReturn(new CategoryVersion(2, OffsetDateTime.now(), null));
+        service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // when
+        service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // then
+        verify(categorySuggestionService, times(2)).suggestCategories(any(), eq(groupId));
+    }
+
+    @Test
+    void shouldRecategorizeWhenMerchantMemoryChanged() {
+        // given
+        var rows = """
+                2025-12-18;"Biedronka 1234";"mKonto";"Zakupy";-50,00 PLN;;
+                """;
+        var merchantKey = MerchantKey.of("Zakupy: Biedronka", TransactionType.EXPENSE);
+        var groceriesId = CategoryId.generate();
+        var householdId = CategoryId.generate();
+        rememberMerchants(Map.of(merchantKey, groceriesId));
+        when(transactionQueryFacade.findMerchantCategoriesVersion(groupId)).thenReturn(1L);
+        service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+        rememberMerchants(Map.of(merchantKey, householdId));
+        when(transactionQueryFacade.findMerchantCategoriesVersion(groupId)).thenReturn(2L);
+
+        // when
+        var result = service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // then
+        assertThat(result.proposals().getFirst().categoryId()).isEqualTo(householdId);
+    }
+
+    @Test
+    void shouldMarkDuplicatesAgainWhenReusingCachedResult() {
+        // given
+        var rows = """
+                2025-12-18;"Expense description";"mKonto";"Category";-100,00 PLN;;
+                """;
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(List.of());
+        service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+        var committedHash = TransactionHashCalculator.calculateHash(
+                accountId,
+                Money.of(new BigDecimal("-100.00"), Currency.PLN),
+                "Category: Expense description",
+                LocalDate.of(2025, 12, 18),
+                TransactionType.EXPENSE);
+        when(transactionQueryFacade.findExistingHashes(eq(accountId), any(), eq(groupId)))
+                .thenReturn(Set.of(committedHash));
+
+        // when
+        var result = service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // then
+        assertThat(result.proposals().getFirst().duplicate()).isTrue();
+        verify(categorySuggestionService, times(1)).suggestCategories(any(), eq(groupId));
+    }
+
+    @Test
+    void shouldNotCacheResultWhenAiFails() {
+        // given
+        var rows = """
+                2025-12-18;"Expense description";"mKonto";"Category";-100,00 PLN;;
+                """;
+        when(categorySuggestionService.suggestCategories(any(), eq(groupId))).thenReturn(null);
+        service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // when
+        service.parse(new ParseCsvCommand(createMbankTransactionListCsv(rows), userId, accountId));
+
+        // then
+        verify(categorySuggestionService, times(2)).suggestCategories(any(), eq(groupId));
+    }
+
+    @Test
+    void shouldParseGzipCompressedCsv() throws IOException {
+        // given
+        var csv = createMbankTransactionListCsv("""
+                2025-12-17;"Income description";"mKonto";"Category";100,00 PLN;;
+                2025-12-18;"Expense description";"mKonto";"Another Category";-100,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(gzip(csv), userId, accountId, false, CsvUploadFormat.GZIP);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals()).hasSize(2);
+        assertThat(result.errorCount()).isZero();
+    }
+
+    @Test
+    void shouldParseEveryStatementInZipArchive() throws IOException {
+        // given
+        var first = createMbankTransactionListCsv("""
+                2025-12-17;"Income description";"mKonto";"Category";100,00 PLN;;
+                """);
+        var second = createMbankTransactionListCsv("""
+                2025-12-18;"Expense description";"mKonto";"Another Category";-100,00 PLN;;
+                """);
+        var command = new ParseCsvCommand(zip(first, second), userId, accountId, false, CsvUploadFormat.ZIP);
+
+        // when
+        var result = service.parse(command);
+
+        // then
+        assertThat(result.proposals())
+                .extracting(TransactionProposal::description)
+                .containsExactly("Income description", "Expense description");
+        assertThat(result.totalRows()).isEqualTo(2);
+    }
+
+    private static List<CategorySuggestion> suggestAll(List<TransactionProposal> proposals, CategoryId categoryId) {
+        return proposals.stream()
+                .map(proposal -> new CategorySuggestion(proposal.transactionId(), categoryId, 0.9))
+                .toList();
+    }
+
+    private record RecordingProgress(List<CsvParseResult> partialResults) implements ImportProgress {
+        @Override
+        public void rowParsed() {}
+
+        @Override
+        public void categorizationStarted() {}
+
+        @Override
+        public void categoriesSuggested(CsvParseResult partialResult) {
+            partialResults.add(partialResult);
+        }
+    }
+
+    private void rememberMerchants(Map<MerchantKey, CategoryId> categories) {
+        when(transactionQueryFacade.findMerchantCategories(groupId)).thenReturn(categories);
+        when(categoryQueryFacade.findExistingCategories(any(), eq(groupId)))
+                .thenReturn(Set.copyOf(categories.values()));
+    }
+
+    private static InputStream gzip(InputStream csv) throws IOException {
+        var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            csv.transferTo(gzip);
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+
+    private static InputStream zip(InputStream... statements) throws IOException {
+        var compressed = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(compressed)) {
+            for (var i = 0; i < statements.length; i++) {
+                zip.putNextEntry(new ZipEntry("statement-" + i + ".csv"));
+                statements[i].transferTo(zip);
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+
     private InputStream createMbankTransactionListCsv(String dataRows) {
         var header = """
                 ﻿mBank S.A. Bankowość Detaliczna;
@@ -0,0 +1,216 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.EMPTY_FILE;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.FILE_TOO_LARGE;
+import static pl.btsoftware.backend.csvimport.domain.ErrorType.INVALID_FILE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+
+class CsvStatementReaderTest {
+    private static final long MAX_SIZE = 1024;
+
+    private final CsvStatementReader reader = new CsvStatementReader(MAX_SIZE);
+
+    @Test
+    void shouldPassPlainCsvThrough() {
+        // given
+        var upload = new ByteArrayInputStream(bytes("a;b"));
+
+        // when
+        var statements = readAll(upload, CsvUploadFormat.CSV);
+
+        // then
+        assertThat(statements).containsExactly("a;b");
+    }
+
+    @Test
+    void shouldDecompressGzipUpload() throws IOException {
+        // given
+        var upload = gzip("a;b");
+
+        // when
+        var statements = readAll(upload, CsvUploadFormat.GZIP);
+
+        // then
+        assertThat(statements).containsExactly("a;b");
+    }
+
+    @Test
+    void shouldReadEveryStatementInArchive() throws IOException {
+        // given
+        var upload = zip(
+                new Entry("january.csv", "first"),
+                new Entry("__MACOSX/._january.csv", "metadata"),
+                new Entry("nested/.DS_Store", "metadata"),
+                new Entry("nested/february.csv", "second"));
+
+        // when
+        var statements = readAll(upload, CsvUploadFormat.ZIP);
+
+        // then
+        assertThat(statements).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldRejectArchiveWithoutStatements() throws IOException {
+        // given
+        var upload = zip(new Entry("__MACOSX/._january.csv", "metadata"));
+
+        // when & then
+        assertThatThrownBy(() -> readAll(upload, CsvUploadFormat.ZIP))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", EMPTY_FILE);
+    }
+
+    @Test
+    void shouldRejectUploadExceedingDecompressedSizeLimit() throws IOException {
+        // given
+        var upload = gzip("x".repeat((int) MAX_SIZE + 1));
+
+        // when & then
+        assertThatThrownBy(() -> readAll(upload, CsvUploadFormat.GZIP))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", FILE_TOO_LARGE);
+    }
+
+    @Test
+    void shouldLimitDecompressedSizeAcrossArchiveEntries() throws IOException {
+        // given
+        var half = "x".repeat((int) MAX_SIZE / 2 + 1);
+        var upload = zip(new Entry("first.csv", half), new Entry("second.csv", half));
+
+        // when & then
+        assertThatThrownBy(() -> readAll(upload, CsvUploadFormat.ZIP))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", FILE_TOO_LARGE);
+    }
+
+    @Test
+    void shouldCountSkippedArchiveEntriesTowardsSizeLimit() throws IOException {
+        // given
+        var upload = zip(
+                new Entry("january.csv", "first"),
+                new Entry("__MACOSX/._january.csv", "x".repeat((int) MAX_SIZE + 1)));
+
+        // when & then
+        assertThatThrownBy(() -> readAll(upload, CsvUploadFormat.ZIP))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", FILE_TOO_LARGE);
+    }
+
+    @Test
+    void shouldCountUnreadPartOfStatementTowardsSizeLimit() throws IOException {
+        // given
+        var upload = zip(new Entry("january.csv", "x".repeat((int) MAX_SIZE + 1)));
+
+        // when & then
+        assertThatThrownBy(() -> reader.read(upload, CsvUploadFormat.ZIP, statement -> {}))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", FILE_TOO_LARGE);
+    }
+
+    @Test
+    void shouldRejectEntryDeclaringSizeAboveLimit() throws IOException {
+        // given
+        var content = bytes("x".repeat((int) MAX_SIZE + 1));
+        var compressed = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(compressed)) {
+            var entry = new ZipEntry("january.csv");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            var crc = new CRC32();
+            crc.update(content);
+            entry.setCrc(crc.getValue());
+            zip.putNextEntry(entry);
+            zip.write(content);
+            zip.closeEntry();
+        }
+        var handled = new ArrayList<InputStream>();
+
+        // when & then
+        assertThatThrownBy(() -> reader.read(
+                        new ByteArrayInputStream(compressed.toByteArray()), CsvUploadFormat.ZIP, handled::add))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", FILE_TOO_LARGE);
+        assertThat(handled).isEmpty();
+    }
+
+    @Test
+    void shouldRejectArchiveWithTooManyEntries() throws IOException {
+        // given
+        var entries = IntStream.rangeClosed(0, 100)
+                .mapToObj(i -> new Entry("statement-" + i + ".csv", ""))
+                .toArray(Entry[]::new);
+        var upload = zip(entries);
+
+        // when & then
+        assertThatThrownBy(() -> readAll(upload, CsvUploadFormat.ZIP))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", INVALID_FILE);
+    }
+
+    @Test
+    void shouldRejectCorruptedGzipUpload() {
+        // given
+        var upload = new ByteArrayInputStream(bytes("not gzip"));
+
+        // when & then
+        assertThatThrownBy(() -> readAll(upload, CsvUploadFormat.GZIP))
+                .isInstanceOf(CsvImportException.class)
+                .hasFieldOrPropertyWithValue("errorType", INVALID_FILE);
+    }
+
+    private List<String> readAll(InputStream upload, CsvUploadFormat format) {
+        var statements = new ArrayList<String>();
+        reader.read(upload, format, statement -> {
+            try {
+                statements.add(new String(statement.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return statements;
+    }
+
+    private static InputStream gzip(String content) throws IOException {
+        var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes(content));
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+
+    private static InputStream zip(Entry... entries) throws IOException {
+        var compressed = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(compressed)) {
+            for (var entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry.name()));
+                zip.write(bytes(entry.content()));
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Entry(String name, String content) {}
+}
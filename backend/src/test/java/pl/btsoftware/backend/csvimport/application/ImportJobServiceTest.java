@@ -0,0 +1,233 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.field;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import pl.btsoftware.backend.account.AccountModuleFacade;
+import pl.btsoftware.backend.account.domain.Account;
+import pl.btsoftware.backend.category.CategoryQueryFacade;
+import pl.btsoftware.backend.csvimport.domain.CategorySuggestionService;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.csvimport.domain.ImportJob;
+import pl.btsoftware.backend.csvimport.domain.ImportJobId;
+import pl.btsoftware.backend.csvimport.domain.ImportJobStatus;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCache;
+import pl.btsoftware.backend.csvimport.domain.error.ImportJobNotFoundException;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryImportJobRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryImportWatermarkRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryParseResultCacheRepository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.transaction.TransactionQueryFacade;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.domain.GroupId;
+import pl.btsoftware.backend.users.domain.User;
+import pl.btsoftware.backend.users.domain.UserId;
+
+class ImportJobServiceTest {
+
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private InMemoryImportJobRepository importJobRepository;
+    private CsvParseService csvParseService;
+    private AccountModuleFacade accountFacade;
+    private UsersModuleFacade usersFacade;
+    private UserId userId;
+    private AccountId accountId;
+    private GroupId groupId;
+
+    @BeforeEach
+    void setUp() {
+        accountFacade = Mockito.mock(AccountModuleFacade.class);
+        usersFacade = Mockito.mock(UsersModuleFacade.class);
+        importJobRepository = new InMemoryImportJobRepository();
+        userId = UserId.generate();
+        accountId = AccountId.generate();
+        groupId = GroupId.generate();
+
+        var user = Instancio.of(User.class)
+                .set(field(User::id), userId)
+                .set(field(User::groupId), groupId)
+                .create();
+        var account = Instancio.of(Account.class)
+                .set(field(Account::id), accountId)
+                .set(field(Account::balance), Money.of(BigDecimal.ZERO, Currency.PLN))
+                .create();
+
+        when(usersFacade.findUserOrThrow(userId)).thenReturn(user);
+        when(accountFacade.getAccount(accountId, groupId)).thenReturn(account);
+
+        var categorySuggestionService = Mockito.mock(CategorySuggestionService.class);
+        csvParseService = new CsvParseService(
+                new MbankCsvParser(),
+                accountFacade,
+                usersFacade,
+                categorySuggestionService,
+                Mockito.mock(TransactionQueryFacade.class),
+                Mockito.mock(CategoryQueryFacade.class),
+                new InMemoryImportWatermarkRepository(),
+                new ParseResultCache(new InMemoryParseResultCacheRepository(), Duration.ofHours(1), 10));
+    }
+
+    @Test
+    void shouldReturnQueuedJobBeforeParsingStarts() {
+        // given
+        var service = createService(queuedTasks::add);
+
+        // when
+        var job = service.submit(new ParseCsvCommand(sampleStatement(), userId, accountId));
+
+        // then
+        assertThat(job.status()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(service.getJob(job.id(), userId).status()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(queuedTasks).hasSize(1);
+    }
+
+    @Test
+    void shouldStoreCompletedResultOnceJobRuns() {
+        // given
+        var service = createService(queuedTasks::add);
+        var job = service.submit(new ParseCsvCommand(sampleStatement(), userId, accountId));
+
+        // when
+        queuedTasks.forEach(Runnable::run);
+
+        // then
+        var completedJob = service.getJob(job.id(), userId);
+        assertThat(completedJob.status()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(completedJob.parsedRows()).isEqualTo(9);
+        assertThat(completedJob.result()).isNotNull();
+        assertThat(completedJob.result().proposals()).hasSize(9);
+        assertThat(completedJob.errorType()).isNull();
+    }
+
+    @Test
+    void shouldMarkJobAsFailedWhenFileCannotBeParsed() {
+        // given
+        var service = createService(Runnable::run);
+        var csv = new ByteArrayInputStream("not an mBank statement\n".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        var job = service.submit(new ParseCsvCommand(csv, userId, accountId));
+
+        // then
+        var failedJob = service.getJob(job.id(), userId);
+        assertThat(failedJob.status()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(failedJob.errorType()).isEqualTo(ErrorType.INVALID_FILE);
+        assertThat(failedJob.result()).isNull();
+    }
+
+    @Test
+    void shouldFailSubmissionWhenExecutorIsSaturated() {
+        // given
+        var service = createService(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(new ParseCsvCommand(sampleStatement(), userId, accountId)))
+                .isInstanceOf(CsvImportException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.IMPORT_QUEUE_FULL);
+    }
+
+    @Test
+    void shouldNotExposeJobOfAnotherGroup() {
+        // given
+        var service = createService(queuedTasks::add);
+        var job = service.submit(new ParseCsvCommand(sampleStatement(), userId, accountId));
+        var otherUserId = UserId.generate();
+        var otherUser = Instancio.of(User.class)
+                .set(field(User::id), otherUserId)
+                .set(field(User::groupId), GroupId.generate())
+                .create();
+        when(usersFacade.findUserOrThrow(otherUserId)).thenReturn(otherUser);
+
+        // when & then
+        assertThatThrownBy(() -> service.getJob(job.id(), otherUserId))
+                .isInstanceOf(ImportJobNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowWhenJobDoesNotExist() {
+        // given
+        var service = createService(queuedTasks::add);
+
+        // when & then
+        assertThatThrownBy(() -> service.getJob(ImportJobId.generate(), userId))
+                .isInstanceOf(ImportJobNotFoundException.class);
+    }
+
+    @Test
+    void shouldFailJobWhoseLeaseExpired() {
+        // given
+        var service = createService(queuedTasks::add);
+        var job = ImportJob.queued(accountId, groupId).parsing(100).categorizing();
+        importJobRepository.create(job, OffsetDateTime.now().minusMinutes(1));
+
+        // when
+        service.maintainLeases();
+
+        // then
+        var interruptedJob = service.getJob(job.id(), userId);
+        assertThat(interruptedJob.status()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(interruptedJob.errorType()).isEqualTo(ErrorType.IMPORT_INTERRUPTED);
+    }
+
+    @Test
+    void shouldRenewLeaseOfJobsRunningOnThisNode() {
+        // given
+        var service = createService(queuedTasks::add);
+        var job = service.submit(new ParseCsvCommand(sampleStatement(), userId, accountId));
+        importJobRepository.renewLeases(List.of(job.id()), OffsetDateTime.now().minusMinutes(1));
+
+        // when
+        service.maintainLeases();
+
+        // then
+        assertThat(service.getJob(job.id(), userId).status()).isEqualTo(ImportJobStatus.QUEUED);
+    }
+
+    @Test
+    void shouldNotOverwriteJobInterruptedByAnotherNode() {
+        // given
+        var service = createService(queuedTasks::add);
+        var otherNode = createService(queuedTasks::add);
+        var job = service.submit(new ParseCsvCommand(sampleStatement(), userId, accountId));
+        importJobRepository.renewLeases(List.of(job.id()), OffsetDateTime.now().minusMinutes(1));
+        otherNode.maintainLeases();
+
+        // when
+        queuedTasks.forEach(Runnable::run);
+
+        // then
+        var interruptedJob = service.getJob(job.id(), userId);
+        assertThat(interruptedJob.status()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(interruptedJob.errorType()).isEqualTo(ErrorType.IMPORT_INTERRUPTED);
+    }
+
+    private ImportJobService createService(Executor executor) {
+        return new ImportJobService(csvParseService, importJobRepository, accountFacade, usersFacade, executor);
+    }
+
+    private InputStream sampleStatement() {
+        return getClass().getClassLoader().getResourceAsStream("mbank_transaction_list.csv");
+    }
+}
@@ -0,0 +1,301 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.field;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.CsvParseResult;
+import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.csvimport.domain.ImportProgress;
+import pl.btsoftware.backend.csvimport.domain.ImportSession;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.csvimport.domain.StagedTransaction;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposal;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposalId;
+import pl.btsoftware.backend.csvimport.domain.error.ImportSessionNotFoundException;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryImportSessionRepository;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryImportWatermarkRepository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.TransactionModuleFacade;
+import pl.btsoftware.backend.transaction.application.BulkCreateResult;
+import pl.btsoftware.backend.transaction.application.BulkCreateTransactionCommand;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.UsersModuleFacade;
+import pl.btsoftware.backend.users.domain.GroupId;
+import pl.btsoftware.backend.users.domain.User;
+import pl.btsoftware.backend.users.domain.UserId;
+
+class ImportSessionServiceTest {
+
+    private InMemoryImportSessionRepository importSessionRepository;
+    private InMemoryImportWatermarkRepository importWatermarkRepository;
+    private CsvParseService csvParseService;
+    private TransactionModuleFacade transactionModuleFacade;
+    private ImportSessionService service;
+    private UserId userId;
+    private GroupId groupId;
+    private AccountId accountId;
+
+    @BeforeEach
+    void setUp() {
+        importSessionRepository = new InMemoryImportSessionRepository();
+        csvParseService = Mockito.mock(CsvParseService.class);
+        transactionModuleFacade = Mockito.mock(TransactionModuleFacade.class);
+        var usersFacade = Mockito.mock(UsersModuleFacade.class);
+        userId = UserId.generate();
+        groupId = GroupId.generate();
+        accountId = AccountId.generate();
+
+        var user = Instancio.of(User.class)
+                .set(field(User::id), userId)
+                .set(field(User::groupId), groupId)
+                .create();
+        when(usersFacade.findUserOrThrow(userId)).thenReturn(user);
+        when(transactionModuleFacade.bulkCreateTransactions(any(), eq(userId)))
+                .thenReturn(BulkCreateResult.of(List.of(), 0));
+
+        importWatermarkRepository = new InMemoryImportWatermarkRepository();
+        service = new ImportSessionService(
+                csvParseService,
+                importSessionRepository,
+                transactionModuleFacade,
+                usersFacade,
+                importWatermarkRepository);
+    }
+
+    @Test
+    void shouldStageParsedProposalsWithHashes() {
+        // given
+        var categoryId = CategoryId.generate();
+        var proposal = proposal("Zakupy: Biedronka", categoryId);
+        var hash = hash('a');
+        var command = stubParse(Map.of(proposal, hash));
+
+        // when
+        var staged = service.stage(command);
+
+        // then
+        assertThat(staged.result().proposals()).containsExactly(proposal);
+        var session = importSessionRepository.findById(staged.session().id(), groupId);
+        assertThat(session).isPresent();
+        assertThat(session.get().accountId()).isEqualTo(accountId);
+        assertThat(session.get().transactions()).containsExactly(new StagedTransaction(proposal, hash));
+    }
+
+    @Test
+    void shouldCommitStagedRowsWithStoredHashes() {
+        // given
+        var categoryId = CategoryId.generate();
+        var proposal = proposal("Zakupy: Biedronka", categoryId);
+        var hash = hash('a');
+        var session = service.stage(stubParse(Map.of(proposal, hash))).session();
+
+        // when
+        service.commit(new CommitImportCommand(session.id(), List.of(), userId));
+
+        // then
+        var transactions = captureBulkCommand().transactions();
+        assertThat(transactions).hasSize(1);
+        assertThat(transactions.getFirst().transactionHash()).isEqualTo(hash);
+        assertThat(transactions.getFirst().billCommand().billItems().getFirst().categoryId())
+                .isEqualTo(categoryId);
+        assertThat(transactions.getFirst().billCommand().billItems().getFirst().amount())
+                .isEqualTo(proposal.amount());
+        assertThat(importSessionRepository.findById(session.id(), groupId)).isEmpty();
+    }
+
+    @Test
+    void shouldApplyRowEditsOnCommit() {
+        // given
+        var editedCategory = CategoryId.generate();
+        var kept = proposal("Zakupy: Biedronka", null);
+        var renamed = proposal("Zakupy: Lidl", CategoryId.generate());
+        var excluded = proposal("Zakupy: Zabka", CategoryId.generate());
+        var session = service.stage(stubParse(Map.of(kept, hash('a'), renamed, hash('b'), excluded, hash('c'))))
+                .session();
+        var edits = List.of(
+                new ImportRowEdit(kept.transactionId(), editedCategory, null, false),
+                new ImportRowEdit(renamed.transactionId(), null, "Zakupy: Lidl Polska", false),
+                new ImportRowEdit(excluded.transactionId(), null, null, true));
+
+        // when
+        service.commit(new CommitImportCommand(session.id(), edits, userId));
+
+        // then
+        var transactions = captureBulkCommand().transactions();
+        assertThat(transactions).hasSize(2);
+        var keptCommand = transactions.stream()
+                .filter(transaction -> hash('a').equals(transaction.transactionHash()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(keptCommand.billCommand().billItems().getFirst().categoryId())
+                .isEqualTo(editedCategory);
+        var renamedCommand = transactions.stream()
+                .filter(transaction -> transaction.transactionHash() == null)
+                .findFirst()
+                .orElseThrow();
+        assertThat(renamedCommand.billCommand().billItemsDescription()).containsExactly("Zakupy: Lidl Polska");
+    }
+
+    @Test
+    void shouldRejectCommitWithUncategorizedRow() {
+        // given
+        var proposal = proposal("Zakupy: Biedronka", null);
+        var session = service.stage(stubParse(Map.of(proposal, hash('a')))).session();
+
+        // when & then
+        assertThatThrownBy(() -> service.commit(new CommitImportCommand(session.id(), List.of(), userId)))
+                .isInstanceOf(CsvImportException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.MISSING_CATEGORY);
+        verifyNoInteractions(transactionModuleFacade);
+    }
+
+    @Test
+    void shouldRejectEditForRowOutsideSession() {
+        // given
+        var proposal = proposal("Zakupy: Biedronka", CategoryId.generate());
+        var session = service.stage(stubParse(Map.of(proposal, hash('a')))).session();
+        var edit = new ImportRowEdit(TransactionProposalId.generate(), CategoryId.generate(), null, false);
+
+        // when & then
+        assertThatThrownBy(() -> service.commit(new CommitImportCommand(session.id(), List.of(edit), userId)))
+                .isInstanceOf(CsvImportException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.UNKNOWN_IMPORT_ROW);
+    }
+
+    @Test
+    void shouldRejectSecondCommitOfSameSession() {
+        // given
+        var proposal = proposal("Zakupy: Biedronka", CategoryId.generate());
+        var session = service.stage(stubParse(Map.of(proposal, hash('a')))).session();
+        service.commit(new CommitImportCommand(session.id(), List.of(), userId));
+
+        // when & then
+        assertThatThrownBy(() -> service.commit(new CommitImportCommand(session.id(), List.of(), userId)))
+                .isInstanceOf(ImportSessionNotFoundException.class);
+        verify(transactionModuleFacade).bulkCreateTransactions(any(), eq(userId));
+    }
+
+    @Test
+    void shouldThrowWhenSessionDoesNotExist() {
+        // when & then
+        assertThatThrownBy(() ->
+                        service.commit(new CommitImportCommand(ImportSessionId.generate(), List.of(), userId)))
+                .isInstanceOf(ImportSessionNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowWhenSessionExpired() {
+        // given
+        var createdAt = OffsetDateTime.now().minusDays(2);
+        var session = new ImportSession(
+                ImportSessionId.generate(),
+                accountId,
+                groupId,
+                List.of(new StagedTransaction(proposal("Zakupy: Biedronka", CategoryId.generate()), hash('a'))),
+                createdAt,
+                createdAt.plusDays(1));
+        importSessionRepository.store(session);
+
+        // when & then
+        assertThatThrownBy(() -> service.commit(new CommitImportCommand(session.id(), List.of(), userId)))
+                .isInstanceOf(ImportSessionNotFoundException.class);
+    }
+
+    @Test
+    void shouldAdvanceWatermarkToLatestCommittedDay() {
+        // given
+        var older = proposal("Zakupy: Biedronka", CategoryId.generate(), LocalDate.of(2025, 12, 17));
+        var latest = proposal("Zakupy: Lidl", CategoryId.generate(), LocalDate.of(2025, 12, 18));
+        var excluded = proposal("Zakupy: Zabka", CategoryId.generate(), LocalDate.of(2025, 12, 19));
+        var session = service.stage(stubParse(Map.of(older, hash('a'), latest, hash('b'), excluded, hash('c'))))
+                .session();
+        var edits = List.of(new ImportRowEdit(excluded.transactionId(), null, null, true));
+
+        // when
+        service.commit(new CommitImportCommand(session.id(), edits, userId));
+
+        // then
+        var watermark = importWatermarkRepository.findByAccountId(accountId, groupId);
+        assertThat(watermark)
+                .contains(new ImportWatermark(accountId, groupId, latest.transactionDate(), Set.of(hash('b'))));
+    }
+
+    @Test
+    void shouldMergeBoundaryHashesWhenCommittingSameDay() {
+        // given
+        var boundaryDate = LocalDate.of(2025, 12, 18);
+        importWatermarkRepository.store(new ImportWatermark(accountId, groupId, boundaryDate, Set.of(hash('a'))));
+        var proposal = proposal("Zakupy: Lidl", CategoryId.generate(), boundaryDate);
+        var session = service.stage(stubParse(Map.of(proposal, hash('b')))).session();
+
+        // when
+        service.commit(new CommitImportCommand(session.id(), List.of(), userId));
+
+        // then
+        assertThat(importWatermarkRepository.findByAccountId(accountId, groupId).orElseThrow().boundaryHashes())
+                .containsExactlyInAnyOrder(hash('a'), hash('b'));
+    }
+
+    private ParseCsvCommand stubParse(Map<TransactionProposal, TransactionHash> proposals) {
+        var command = new ParseCsvCommand(new ByteArrayInputStream(new byte[0]), userId, accountId);
+        var ordered = List.copyOf(proposals.keySet());
+        var hashes = new LinkedHashMap<TransactionProposalId, TransactionHash>();
+        ordered.forEach(proposal -> hashes.put(proposal.transactionId(), proposals.get(proposal)));
+        var result = new CsvParseResult(ordered, List.of(), ordered.size(), ordered.size(), 0);
+        when(csvParseService.parseWithHashes(command, ImportProgress.NONE))
+                .thenReturn(new HashedParseResult(result, hashes));
+        return command;
+    }
+
+    private BulkCreateTransactionCommand captureBulkCommand() {
+        var captor = ArgumentCaptor.forClass(BulkCreateTransactionCommand.class);
+        verify(transactionModuleFacade).bulkCreateTransactions(captor.capture(), eq(userId));
+        assertThat(captor.getValue().accountId()).isEqualTo(accountId);
+        return captor.getValue();
+    }
+
+    private static TransactionProposal proposal(String description, CategoryId categoryId) {
+        return proposal(description, categoryId, LocalDate.of(2025, 12, 18));
+    }
+
+    private static TransactionProposal proposal(String description, CategoryId categoryId, LocalDate date) {
+        return new TransactionProposal(
+                TransactionProposalId.generate(),
+                date,
+                description,
+                new BigDecimal("-50.00"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                categoryId);
+    }
+
+    private static TransactionHash hash(char character) {
+        return new TransactionHash(String.valueOf(character).repeat(64));
+    }
+}
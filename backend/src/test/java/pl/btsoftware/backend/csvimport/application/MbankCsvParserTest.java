@@ -5,17 +5,35 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.CsvRowListener;
 import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.csvimport.domain.ParseError;
+import pl.btsoftware.backend.csvimport.domain.TransactionProposal;
 import pl.btsoftware.backend.shared.Currency;
 import pl.btsoftware.backend.shared.TransactionType;
 
 class MbankCsvParserTest {
 
     private final MbankCsvParser parser = new MbankCsvParser();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
 
     @Test
     void shouldParseValidCsvFromSampleFile() {
@@ -311,6 +329,146 @@ class MbankCsvParserTest {
         assertThat(result.proposals().getFirst().description()).isEqualTo("Category: APTEKA ZAKUP");
     }
 
+    @Test
+    void shouldEmitRowsToListenerInFileOrder() {
+        // given
+        var content = createValidHeaderLines(26)
+                + "#Data operacji;#Opis operacji;#Rachunek;#Kategoria;#Kwota;\n"
+                + "2024-01-15;First;Account;Category;-10.00 PLN\n"
+                + "invalid-date;Second;Account;Category;-20.00 PLN\n"
+                + "2024-01-17;Third;Account;Category;30.00 PLN\n";
+        var events = new ArrayList<String>();
+
+        // when
+        parser.parse(createInputStream(content), Currency.PLN, new CsvRowListener() {
+            @Override
+            public void onProposal(TransactionProposal proposal) {
+                events.add(proposal.description());
+            }
+
+            @Override
+            public void onError(ParseError error) {
+                events.add("error at row " + error.lineNumber());
+            }
+        });
+
+        // then
+        assertThat(events).containsExactly("Category: First", "error at row 2", "Category: Third");
+    }
+
+    @Test
+    void shouldStreamLargeStatementRowByRow() {
+        // given
+        var rowCount = 100_000;
+        var stream = createGeneratedStatement(rowCount);
+        var proposals = new AtomicInteger();
+
+        // when
+        parser.parse(stream, Currency.PLN, new CsvRowListener() {
+            @Override
+            public void onProposal(TransactionProposal proposal) {
+                proposals.incrementAndGet();
+            }
+
+            @Override
+            public void onError(ParseError error) {}
+        });
+
+        // then
+        assertThat(proposals.get()).isEqualTo(rowCount);
+    }
+
+    @Test
+    void shouldParseLargeStatementInParallelChunksPreservingRowOrder() {
+        // given
+        var content = createMixedStatement(500);
+        var parallelParser = new MbankCsvParser(executor, 128, 4);
+
+        // when
+        var sequentialResult = parser.parse(createInputStream(content), Currency.PLN);
+        var parallelResult = parallelParser.parse(createInputStream(content), Currency.PLN);
+
+        // then
+        assertThat(parallelResult.totalRows()).isEqualTo(sequentialResult.totalRows());
+        assertThat(parallelResult.proposals())
+                .extracting(TransactionProposal::description)
+                .containsExactlyElementsOf(sequentialResult.proposals().stream()
+                        .map(TransactionProposal::description)
+                        .toList());
+        assertThat(parallelResult.errors())
+                .extracting(ParseError::lineNumber)
+                .containsExactlyElementsOf(sequentialResult.errors().stream()
+                        .map(ParseError::lineNumber)
+                        .toList());
+        assertThat(parallelResult.errors()).extracting(ParseError::lineNumber).startsWith(7, 14, 21);
+    }
+
+    @Test
+    void shouldParseSmallStatementWithoutUsingExecutor() {
+        // given
+        var csvStream = getClass().getClassLoader().getResourceAsStream("mbank_transaction_list.csv");
+        Executor rejectingExecutor = command -> {
+            throw new IllegalStateException("Executor should not be used for small files");
+        };
+        var parallelParser = new MbankCsvParser(rejectingExecutor, 1024 * 1024, 4);
+
+        // when
+        var result = parallelParser.parse(csvStream, Currency.PLN);
+
+        // then
+        assertThat(result.proposals()).hasSize(9);
+        assertThat(result.errors()).isEmpty();
+    }
+
+    @Test
+    void shouldReportCsvImportExceptionFromParallelChunk() {
+        // given
+        var content = createMixedStatement(50) + "2024-01-15;\"unterminated;Account;Category;-1,00 PLN\n";
+        var parallelParser = new MbankCsvParser(executor, 128, 4);
+
+        // when & then
+        assertThatThrownBy(() -> parallelParser.parse(createInputStream(content), Currency.PLN))
+                .isInstanceOf(CsvImportException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.FAILED_TO_PARSE_CSV);
+    }
+
+    private String createMixedStatement(int rowCount) {
+        var builder = new StringBuilder(createValidHeaderLines(26))
+                .append("#Data operacji;#Opis operacji;#Rachunek;#Kategoria;#Kwota;\n");
+        for (var i = 1; i <= rowCount; i++) {
+            if (i % 7 == 0) {
+                builder.append("invalid-date;Row ").append(i).append(";Account;Category;-1,00 PLN\n");
+            } else if (i % 11 == 0) {
+                builder.append("2024-01-15;\"Multi\nline ").append(i).append("\";Account;Category;-1,00 PLN\n");
+            } else {
+                builder.append("2024-01-15;Row ").append(i).append(";Account;Category;-1,00 PLN\n");
+            }
+            if (i % 13 == 0) {
+                builder.append(";;;;;\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private InputStream createGeneratedStatement(int rowCount) {
+        var header = createValidHeaderLines(26) + "#Data operacji;#Opis operacji;#Rachunek;#Kategoria;#Kwota;\n";
+        var rows = IntStream.range(0, rowCount)
+                .mapToObj(i -> createInputStream("2024-01-15;Row " + i + ";Account;Category;-1,00 PLN\n"))
+                .iterator();
+        return new SequenceInputStream(createInputStream(header), new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return rows.next();
+            }
+        }));
+    }
+
     private String createValidHeaderLines(int count) {
         var builder = new StringBuilder();
         for (var i = 0; i < count; i++) {
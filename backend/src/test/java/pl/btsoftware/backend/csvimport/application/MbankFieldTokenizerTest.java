@@ -0,0 +1,104 @@
+package pl.btsoftware.backend.csvimport.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.btsoftware.backend.csvimport.domain.CsvImportException;
+import pl.btsoftware.backend.csvimport.domain.ErrorType;
+import pl.btsoftware.backend.shared.Currency;
+
+class MbankFieldTokenizerTest {
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "-239,22 PLN|-239.22|PLN",
+                "1 100,00 PLN|1100.00|PLN",
+                "  12 345 678,9 EUR  |12345678.9|EUR",
+                "100.00 USD|100.00|USD",
+                "-0,00 GBP|0.00|GBP",
+                "42 PLN|42|PLN",
+                "5, PLN|5|PLN",
+                ",5 PLN|0.5|PLN"
+            })
+    void shouldTokenizeAmountAndCurrency(String field, String expectedAmount, Currency expectedCurrency) {
+        // when
+        var amount = MbankFieldTokenizer.tokenizeAmount(field);
+
+        // then
+        assertThat(amount.value()).isEqualTo(new BigDecimal(expectedAmount));
+        assertThat(amount.currency()).isEqualTo(expectedCurrency);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"100,00", "100,00 XYZ", "100,00 pln", "100,00 PLNX", "+100,00 PLN", ""})
+    void shouldRejectUnsupportedCurrency(String field) {
+        // when & then
+        assertThatThrownBy(() -> MbankFieldTokenizer.tokenizeAmount(field))
+                .isInstanceOf(CsvImportException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INVALID_CURRENCY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {" PLN", "- PLN", "1,00,00 PLN", "1-00 PLN", "--1 PLN", "1\t0 PLN", "1234567890123456789 PLN"})
+    void shouldRejectInvalidAmount(String field) {
+        // when & then
+        assertThatThrownBy(() -> MbankFieldTokenizer.tokenizeAmount(field))
+                .isInstanceOf(CsvImportException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INVALID_AMOUNT_FORMAT);
+    }
+
+    @Test
+    void shouldReportTrimmedFieldInErrorMessage() {
+        // when & then
+        assertThatThrownBy(() -> MbankFieldTokenizer.tokenizeAmount("  100,00 XYZ "))
+                .isInstanceOf(CsvImportException.class)
+                .hasMessage("Unsupported currency in amount: 100,00 XYZ");
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "Zakupy|  APTEKA   ZAKUP  |Zakupy: APTEKA ZAKUP",
+                "Zakupy|SKLEP   transakcja nierozliczona|Zakupy: SKLEP",
+                "Wpływy|FRANCISZEK BELA PRZELEW ZEWNĘTRZNY PRZYCHODZĄCY   |Wpływy: FRANCISZEK BELA",
+                "Inne|transakcja nierozliczona SKLEP|Inne: SKLEP",
+                "Inne|A transakcja nierozliczona B|Inne: A  B",
+                "Inne|transakcja   nierozliczona|'Inne: '"
+            })
+    void shouldNormalizeDescription(String category, String description, String expected) {
+        // when
+        var result = MbankFieldTokenizer.tokenizeDescription(category, description);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldCollapseAllWhitespaceKinds() {
+        // when
+        var result = MbankFieldTokenizer.tokenizeDescription(" Inne ", "A\tB\nC\r\nD\f E");
+
+        // then
+        assertThat(result).isEqualTo("Inne: A B C D E");
+    }
+
+    @Test
+    void shouldNotRemovePhraseSpanningCategorySeparator() {
+        // when
+        var result = MbankFieldTokenizer.tokenizeDescription("transakcja", "nierozliczona");
+
+        // then
+        assertThat(result).isEqualTo("transakcja: nierozliczona");
+    }
+}
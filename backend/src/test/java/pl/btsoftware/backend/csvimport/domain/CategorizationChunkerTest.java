@@ -0,0 +1,78 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+
+class CategorizationChunkerTest {
+
+    @Test
+    void shouldSplitByRowCount() {
+        // given
+        var chunker = new CategorizationChunker(2, 10_000);
+        var transactions = createTransactions(5, "Shop");
+
+        // when
+        var chunks = chunker.split(transactions);
+
+        // then
+        assertThat(chunks).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void shouldSplitByEstimatedTokens() {
+        // given
+        var chunker = new CategorizationChunker(100, 100);
+        var transactions = createTransactions(4, "x".repeat(100));
+
+        // when
+        var chunks = chunker.split(transactions);
+
+        // then
+        assertThat(chunks).extracting(List::size).containsExactly(1, 1, 1, 1);
+    }
+
+    @Test
+    void shouldPreserveTransactionOrderAcrossChunks() {
+        // given
+        var chunker = new CategorizationChunker(3, 10_000);
+        var transactions = createTransactions(7, "Shop");
+
+        // when
+        var chunks = chunker.split(transactions);
+
+        // then
+        assertThat(chunks.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(transactions);
+    }
+
+    @Test
+    void shouldReturnNoChunksForEmptyInput() {
+        // given
+        var chunker = new CategorizationChunker(3, 10_000);
+
+        // when
+        var chunks = chunker.split(List.of());
+
+        // then
+        assertThat(chunks).isEmpty();
+    }
+
+    private List<TransactionProposal> createTransactions(int count, String description) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TransactionProposal(
+                        TransactionProposalId.generate(),
+                        LocalDate.now(),
+                        description,
+                        BigDecimal.TEN,
+                        Currency.PLN,
+                        TransactionType.EXPENSE,
+                        null))
+                .toList();
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import pl.btsoftware.backend.account.domain.AuditInfo;
@@ -52,15 +53,13 @@ class CategorizationPromptBuilderTest {
 
         var transactions = json.get("transactions");
         assertThat(transactions).hasSize(1);
-        assertThat(transactions.get(0).get("transactionId").asText())
-                .isEqualTo(transaction.transactionId().value().toString());
+        assertThat(transactions.get(0).get("transactionId").asInt()).isEqualTo(1);
         assertThat(transactions.get(0).get("description").asText()).isEqualTo("McDonalds Downtown");
         assertThat(transactions.get(0).get("type").asText()).isEqualTo("EXPENSE");
 
         var categories = json.get("categories");
         assertThat(categories).hasSize(1);
-        assertThat(categories.get(0).get("categoryId").asText())
-                .isEqualTo(category.id().value().toString());
+        assertThat(categories.get(0).get("categoryId").asInt()).isEqualTo(1);
         assertThat(categories.get(0).get("name").asText()).isEqualTo("Fast Food");
         assertThat(categories.get(0).get("type").asText()).isEqualTo("EXPENSE");
     }
@@ -77,12 +76,12 @@ class CategorizationPromptBuilderTest {
         var json = objectMapper.readTree(prompt.jsonPrompt());
         var transactions = json.get("transactions");
         assertThat(transactions.size()).isEqualTo(3);
-        assertThat(transactions.get(0).get("transactionId").asText())
-                .isEqualTo(transaction1.transactionId().value().toString());
-        assertThat(transactions.get(1).get("transactionId").asText())
-                .isEqualTo(transaction2.transactionId().value().toString());
-        assertThat(transactions.get(2).get("transactionId").asText())
-                .isEqualTo(transaction3.transactionId().value().toString());
+        assertThat(transactions.get(0).get("transactionId").asInt()).isEqualTo(1);
+        assertThat(transactions.get(1).get("transactionId").asInt()).isEqualTo(2);
+        assertThat(transactions.get(2).get("transactionId").asInt()).isEqualTo(3);
+        assertThat(prompt.transactionFor(1)).isEqualTo(transaction1.transactionId());
+        assertThat(prompt.transactionFor(2)).isEqualTo(transaction2.transactionId());
+        assertThat(prompt.transactionFor(3)).isEqualTo(transaction3.transactionId());
     }
 
     @Test
@@ -112,6 +111,48 @@ class CategorizationPromptBuilderTest {
         assertThat(format).contains("confidence");
     }
 
+    @Test
+    void shouldCollapseTransactionsWithSameDescriptionAndType() throws Exception {
+        var first = createTransaction("Netflix", TransactionType.EXPENSE);
+        var second = createTransaction("NETFLIX ", TransactionType.EXPENSE);
+        var refund = createTransaction("Netflix", TransactionType.INCOME);
+        var category = createCategory("Subscriptions", CategoryType.EXPENSE);
+
+        var prompt = builder.build(List.of(first, second, refund), List.of(category));
+
+        var transactions = objectMapper.readTree(prompt.jsonPrompt()).get("transactions");
+        assertThat(transactions).hasSize(2);
+        assertThat(transactions.get(0).get("transactionId").asInt()).isEqualTo(1);
+        assertThat(transactions.get(1).get("transactionId").asInt()).isEqualTo(2);
+        assertThat(prompt.transactionAliases()).containsExactly(first.transactionId(), refund.transactionId());
+        assertThat(prompt.duplicates()).containsOnly(Map.entry(first.transactionId(), List.of(second.transactionId())));
+    }
+
+    @Test
+    void shouldEmbedPrebuiltCategoryTree() throws Exception {
+        var food = createCategory("Food", CategoryType.EXPENSE);
+        var salary = createCategory("Salary", CategoryType.EXPENSE);
+        var categoryTree = builder.buildCategoryTree(List.of(food, salary));
+
+        var prompt = builder.build(List.of(createTransaction("McDonalds", TransactionType.EXPENSE)), categoryTree);
+
+        var categories = objectMapper.readTree(prompt.jsonPrompt()).get("categories");
+        assertThat(categories).isEqualTo(objectMapper.readTree(categoryTree.json()));
+        assertThat(prompt.categoryAliases()).containsExactly(food.id(), salary.id());
+    }
+
+    @Test
+    void shouldPlaceCategoryTreeBeforeTransactions() {
+        var categoryTree = builder.buildCategoryTree(List.of(createCategory("Food", CategoryType.EXPENSE)));
+
+        var first = builder.build(List.of(createTransaction("McDonalds", TransactionType.EXPENSE)), categoryTree);
+        var second = builder.build(List.of(createTransaction("Starbucks", TransactionType.EXPENSE)), categoryTree);
+
+        var sharedPrefix = first.jsonPrompt().substring(0, first.jsonPrompt().indexOf("\"transactions\""));
+        assertThat(sharedPrefix).contains(categoryTree.json());
+        assertThat(second.jsonPrompt()).startsWith(sharedPrefix);
+    }
+
     private TransactionProposal createTransaction(String description, TransactionType type) {
         return new TransactionProposal(
                 new TransactionProposalId(UUID.randomUUID()),
@@ -140,20 +181,18 @@ class CategorizationPromptBuilderTest {
         assertThat(categories).hasSize(1);
 
         var foodNode = categories.get(0);
-        assertThat(foodNode.get("categoryId").asText())
-                .isEqualTo(food.id().value().toString());
+        assertThat(foodNode.get("categoryId").asInt()).isEqualTo(1);
         assertThat(foodNode.get("name").asText()).isEqualTo("Food");
         assertThat(foodNode.get("children")).hasSize(1);
 
         var restaurantsNode = foodNode.get("children").get(0);
-        assertThat(restaurantsNode.get("categoryId").asText())
-                .isEqualTo(restaurants.id().value().toString());
+        assertThat(restaurantsNode.get("categoryId").asInt()).isEqualTo(2);
         assertThat(restaurantsNode.get("name").asText()).isEqualTo("Restaurants");
         assertThat(restaurantsNode.get("children")).hasSize(1);
 
         var fastFoodNode = restaurantsNode.get("children").get(0);
-        assertThat(fastFoodNode.get("categoryId").asText())
-                .isEqualTo(fastFood.id().value().toString());
+        assertThat(fastFoodNode.get("categoryId").asInt()).isEqualTo(3);
+        assertThat(prompt.categoryAliases()).containsExactly(food.id(), restaurants.id(), fastFood.id());
         assertThat(fastFoodNode.get("name").asText()).isEqualTo("Fast Food");
         assertThat(fastFoodNode.get("children")).hasSize(0);
     }
@@ -3,7 +3,10 @@ package pl.btsoftware.backend.csvimport.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.shared.CategoryId;
 
 class CategorizationPromptTest {
 
@@ -24,4 +27,43 @@ class CategorizationPromptTest {
         var prompt = new CategorizationPrompt(validPrompt);
         assertThat(prompt.jsonPrompt()).isEqualTo(validPrompt);
     }
+
+    @Test
+    void shouldFanOutSuggestionsToDuplicates() {
+        var representative = TransactionProposalId.generate();
+        var duplicate = TransactionProposalId.generate();
+        var other = TransactionProposalId.generate();
+        var categoryId = CategoryId.generate();
+        var prompt = new CategorizationPrompt(
+                "{}", Map.of(representative, List.of(duplicate)), List.of(representative, other), List.of(categoryId));
+
+        var suggestions = prompt.fanOut(List.of(
+                new CategorySuggestion(representative, categoryId, 0.9), new CategorySuggestion(other, null, 0.1)));
+
+        assertThat(suggestions)
+                .containsExactlyInAnyOrder(
+                        new CategorySuggestion(representative, categoryId, 0.9),
+                        new CategorySuggestion(duplicate, categoryId, 0.9),
+                        new CategorySuggestion(other, null, 0.1));
+    }
+
+    @Test
+    void shouldResolveAliasesToIds() {
+        var transactionId = TransactionProposalId.generate();
+        var categoryId = CategoryId.generate();
+        var prompt = new CategorizationPrompt("{}", Map.of(), List.of(transactionId), List.of(categoryId));
+
+        assertThat(prompt.transactionFor(1)).isEqualTo(transactionId);
+        assertThat(prompt.categoryFor(1)).isEqualTo(categoryId);
+    }
+
+    @Test
+    void shouldRejectUnknownAliases() {
+        var prompt = new CategorizationPrompt(
+                "{}", Map.of(), List.of(TransactionProposalId.generate()), List.of(CategoryId.generate()));
+
+        assertThatThrownBy(() -> prompt.transactionFor(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> prompt.transactionFor(2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> prompt.categoryFor(2)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -3,18 +3,25 @@ package pl.btsoftware.backend.csvimport.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pl.btsoftware.backend.account.domain.AuditInfo;
 import pl.btsoftware.backend.ai.infrastructure.client.GeminiClient;
 import pl.btsoftware.backend.ai.infrastructure.client.GeminiClientException;
+import pl.btsoftware.backend.ai.infrastructure.config.GeminiConfig;
 import pl.btsoftware.backend.category.domain.Category;
 import pl.btsoftware.backend.category.infrastructure.persistance.InMemoryCategoryRepository;
 import pl.btsoftware.backend.shared.CategoryType;
@@ -34,11 +41,14 @@ class CategorySuggestionServiceTest {
 
     @BeforeEach
     void setUp() {
-        categoryRepository = new InMemoryCategoryRepository();
+        categoryRepository = spy(new InMemoryCategoryRepository());
         geminiClient = mock(GeminiClient.class);
         var promptBuilder = new CategorizationPromptBuilder();
         var responseParser = new GeminiResponseParser();
-        service = new CategorySuggestionService(categoryRepository, geminiClient, promptBuilder, responseParser);
+        var geminiConfig = mock(GeminiConfig.class);
+        when(geminiConfig.getCategorizationDeadlineSeconds()).thenReturn(30);
+        service = new CategorySuggestionService(
+                categoryRepository, geminiClient, promptBuilder, responseParser, geminiConfig);
         testGroupId = GroupId.generate();
         testAuditInfo = AuditInfo.create(UserId.generate(), testGroupId);
     }
@@ -49,15 +59,15 @@ class CategorySuggestionServiceTest {
         var foodCategory = createAndStoreCategory("Food", CategoryType.EXPENSE);
         var transaction = createTransaction("McDonalds", TransactionType.EXPENSE);
 
-        var geminiResponse = String.format("""
+        var geminiResponse = """
                 [
                   {
-                    "transactionId": "4517b374-b493-4ef0-ab64-f381fd70585d",
-                    "categoryId": "%s",
+                    "transactionId": 1,
+                    "categoryId": 1,
                     "confidence": 0.95
                   }
                 ]
-                                """, foodCategory.id().value());
+                                """;
 
         when(geminiClient.generateContent(any())).thenReturn(CompletableFuture.completedFuture(geminiResponse));
 
@@ -74,19 +84,19 @@ class CategorySuggestionServiceTest {
     @Test
     void shouldFilterCategoriesByTransactionType() {
         // given
-        var expenseCategory = createAndStoreCategory("Food", CategoryType.EXPENSE);
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
         createAndStoreCategory("Salary", CategoryType.INCOME);
         var expenseTransaction = createTransaction("McDonalds", TransactionType.EXPENSE);
 
-        var geminiResponse = String.format("""
+        var geminiResponse = """
                 [
                   {
-                    "transactionId": 0,
-                    "categoryId": "%s",
+                    "transactionId": 1,
+                    "categoryId": 1,
                     "confidence": 0.95
                   }
                 ]
-                                """, expenseCategory.id().value());
+                                """;
 
         when(geminiClient.generateContent(any())).thenReturn(CompletableFuture.completedFuture(geminiResponse));
 
@@ -133,30 +143,30 @@ class CategorySuggestionServiceTest {
     @Test
     void shouldHandleTransactionsWithMixedTypes() {
         // given
-        var expenseCategory = createAndStoreCategory("Food", CategoryType.EXPENSE);
-        var incomeCategory = createAndStoreCategory("Salary", CategoryType.INCOME);
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        createAndStoreCategory("Salary", CategoryType.INCOME);
         var expenseTransaction = createTransaction("McDonalds", TransactionType.EXPENSE);
         var incomeTransaction = createTransaction("Monthly salary", TransactionType.INCOME);
 
-        var expenseResponse = String.format("""
+        var expenseResponse = """
                 [
                   {
-                    "transactionId": "2dce750e-6ddc-4e42-8b5b-4637898cc394",
-                    "categoryId": "%s",
+                    "transactionId": 1,
+                    "categoryId": 1,
                     "confidence": 0.95
                   }
                 ]
-                                """, expenseCategory.id().value());
+                                """;
 
-        var incomeResponse = String.format("""
+        var incomeResponse = """
                 [
                   {
-                    "transactionId": "bdcaebd1-fc55-428c-ad53-c7ed5867b102",
-                    "categoryId": "%s",
+                    "transactionId": 1,
+                    "categoryId": 1,
                     "confidence": 0.90
                   }
                 ]
-                                """, incomeCategory.id().value());
+                                """;
 
         when(geminiClient.generateContent(any()))
                 .thenReturn(CompletableFuture.completedFuture(expenseResponse))
@@ -184,6 +194,307 @@ class CategorySuggestionServiceTest {
         verify(geminiClient, never()).generateContent(any());
     }
 
+    @Test
+    void shouldSplitLargeImportIntoChunks() {
+        // given
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transactions = IntStream.range(0, 250)
+                .mapToObj(i -> createTransaction("Shop " + i, TransactionType.EXPENSE))
+                .toList();
+
+        when(geminiClient.generateContent(any())).thenReturn(CompletableFuture.completedFuture("[]"));
+
+        // when
+        var result = service.suggestCategories(transactions, testGroupId);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(geminiClient, times(3)).generateContent(any());
+    }
+
+    @Test
+    void shouldKeepSuggestionsOfSuccessfulChunksWhenOneChunkFails() {
+        // given
+        var foodCategory = createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transactions = IntStream.range(0, 150)
+                .mapToObj(i -> createTransaction("Shop " + i, TransactionType.EXPENSE))
+                .toList();
+        var firstTransactionId = transactions.getFirst().transactionId().value();
+
+        var firstChunkResponse = """
+                [
+                  {
+                    "transactionId": 1,
+                    "categoryId": 1,
+                    "confidence": 0.9
+                  }
+                ]
+                """;
+
+        when(geminiClient.generateContent(any()))
+                .thenReturn(CompletableFuture.completedFuture(firstChunkResponse))
+                .thenReturn(CompletableFuture.failedFuture(new GeminiClientException("API Error")));
+
+        // when
+        var result = service.suggestCategories(transactions, testGroupId);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().transactionProposalId().value()).isEqualTo(firstTransactionId);
+        assertThat(result.getFirst().categoryId()).isEqualTo(foodCategory.id());
+    }
+
+    @Test
+    void shouldDispatchAllChunksBeforeAwaitingResponses() throws Exception {
+        // given
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transactions = IntStream.range(0, 300)
+                .mapToObj(i -> createTransaction("Shop " + i, TransactionType.EXPENSE))
+                .toList();
+        var pendingResponses = new CopyOnWriteArrayList<CompletableFuture<String>>();
+        when(geminiClient.generateContent(any())).thenAnswer(invocation -> {
+            var response = new CompletableFuture<String>();
+            pendingResponses.add(response);
+            return response;
+        });
+
+        // when
+        var result = CompletableFuture.supplyAsync(() -> service.suggestCategories(transactions, testGroupId));
+
+        // then
+        awaitPendingResponses(pendingResponses, 3);
+        assertThat(pendingResponses).hasSize(3);
+        assertThat(result).isNotDone();
+
+        pendingResponses.forEach(response -> response.complete("[]"));
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void shouldDispatchExpenseAndIncomeRequestsBeforeAwaitingResponses() throws Exception {
+        // given
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        createAndStoreCategory("Salary", CategoryType.INCOME);
+        var transactions = List.of(
+                createTransaction("McDonalds", TransactionType.EXPENSE),
+                createTransaction("Monthly salary", TransactionType.INCOME));
+        var pendingResponses = new CopyOnWriteArrayList<CompletableFuture<String>>();
+        when(geminiClient.generateContent(any())).thenAnswer(invocation -> {
+            var response = new CompletableFuture<String>();
+            pendingResponses.add(response);
+            return response;
+        });
+
+        // when
+        var result = CompletableFuture.supplyAsync(() -> service.suggestCategories(transactions, testGroupId));
+
+        // then
+        awaitPendingResponses(pendingResponses, 2);
+        assertThat(pendingResponses).hasSize(2);
+        assertThat(result).isNotDone();
+
+        pendingResponses.forEach(response -> response.complete("[]"));
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnSuggestionsReceivedBeforeDeadline() {
+        // given
+        var geminiConfig = mock(GeminiConfig.class);
+        when(geminiConfig.getCategorizationDeadlineSeconds()).thenReturn(1);
+        var deadlineService = new CategorySuggestionService(
+                categoryRepository,
+                geminiClient,
+                new CategorizationPromptBuilder(),
+                new GeminiResponseParser(),
+                geminiConfig);
+
+        var foodCategory = createAndStoreCategory("Food", CategoryType.EXPENSE);
+        createAndStoreCategory("Salary", CategoryType.INCOME);
+        var expenseTransaction = createTransaction("McDonalds", TransactionType.EXPENSE);
+        var incomeTransaction = createTransaction("Monthly salary", TransactionType.INCOME);
+
+        var expenseResponse = """
+                [
+                  {
+                    "transactionId": 1,
+                    "categoryId": 1,
+                    "confidence": 0.9
+                  }
+                ]
+                """;
+
+        when(geminiClient.generateContent(any())).thenAnswer(invocation -> {
+            String prompt = invocation.getArgument(0);
+            return prompt.contains("McDonalds")
+                    ? CompletableFuture.completedFuture(expenseResponse)
+                    : new CompletableFuture<String>();
+        });
+
+        // when
+        var result = deadlineService.suggestCategories(List.of(expenseTransaction, incomeTransaction), testGroupId);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().categoryId()).isEqualTo(foodCategory.id());
+    }
+
+    @Test
+    void shouldPromptOnceForRepeatedDescriptionAndSuggestForEveryRow() {
+        // given
+        var subscriptions = createAndStoreCategory("Subscriptions", CategoryType.EXPENSE);
+        var transactions = List.of(
+                createTransaction("Netflix", TransactionType.EXPENSE),
+                createTransaction("Netflix", TransactionType.EXPENSE),
+                createTransaction("Netflix", TransactionType.EXPENSE));
+
+        var geminiResponse = """
+                [
+                  {
+                    "transactionId": 1,
+                    "categoryId": 1,
+                    "confidence": 0.9
+                  }
+                ]
+                """;
+        when(geminiClient.generateContent(
+                        argThat(prompt -> prompt.indexOf("Netflix") == prompt.lastIndexOf("Netflix"))))
+                .thenReturn(CompletableFuture.completedFuture(geminiResponse));
+
+        // when
+        var result = service.suggestCategories(transactions, testGroupId);
+
+        // then
+        assertThat(result)
+                .extracting(CategorySuggestion::transactionProposalId)
+                .containsExactlyInAnyOrderElementsOf(
+                        transactions.stream().map(TransactionProposal::transactionId).toList());
+        assertThat(result).allMatch(suggestion -> suggestion.categoryId().equals(subscriptions.id()));
+    }
+
+    @Test
+    void shouldDeduplicateDescriptionsBeforeSplittingIntoChunks() {
+        // given
+        var shopping = createAndStoreCategory("Shopping", CategoryType.EXPENSE);
+        var transactions = new ArrayList<TransactionProposal>();
+        for (var i = 0; i < 100; i++) {
+            transactions.add(createTransaction("Shop " + i, TransactionType.EXPENSE));
+        }
+        var repeated = createTransaction("Shop 0", TransactionType.EXPENSE);
+        transactions.add(repeated);
+        var geminiResponse = """
+                [
+                  {
+                    "transactionId": 1,
+                    "categoryId": 1,
+                    "confidence": 0.9
+                  }
+                ]
+                """;
+        when(geminiClient.generateContent(any())).thenReturn(CompletableFuture.completedFuture(geminiResponse));
+
+        // when
+        var result = service.suggestCategories(transactions, testGroupId);
+
+        // then
+        verify(geminiClient, times(1)).generateContent(any());
+        assertThat(result)
+                .extracting(CategorySuggestion::transactionProposalId)
+                .containsExactlyInAnyOrder(transactions.getFirst().transactionId(), repeated.transactionId());
+        assertThat(result).allMatch(suggestion -> suggestion.categoryId().equals(shopping.id()));
+    }
+
+    @Test
+    void shouldReuseCategoryTreeWhileCategoriesAreUnchanged() {
+        // given
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transaction = createTransaction("McDonalds", TransactionType.EXPENSE);
+        when(geminiClient.generateContent(any())).thenReturn(CompletableFuture.completedFuture("[]"));
+
+        // when
+        service.suggestCategories(List.of(transaction), testGroupId);
+        service.suggestCategories(List.of(transaction), testGroupId);
+
+        // then
+        verify(categoryRepository, times(1)).findByType(CategoryType.EXPENSE, testGroupId);
+        verify(geminiClient, times(2)).generateContent(any());
+    }
+
+    @Test
+    void shouldRebuildCategoryTreeWhenCategoriesChange() {
+        // given
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transaction = createTransaction("McDonalds", TransactionType.EXPENSE);
+        when(geminiClient.generateContent(any())).thenReturn(CompletableFuture.completedFuture("[]"));
+        service.suggestCategories(List.of(transaction), testGroupId);
+
+        // when
+        createAndStoreCategory("Restaurants", CategoryType.EXPENSE);
+        service.suggestCategories(List.of(transaction), testGroupId);
+
+        // then
+        verify(categoryRepository, times(2)).findByType(CategoryType.EXPENSE, testGroupId);
+        verify(geminiClient).generateContent(argThat(prompt -> prompt.contains("Restaurants")));
+    }
+
+    @Test
+    void shouldDeliverStreamedSuggestionsBeforeResponseCompletes() {
+        // given
+        var foodCategory = createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transactions = List.of(
+                createTransaction("McDonalds", TransactionType.EXPENSE),
+                createTransaction("Burger King", TransactionType.EXPENSE));
+        var received = new CopyOnWriteArrayList<CategorySuggestion>();
+        var receivedBeforeCompletion = new CopyOnWriteArrayList<Integer>();
+        when(geminiClient.generateContentStream(any(), any())).thenAnswer(invocation -> {
+            Consumer<String> chunkListener = invocation.getArgument(1);
+            chunkListener.accept("[{\"transactionId\": 1, \"categoryId\": 1, \"confidence\": 0.9},");
+            receivedBeforeCompletion.add(received.size());
+            chunkListener.accept("{\"transactionId\": 2, \"categoryId\": 1, \"confidence\": 0.8}]");
+            return CompletableFuture.completedFuture("");
+        });
+
+        // when
+        var result = service.suggestCategories(transactions, testGroupId, received::add);
+
+        // then
+        assertThat(receivedBeforeCompletion).containsExactly(1);
+        assertThat(received).containsExactlyElementsOf(result);
+        assertThat(result)
+                .extracting(CategorySuggestion::transactionProposalId)
+                .containsExactly(transactions.get(0).transactionId(), transactions.get(1).transactionId());
+        assertThat(result).allMatch(suggestion -> suggestion.categoryId().equals(foodCategory.id()));
+        verify(geminiClient, never()).generateContent(any());
+    }
+
+    @Test
+    void shouldTreatTruncatedStreamAsFailedChunk() {
+        // given
+        createAndStoreCategory("Food", CategoryType.EXPENSE);
+        var transaction = createTransaction("McDonalds", TransactionType.EXPENSE);
+        var received = new CopyOnWriteArrayList<CategorySuggestion>();
+        when(geminiClient.generateContentStream(any(), any())).thenAnswer(invocation -> {
+            Consumer<String> chunkListener = invocation.getArgument(1);
+            chunkListener.accept("[{\"transactionId\": 1, \"categoryId\": 1, \"confidence\": 0.9}, {");
+            return CompletableFuture.completedFuture("");
+        });
+
+        // when
+        var result = service.suggestCategories(List.of(transaction), testGroupId, received::add);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(received).hasSize(1);
+    }
+
+    private void awaitPendingResponses(List<CompletableFuture<String>> pendingResponses, int expected)
+            throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pendingResponses.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
     private Category createAndStoreCategory(String name, CategoryType type) {
         var category = Category.create(name, type, Color.of("#FF0000"), testAuditInfo);
         categoryRepository.store(category);
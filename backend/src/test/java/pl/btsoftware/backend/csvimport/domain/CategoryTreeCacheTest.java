@@ -0,0 +1,86 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.category.domain.CategoryVersion;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.CategoryType;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+class CategoryTreeCacheTest {
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    private final CategoryTreeCache cache = new CategoryTreeCache(2);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldReuseTreeForSameVersion() {
+        // given
+        var groupId = GroupId.generate();
+        var version = new CategoryVersion(1, NOW, null);
+
+        // when
+        var first = cache.get(groupId, CategoryType.EXPENSE, version, this::load);
+        var second = cache.get(groupId, CategoryType.EXPENSE, version, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReloadTreeWhenVersionChanges() {
+        // given
+        var groupId = GroupId.generate();
+        cache.get(groupId, CategoryType.EXPENSE, new CategoryVersion(1, NOW, null), this::load);
+
+        // when
+        cache.get(groupId, CategoryType.EXPENSE, new CategoryVersion(2, NOW.plusSeconds(1), null), this::load);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepSeparateTreesPerGroupAndType() {
+        // given
+        var groupId = GroupId.generate();
+        var version = new CategoryVersion(1, NOW, null);
+
+        // when
+        cache.get(groupId, CategoryType.EXPENSE, version, this::load);
+        cache.get(groupId, CategoryType.INCOME, version, this::load);
+        cache.get(GroupId.generate(), CategoryType.EXPENSE, version, this::load);
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedTree() {
+        // given
+        var version = new CategoryVersion(1, NOW, null);
+        var evicted = GroupId.generate();
+        var retained = GroupId.generate();
+        cache.get(evicted, CategoryType.EXPENSE, version, this::load);
+        cache.get(retained, CategoryType.EXPENSE, version, this::load);
+        cache.get(retained, CategoryType.EXPENSE, version, this::load);
+
+        // when
+        cache.get(GroupId.generate(), CategoryType.EXPENSE, version, this::load);
+        cache.get(retained, CategoryType.EXPENSE, version, this::load);
+        cache.get(evicted, CategoryType.EXPENSE, version, this::load);
+
+        // then
+        assertThat(loads).hasValue(4);
+    }
+
+    private CategoryTree load() {
+        loads.incrementAndGet();
+        return new CategoryTree("[]", List.of(CategoryId.generate()));
+    }
+}
@@ -7,6 +7,7 @@ import static pl.btsoftware.backend.csvimport.domain.ErrorType.INVALID_CSV_FORMA
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import pl.btsoftware.backend.shared.Currency;
@@ -101,6 +102,58 @@ class CsvParseResultTest {
         assertThat(successRate).isCloseTo(0.0, org.assertj.core.data.Offset.offset(0.001));
     }
 
+    @Test
+    void shouldCountDuplicateProposals() {
+        // given
+        var proposal = new TransactionProposal(
+                new TransactionProposalId(UUID.randomUUID()),
+                LocalDate.of(2025, 12, 17),
+                "Wpływy: Test",
+                new BigDecimal("100.00"),
+                Currency.PLN,
+                TransactionType.INCOME,
+                null);
+        var result = new CsvParseResult(List.of(proposal, proposal.asDuplicate()), List.of(), 2, 2, 0);
+
+        // when
+        var duplicateCount = result.duplicateCount();
+
+        // then
+        assertThat(duplicateCount).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMoveSkippedProposalsToSkippedCount() {
+        // given
+        var kept = new TransactionProposal(
+                new TransactionProposalId(UUID.randomUUID()),
+                LocalDate.of(2025, 12, 18),
+                "Wpływy: Nowe",
+                new BigDecimal("100.00"),
+                Currency.PLN,
+                TransactionType.INCOME,
+                null);
+        var skipped = new TransactionProposal(
+                new TransactionProposalId(UUID.randomUUID()),
+                LocalDate.of(2025, 12, 17),
+                "Wpływy: Stare",
+                new BigDecimal("50.00"),
+                Currency.PLN,
+                TransactionType.INCOME,
+                null);
+        var result = new CsvParseResult(List.of(kept, skipped), List.of(), 4, 2, 0, 2);
+
+        // when
+        var afterSkip = result.skip(Set.of(skipped.transactionId()));
+
+        // then
+        assertThat(afterSkip.proposals()).containsExactly(kept);
+        assertThat(afterSkip.totalRows()).isEqualTo(4);
+        assertThat(afterSkip.successCount()).isEqualTo(1);
+        assertThat(afterSkip.skippedCount()).isEqualTo(3);
+        assertThat(afterSkip.successRate()).isCloseTo(1.0, org.assertj.core.data.Offset.offset(0.001));
+    }
+
     @Test
     void shouldRejectNullProposals() {
         // when & then
@@ -3,7 +3,9 @@ package pl.btsoftware.backend.csvimport.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import pl.btsoftware.backend.ai.infrastructure.client.GeminiClientException;
@@ -144,6 +146,94 @@ class GeminiResponseParserTest {
                 .isEqualTo(UUID.fromString("6f47f47a-282c-419d-b9c5-22d6b0007fd3"));
     }
 
+    @Test
+    void shouldTranslateAliasesBackToIds() {
+        // given
+        var transactionId = TransactionProposalId.generate();
+        var categoryId = CategoryId.generate();
+        var prompt = new CategorizationPrompt("{}", Map.of(), List.of(transactionId), List.of(categoryId));
+        var jsonResponse = """
+                [{"transactionId": 1, "categoryId": 1, "confidence": 0.9}]
+                """;
+
+        // when
+        var result = parser.parse(jsonResponse, prompt);
+
+        // then
+        assertThat(result).containsExactly(new CategorySuggestion(transactionId, categoryId, 0.9));
+    }
+
+    @Test
+    void shouldSkipSuggestionsWithUnknownAliases() {
+        // given
+        var transactionId = TransactionProposalId.generate();
+        var categoryId = CategoryId.generate();
+        var prompt = new CategorizationPrompt("{}", Map.of(), List.of(transactionId), List.of(categoryId));
+        var jsonResponse = """
+                [
+                  {"transactionId": 1, "categoryId": 7, "confidence": 0.9},
+                  {"transactionId": 3, "categoryId": 1, "confidence": 0.9},
+                  {"transactionId": "%s", "categoryId": 1, "confidence": 0.9}
+                ]
+                """.formatted(transactionId.value());
+
+        // when
+        var result = parser.parse(jsonResponse, prompt);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldEmitStreamedSuggestionsAsSoonAsEachElementIsComplete() {
+        // given
+        var firstId = TransactionProposalId.generate();
+        var secondId = TransactionProposalId.generate();
+        var categoryId = CategoryId.generate();
+        var prompt = new CategorizationPrompt("{}", Map.of(), List.of(firstId, secondId), List.of(categoryId));
+        var received = new ArrayList<CategorySuggestion>();
+        var streamParser = parser.streamParser(prompt, received::add);
+
+        // when
+        streamParser.feed("[{\"transactionId\": 1, \"categoryId\": 1, \"confi");
+        var beforeFirstElementEnds = received.size();
+        streamParser.feed("dence\": 0.9}, {\"transactionId\": 2, ");
+        var afterFirstElement = received.size();
+        streamParser.feed("\"categoryId\": null, \"confidence\": 0.4}]");
+        var result = streamParser.finish();
+
+        // then
+        assertThat(beforeFirstElementEnds).isZero();
+        assertThat(afterFirstElement).isEqualTo(1);
+        assertThat(received)
+                .containsExactly(
+                        new CategorySuggestion(firstId, categoryId, 0.9), new CategorySuggestion(secondId, null, 0.4));
+        assertThat(result).isEqualTo(received);
+    }
+
+    @Test
+    void shouldRejectIncompleteStreamedResponse() {
+        // given
+        var prompt = new CategorizationPrompt(
+                "{}", Map.of(), List.of(TransactionProposalId.generate()), List.of(CategoryId.generate()));
+        var streamParser = parser.streamParser(prompt, suggestion -> {});
+        streamParser.feed("[{\"transactionId\": 1, \"categoryId\": 1");
+
+        // when & then
+        assertThatThrownBy(streamParser::finish).isInstanceOf(GeminiClientException.class);
+    }
+
+    @Test
+    void shouldRejectStreamedResponseThatIsNotAnArray() {
+        // given
+        var prompt = new CategorizationPrompt("{}");
+        var streamParser = parser.streamParser(prompt, suggestion -> {});
+
+        // when & then
+        assertThatThrownBy(() -> streamParser.feed("{\"transactionId\": 1}"))
+                .isInstanceOf(GeminiClientException.class);
+    }
+
     @Test
     void shouldReturnEmptyListForEmptyJsonArray() {
         // given
@@ -0,0 +1,109 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+class ImportWatermarkTest {
+    private static final LocalDate BOUNDARY = LocalDate.of(2025, 12, 18);
+
+    private final AccountId accountId = AccountId.generate();
+    private final GroupId groupId = GroupId.generate();
+
+    @Test
+    void shouldStartAtLatestImportedDay() {
+        // when
+        var watermark = ImportWatermark.of(
+                accountId,
+                groupId,
+                List.of(staged(BOUNDARY.minusDays(1), 'a'), staged(BOUNDARY, 'b'), staged(BOUNDARY, 'c')));
+
+        // then
+        assertThat(watermark.date()).isEqualTo(BOUNDARY);
+        assertThat(watermark.boundaryHashes()).containsExactlyInAnyOrder(hash('b'), hash('c'));
+    }
+
+    @Test
+    void shouldRejectEmptyImport() {
+        // when & then
+        assertThatThrownBy(() -> ImportWatermark.of(accountId, groupId, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMoveToLaterDay() {
+        // given
+        var watermark = new ImportWatermark(accountId, groupId, BOUNDARY, Set.of(hash('a')));
+
+        // when
+        var advanced = watermark.advance(List.of(staged(BOUNDARY.plusDays(1), 'b')));
+
+        // then
+        assertThat(advanced.date()).isEqualTo(BOUNDARY.plusDays(1));
+        assertThat(advanced.boundaryHashes()).containsExactly(hash('b'));
+    }
+
+    @Test
+    void shouldMergeHashesOfSameDay() {
+        // given
+        var watermark = new ImportWatermark(accountId, groupId, BOUNDARY, Set.of(hash('a')));
+
+        // when
+        var advanced = watermark.advance(List.of(staged(BOUNDARY, 'b')));
+
+        // then
+        assertThat(advanced.date()).isEqualTo(BOUNDARY);
+        assertThat(advanced.boundaryHashes()).containsExactlyInAnyOrder(hash('a'), hash('b'));
+    }
+
+    @Test
+    void shouldNotMoveBackwards() {
+        // given
+        var watermark = new ImportWatermark(accountId, groupId, BOUNDARY, Set.of(hash('a')));
+
+        // when
+        var advanced = watermark.advance(List.of(staged(BOUNDARY.minusDays(3), 'b')));
+
+        // then
+        assertThat(advanced).isEqualTo(watermark);
+    }
+
+    @Test
+    void shouldCoverOlderDaysAndKnownBoundaryRows() {
+        // given
+        var watermark = new ImportWatermark(accountId, groupId, BOUNDARY, Set.of(hash('a')));
+
+        // when & then
+        assertThat(watermark.covers(BOUNDARY.minusDays(1))).isTrue();
+        assertThat(watermark.covers(BOUNDARY)).isFalse();
+        assertThat(watermark.covers(BOUNDARY, hash('a'))).isTrue();
+        assertThat(watermark.covers(BOUNDARY, hash('b'))).isFalse();
+        assertThat(watermark.covers(BOUNDARY.plusDays(1), hash('a'))).isFalse();
+    }
+
+    private static StagedTransaction staged(LocalDate date, char hashCharacter) {
+        var proposal = new TransactionProposal(
+                TransactionProposalId.generate(),
+                date,
+                "Zakupy: Biedronka",
+                new BigDecimal("-10.00"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                null);
+        return new StagedTransaction(proposal, hash(hashCharacter));
+    }
+
+    private static TransactionHash hash(char character) {
+        return new TransactionHash(String.valueOf(character).repeat(64));
+    }
+}
@@ -0,0 +1,104 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+
+class NearestNeighbourCategorizerTest {
+
+    @Test
+    void shouldSuggestCategoryOfMostSimilarMerchant() {
+        // given
+        var fuelId = CategoryId.generate();
+        var groceriesId = CategoryId.generate();
+        var categorizer = NearestNeighbourCategorizer.build(Map.of(
+                MerchantKey.of("Paliwo: Orlen stacja Gdansk", TransactionType.EXPENSE), fuelId,
+                MerchantKey.of("Zakupy: Biedronka Warszawa", TransactionType.EXPENSE), groceriesId,
+                MerchantKey.of("Zakupy: Lidl Krakow", TransactionType.EXPENSE), groceriesId));
+        var proposal = createProposal("Paliwo: ORLEN STACJA 123 KRAKOW", TransactionType.EXPENSE);
+
+        // when
+        var suggestions = categorizer.suggest(List.of(proposal));
+
+        // then
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.getFirst().transactionProposalId()).isEqualTo(proposal.transactionId());
+        assertThat(suggestions.getFirst().categoryId()).isEqualTo(fuelId);
+        assertThat(suggestions.getFirst().confidence()).isBetween(0.3, 1.0);
+    }
+
+    @Test
+    void shouldGiveFullConfidenceForIdenticalMerchant() {
+        // given
+        var groceriesId = CategoryId.generate();
+        var categorizer = NearestNeighbourCategorizer.build(Map.of(
+                MerchantKey.of("Zakupy: Biedronka Warszawa", TransactionType.EXPENSE), groceriesId,
+                MerchantKey.of("Paliwo: Orlen stacja Gdansk", TransactionType.EXPENSE), CategoryId.generate()));
+        var proposal = createProposal("Zakupy: BIEDRONKA 99 WARSZAWA", TransactionType.EXPENSE);
+
+        // when
+        var suggestions = categorizer.suggest(List.of(proposal));
+
+        // then
+        assertThat(suggestions.getFirst().categoryId()).isEqualTo(groceriesId);
+        assertThat(suggestions.getFirst().confidence()).isCloseTo(1.0, offset(0.001));
+    }
+
+    @Test
+    void shouldNotSuggestAcrossTransactionTypes() {
+        // given
+        var categorizer = NearestNeighbourCategorizer.build(
+                Map.of(MerchantKey.of("Allegro", TransactionType.EXPENSE), CategoryId.generate()));
+
+        // when
+        var suggestions = categorizer.suggest(List.of(createProposal("Allegro", TransactionType.INCOME)));
+
+        // then
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    void shouldNotSuggestForDissimilarDescription() {
+        // given
+        var categorizer = NearestNeighbourCategorizer.build(
+                Map.of(MerchantKey.of("Zakupy: Biedronka Warszawa", TransactionType.EXPENSE), CategoryId.generate()));
+
+        // when
+        var suggestions = categorizer.suggest(List.of(createProposal("Czynsz mieszkanie", TransactionType.EXPENSE)));
+
+        // then
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    void shouldNotSuggestWithoutHistory() {
+        // given
+        var categorizer = NearestNeighbourCategorizer.build(Map.of());
+
+        // when
+        var suggestions = categorizer.suggest(List.of(createProposal("Biedronka", TransactionType.EXPENSE)));
+
+        // then
+        assertThat(suggestions).isEmpty();
+    }
+
+    private TransactionProposal createProposal(String description, TransactionType type) {
+        return new TransactionProposal(
+                TransactionProposalId.generate(),
+                LocalDate.of(2025, 12, 18),
+                description,
+                BigDecimal.TEN,
+                Currency.PLN,
+                type,
+                null);
+    }
+}
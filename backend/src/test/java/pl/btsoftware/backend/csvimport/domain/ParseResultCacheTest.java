@@ -0,0 +1,77 @@
+package pl.btsoftware.backend.csvimport.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.csvimport.infrastructure.persistance.InMemoryParseResultCacheRepository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+class ParseResultCacheTest {
+    private static final AccountId ACCOUNT_ID = AccountId.generate();
+    private static final CsvParseResult RESULT = new CsvParseResult(List.of(), List.of(), 3, 0, 3);
+
+    private InMemoryParseResultCacheRepository repository;
+    private GroupId groupId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryParseResultCacheRepository();
+        groupId = GroupId.generate();
+    }
+
+    @Test
+    void shouldReturnStoredResult() {
+        // given
+        var cache = new ParseResultCache(repository, Duration.ofHours(1), 10);
+        var key = key("a");
+        cache.store(key, RESULT);
+
+        // when
+        var found = cache.find(key);
+
+        // then
+        assertThat(found).contains(RESULT);
+        assertThat(cache.find(key("b"))).isEmpty();
+    }
+
+    @Test
+    void shouldNotReturnExpiredResult() {
+        // given
+        var cache = new ParseResultCache(repository, Duration.ofHours(1), 10);
+        var key = key("a");
+        var createdAt = OffsetDateTime.now().minusHours(2);
+        repository.store(new CachedParseResult(key, RESULT, createdAt, createdAt.plusHours(1)));
+
+        // when
+        var found = cache.find(key);
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void shouldKeepOnlyNewestEntriesOfGroup() {
+        // given
+        var cache = new ParseResultCache(repository, Duration.ofHours(1), 2);
+        var createdAt = OffsetDateTime.now().minusMinutes(10);
+        repository.store(new CachedParseResult(key("old"), RESULT, createdAt, createdAt.plusHours(1)));
+        cache.store(key("b"), RESULT);
+
+        // when
+        cache.store(key("c"), RESULT);
+
+        // then
+        assertThat(repository.size()).isEqualTo(2);
+        assertThat(cache.find(key("old"))).isEmpty();
+        assertThat(cache.find(key("c"))).contains(RESULT);
+    }
+
+    private ParseResultCacheKey key(String digest) {
+        return new ParseResultCacheKey(groupId, ACCOUNT_ID, digest, "version");
+    }
+}
@@ -171,6 +171,20 @@ class TransactionProposalTest {
                 .hasMessageContaining("Transaction type cannot be null");
     }
 
+    @Test
+    void shouldKeepDuplicateFlagWhenCategoryIsApplied() {
+        // given
+        var proposal = createProposal("Zakupy Biedronka").asDuplicate();
+        var categoryId = CategoryId.generate();
+
+        // when
+        var categorized = proposal.withCategory(categoryId);
+
+        // then
+        assertThat(categorized.duplicate()).isTrue();
+        assertThat(categorized.categoryId()).isEqualTo(categoryId);
+    }
+
     private TransactionProposal createProposal(String description) {
         return new TransactionProposal(
                 new TransactionProposalId(randomUUID()),
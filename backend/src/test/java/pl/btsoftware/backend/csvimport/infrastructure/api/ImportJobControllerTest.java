@@ -0,0 +1,133 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static pl.btsoftware.backend.shared.JwtTokenFixture.createTokenFor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.btsoftware.backend.config.WebConfig;
+import pl.btsoftware.backend.csvimport.application.ImportJobService;
+import pl.btsoftware.backend.csvimport.domain.*;
+import pl.btsoftware.backend.csvimport.domain.error.ImportJobNotFoundException;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.users.domain.GroupId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+@WebMvcTest(controllers = ImportJobController.class)
+@Import(WebConfig.class)
+public class ImportJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportJobService importJobService;
+
+    @Test
+    void shouldAcceptImportAndReturnQueuedJob() throws Exception {
+        // given
+        var job = ImportJob.queued(AccountId.generate(), GroupId.generate());
+        when(importJobService.submit(any())).thenReturn(job);
+
+        var csvFile = new MockMultipartFile(
+                "csvFile", "test.csv", "text/csv", "csv content".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        mockMvc.perform(multipart("/api/imports")
+                        .file(csvFile)
+                        .param("accountId", job.accountId().value().toString())
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(job.id().value().toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.parsedRows").value(0))
+                .andExpect(jsonPath("$.result").doesNotExist());
+    }
+
+    @Test
+    void shouldRejectEmptyFileWithoutCreatingJob() throws Exception {
+        // given
+        var csvFile = new MockMultipartFile("csvFile", "empty.csv", "text/csv", new byte[0]);
+
+        // when & then
+        mockMvc.perform(multipart("/api/imports")
+                        .file(csvFile)
+                        .param("accountId", "550e8400-e29b-41d4-a716-446655440000")
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorType").value("EMPTY_FILE"));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenImportQueueIsFull() throws Exception {
+        // given
+        when(importJobService.submit(any()))
+                .thenThrow(new CsvImportException(ErrorType.IMPORT_QUEUE_FULL, "Too many imports in progress"));
+
+        var csvFile = new MockMultipartFile(
+                "csvFile", "test.csv", "text/csv", "csv content".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        mockMvc.perform(multipart("/api/imports")
+                        .file(csvFile)
+                        .param("accountId", "550e8400-e29b-41d4-a716-446655440000")
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorType").value("IMPORT_QUEUE_FULL"));
+    }
+
+    @Test
+    void shouldReturnCompletedJobWithResult() throws Exception {
+        // given
+        var proposal = new TransactionProposal(
+                TransactionProposalId.generate(),
+                LocalDate.of(2025, 12, 17),
+                "Zdrowie i uroda: APTEKARIUS SPOLKA",
+                new BigDecimal("-239.22"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                null);
+        var result = new CsvParseResult(List.of(proposal), List.of(), 1, 1, 0);
+        var job = ImportJob.queued(AccountId.generate(), GroupId.generate())
+                .parsing(1)
+                .completed(result);
+        when(importJobService.getJob(eq(job.id()), any(UserId.class))).thenReturn(job);
+
+        // when & then
+        mockMvc.perform(get("/api/imports/" + job.id().value()).with(createTokenFor("test-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.parsedRows").value(1))
+                .andExpect(jsonPath("$.result.proposals", hasSize(1)))
+                .andExpect(jsonPath("$.result.proposals[0].description").value("Zdrowie i uroda: APTEKARIUS SPOLKA"))
+                .andExpect(jsonPath("$.result.successCount").value(1));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        // given
+        var jobId = ImportJobId.generate();
+        when(importJobService.getJob(eq(jobId), any(UserId.class))).thenThrow(new ImportJobNotFoundException());
+
+        // when & then
+        mockMvc.perform(get("/api/imports/" + jobId.value()).with(createTokenFor("test-user")))
+                .andExpect(status().isNotFound());
+    }
+}
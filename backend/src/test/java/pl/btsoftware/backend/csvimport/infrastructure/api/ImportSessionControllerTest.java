@@ -0,0 +1,149 @@
+package pl.btsoftware.backend.csvimport.infrastructure.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static pl.btsoftware.backend.shared.JwtTokenFixture.createTokenFor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.btsoftware.backend.config.WebConfig;
+import pl.btsoftware.backend.csvimport.application.CommitImportCommand;
+import pl.btsoftware.backend.csvimport.application.ImportRowEdit;
+import pl.btsoftware.backend.csvimport.application.ImportSessionService;
+import pl.btsoftware.backend.csvimport.application.StagedImport;
+import pl.btsoftware.backend.csvimport.domain.*;
+import pl.btsoftware.backend.csvimport.domain.error.ImportSessionNotFoundException;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.TransactionId;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.application.BulkCreateResult;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+@WebMvcTest(controllers = ImportSessionController.class)
+@Import(WebConfig.class)
+public class ImportSessionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportSessionService importSessionService;
+
+    @Test
+    void shouldStageImportAndReturnSessionWithProposalIds() throws Exception {
+        // given
+        var proposal = new TransactionProposal(
+                TransactionProposalId.generate(),
+                LocalDate.of(2025, 12, 17),
+                "Zdrowie i uroda: APTEKARIUS SPOLKA",
+                new BigDecimal("-239.22"),
+                Currency.PLN,
+                TransactionType.EXPENSE,
+                null);
+        var session = ImportSession.create(
+                AccountId.generate(),
+                GroupId.generate(),
+                List.of(new StagedTransaction(proposal, new TransactionHash("a".repeat(64)))),
+                Duration.ofHours(1));
+        var result = new CsvParseResult(List.of(proposal), List.of(), 1, 1, 0);
+        when(importSessionService.stage(any())).thenReturn(new StagedImport(session, result));
+
+        var csvFile = new MockMultipartFile(
+                "csvFile", "test.csv", "text/csv", "csv content".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        mockMvc.perform(multipart("/api/imports/sessions")
+                        .file(csvFile)
+                        .param("accountId", session.accountId().value().toString())
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(session.id().value().toString()))
+                .andExpect(jsonPath("$.accountId").value(session.accountId().value().toString()))
+                .andExpect(jsonPath("$.result.proposals", hasSize(1)))
+                .andExpect(jsonPath("$.result.proposals[0].id")
+                        .value(proposal.transactionId().value().toString()));
+    }
+
+    @Test
+    void shouldCommitSessionWithRowEdits() throws Exception {
+        // given
+        var sessionId = ImportSessionId.generate();
+        var rowId = TransactionProposalId.generate();
+        var categoryId = CategoryId.generate();
+        when(importSessionService.commit(any()))
+                .thenReturn(BulkCreateResult.of(List.of(TransactionId.generate()), 1));
+        var request = """
+                {
+                  "edits": [
+                    {"id": "%s", "categoryId": "%s", "excluded": false}
+                  ]
+                }
+                """
+                .formatted(rowId.value(), categoryId.value());
+
+        // when & then
+        mockMvc.perform(post("/api/imports/sessions/" + sessionId.value() + "/commit")
+                        .contentType(APPLICATION_JSON)
+                        .content(request)
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.savedCount").value(1))
+                .andExpect(jsonPath("$.duplicateCount").value(1));
+
+        var captor = ArgumentCaptor.forClass(CommitImportCommand.class);
+        verify(importSessionService).commit(captor.capture());
+        var command = captor.getValue();
+        assertThat(command.sessionId()).isEqualTo(sessionId);
+        assertThat(command.edits())
+                .containsExactly(new ImportRowEdit(rowId, categoryId, null, false));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownSession() throws Exception {
+        // given
+        when(importSessionService.commit(any())).thenThrow(new ImportSessionNotFoundException());
+
+        // when & then
+        mockMvc.perform(post("/api/imports/sessions/" + ImportSessionId.generate().value() + "/commit")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"edits\": []}")
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldRejectMissingCategoryOnCommit() throws Exception {
+        // given
+        when(importSessionService.commit(any()))
+                .thenThrow(new CsvImportException(ErrorType.MISSING_CATEGORY, "Row has no category"));
+
+        // when & then
+        mockMvc.perform(post("/api/imports/sessions/" + ImportSessionId.generate().value() + "/commit")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"edits\": []}")
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorType").value("MISSING_CATEGORY"));
+    }
+}
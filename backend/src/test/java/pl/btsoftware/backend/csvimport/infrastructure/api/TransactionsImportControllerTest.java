@@ -3,6 +3,8 @@ package pl.btsoftware.backend.csvimport.infrastructure.api;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,6 +26,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import pl.btsoftware.backend.config.WebConfig;
 import pl.btsoftware.backend.csvimport.application.CsvParseService;
+import pl.btsoftware.backend.csvimport.application.CsvUploadFormat;
 import pl.btsoftware.backend.csvimport.domain.*;
 import pl.btsoftware.backend.shared.Currency;
 import pl.btsoftware.backend.shared.TransactionType;
@@ -126,9 +129,9 @@ public class TransactionsImportControllerTest {
     }
 
     @Test
-    void shouldRejectFileLargerThan10MB() throws Exception {
+    void shouldRejectFileLargerThan50MB() throws Exception {
         // given
-        var largeFile = new MockMultipartFile("csvFile", "large.csv", "text/csv", new byte[10 * 1024 * 1024 + 1]);
+        var largeFile = new MockMultipartFile("csvFile", "large.csv", "text/csv", new byte[50 * 1024 * 1024 + 1]);
 
         // when & then
         mockMvc.perform(multipart("/api/transactions/import")
@@ -137,7 +140,7 @@ public class TransactionsImportControllerTest {
                         .with(createTokenFor("test-user")))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errorType").value("FILE_TOO_LARGE"))
-                .andExpect(jsonPath("$.message").value("File size exceeds maximum allowed size of 10MB"));
+                .andExpect(jsonPath("$.message").value("File size exceeds maximum allowed size of 50MB"));
     }
 
     @Test
@@ -153,7 +156,23 @@ public class TransactionsImportControllerTest {
                         .with(createTokenFor("test-user")))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errorType").value("INVALID_FILE_TYPE"))
-                .andExpect(jsonPath("$.message").value("Invalid file type. Allowed types: CSV"));
+                .andExpect(jsonPath("$.message").value("Invalid file type. Allowed types: CSV, GZIP, ZIP"));
+    }
+
+    @Test
+    void shouldPassGzipFormatToParser() throws Exception {
+        // given
+        when(csvParseService.parse(any())).thenReturn(new CsvParseResult(List.of(), List.of(), 0, 0, 0));
+        var gzipFile = new MockMultipartFile(
+                "csvFile", "test.csv.gz", "application/gzip", "compressed".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        mockMvc.perform(multipart("/api/transactions/import")
+                        .file(gzipFile)
+                        .param("accountId", "550e8400-e29b-41d4-a716-446655440000")
+                        .with(createTokenFor("test-user")))
+                .andExpect(status().isOk());
+        verify(csvParseService).parse(argThat(command -> command.format() == CsvUploadFormat.GZIP));
     }
 
     @Test
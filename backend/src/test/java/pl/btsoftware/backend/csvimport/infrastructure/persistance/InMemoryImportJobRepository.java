@@ -0,0 +1,61 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import pl.btsoftware.backend.csvimport.domain.ImportJob;
+import pl.btsoftware.backend.csvimport.domain.ImportJobId;
+import pl.btsoftware.backend.csvimport.domain.ImportJobRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryImportJobRepository implements ImportJobRepository {
+    private final HashMap<ImportJobId, ImportJob> database = new HashMap<>();
+    private final HashMap<ImportJobId, OffsetDateTime> leases = new HashMap<>();
+
+    @Override
+    public synchronized void create(ImportJob importJob, OffsetDateTime leaseExpiresAt) {
+        database.put(importJob.id(), importJob);
+        leases.put(importJob.id(), leaseExpiresAt);
+    }
+
+    @Override
+    public synchronized boolean update(ImportJob importJob) {
+        return updateUnfinished(importJob, true);
+    }
+
+    @Override
+    public synchronized boolean updateIfLeaseExpired(ImportJob importJob, OffsetDateTime at) {
+        var leaseExpiresAt = leases.get(importJob.id());
+        return updateUnfinished(importJob, leaseExpiresAt != null && leaseExpiresAt.isBefore(at));
+    }
+
+    @Override
+    public synchronized void renewLeases(Collection<ImportJobId> ids, OffsetDateTime leaseExpiresAt) {
+        ids.stream()
+                .filter(id -> database.containsKey(id) && !database.get(id).isFinished())
+                .forEach(id -> leases.put(id, leaseExpiresAt));
+    }
+
+    @Override
+    public synchronized Optional<ImportJob> findById(ImportJobId id, GroupId groupId) {
+        return Optional.ofNullable(database.get(id)).filter(job -> job.groupId().equals(groupId));
+    }
+
+    @Override
+    public synchronized List<ImportJob> findWithExpiredLease(OffsetDateTime at) {
+        return database.values().stream()
+                .filter(job -> !job.isFinished() && leases.get(job.id()).isBefore(at))
+                .toList();
+    }
+
+    private boolean updateUnfinished(ImportJob importJob, boolean condition) {
+        var current = database.get(importJob.id());
+        if (current == null || current.isFinished() || !condition) {
+            return false;
+        }
+        database.put(importJob.id(), importJob);
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Optional;
+import pl.btsoftware.backend.csvimport.domain.ImportSession;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionId;
+import pl.btsoftware.backend.csvimport.domain.ImportSessionRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryImportSessionRepository implements ImportSessionRepository {
+    private final HashMap<ImportSessionId, ImportSession> database = new HashMap<>();
+
+    @Override
+    public void store(ImportSession importSession) {
+        database.put(importSession.id(), importSession);
+    }
+
+    @Override
+    public Optional<ImportSession> findById(ImportSessionId id, GroupId groupId) {
+        return Optional.ofNullable(database.get(id)).filter(session -> session.groupId().equals(groupId));
+    }
+
+    @Override
+    public Optional<ImportSession> findByIdForUpdate(ImportSessionId id, GroupId groupId) {
+        return findById(id, groupId);
+    }
+
+    @Override
+    public void delete(ImportSessionId id) {
+        database.remove(id);
+    }
+
+    @Override
+    public void deleteExpired(OffsetDateTime at) {
+        database.values().removeIf(session -> session.isExpired(at));
+    }
+}
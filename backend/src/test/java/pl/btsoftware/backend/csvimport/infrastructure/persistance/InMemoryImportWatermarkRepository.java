@@ -0,0 +1,22 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.util.HashMap;
+import java.util.Optional;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermark;
+import pl.btsoftware.backend.csvimport.domain.ImportWatermarkRepository;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryImportWatermarkRepository implements ImportWatermarkRepository {
+    private final HashMap<AccountId, ImportWatermark> database = new HashMap<>();
+
+    @Override
+    public void store(ImportWatermark watermark) {
+        database.put(watermark.accountId(), watermark);
+    }
+
+    @Override
+    public Optional<ImportWatermark> findByAccountId(AccountId accountId, GroupId groupId) {
+        return Optional.ofNullable(database.get(accountId)).filter(watermark -> watermark.groupId().equals(groupId));
+    }
+}
@@ -0,0 +1,44 @@
+package pl.btsoftware.backend.csvimport.infrastructure.persistance;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import pl.btsoftware.backend.csvimport.domain.CachedParseResult;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCacheKey;
+import pl.btsoftware.backend.csvimport.domain.ParseResultCacheRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryParseResultCacheRepository implements ParseResultCacheRepository {
+    private final LinkedHashMap<ParseResultCacheKey, CachedParseResult> database = new LinkedHashMap<>();
+
+    @Override
+    public void store(CachedParseResult entry) {
+        database.put(entry.key(), entry);
+    }
+
+    @Override
+    public Optional<CachedParseResult> find(ParseResultCacheKey key) {
+        return Optional.ofNullable(database.get(key));
+    }
+
+    @Override
+    public void deleteExpired(OffsetDateTime at) {
+        database.values().removeIf(entry -> entry.isExpired(at));
+    }
+
+    @Override
+    public void deleteOldest(GroupId groupId, int keep) {
+        var oldest = database.values().stream()
+                .filter(entry -> entry.key().groupId().equals(groupId))
+                .sorted(Comparator.comparing(CachedParseResult::createdAt).reversed())
+                .skip(keep)
+                .map(CachedParseResult::key)
+                .toList();
+        oldest.forEach(database::remove);
+    }
+
+    public int size() {
+        return database.size();
+    }
+}
@@ -5,6 +5,7 @@ import static org.instancio.Select.field;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +21,8 @@ import pl.btsoftware.backend.transaction.domain.BillItem;
 import pl.btsoftware.backend.transaction.domain.BillItemId;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryCategoryUsageRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryMerchantCategoryRepository;
 import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryTransactionRepository;
 import pl.btsoftware.backend.users.domain.GroupId;
 
@@ -27,11 +30,14 @@ class TransactionQueryFacadeTest {
 
     private TransactionQueryFacade transactionQueryFacade;
     private InMemoryTransactionRepository transactionRepository;
+    private InMemoryCategoryUsageRepository categoryUsageRepository;
 
     @BeforeEach
     void setUp() {
         transactionRepository = new InMemoryTransactionRepository();
-        transactionQueryFacade = new TransactionQueryFacade(transactionRepository);
+        categoryUsageRepository = new InMemoryCategoryUsageRepository();
+        transactionQueryFacade = new TransactionQueryFacade(
+                transactionRepository, categoryUsageRepository, new InMemoryMerchantCategoryRepository());
     }
 
     @Nested
@@ -99,6 +105,45 @@ class TransactionQueryFacadeTest {
             // then
             assertThat(hasTransactions).isFalse();
         }
+
+        @Test
+        void shouldReturnFalseWhenCategoryUsageDroppedToZero() {
+            // given
+            var categoryId = CategoryId.generate();
+            var groupId = GroupId.generate();
+            categoryUsageRepository.adjust(Map.of(categoryId, 1L), groupId);
+            categoryUsageRepository.adjust(Map.of(categoryId, -1L), groupId);
+
+            // when
+            var hasTransactions = transactionQueryFacade.hasTransactions(categoryId, groupId);
+
+            // then
+            assertThat(hasTransactions).isFalse();
+        }
+    }
+
+    @Nested
+    class CountTransactionsByCategory {
+
+        @Test
+        void shouldReturnTransactionCountsForGroup() {
+            // given
+            var categoryId1 = CategoryId.generate();
+            var categoryId2 = CategoryId.generate();
+            var accountId = AccountId.generate();
+            var groupId = GroupId.generate();
+
+            storeTransaction(accountId, categoryId1, groupId);
+            storeTransaction(accountId, categoryId1, groupId);
+            storeTransaction(accountId, categoryId2, groupId);
+            storeTransaction(accountId, CategoryId.generate(), GroupId.generate());
+
+            // when
+            var counts = transactionQueryFacade.countTransactionsByCategory(groupId);
+
+            // then
+            assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(categoryId1, 2L, categoryId2, 1L));
+        }
     }
 
     @Nested
@@ -168,6 +213,41 @@ class TransactionQueryFacadeTest {
         }
     }
 
+    @Nested
+    class FindExistingHashes {
+
+        @Test
+        void shouldReturnOnlyHashesAlreadyStoredForAccount() {
+            // given
+            var accountId = AccountId.generate();
+            var groupId = GroupId.generate();
+            storeTransaction(accountId, CategoryId.generate(), groupId);
+            var storedHash = new TransactionHash("a".repeat(64));
+            var newHash = new TransactionHash("b".repeat(64));
+
+            // when
+            var existingHashes =
+                    transactionQueryFacade.findExistingHashes(accountId, List.of(storedHash, newHash), groupId);
+
+            // then
+            assertThat(existingHashes).containsExactly(storedHash);
+        }
+
+        @Test
+        void shouldNotReturnHashesStoredForDifferentAccount() {
+            // given
+            var groupId = GroupId.generate();
+            storeTransaction(AccountId.generate(), CategoryId.generate(), groupId);
+
+            // when
+            var existingHashes = transactionQueryFacade.findExistingHashes(
+                    AccountId.generate(), List.of(new TransactionHash("a".repeat(64))), groupId);
+
+            // then
+            assertThat(existingHashes).isEmpty();
+        }
+    }
+
     private void storeTransaction(AccountId accountId, CategoryId categoryId, GroupId groupId) {
         var bill = createBill(categoryId);
         var auditInfo = createAuditInfo(groupId);
@@ -179,6 +259,7 @@ class TransactionQueryFacadeTest {
                 new TransactionHash("a".repeat(64)),
                 auditInfo);
         transactionRepository.store(transaction);
+        categoryUsageRepository.adjust(Map.of(categoryId, 1L), groupId);
     }
 
     private Bill createBill(CategoryId categoryId) {
@@ -22,6 +22,9 @@ import pl.btsoftware.backend.shared.CategoryId;
 import pl.btsoftware.backend.shared.Money;
 import pl.btsoftware.backend.shared.TransactionType;
 import pl.btsoftware.backend.transaction.TransactionQueryFacade;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryBulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryCategoryUsageRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryMerchantCategoryRepository;
 import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryTransactionRepository;
 import pl.btsoftware.backend.users.UsersModuleFacade;
 import pl.btsoftware.backend.users.domain.GroupId;
@@ -36,6 +39,7 @@ class SimpleTransactionServiceTest {
     @BeforeEach
     void setUp() {
         var transactionRepository = new InMemoryTransactionRepository();
+        var categoryUsageRepository = new InMemoryCategoryUsageRepository();
         var accountRepository = new InMemoryAccountRepository();
         var usersModuleFacade = Mockito.mock(UsersModuleFacade.class);
         var categoryQueryFacade = Mockito.mock(CategoryQueryFacade.class);
@@ -55,7 +59,10 @@ class SimpleTransactionServiceTest {
                 accountModuleFacade,
                 categoryQueryFacade,
                 usersModuleFacade,
-                transactionAuditModuleFacade);
+                transactionAuditModuleFacade,
+                categoryUsageRepository,
+                new InMemoryMerchantCategoryRepository(),
+                new InMemoryBulkImportCursorRepository());
     }
 
     @Test
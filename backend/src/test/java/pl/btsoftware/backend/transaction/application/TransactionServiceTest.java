@@ -10,6 +10,7 @@ import static pl.btsoftware.backend.shared.Currency.PLN;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,11 +27,19 @@ import pl.btsoftware.backend.audit.AuditModuleFacade;
 import pl.btsoftware.backend.category.CategoryQueryFacade;
 import pl.btsoftware.backend.shared.*;
 import pl.btsoftware.backend.transaction.TransactionQueryFacade;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionRepository;
 import pl.btsoftware.backend.transaction.domain.TransactionSearchCriteria;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportConflictException;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportMismatchException;
 import pl.btsoftware.backend.transaction.domain.error.TransactionCurrencyMismatchException;
 import pl.btsoftware.backend.transaction.domain.error.TransactionNotFoundException;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryBulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryCategoryUsageRepository;
+import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryMerchantCategoryRepository;
 import pl.btsoftware.backend.transaction.infrastructure.persistance.InMemoryTransactionRepository;
 import pl.btsoftware.backend.users.UsersModuleFacade;
 import pl.btsoftware.backend.users.domain.GroupId;
@@ -39,14 +48,21 @@ import pl.btsoftware.backend.users.domain.UserId;
 
 class TransactionServiceTest {
     private TransactionRepository transactionRepository;
+    private InMemoryCategoryUsageRepository categoryUsageRepository;
+    private InMemoryMerchantCategoryRepository merchantCategoryRepository;
     private AccountModuleFacade accountModuleFacade;
     private CategoryQueryFacade categoryQueryFacade;
     private TransactionService transactionService;
+    private InMemoryBulkImportCursorRepository bulkImportCursorRepository;
+    private BulkImportService bulkImportService;
     private GroupId testGroupId;
 
     @BeforeEach
     void setUp() {
         this.transactionRepository = new InMemoryTransactionRepository();
+        this.categoryUsageRepository = new InMemoryCategoryUsageRepository();
+        this.merchantCategoryRepository = new InMemoryMerchantCategoryRepository();
+        this.bulkImportCursorRepository = new InMemoryBulkImportCursorRepository();
         var accountRepository = new InMemoryAccountRepository();
         var usersModuleFacade = Mockito.mock(UsersModuleFacade.class);
         this.categoryQueryFacade = Mockito.mock(CategoryQueryFacade.class);
@@ -55,6 +71,8 @@ class TransactionServiceTest {
         var mockUser = User.create(new UserId("user-123"), "test@example.com", "Test User", testGroupId);
         when(usersModuleFacade.findUserOrThrow(any(UserId.class))).thenReturn(mockUser);
         when(categoryQueryFacade.allCategoriesExists(any(), any(GroupId.class))).thenReturn(true);
+        when(categoryQueryFacade.findExistingCategories(any(), any(GroupId.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
         var auditModuleFacade = Mockito.mock(AuditModuleFacade.class);
         var accountService = new AccountService(
@@ -66,7 +84,12 @@ class TransactionServiceTest {
                 accountModuleFacade,
                 categoryQueryFacade,
                 usersModuleFacade,
-                transactionAuditModuleFacade);
+                transactionAuditModuleFacade,
+                categoryUsageRepository,
+                merchantCategoryRepository,
+                bulkImportCursorRepository);
+        this.bulkImportService = new BulkImportService(
+                transactionService, bulkImportCursorRepository, accountModuleFacade, usersModuleFacade, 2);
     }
 
     @Test
@@ -1096,4 +1119,410 @@ class TransactionServiceTest {
         assertThat(filteredTransactions).hasSize(1);
         assertThat(filteredTransactions.getContent().getFirst().type()).isEqualTo(TransactionType.INCOME);
     }
+
+    @Test
+    void shouldCountCategoryUsageOnCreate() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var billCommand = new BillCommand(List.of(
+                new BillItemCommand(categoryId, new BigDecimal("10.00"), "Bread"),
+                new BillItemCommand(categoryId, new BigDecimal("5.00"), "Milk")));
+        var command = new CreateTransactionCommand(
+                account.id(), LocalDate.of(2024, 1, 15), TransactionType.EXPENSE, billCommand, userId);
+
+        // When
+        transactionService.createTransaction(command);
+
+        // Then
+        assertThat(categoryUsageRepository.countTransactions(categoryId, testGroupId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMoveCategoryUsageOnUpdate() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var oldCategoryId = CategoryId.generate();
+        var newCategoryId = CategoryId.generate();
+        var amount = new BigDecimal("100.00");
+        var createCommand = new CreateTransactionCommand(
+                account.id(),
+                LocalDate.of(2024, 1, 15),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(oldCategoryId, amount, "Test transaction"))),
+                userId);
+        var transaction = transactionService.createTransaction(createCommand);
+        var updateCommand = new UpdateTransactionCommand(
+                transaction.id(),
+                new BillCommand(List.of(new BillItemCommand(newCategoryId, amount, "Test transaction"))),
+                account.id(),
+                createCommand.transactionDate());
+
+        // When
+        transactionService.updateTransaction(updateCommand, userId);
+
+        // Then
+        assertThat(categoryUsageRepository.countTransactions(oldCategoryId, testGroupId)).isZero();
+        assertThat(categoryUsageRepository.countTransactions(newCategoryId, testGroupId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseCategoryUsageOnDelete() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var createCommand = new CreateTransactionCommand(
+                account.id(),
+                LocalDate.of(2024, 1, 15),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(categoryId, new BigDecimal("100.00"), "To delete"))),
+                userId);
+        var transaction = transactionService.createTransaction(createCommand);
+
+        // When
+        transactionService.deleteTransaction(transaction.id(), userId);
+
+        // Then
+        assertThat(categoryUsageRepository.countTransactions(categoryId, testGroupId)).isZero();
+    }
+
+    @Test
+    void shouldCountCategoryUsageOnlyForSavedBulkTransactions() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var existing = new CreateTransactionCommand(
+                account.id(),
+                LocalDate.of(2024, 1, 15),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(categoryId, new BigDecimal("100.00"), "Existing"))),
+                userId);
+        transactionService.createTransaction(existing);
+        var fresh = new CreateTransactionCommand(
+                account.id(),
+                LocalDate.of(2024, 1, 16),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(categoryId, new BigDecimal("50.00"), "Fresh"))),
+                userId);
+
+        // When
+        transactionService.bulkCreateTransactions(
+                new BulkCreateTransactionCommand(account.id(), List.of(existing, fresh)), userId);
+
+        // Then
+        assertThat(categoryUsageRepository.countTransactions(categoryId, testGroupId)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRememberMerchantCategoryOnCreate() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var command = new CreateTransactionCommand(
+                account.id(),
+                LocalDate.of(2024, 1, 15),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(categoryId, new BigDecimal("20.00"), "BIEDRONKA 1234"))),
+                userId);
+
+        // When
+        transactionService.createTransaction(command);
+
+        // Then
+        var key = MerchantKey.of("Biedronka 5678", TransactionType.EXPENSE);
+        assertThat(merchantCategoryRepository.findAll(testGroupId)).containsEntry(key, categoryId);
+    }
+
+    @Test
+    void shouldRememberLastConfirmedMerchantCategoryOnUpdate() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var oldCategoryId = CategoryId.generate();
+        var newCategoryId = CategoryId.generate();
+        var amount = new BigDecimal("100.00");
+        var createCommand = new CreateTransactionCommand(
+                account.id(),
+                LocalDate.of(2024, 1, 15),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(oldCategoryId, amount, "Orlen"))),
+                userId);
+        var transaction = transactionService.createTransaction(createCommand);
+        var updateCommand = new UpdateTransactionCommand(
+                transaction.id(),
+                new BillCommand(List.of(new BillItemCommand(newCategoryId, amount, "Orlen"))),
+                account.id(),
+                createCommand.transactionDate());
+
+        // When
+        transactionService.updateTransaction(updateCommand, userId);
+
+        // Then
+        var key = MerchantKey.of("Orlen", TransactionType.EXPENSE);
+        assertThat(merchantCategoryRepository.findAll(testGroupId)).containsEntry(key, newCategoryId);
+    }
+
+    @Test
+    void shouldNotRememberMerchantCategoryOfSplitBill() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var billCommand = new BillCommand(List.of(
+                new BillItemCommand(CategoryId.generate(), new BigDecimal("10.00"), "Bread"),
+                new BillItemCommand(CategoryId.generate(), new BigDecimal("5.00"), "Milk")));
+        var command = new CreateTransactionCommand(
+                account.id(), LocalDate.of(2024, 1, 15), TransactionType.EXPENSE, billCommand, userId);
+
+        // When
+        transactionService.createTransaction(command);
+
+        // Then
+        assertThat(merchantCategoryRepository.findAll(testGroupId)).isEmpty();
+    }
+
+    @Test
+    void shouldStreamBulkCreateInWindowsSkippingDuplicates() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var bulkCreate = new StreamingBulkCreate(transactionService, account.id(), userId);
+        var rows = StreamingBulkCreate.WINDOW_SIZE + 1;
+        for (var row = 1; row <= rows; row++) {
+            bulkCreate.add(row, expense(account.id(), userId, categoryId, "Transaction " + row));
+        }
+        bulkCreate.add(rows + 1, expense(account.id(), userId, categoryId, "Transaction 1"));
+
+        // When
+        var result = bulkCreate.finish();
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(rows + 1);
+        assertThat(result.savedCount()).isEqualTo(rows);
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.errorCount()).isZero();
+        assertThat(categoryUsageRepository.countTransactions(categoryId, testGroupId)).isEqualTo(rows);
+    }
+
+    @Test
+    void shouldKeepRepeatedRowsWithinStreamedWindow() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var bulkCreate = new StreamingBulkCreate(transactionService, account.id(), userId);
+        bulkCreate.add(1, expense(account.id(), userId, categoryId, "Coffee"));
+        bulkCreate.add(2, expense(account.id(), userId, categoryId, "Coffee"));
+
+        // When
+        var result = bulkCreate.finish();
+
+        // Then
+        assertThat(result.savedCount()).isEqualTo(2);
+        assertThat(result.duplicateCount()).isZero();
+        var updatedAccount = accountModuleFacade.getAccount(account.id(), userId);
+        assertThat(updatedAccount.balance().value()).isEqualTo(new BigDecimal("-20.00"));
+    }
+
+    @Test
+    void shouldReportStreamedRowsWithUnknownCategory() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var knownCategoryId = CategoryId.generate();
+        when(categoryQueryFacade.findExistingCategories(any(), any(GroupId.class)))
+                .thenReturn(Set.of(knownCategoryId));
+        var bulkCreate = new StreamingBulkCreate(transactionService, account.id(), userId);
+        bulkCreate.add(1, expense(account.id(), userId, knownCategoryId, "Known"));
+        bulkCreate.add(2, expense(account.id(), userId, CategoryId.generate(), "Unknown"));
+        bulkCreate.reject(3, "Malformed transaction");
+
+        // When
+        var result = bulkCreate.finish();
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(3);
+        assertThat(result.savedCount()).isEqualTo(1);
+        assertThat(result.errorCount()).isEqualTo(2);
+        assertThat(result.errors())
+                .containsExactly(
+                        new BulkRowError(3, "Malformed transaction"), new BulkRowError(2, "Category not found"));
+    }
+
+    @Test
+    void shouldLimitReportedStreamedRowErrors() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var bulkCreate = new StreamingBulkCreate(transactionService, account.id(), userId);
+        var rejectedRows = StreamingBulkCreateResult.MAX_REPORTED_ERRORS + 10;
+        for (var row = 1; row <= rejectedRows; row++) {
+            bulkCreate.reject(row, "Malformed transaction");
+        }
+
+        // When
+        var result = bulkCreate.finish();
+
+        // Then
+        assertThat(result.errorCount()).isEqualTo(rejectedRows);
+        assertThat(result.errors()).hasSize(StreamingBulkCreateResult.MAX_REPORTED_ERRORS);
+    }
+
+    @Test
+    void shouldImportInChunksAndTrackCursor() throws Exception {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var importId = BulkImportId.from(UUID.randomUUID());
+        var commands = List.of(
+                expense(account.id(), userId, categoryId, "Transaction 1"),
+                expense(account.id(), userId, categoryId, "Transaction 2"),
+                expense(account.id(), userId, categoryId, "Transaction 1"),
+                expense(account.id(), userId, categoryId, "Transaction 3"),
+                expense(account.id(), userId, categoryId, "Transaction 4"));
+
+        // When
+        var result = bulkImportService.importInChunks(
+                importId, account.id(), commands.size(), userId, rowsOf(commands));
+
+        // Then
+        assertThat(result.cursor().isCompleted()).isTrue();
+        assertThat(result.cursor().savedCount()).isEqualTo(4);
+        assertThat(result.cursor().duplicateCount()).isEqualTo(1);
+        assertThat(result.cursor().errorCount()).isZero();
+        assertThat(bulkImportService.getProgress(importId, userId)).isEqualTo(result.cursor());
+        var updatedAccount = accountModuleFacade.getAccount(account.id(), userId);
+        assertThat(updatedAccount.balance().value()).isEqualTo(new BigDecimal("-40.00"));
+    }
+
+    @Test
+    void shouldResumeChunkedImportFromCursor() throws Exception {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var importId = BulkImportId.from(UUID.randomUUID());
+        var commands = List.of(
+                expense(account.id(), userId, categoryId, "Transaction 1"),
+                expense(account.id(), userId, categoryId, "Transaction 2"),
+                expense(account.id(), userId, categoryId, "Transaction 3"));
+        bulkImportCursorRepository.store(
+                BulkImportCursor.start(importId, account.id(), testGroupId, commands.size())
+                        .advance(2, 2, 0, 0));
+
+        // When
+        var result = bulkImportService.importInChunks(
+                importId, account.id(), commands.size(), userId, rowsOf(commands));
+
+        // Then
+        assertThat(result.cursor().processedRows()).isEqualTo(3);
+        assertThat(result.cursor().savedCount()).isEqualTo(3);
+        assertThat(transactionRepository
+                        .findAll(TransactionSearchCriteria.empty(), testGroupId, Pageable.ofSize(20))
+                        .getContent())
+                .extracting(Transaction::description)
+                .containsExactly("Transaction 3");
+    }
+
+    @Test
+    void shouldRejectResumingChunkedImportWithDifferentPayload() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var importId = BulkImportId.from(UUID.randomUUID());
+        bulkImportCursorRepository.store(BulkImportCursor.start(importId, account.id(), testGroupId, 5));
+        var commands = List.of(expense(account.id(), userId, CategoryId.generate(), "Transaction 1"));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkImportService.importInChunks(
+                        importId, account.id(), commands.size(), userId, rowsOf(commands)))
+                .isInstanceOf(BulkImportMismatchException.class);
+    }
+
+    @Test
+    void shouldRejectChunkedImportStreamingMoreRowsThanDeclared() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var importId = BulkImportId.from(UUID.randomUUID());
+        var commands = List.of(
+                expense(account.id(), userId, categoryId, "Transaction 1"),
+                expense(account.id(), userId, categoryId, "Transaction 2"),
+                expense(account.id(), userId, categoryId, "Transaction 3"));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkImportService.importInChunks(importId, account.id(), 2, userId, rowsOf(commands)))
+                .isInstanceOf(BulkImportMismatchException.class);
+        assertThat(bulkImportService.getProgress(importId, userId).processedRows())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountRejectedLinesInChunkedImportCursor() throws Exception {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var categoryId = CategoryId.generate();
+        var importId = BulkImportId.from(UUID.randomUUID());
+        BulkRowSource source = sink -> {
+            sink.add(1, expense(account.id(), userId, categoryId, "Transaction 1"));
+            sink.reject(2, "Malformed transaction");
+            sink.add(3, expense(account.id(), userId, categoryId, "Transaction 2"));
+            return sink.finish();
+        };
+
+        // When
+        var result = bulkImportService.importInChunks(importId, account.id(), 3, userId, source);
+
+        // Then
+        assertThat(result.cursor().isCompleted()).isTrue();
+        assertThat(result.cursor().savedCount()).isEqualTo(2);
+        assertThat(result.cursor().errorCount()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly(new BulkRowError(2, "Malformed transaction"));
+    }
+
+    @Test
+    void shouldRejectChunkWhenCursorWasAdvancedByAnotherRequest() {
+        // Given
+        var userId = UserId.generate();
+        var account = accountModuleFacade.createAccount(new CreateAccountCommand("Test Account", PLN, userId));
+        var importId = BulkImportId.from(UUID.randomUUID());
+        var cursor = BulkImportCursor.start(importId, account.id(), testGroupId, 2);
+        bulkImportCursorRepository.store(cursor.advance(1, 1, 0, 0));
+        var rows = List.of(new BulkRow(1, expense(account.id(), userId, CategoryId.generate(), "Transaction 1")));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionService.bulkCreateChunk(cursor, rows, List.of(), userId))
+                .isInstanceOf(BulkImportConflictException.class);
+        assertThat(transactionRepository
+                        .findAll(TransactionSearchCriteria.empty(), testGroupId, Pageable.ofSize(20))
+                        .getContent())
+                .isEmpty();
+    }
+
+    private static BulkRowSource rowsOf(List<CreateTransactionCommand> commands) {
+        return sink -> {
+            for (var i = 0; i < commands.size(); i++) {
+                sink.add(i + 1, commands.get(i));
+            }
+            return sink.finish();
+        };
+    }
+
+    private static CreateTransactionCommand expense(
+            AccountId accountId, UserId userId, CategoryId categoryId, String description) {
+        return new CreateTransactionCommand(
+                accountId,
+                LocalDate.of(2024, 1, 15),
+                TransactionType.EXPENSE,
+                new BillCommand(List.of(new BillItemCommand(categoryId, new BigDecimal("10.00"), description))),
+                userId);
+    }
 }
@@ -0,0 +1,48 @@
+package pl.btsoftware.backend.transaction.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.shared.TransactionType;
+
+class MerchantKeyTest {
+
+    @Test
+    void shouldIgnoreCaseDigitsAndPunctuation() {
+        // when
+        var first = MerchantKey.of("Zakupy: BIEDRONKA 1234  Warszawa", TransactionType.EXPENSE);
+        var second = MerchantKey.of("zakupy - biedronka 987 warszawa.", TransactionType.EXPENSE);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.value()).isEqualTo("zakupy biedronka warszawa");
+    }
+
+    @Test
+    void shouldKeepPolishLetters() {
+        // when
+        var key = MerchantKey.of("ŻABKA Łódź", TransactionType.EXPENSE);
+
+        // then
+        assertThat(key.value()).isEqualTo("żabka łódź");
+    }
+
+    @Test
+    void shouldDistinguishTransactionTypes() {
+        // when
+        var expense = MerchantKey.of("Allegro", TransactionType.EXPENSE);
+        var income = MerchantKey.of("Allegro", TransactionType.INCOME);
+
+        // then
+        assertThat(expense).isNotEqualTo(income);
+    }
+
+    @Test
+    void shouldReturnNullForDescriptionWithoutLetters() {
+        // when
+        var key = MerchantKey.of(" 123 / 456 ", TransactionType.EXPENSE);
+
+        // then
+        assertThat(key).isNull();
+    }
+}
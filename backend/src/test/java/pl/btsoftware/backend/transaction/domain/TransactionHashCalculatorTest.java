@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import pl.btsoftware.backend.shared.AccountId;
 import pl.btsoftware.backend.shared.Currency;
@@ -182,4 +184,44 @@ class TransactionHashTransactionHashCalculatorTest {
         // then
         assertThat(hash.value()).hasSize(64);
     }
+
+    @Test
+    void shouldKeepHashesCompatibleWithStoredTransactions() {
+        // given
+        var accountId = AccountId.from(UUID.fromString("3f2a9c1e-7b4d-4e8a-9c21-5d6e7f809a1b"));
+        var amount = Money.of(new BigDecimal("100.50"), Currency.PLN);
+        var date = LocalDate.of(2024, 1, 15);
+        var type = TransactionType.EXPENSE;
+
+        // when
+        var asciiHash = TransactionHashCalculator.calculateHash(accountId, amount, "  Zakup KARTA  ", date, type);
+        var unicodeHash = TransactionHashCalculator.calculateHash(accountId, amount, "Żabka Kraków", date, type);
+
+        // then
+        assertThat(asciiHash.value()).isEqualTo("91653733bad5084635a8190fabddcb6ad061f0b7063bafb23bc4a3e504fd57e6");
+        assertThat(unicodeHash.value()).isEqualTo("f1885def16f2f4c8dceeae840fd4c0e9e1b07c0c4aec36b4b5ecae849a59b3ce");
+    }
+
+    @Test
+    void shouldCalculateSameHashesFromConcurrentThreads() {
+        // given
+        var accountId = AccountId.generate();
+        var date = LocalDate.of(2024, 1, 15);
+        var amounts = IntStream.range(0, 1000)
+                .mapToObj(i -> Money.of(BigDecimal.valueOf(i, 2), Currency.PLN))
+                .toList();
+        var expected = amounts.stream()
+                .map(amount -> TransactionHashCalculator.calculateHash(
+                        accountId, amount, "Transaction", date, TransactionType.EXPENSE))
+                .toList();
+
+        // when
+        var hashes = amounts.parallelStream()
+                .map(amount -> TransactionHashCalculator.calculateHash(
+                        accountId, amount, "Transaction", date, TransactionType.EXPENSE))
+                .toList();
+
+        // then
+        assertThat(hashes).isEqualTo(expected);
+    }
 }
@@ -7,7 +7,10 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.instancio.Select.field;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -18,11 +21,13 @@ import static pl.btsoftware.backend.transaction.domain.BillItemId.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -38,16 +43,26 @@ import pl.btsoftware.backend.config.WebConfig;
 import pl.btsoftware.backend.shared.*;
 import pl.btsoftware.backend.shared.pagination.PaginationValidator;
 import pl.btsoftware.backend.transaction.TransactionModuleFacade;
+import pl.btsoftware.backend.transaction.application.BulkImportResult;
+import pl.btsoftware.backend.transaction.application.BulkRow;
+import pl.btsoftware.backend.transaction.application.BulkRowError;
+import pl.btsoftware.backend.transaction.application.StreamingBulkCreate;
+import pl.btsoftware.backend.transaction.application.StreamingBulkCreateResult;
+import pl.btsoftware.backend.transaction.application.TransactionService;
 import pl.btsoftware.backend.transaction.application.UpdateTransactionCommand;
 import pl.btsoftware.backend.transaction.domain.Bill;
 import pl.btsoftware.backend.transaction.domain.BillId;
 import pl.btsoftware.backend.transaction.domain.BillItem;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionHashCalculator;
+import pl.btsoftware.backend.transaction.domain.error.BulkImportNotFoundException;
+import pl.btsoftware.backend.users.domain.GroupId;
 import pl.btsoftware.backend.users.domain.UserId;
 
 @WebMvcTest(controllers = TransactionController.class)
-@Import(WebConfig.class)
+@Import({WebConfig.class, NdjsonTransactionReader.class})
 public class TransactionControllerTest {
 
     @Autowired
@@ -326,6 +341,125 @@ public class TransactionControllerTest {
                 .andExpect(content().string(containsString("Transaction not found")));
     }
 
+    @Test
+    void shouldStreamBulkCreateFromNdjsonBody() throws Exception {
+        // given
+        var accountId = randomUUID();
+        var transactionService = Mockito.mock(TransactionService.class);
+        when(transactionService.bulkCreateWindow(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    List<BulkRow> rows = invocation.getArgument(1);
+                    return new StreamingBulkCreateResult(rows.size(), rows.size(), 0, 0, List.of());
+                });
+        when(transactionModuleFacade.startBulkCreate(any(), any()))
+                .thenAnswer(invocation -> new StreamingBulkCreate(
+                        transactionService, invocation.getArgument(0), invocation.getArgument(1)));
+        var categoryId = randomUUID();
+        var body = String.join(
+                "\n",
+                ndjsonLine(LocalDate.of(2024, 1, 15), "EXPENSE", categoryId, "Groceries"),
+                "{\"transactionDate\":\"not-a-date\"}",
+                "",
+                ndjsonLine(LocalDate.of(2024, 1, 16), "INCOME", categoryId, "Salary"),
+                "{\"transactionDate\":\"2024-01-17\",\"type\":\"EXPENSE\",\"bill\":{\"billItems\":[]}}");
+
+        // when & then
+        mockMvc.perform(post("/api/transactions/bulk")
+                        .param("accountId", accountId.toString())
+                        .contentType("application/x-ndjson")
+                        .content(body)
+                        .with(createTokenFor("user123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(4))
+                .andExpect(jsonPath("$.savedCount").value(2))
+                .andExpect(jsonPath("$.errorCount").value(2))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[1].row").value(5))
+                .andExpect(jsonPath("$.errors[1].message").value("bill.billItems must not be empty"));
+    }
+
+    @Test
+    void shouldRejectNdjsonLineExceedingMaximumLength() throws Exception {
+        // given
+        var accountId = randomUUID();
+        var transactionService = Mockito.mock(TransactionService.class);
+        when(transactionService.bulkCreateWindow(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    List<BulkRow> rows = invocation.getArgument(1);
+                    return new StreamingBulkCreateResult(rows.size(), rows.size(), 0, 0, List.of());
+                });
+        when(transactionModuleFacade.startBulkCreate(any(), any()))
+                .thenAnswer(invocation -> new StreamingBulkCreate(
+                        transactionService, invocation.getArgument(0), invocation.getArgument(1)));
+        var body = String.join(
+                "\n",
+                "x".repeat(NdjsonTransactionReader.MAX_LINE_LENGTH + 1),
+                ndjsonLine(LocalDate.of(2024, 1, 15), "EXPENSE", randomUUID(), "Groceries"));
+
+        // when & then
+        mockMvc.perform(post("/api/transactions/bulk")
+                        .param("accountId", accountId.toString())
+                        .contentType("application/x-ndjson")
+                        .content(body)
+                        .with(createTokenFor("user123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(2))
+                .andExpect(jsonPath("$.savedCount").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value(containsString("exceeds")));
+    }
+
+    @Test
+    void shouldImportTransactionsInChunks() throws Exception {
+        // given
+        var importId = randomUUID();
+        var accountId = randomUUID();
+        var cursor = BulkImportCursor.start(
+                        BulkImportId.from(importId), AccountId.from(accountId), new GroupId(randomUUID()), 3)
+                .advance(3, 2, 0, 1);
+        when(transactionModuleFacade.importInChunks(any(), any(), anyInt(), any(), any()))
+                .thenReturn(new BulkImportResult(cursor, List.of(new BulkRowError(2, "Category not found"))));
+        var body = String.join(
+                "\n",
+                ndjsonLine(LocalDate.of(2024, 1, 15), "EXPENSE", randomUUID(), "Groceries"),
+                ndjsonLine(LocalDate.of(2024, 1, 16), "EXPENSE", randomUUID(), "Pharmacy"),
+                ndjsonLine(LocalDate.of(2024, 1, 17), "INCOME", randomUUID(), "Salary"));
+
+        // when & then
+        mockMvc.perform(post("/api/transactions/bulk/imports/" + importId)
+                        .param("accountId", accountId.toString())
+                        .param("totalRows", "3")
+                        .contentType("application/x-ndjson")
+                        .content(body)
+                        .with(createTokenFor("user123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importId").value(importId.toString()))
+                .andExpect(jsonPath("$.processedRows").value(3))
+                .andExpect(jsonPath("$.savedCount").value(2))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.errors[0].row").value(2));
+        verify(transactionModuleFacade)
+                .importInChunks(eq(BulkImportId.from(importId)), eq(AccountId.from(accountId)), eq(3), any(), any());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownBulkImport() throws Exception {
+        // given
+        var importId = randomUUID();
+        when(transactionModuleFacade.getBulkImportProgress(any(), any()))
+                .thenThrow(new BulkImportNotFoundException(BulkImportId.from(importId)));
+
+        // when & then
+        mockMvc.perform(get("/api/transactions/bulk/imports/" + importId).with(createTokenFor("user123")))
+                .andExpect(status().isNotFound());
+    }
+
+    private String ndjsonLine(LocalDate date, String type, UUID categoryId, String description) throws Exception {
+        var item = new BillItemRequest(categoryId, new BigDecimal("10.00"), description);
+        return objectMapper.writeValueAsString(new BulkTransactionLine(date, type, new BillRequest(List.of(item))));
+    }
+
     private Transaction createTransaction(
             UUID transactionId, UUID accountId, BigDecimal amount, String description, TransactionType type) {
         var auditInfo = AuditInfo.create("user123", randomUUID());
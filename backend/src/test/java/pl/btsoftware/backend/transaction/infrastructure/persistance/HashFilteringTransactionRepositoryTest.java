@@ -0,0 +1,191 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.btsoftware.backend.shared.Currency.PLN;
+import static pl.btsoftware.backend.shared.TransactionType.EXPENSE;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import pl.btsoftware.backend.account.domain.AuditInfo;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.transaction.domain.Transaction;
+import pl.btsoftware.backend.users.domain.GroupId;
+import pl.btsoftware.backend.users.domain.UserId;
+
+class HashFilteringTransactionRepositoryTest {
+    private final InMemoryTransactionRepository database = new InMemoryTransactionRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HashFilteringTransactionRepository repository =
+            new HashFilteringTransactionRepository(database, meterRegistry);
+    private final AccountId accountId = AccountId.generate();
+    private final GroupId groupId = GroupId.generate();
+
+    @Test
+    void shouldProbeDatabaseOnlyForPossibleDuplicates() {
+        // given
+        var stored = transaction("Stored");
+        var fresh = transaction("Fresh");
+        repository.store(stored);
+
+        // when
+        var existing = repository.findExistingHashes(
+                accountId, List.of(stored.transactionHash(), fresh.transactionHash()), groupId);
+
+        // then
+        assertThat(existing).containsExactly(stored.transactionHash());
+        assertThat(probes("definitely_new")).isEqualTo(1);
+        assertThat(probes("possible_duplicate")).isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.hash.filter.builds").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindTransactionsStoredAfterFilterWasBuilt() {
+        // given
+        var stored = transaction("Stored later");
+        repository.findExistingHashes(accountId, List.of(stored.transactionHash()), groupId);
+        repository.store(stored);
+
+        // when
+        var existing = repository.findExistingHashes(accountId, List.of(stored.transactionHash()), groupId);
+
+        // then
+        assertThat(existing).containsExactly(stored.transactionHash());
+        assertThat(meterRegistry.get("transaction.hash.filter.builds").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountDeletedTransactionAsFalsePositive() {
+        // given
+        var stored = transaction("Deleted");
+        repository.store(stored);
+        repository.findExistingHashes(accountId, List.of(stored.transactionHash()), groupId);
+        repository.store(stored.delete());
+
+        // when
+        var existing = repository.findExistingHashes(accountId, List.of(stored.transactionHash()), groupId);
+
+        // then
+        assertThat(existing).isEmpty();
+        assertThat(meterRegistry.get("transaction.hash.filter.false.positives").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.hash.filter.false.positive.rate").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRebuildFilterAfterInvalidation() {
+        // given
+        var backfilled = transaction("Backfilled");
+        repository.findExistingHashes(accountId, List.of(backfilled.transactionHash()), groupId);
+        database.store(backfilled);
+
+        // when
+        repository.invalidate(accountId, groupId);
+        var existing = repository.findExistingHashes(accountId, List.of(backfilled.transactionHash()), groupId);
+
+        // then
+        assertThat(existing).containsExactly(backfilled.transactionHash());
+        assertThat(meterRegistry.get("transaction.hash.filter.builds").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountCommittedInsertionsOnce() {
+        // given
+        var probe = transaction("Probe");
+        repository.findExistingHashes(accountId, List.of(probe.transactionHash()), groupId);
+        var imported = IntStream.range(0, 600)
+                .mapToObj(i -> transaction("Imported " + i))
+                .toList();
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            imported.forEach(repository::store);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        var existing = repository.findExistingHashes(accountId, List.of(imported.getLast().transactionHash()), groupId);
+
+        // then
+        assertThat(existing).containsExactly(imported.getLast().transactionHash());
+        assertThat(meterRegistry.get("transaction.hash.filter.builds").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotTrustFilterAfterAnotherWriterStoredHash() {
+        // given
+        var storedElsewhere = transaction("Stored by another node");
+        repository.findExistingHashes(accountId, List.of(storedElsewhere.transactionHash()), groupId);
+        database.store(storedElsewhere);
+
+        // when
+        var existing =
+                repository.findExistingHashes(accountId, List.of(storedElsewhere.transactionHash()), groupId);
+
+        // then
+        assertThat(existing).containsExactly(storedElsewhere.transactionHash());
+        assertThat(meterRegistry.get("transaction.hash.filter.builds").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldRebuildFilterWhenAnotherWriterCommitsDuringTransaction() {
+        // given
+        var imported = transaction("Imported");
+        var storedElsewhere = transaction("Stored by another node");
+        repository.findExistingHashes(accountId, List.of(imported.transactionHash()), groupId);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.store(imported);
+            database.store(storedElsewhere);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        var existing = repository.findExistingHashes(
+                accountId, List.of(imported.transactionHash(), storedElsewhere.transactionHash()), groupId);
+
+        // then
+        assertThat(existing).containsExactlyInAnyOrder(imported.transactionHash(), storedElsewhere.transactionHash());
+        assertThat(meterRegistry.get("transaction.hash.filter.builds").counter().count())
+                .isEqualTo(2);
+    }
+
+    private double probes(String outcome) {
+        return meterRegistry
+                .get("transaction.hash.filter.probes")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private Transaction transaction(String description) {
+        var userId = UserId.generate();
+        return TransactionCommandFixture.createCommand(
+                        accountId,
+                        Money.of(new BigDecimal("12.50"), PLN),
+                        description,
+                        LocalDate.of(2024, 5, 1),
+                        EXPENSE,
+                        CategoryId.generate(),
+                        userId)
+                .toDomain(AuditInfo.create(userId, groupId), PLN);
+    }
+}
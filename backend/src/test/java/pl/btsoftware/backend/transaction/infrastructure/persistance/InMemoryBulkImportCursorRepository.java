@@ -0,0 +1,32 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.HashMap;
+import java.util.Optional;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursor;
+import pl.btsoftware.backend.transaction.domain.BulkImportCursorRepository;
+import pl.btsoftware.backend.transaction.domain.BulkImportId;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryBulkImportCursorRepository implements BulkImportCursorRepository {
+    private final HashMap<BulkImportId, BulkImportCursor> database = new HashMap<>();
+
+    @Override
+    public void store(BulkImportCursor cursor) {
+        database.put(cursor.id(), cursor);
+    }
+
+    @Override
+    public void storeIfAbsent(BulkImportCursor cursor) {
+        database.putIfAbsent(cursor.id(), cursor);
+    }
+
+    @Override
+    public Optional<BulkImportCursor> findById(BulkImportId id, GroupId groupId) {
+        return Optional.ofNullable(database.get(id)).filter(cursor -> cursor.groupId().equals(groupId));
+    }
+
+    @Override
+    public Optional<BulkImportCursor> findByIdForUpdate(BulkImportId id, GroupId groupId) {
+        return findById(id, groupId);
+    }
+}
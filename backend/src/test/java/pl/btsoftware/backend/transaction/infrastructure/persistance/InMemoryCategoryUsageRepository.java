@@ -0,0 +1,37 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.CategoryUsageRepository;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryCategoryUsageRepository implements CategoryUsageRepository {
+    private final HashMap<CategoryId, Usage> database = new HashMap<>();
+
+    @Override
+    public void adjust(Map<CategoryId, Long> deltas, GroupId groupId) {
+        deltas.forEach((categoryId, delta) -> database.merge(
+                categoryId, new Usage(groupId, delta), (current, change) -> current.add(change.count())));
+    }
+
+    @Override
+    public long countTransactions(CategoryId categoryId, GroupId groupId) {
+        var usage = database.get(categoryId);
+        return usage != null && usage.groupId().equals(groupId) ? usage.count() : 0L;
+    }
+
+    @Override
+    public Map<CategoryId, Long> findAll(GroupId groupId) {
+        return database.entrySet().stream()
+                .filter(entry -> entry.getValue().groupId().equals(groupId))
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().count()));
+    }
+
+    private record Usage(GroupId groupId, long count) {
+        private Usage add(long delta) {
+            return new Usage(groupId, count + delta);
+        }
+    }
+}
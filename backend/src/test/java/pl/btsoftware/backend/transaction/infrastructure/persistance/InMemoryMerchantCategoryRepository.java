@@ -0,0 +1,31 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import java.util.HashMap;
+import java.util.Map;
+import pl.btsoftware.backend.shared.CategoryId;
+import pl.btsoftware.backend.transaction.domain.MerchantCategoryRepository;
+import pl.btsoftware.backend.transaction.domain.MerchantKey;
+import pl.btsoftware.backend.users.domain.GroupId;
+
+public class InMemoryMerchantCategoryRepository implements MerchantCategoryRepository {
+    private final HashMap<GroupId, Map<MerchantKey, CategoryId>> database = new HashMap<>();
+    private final HashMap<GroupId, Long> versions = new HashMap<>();
+
+    @Override
+    public void remember(Map<MerchantKey, CategoryId> categories, GroupId groupId) {
+        database.computeIfAbsent(groupId, id -> new HashMap<>()).putAll(categories);
+        if (!categories.isEmpty()) {
+            versions.merge(groupId, 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public Map<MerchantKey, CategoryId> findAll(GroupId groupId) {
+        return Map.copyOf(database.getOrDefault(groupId, Map.of()));
+    }
+
+    @Override
+    public long findVersion(GroupId groupId) {
+        return versions.getOrDefault(groupId, 0L);
+    }
+}
@@ -5,7 +5,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import pl.btsoftware.backend.shared.AccountId;
-import pl.btsoftware.backend.shared.CategoryId;
 import pl.btsoftware.backend.shared.TransactionId;
 import pl.btsoftware.backend.transaction.domain.Transaction;
 import pl.btsoftware.backend.transaction.domain.TransactionHash;
@@ -15,10 +14,12 @@ import pl.btsoftware.backend.users.domain.GroupId;
 
 public class InMemoryTransactionRepository implements TransactionRepository {
     private final HashMap<UUID, Transaction> database = new HashMap<>();
+    private final HashMap<AccountId, Long> hashesVersions = new HashMap<>();
 
     @Override
     public void store(Transaction transaction) {
         database.put(transaction.id().value(), transaction);
+        hashesVersions.merge(transaction.accountId(), 1L, Long::sum);
     }
 
     @Override
@@ -59,15 +60,6 @@ public class InMemoryTransactionRepository implements TransactionRepository {
         return new PageImpl<>(pageContent, pageable, totalElements);
     }
 
-    @Override
-    public boolean existsByCategoryId(CategoryId categoryId, GroupId groupId) {
-        return database.values().stream()
-                .filter(transaction -> transaction.ownedBy().equals(groupId))
-                .filter(transaction -> !transaction.tombstone().isDeleted())
-                .anyMatch(transaction -> transaction.bill().items().stream()
-                        .anyMatch(item -> item.categoryId().equals(categoryId)));
-    }
-
     @Override
     public boolean existsByAccountId(AccountId accountId, GroupId groupId) {
         return database.values().stream()
@@ -88,4 +80,19 @@ public class InMemoryTransactionRepository implements TransactionRepository {
                 .distinct()
                 .toList();
     }
+
+    @Override
+    public List<TransactionHash> findHashes(AccountId accountId, GroupId groupId) {
+        return database.values().stream()
+                .filter(transaction -> transaction.accountId().equals(accountId))
+                .filter(transaction -> transaction.ownedBy().equals(groupId))
+                .filter(transaction -> !transaction.isDeleted())
+                .map(Transaction::transactionHash)
+                .toList();
+    }
+
+    @Override
+    public long findHashesVersion(AccountId accountId) {
+        return hashesVersions.getOrDefault(accountId, 0L);
+    }
 }
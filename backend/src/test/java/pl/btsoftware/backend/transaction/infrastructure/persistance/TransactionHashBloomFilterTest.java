@@ -0,0 +1,70 @@
+package pl.btsoftware.backend.transaction.infrastructure.persistance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import pl.btsoftware.backend.shared.AccountId;
+import pl.btsoftware.backend.shared.Currency;
+import pl.btsoftware.backend.shared.Money;
+import pl.btsoftware.backend.shared.TransactionType;
+import pl.btsoftware.backend.transaction.domain.TransactionHash;
+import pl.btsoftware.backend.transaction.domain.TransactionHashCalculator;
+
+class TransactionHashBloomFilterTest {
+    private static final AccountId ACCOUNT_ID = AccountId.generate();
+
+    @Test
+    void shouldContainEveryInsertedHash() {
+        // given
+        var hashes = hashes(0, 5000);
+        var filter = TransactionHashBloomFilter.forRows(hashes.size());
+
+        // when
+        hashes.forEach(filter::put);
+
+        // then
+        assertThat(hashes).allMatch(filter::mightContain);
+        assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateLowAtCapacity() {
+        // given
+        var filter = TransactionHashBloomFilter.forRows(5000);
+        hashes(0, 10_000).forEach(filter::put);
+
+        // when
+        var falsePositives =
+                hashes(10_000, 20_000).stream().filter(filter::mightContain).count();
+
+        // then
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    @Test
+    void shouldReportSaturationWhenCapacityIsExceeded() {
+        // given
+        var filter = TransactionHashBloomFilter.forRows(0);
+
+        // when
+        hashes(0, 1025).forEach(filter::put);
+
+        // then
+        assertThat(filter.isSaturated()).isTrue();
+    }
+
+    private static List<TransactionHash> hashes(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> TransactionHashCalculator.calculateHash(
+                        ACCOUNT_ID,
+                        Money.of(BigDecimal.valueOf(i, 2), Currency.PLN),
+                        "Transaction " + i,
+                        LocalDate.of(2024, 1, 1),
+                        TransactionType.EXPENSE))
+                .toList();
+    }
+}